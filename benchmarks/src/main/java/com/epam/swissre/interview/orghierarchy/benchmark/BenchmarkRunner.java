@@ -0,0 +1,28 @@
+package com.epam.swissre.interview.orghierarchy.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the JMH benchmarks with the given JMH command line options, saving the results as JSON by
+ * default, e.g. {@code jmh-result-1.0-SNAPSHOT.json} for version 1.0-SNAPSHOT, so that the results
+ * of different releases can be compared. The format and the file can still be overridden with the
+ * {@code -rf} and {@code -rff} options.
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    List<String> options = new ArrayList<>(Arrays.asList(args));
+    if (!options.contains("-rf") && !options.contains("-rff")) {
+      String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+      options.addAll(List.of("-rf", "json", "-rff",
+          "jmh-result-" + (version == null ? "dev" : version) + ".json"));
+    }
+    Main.main(options.toArray(String[]::new));
+  }
+}
@@ -0,0 +1,56 @@
+package com.epam.swissre.interview.orghierarchy.benchmark;
+
+import com.epam.swissre.interview.orghierarchy.generator.FanOutDistribution;
+import com.epam.swissre.interview.orghierarchy.generator.GeneratorConfig;
+import com.epam.swissre.interview.orghierarchy.generator.OrgHierarchyGenerator;
+
+/**
+ * The shapes of the organizations the benchmarks run on, each given by the distribution of the
+ * number of direct reports per manager and by the maximum depth of the hierarchy:
+ * <ul>
+ *   <li>{@link #BALANCED}: 8 direct reports per manager, a few levels too deep at 100k
+ *   employees</li>
+ *   <li>{@link #WIDE}: 1000 direct reports per manager, never more than three levels</li>
+ *   <li>{@link #DEEP}: mostly one direct report or none, and two once in a while, so that the
+ *   hierarchy is a long trunk with a few branches down to 30 levels, where the generator packs the
+ *   remaining employees: nearly every reporting line is about 30 managers long, whatever the size,
+ *   about as deep as the salaries growing by the salary factors at every level fit in an int</li>
+ * </ul>
+ *
+ * <p>The organizations are generated from a fixed seed, so that every run measures the same data.
+ */
+public enum OrgShape {
+  BALANCED(FanOutDistribution.FIXED, 8, 8, Integer.MAX_VALUE),
+  WIDE(FanOutDistribution.FIXED, 1000, 1000, Integer.MAX_VALUE),
+  DEEP(FanOutDistribution.SKEWED, 0, 2, 30);
+
+  private static final long SEED = 42;
+  private static final double VIOLATOR_SHARE = 0.1;
+
+  private final FanOutDistribution fanOutDistribution;
+  private final int minFanOut;
+  private final int maxFanOut;
+  private final int maxDepth;
+
+  OrgShape(FanOutDistribution fanOutDistribution, int minFanOut, int maxFanOut, int maxDepth) {
+    this.fanOutDistribution = fanOutDistribution;
+    this.minFanOut = minFanOut;
+    this.maxFanOut = maxFanOut;
+    this.maxDepth = maxDepth;
+  }
+
+  /**
+   * Creates the generator of the organizations of this shape.
+   *
+   * @param size the number of employees
+   * @return a new {@link OrgHierarchyGenerator} of a valid hierarchy
+   */
+  public OrgHierarchyGenerator generator(int size) {
+    return new OrgHierarchyGenerator(GeneratorConfig.builder(size)
+        .seed(SEED)
+        .fanOut(fanOutDistribution, minFanOut, maxFanOut)
+        .maxDepth(maxDepth)
+        .violatorShare(VIOLATOR_SHARE)
+        .build());
+  }
+}
@@ -0,0 +1,80 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.benchmark.OrgShape;
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of a CSV file by each of the CSV loaders. The loaders are called below
+ * {@link OrgHierarchyLoader#loadOrgHierarchy(String)}, which would also print the whole
+ * organization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CsvParsingBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  public int size;
+
+  @Param
+  public OrgShape shape;
+
+  private Path file;
+  private CsvSourceConfig config;
+
+  @Setup
+  public void setUp() throws IOException {
+    file = Files.createTempFile("org-hierarchy-benchmark", ".csv");
+    shape.generator(size).writeCsv(file);
+    config = new CsvSourceConfig(file.toString(), Integer.MAX_VALUE);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public Organization csvLoader() throws IOException {
+    try (Reader reader = Files.newBufferedReader(file)) {
+      return new CsvOrgHierarchyLoader(config).loadOrgHierarchyCsv(reader);
+    }
+  }
+
+  @Benchmark
+  public Organization mappedCsvLoader() throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return new MappedCsvOrgHierarchyLoader(config).loadOrgHierarchyCsv(channel);
+    }
+  }
+
+  @Benchmark
+  public Organization parallelCsvLoader() throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return new ParallelCsvOrgHierarchyLoader(config).loadOrgHierarchyCsv(channel);
+    }
+  }
+}
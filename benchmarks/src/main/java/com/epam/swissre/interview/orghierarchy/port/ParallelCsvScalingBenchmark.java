@@ -0,0 +1,71 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.benchmark.OrgShape;
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how the parallel CSV loader scales with the number of threads parsing the chunks, on a
+ * pool of its own, so that the run with one thread gives the cost of the serial merge into the
+ * organization, which no thread count hides.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ParallelCsvScalingBenchmark {
+
+  @Param({"100000", "1000000"})
+  public int size;
+
+  @Param({"1", "2", "4", "8"})
+  public int threads;
+
+  private Path file;
+  private ParallelCsvOrgHierarchyLoader loader;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setUp() throws IOException {
+    file = Files.createTempFile("org-hierarchy-benchmark", ".csv");
+    OrgShape.BALANCED.generator(size).writeCsv(file);
+    pool = new ForkJoinPool(threads);
+    loader = new ParallelCsvOrgHierarchyLoader(
+        new CsvSourceConfig(file.toString(), Integer.MAX_VALUE), pool,
+        ParallelCsvOrgHierarchyLoader.DEFAULT_MIN_CHUNK_SIZE);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    pool.shutdown();
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public Organization parallelCsvLoader() throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return loader.loadOrgHierarchyCsv(channel);
+    }
+  }
+}
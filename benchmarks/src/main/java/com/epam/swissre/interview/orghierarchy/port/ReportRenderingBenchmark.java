@@ -0,0 +1,62 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.benchmark.OrgShape;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.service.BenchmarkReports;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of each report by the {@link ConsoleReportsWriter}. The output is
+ * discarded, so that only the formatting is measured and not the console.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ReportRenderingBenchmark {
+
+  @Param({"1000", "100000", "1000000"})
+  public int size;
+
+  @Param
+  public OrgShape shape;
+
+  private OrgHierarchyReports reports;
+  private ReportsWriter writer;
+
+  @Setup
+  public void setUp() {
+    reports = BenchmarkReports.of(shape.generator(size).createOrganization());
+    writer = new ConsoleReportsWriter(new PrintStream(OutputStream.nullOutputStream()));
+  }
+
+  @Benchmark
+  public void longReportingLines() {
+    writer.longReportingLines(reports.longReportingLines());
+  }
+
+  @Benchmark
+  public void underpaidManagers() {
+    writer.underpaidManagers(reports.underpaidManagers());
+  }
+
+  @Benchmark
+  public void overpaidManagers() {
+    writer.overpaidManagers(reports.overpaidManagers());
+  }
+}
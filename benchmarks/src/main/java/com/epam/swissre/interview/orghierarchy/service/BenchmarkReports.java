@@ -0,0 +1,24 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+
+/**
+ * Gives the benchmarks of the other packages access to the reports on an organization.
+ */
+public final class BenchmarkReports {
+
+  private BenchmarkReports() {
+  }
+
+  /**
+   * Builds the reports on the organization with the configuration of the rule benchmarks.
+   *
+   * @param organization the organization containing employees
+   * @return the reports of the organization
+   */
+  public static OrgHierarchyReports of(Organization organization) {
+    return new SimpleOrgHierarchyReportingService(ReportingRulesBenchmark.CONFIG)
+        .buildReports(organization);
+  }
+}
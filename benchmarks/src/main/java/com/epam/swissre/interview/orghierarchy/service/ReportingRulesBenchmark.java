@@ -0,0 +1,101 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.benchmark.OrgShape;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures each reporting rule, and all of them built together, on every implementation of the
+ * {@link OrgHierarchyReportingService}. The columnar implementation is measured on its own
+ * overloads, with the {@link ColumnarOrganization} built once in the setup, as the columnar
+ * analyzer loads it straight from the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ReportingRulesBenchmark {
+
+  static final ReportingConfig CONFIG = new ReportingConfig(4, 1.2, 1.5);
+
+  @Param({"1000", "100000", "1000000"})
+  public int size;
+
+  @Param
+  public OrgShape shape;
+
+  @Param
+  public Implementation implementation;
+
+  private Organization organization;
+  private OrgHierarchyReportingService service;
+  // null if the implementation is not the columnar one
+  private ColumnarOrganization columnarOrganization;
+  private ColumnarOrgHierarchyReportingService columnarService;
+
+  @Setup
+  public void setUp() {
+    organization = shape.generator(size).createOrganization();
+    service = implementation.factory.apply(CONFIG);
+    if (implementation == Implementation.COLUMNAR) {
+      columnarOrganization = ColumnarOrganization.of(organization);
+      columnarService = (ColumnarOrgHierarchyReportingService) service;
+    }
+  }
+
+  @Benchmark
+  public Map<Employee, List<Integer>> getLongReportingLines() {
+    return columnarService != null ? columnarService.getLongReportingLines(columnarOrganization)
+        : service.getLongReportingLines(organization);
+  }
+
+  @Benchmark
+  public Map<Employee, Double> getUnderpaidManagers() {
+    return columnarService != null ? columnarService.getUnderpaidManagers(columnarOrganization)
+        : service.getUnderpaidManagers(organization);
+  }
+
+  @Benchmark
+  public Map<Employee, Double> getOverpaidManagers() {
+    return columnarService != null ? columnarService.getOverpaidManagers(columnarOrganization)
+        : service.getOverpaidManagers(organization);
+  }
+
+  @Benchmark
+  public OrgHierarchyReports buildReports() {
+    return columnarService != null ? columnarService.buildReports(columnarOrganization)
+        : service.buildReports(organization);
+  }
+
+  public enum Implementation {
+    SIMPLE(SimpleOrgHierarchyReportingService::new),
+    COLUMNAR(ColumnarOrgHierarchyReportingService::new),
+    PARALLEL(ParallelOrgHierarchyReportingService::new);
+
+    private final Function<ReportingConfig, OrgHierarchyReportingService> factory;
+
+    Implementation(Function<ReportingConfig, OrgHierarchyReportingService> factory) {
+      this.factory = factory;
+    }
+  }
+}
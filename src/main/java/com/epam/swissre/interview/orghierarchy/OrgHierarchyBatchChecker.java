@@ -0,0 +1,113 @@
+package com.epam.swissre.interview.orghierarchy;
+
+import com.epam.swissre.interview.orghierarchy.config.CommandLineOptions;
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import com.epam.swissre.interview.orghierarchy.model.BatchFileResult;
+import com.epam.swissre.interview.orghierarchy.model.BatchSummary;
+import com.epam.swissre.interview.orghierarchy.port.PortFactory;
+import com.epam.swissre.interview.orghierarchy.service.OrgHierarchyBatchService;
+import com.epam.swissre.interview.orghierarchy.service.ServiceFactory;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The {@code OrgHierarchyBatchChecker} class analyzes many CSV files in a single JVM, e.g. the
+ * organizations of all the subsidiaries of a company every night, instead of starting a JVM per
+ * file: the files are analyzed concurrently, within a memory budget, and only the first ones pay
+ * for the JVM warm-up. The reports on each file are written to a file of their own in the output
+ * directory, with a {@code summary.json} of the whole batch.
+ * <p>
+ * With the {@code --tenants} option, a single CSV file holding the employees of several tenants,
+ * e.g. the legal entities of a consolidated export, is analyzed instead: every tenant is analyzed
+ * as an organization of its own, concurrently, and gets its own reports.
+ * </p>
+ */
+public class OrgHierarchyBatchChecker {
+
+  static final String USAGE = """
+      Usage: OrgHierarchyBatchChecker [options] <csv-file-or-directory>...
+             OrgHierarchyBatchChecker --tenants [options] <csv-file>
+        --output-dir <dir>          directory of the reports, org-hierarchy-reports by default
+        --memory-budget <MiB>       heap used by the files analyzed at once, half the max heap
+                                    by default
+        --ndjson                    write the reports as newline-delimited JSON instead of text
+        --tenants                   analyze each tenant of the file, given by a last column
+      The CSV files of a directory are all analyzed, its subdirectories are not.""";
+  static final String DEFAULT_OUTPUT_DIR = "org-hierarchy-reports";
+
+  private static final Set<String> OPTIONS = Set.of("output-dir", "memory-budget");
+  private static final Set<String> FLAGS = Set.of("ndjson", "tenants");
+
+  /**
+   * Analyzes the CSV files given on the command line, or the tenants of the CSV file with
+   * {@code --tenants}, and prints the summary of the batch.
+   *
+   * @param args the command-line options, followed by the paths of the CSV files, or of the
+   *             directories of the CSV files, to analyze, or by the path of the CSV file of the
+   *             tenants
+   * @throws ConfigurationException if the options are invalid or no source is given
+   */
+  public static void main(String... args) {
+    CommandLineOptions options = CommandLineOptions.parse(args, OPTIONS, FLAGS);
+    boolean tenants = options.hasFlag("tenants");
+    if (options.arguments().isEmpty() || tenants && options.arguments().size() > 1) {
+      throw new ConfigurationException(USAGE);
+    }
+    long memoryBudget = options.getLong("memory-budget", Runtime.getRuntime().maxMemory() >> 21);
+    if (memoryBudget <= 0) {
+      throw new ConfigurationException(
+          "Invalid value for the option --memory-budget: " + memoryBudget);
+    }
+    OrgHierarchyBatchService batchService = ServiceFactory.newOrgHierarchyBatchService(
+        PortFactory.newDirectoryBatchOutput(
+            Path.of(options.getString("output-dir", DEFAULT_OUTPUT_DIR)),
+            options.hasFlag("ndjson")),
+        memoryBudget << 20);
+    BatchSummary summary = tenants
+        ? batchService.analyzeTenants(options.arguments().get(0))
+        : batchService.analyze(listSources(options.arguments()));
+    for (BatchFileResult file : summary.files()) {
+      if (!file.isSucceeded()) {
+        System.err.println("Failed to analyze " + file.source() + ": " + file.error());
+      }
+    }
+    System.out.printf(Locale.ROOT,
+        "Analyzed %d %s (%d failed) with %d employees and %d findings in %.2f s%n",
+        summary.files().size(), tenants ? "tenants" : "files", summary.failedFiles(),
+        summary.employees(), summary.findings(), summary.wallNanos() / 1e9);
+  }
+
+  /**
+   * Replaces the directories with the CSV files they contain, sorted by name.
+   */
+  static List<String> listSources(List<String> arguments) {
+    List<String> sources = new ArrayList<>();
+    for (String argument : arguments) {
+      Path path = Path.of(argument);
+      if (!Files.isDirectory(path)) {
+        sources.add(argument);
+        continue;
+      }
+      List<String> csvFiles = new ArrayList<>();
+      try (DirectoryStream<Path> paths = Files.newDirectoryStream(path, "*.csv")) {
+        for (Path csvFile : paths) {
+          if (Files.isRegularFile(csvFile)) {
+            csvFiles.add(csvFile.toString());
+          }
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      csvFiles.sort(null);
+      sources.addAll(csvFiles);
+    }
+    return sources;
+  }
+}
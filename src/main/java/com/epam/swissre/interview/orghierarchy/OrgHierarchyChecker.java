@@ -1,7 +1,22 @@
 package com.epam.swissre.interview.orghierarchy;
 
+import com.epam.swissre.interview.orghierarchy.config.CommandLineOptions;
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import com.epam.swissre.interview.orghierarchy.model.RunProfile;
+import com.epam.swissre.interview.orghierarchy.port.PortFactory;
+import com.epam.swissre.interview.orghierarchy.port.ReportsCache;
+import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
+import com.epam.swissre.interview.orghierarchy.service.PhaseProfiler;
 import com.epam.swissre.interview.orghierarchy.service.ServiceFactory;
-import java.util.Arrays;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The {@code OrgHierarchyChecker} class is responsible for loading an organizational hierarchy from
@@ -14,21 +29,119 @@ import java.util.Arrays;
  *   <li>Managers who are overpaid based on the average salary of their direct reports.</li>
  *   <li>Employees with too long reporting lines to the CEO.</li>
  * </ul>
- * The results of the analysis are printed to the console.
+ * The results of the analysis are printed to the console, or written as newline-delimited JSON to
+ * the file given with the {@code --ndjson} option. With the {@code --profile} option, a summary of
+ * the resources used by each phase of the analysis is printed afterwards, and written as JSON to the
+ * file given with the {@code --profile-output} option, {@value #DEFAULT_PROFILE_OUTPUT} by default.
+ * With the {@code --cache-dir} option, the reports are cached in the given directory, bounded to
+ * {@code --cache-max-size} MiB, {@value #DEFAULT_CACHE_MAX_SIZE} by default, and a file whose
+ * content was already analyzed is not loaded again. With the {@code --watch} option, the file is
+ * analyzed again on every change, incrementally, and only the changed and resolved findings are
+ * output, until the application is interrupted. With the {@code --write-snapshot} option, the
+ * organization is also written as a binary snapshot to the given file, and with the
+ * {@code --snapshot} option, the file analyzed is such a snapshot, which is memory-mapped and
+ * analyzed without any parsing. With the {@code --parallel} option, the reports are built with a
+ * parallel traversal of the hierarchy on all the available processors.
  * </p>
  */
 public class OrgHierarchyChecker {
 
+  static final String DEFAULT_PROFILE_OUTPUT = "org-hierarchy-profile.json";
+  static final int DEFAULT_CACHE_MAX_SIZE = 256;
+  private static final Set<String> OPTIONS = Set.of("ndjson", "top", "profile-output", "cache-dir",
+      "cache-max-size", "write-snapshot");
+  private static final Set<String> FLAGS = Set.of("profile", "watch", "snapshot", "parallel");
+  private static final List<String> NOT_WATCHABLE_OPTIONS =
+      List.of("top", "cache-dir", "profile", "snapshot", "write-snapshot", "parallel");
+  private static final List<String> NOT_COLUMNAR_OPTIONS = List.of("top", "cache-dir", "parallel");
+
   /**
    * The main method serves as the entry point of the application. It loads the organization
    * hierarchy from a specified CSV file or a default file if no path is provided. It then performs
    * the analysis and prints the results to the console.
    *
    * @param args Command-line arguments, where the first argument can specify the path to the CSV
-   *             file containing the employee data.
+   *             file containing the employee data, optionally preceded by {@code --ndjson <file>}
+   *             to write the findings to that file as newline-delimited JSON instead, and by
+   *             {@code --top <n>} to output only the n worst findings of each report, and by
+   *             {@code --profile} to profile the phases of the analysis, and by
+   *             {@code --cache-dir <dir>} to cache the reports in that directory, or by
+   *             {@code --watch} to analyze the file again on every change until interrupted, or by
+   *             {@code --write-snapshot <file>} to also write the organization as a snapshot to
+   *             that file, or by {@code --snapshot} to analyze such a snapshot file, or by
+   *             {@code --parallel} to build the reports on all the available processors.
+   * @throws ConfigurationException if the options are invalid
    */
   public static void main(String... args) {
-    ServiceFactory.newOrgHierarchyAnalyzerService()
-        .analyze(Arrays.stream(args).findFirst().orElse(null));
+    CommandLineOptions options = CommandLineOptions.parse(args, OPTIONS, FLAGS);
+    String filePath = options.arguments().stream().findFirst().orElse(null);
+    int findingsLimit = options.getInt("top", Integer.MAX_VALUE);
+    if (findingsLimit <= 0) {
+      throw new ConfigurationException("Invalid value for the option --top: " + findingsLimit);
+    }
+    Consumer<ReportsWriter> analysis;
+    PhaseProfiler profiler =
+        options.hasFlag("profile") ? PhaseProfiler.create() : PhaseProfiler.disabled();
+    if (options.hasFlag("watch")) {
+      rejectCombinedOptions(options, NOT_WATCHABLE_OPTIONS, "watch");
+      analysis = writer -> ServiceFactory.newOrgHierarchyWatchService(writer).watch(filePath);
+    } else if (options.hasFlag("snapshot")) {
+      rejectCombinedOptions(options, NOT_COLUMNAR_OPTIONS, "snapshot");
+      rejectCombinedOptions(options, List.of("write-snapshot"), "snapshot");
+      analysis = writer -> ServiceFactory.newSnapshotOrgHierarchyAnalyzerService(writer, profiler)
+          .analyze(filePath);
+    } else if (options.hasValue("write-snapshot")) {
+      rejectCombinedOptions(options, NOT_COLUMNAR_OPTIONS, "write-snapshot");
+      String snapshotTarget = options.getString("write-snapshot", null);
+      analysis = writer -> ServiceFactory.newColumnarOrgHierarchyAnalyzerService(writer, profiler,
+          snapshotTarget).analyze(filePath);
+    } else if (options.hasFlag("parallel")) {
+      ReportsCache cache = newReportsCache(options);
+      analysis = writer -> ServiceFactory.newParallelOrgHierarchyAnalyzerService(writer,
+          findingsLimit, profiler, cache).analyze(filePath);
+    } else {
+      ReportsCache cache = newReportsCache(options);
+      analysis = writer -> ServiceFactory.newOrgHierarchyAnalyzerService(writer, findingsLimit,
+          profiler, cache).analyze(filePath);
+    }
+    if (!options.hasValue("ndjson")) {
+      analysis.accept(PortFactory.newConsoleReportsWriter());
+    } else {
+      try (OutputStream outputStream = new BufferedOutputStream(
+          Files.newOutputStream(Path.of(options.getString("ndjson", null))))) {
+        analysis.accept(PortFactory.newNdjsonReportsWriter(outputStream));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    if (options.hasFlag("profile")) {
+      RunProfile profile = profiler.toRunProfile(filePath);
+      PortFactory.newConsoleProfileWriter().writeProfile(profile);
+      PortFactory.newJsonProfileWriter(
+          Path.of(options.getString("profile-output", DEFAULT_PROFILE_OUTPUT)))
+          .writeProfile(profile);
+    }
+  }
+
+  private static void rejectCombinedOptions(CommandLineOptions options, List<String> rejected,
+      String option) {
+    for (String other : rejected) {
+      if (options.hasValue(other) || options.hasFlag(other)) {
+        throw new ConfigurationException(
+            "The option --" + other + " cannot be combined with --" + option);
+      }
+    }
+  }
+
+  private static ReportsCache newReportsCache(CommandLineOptions options) {
+    if (!options.hasValue("cache-dir")) {
+      return null;
+    }
+    long maxSize = options.getLong("cache-max-size", DEFAULT_CACHE_MAX_SIZE);
+    if (maxSize <= 0) {
+      throw new ConfigurationException("Invalid value for the option --cache-max-size: " + maxSize);
+    }
+    return PortFactory.newFileReportsCache(Path.of(options.getString("cache-dir", null)),
+        maxSize << 20);
   }
 }
@@ -0,0 +1,79 @@
+package com.epam.swissre.interview.orghierarchy;
+
+import com.epam.swissre.interview.orghierarchy.config.CommandLineOptions;
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import com.epam.swissre.interview.orghierarchy.generator.FanOutDistribution;
+import com.epam.swissre.interview.orghierarchy.generator.GeneratorConfig;
+import com.epam.swissre.interview.orghierarchy.generator.OrgHierarchyGenerator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * The {@code OrgHierarchyGeneratorCli} class writes a synthetic organization as a CSV file, in the
+ * format read by {@link OrgHierarchyChecker}, e.g. to reproduce production-scale loads locally.
+ */
+public class OrgHierarchyGeneratorCli {
+
+  static final String USAGE = """
+      Usage: OrgHierarchyGeneratorCli --size <employees> [options] [output-file]
+        --seed <long>               seed of the generator, 0 by default
+        --fan-out <distribution>    FIXED, UNIFORM or SKEWED, UNIFORM by default
+        --min-fan-out <int>         minimum number of direct reports, 0 by default
+        --max-fan-out <int>         maximum number of direct reports, 10 by default
+        --max-depth <int>           max number of managers up to the CEO, unlimited by default
+        --leaf-salary <int>         typical salary at the bottom, 40000 by default
+        --salary-spread <double>    relative spread of the salaries of a team, 0.1 by default
+        --violator-share <double>   share of managers breaking a salary rule, 0.05 by default
+        --cycles <int>              number of cycles to inject, 0 by default
+        --dangling-managers <int>   number of missing managers to inject, 0 by default
+      The CSV is written to the standard output if no output file is given.""";
+
+  private static final Set<String> OPTIONS = Set.of("size", "seed", "fan-out", "min-fan-out",
+      "max-fan-out", "max-depth", "leaf-salary", "salary-spread", "violator-share", "cycles",
+      "dangling-managers");
+
+  /**
+   * Generates the organization described by the command-line options.
+   *
+   * @param args the command-line options, followed by the optional path of the output file
+   * @throws IOException            if the output cannot be written
+   * @throws ConfigurationException if the options are invalid
+   */
+  public static void main(String... args) throws IOException {
+    CommandLineOptions options = CommandLineOptions.parse(args, OPTIONS, Set.of());
+    if (!options.hasValue("size") || options.arguments().size() > 1) {
+      throw new ConfigurationException(USAGE);
+    }
+    OrgHierarchyGenerator generator = new OrgHierarchyGenerator(parseConfig(options));
+    if (options.arguments().isEmpty()) {
+      Writer writer = new BufferedWriter(
+          new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+      generator.writeCsv(writer);
+      writer.flush();
+    } else {
+      generator.writeCsv(Path.of(options.arguments().get(0)));
+    }
+  }
+
+  static GeneratorConfig parseConfig(CommandLineOptions options) {
+    GeneratorConfig defaults = GeneratorConfig.builder(1).build();
+    return GeneratorConfig.builder(options.getInt("size", 0))
+        .seed(options.getLong("seed", defaults.seed()))
+        .fanOut(options.getEnum("fan-out", FanOutDistribution.class,
+                defaults.fanOutDistribution()),
+            options.getInt("min-fan-out", defaults.minFanOut()),
+            options.getInt("max-fan-out", defaults.maxFanOut()))
+        .maxDepth(options.getInt("max-depth", defaults.maxDepth()))
+        .salaries(options.getInt("leaf-salary", defaults.leafSalary()),
+            options.getDouble("salary-spread", defaults.salarySpread()))
+        .violatorShare(options.getDouble("violator-share", defaults.violatorShare()))
+        .cycles(options.getInt("cycles", defaults.cycles()))
+        .danglingManagers(options.getInt("dangling-managers", defaults.danglingManagers()))
+        .build();
+  }
+}
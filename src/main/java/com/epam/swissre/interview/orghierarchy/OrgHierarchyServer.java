@@ -0,0 +1,281 @@
+package com.epam.swissre.interview.orghierarchy;
+
+import com.epam.swissre.interview.orghierarchy.config.CommandLineOptions;
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import com.epam.swissre.interview.orghierarchy.exception.OrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.PortFactory;
+import com.epam.swissre.interview.orghierarchy.service.OrgHierarchyQueryService;
+import com.epam.swissre.interview.orghierarchy.service.ServiceFactory;
+import com.epam.swissre.interview.orghierarchy.service.VirtualThreadExecutors;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The {@code OrgHierarchyServer} class serves the reports on organization hierarchies over HTTP on
+ * the loopback interface, from a long-running JVM keeping the analyzed organizations in memory, so
+ * that only the first query on a source pays for the JVM warm-up and for parsing the CSV file.
+ * <p>
+ * The following requests are answered, each taking the path of the CSV file as the optional
+ * {@code source} parameter, the default file of the configuration if missing:
+ * <ul>
+ *   <li>{@code GET /reports?rule=<rule>} returns the findings as newline-delimited JSON, like the
+ *   {@code --ndjson} option of {@link OrgHierarchyChecker} writes them, for the given rule only,
+ *   i.e. {@code LONG_REPORTING_LINE}, {@code UNDERPAID_MANAGER} or {@code OVERPAID_MANAGER}, or for
+ *   all of them if the rule is missing.</li>
+ *   <li>{@code GET /reporting-line?employee=<id>} returns the IDs of the managers of the employee
+ *   up to the CEO, e.g. {@code {"employeeId":305,"reportingLine":[300,124,123]}}.</li>
+ *   <li>{@code POST /reload} loads and analyzes the source again, and returns the number of
+ *   employees, e.g. {@code {"employees":5}}.</li>
+ * </ul>
+ * The requests are handled on virtual threads when the JVM supports them, i.e. from Java 21 on, and
+ * on a cached pool of platform threads otherwise.
+ * </p>
+ */
+public final class OrgHierarchyServer implements AutoCloseable {
+
+  static final int DEFAULT_PORT = 8080;
+  static final String LONG_REPORTING_LINE = "LONG_REPORTING_LINE";
+  static final String UNDERPAID_MANAGER = "UNDERPAID_MANAGER";
+  static final String OVERPAID_MANAGER = "OVERPAID_MANAGER";
+  private static final Set<String> OPTIONS = Set.of("port");
+  private static final String NDJSON = "application/x-ndjson";
+  private static final String JSON = "application/json";
+  private static final String TEXT = "text/plain; charset=utf-8";
+
+  private final OrgHierarchyQueryService queryService;
+  private final HttpServer server;
+  private final ExecutorService executor;
+  // the last reports on each source with their findings encoded, by source parameter
+  private final ConcurrentMap<String, EncodedReports> encodedReports = new ConcurrentHashMap<>();
+
+  private OrgHierarchyServer(OrgHierarchyQueryService queryService, int port) throws IOException {
+    this.queryService = queryService;
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    executor = VirtualThreadExecutors.newThreadPerTaskExecutor(Executors::newCachedThreadPool);
+    server.setExecutor(executor);
+    server.createContext("/reports", exchange -> handle(exchange, "GET", this::reports));
+    server.createContext("/reporting-line",
+        exchange -> handle(exchange, "GET", this::reportingLine));
+    server.createContext("/reload", exchange -> handle(exchange, "POST", this::reload));
+  }
+
+  /**
+   * Starts a server answering the queries with the given service.
+   *
+   * @param queryService the service keeping the analyzed organizations
+   * @param port         the port to listen to on the loopback interface, 0 for any free one
+   * @return the started server
+   * @throws IOException if the server cannot listen to the port
+   */
+  public static OrgHierarchyServer start(OrgHierarchyQueryService queryService, int port)
+      throws IOException {
+    OrgHierarchyServer server = new OrgHierarchyServer(queryService, port);
+    server.server.start();
+    return server;
+  }
+
+  /**
+   * The main method starts the server, which runs until the JVM is stopped.
+   *
+   * @param args Command-line arguments, optionally {@code --port <port>} to listen to another port
+   *             than {@value #DEFAULT_PORT}, followed by the paths of the CSV files to analyze
+   *             upfront, if any.
+   * @throws IOException            if the server cannot listen to the port
+   * @throws ConfigurationException if the options are invalid
+   */
+  public static void main(String... args) throws IOException {
+    CommandLineOptions options = CommandLineOptions.parse(args, OPTIONS, Set.of());
+    OrgHierarchyQueryService queryService = ServiceFactory.newOrgHierarchyQueryService();
+    options.arguments().forEach(queryService::reload);
+    OrgHierarchyServer server = start(queryService, options.getInt("port", DEFAULT_PORT));
+    Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+    System.out.println("Serving the organization hierarchy reports on http://"
+        + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort());
+  }
+
+  private static Map<String, String> parseQuery(HttpExchange exchange) {
+    Map<String, String> parameters = new HashMap<>();
+    String query = exchange.getRequestURI().getRawQuery();
+    if (query != null) {
+      for (String parameter : query.split("&")) {
+        int equals = parameter.indexOf('=');
+        String name = equals < 0 ? parameter : parameter.substring(0, equals);
+        String value = equals < 0 ? "" : parameter.substring(equals + 1);
+        parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+            URLDecoder.decode(value, StandardCharsets.UTF_8));
+      }
+    }
+    return parameters;
+  }
+
+  private static void send(HttpExchange exchange, int status, String contentType,
+      byte[]... bodyParts) throws IOException {
+    long length = 0;
+    for (byte[] bodyPart : bodyParts) {
+      length += bodyPart.length;
+    }
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+    try (OutputStream responseBody = exchange.getResponseBody()) {
+      for (byte[] bodyPart : bodyParts) {
+        responseBody.write(bodyPart);
+      }
+    }
+  }
+
+  private static void sendText(HttpExchange exchange, int status, String message)
+      throws IOException {
+    send(exchange, status, TEXT, (message + "\n").getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Answers a request with the given handler, or with an error if the method is not the expected
+   * one or if the handler fails.
+   */
+  private void handle(HttpExchange exchange, String method, RequestHandler handler)
+      throws IOException {
+    try (exchange) {
+      if (!exchange.getRequestMethod().equals(method)) {
+        exchange.getResponseHeaders().set("Allow", method);
+        sendText(exchange, 405, "Method not allowed: " + exchange.getRequestMethod());
+        return;
+      }
+      try {
+        handler.handle(exchange, parseQuery(exchange));
+      } catch (ConfigurationException | IllegalArgumentException e) {
+        sendText(exchange, 400, e.getMessage());
+      } catch (OrgHierarchyException e) {
+        sendText(exchange, 422, e.getMessage());
+      } catch (RuntimeException e) {
+        sendText(exchange, 500, String.valueOf(e));
+      }
+    }
+  }
+
+  private void reports(HttpExchange exchange, Map<String, String> parameters)
+      throws IOException {
+    String rule = parameters.get("rule");
+    if (rule != null && !Set.of(LONG_REPORTING_LINE, UNDERPAID_MANAGER, OVERPAID_MANAGER)
+        .contains(rule)) {
+      throw new ConfigurationException("Unknown rule: " + rule);
+    }
+    String source = String.valueOf(parameters.get("source"));
+    OrgHierarchyReports reports = queryService.getReports(parameters.get("source"));
+    EncodedReports encoded = encodedReports.get(source);
+    // the reports are replaced by a reload, and only then encoded again
+    if (encoded == null || encoded.reports() != reports) {
+      encoded = EncodedReports.of(reports);
+      encodedReports.put(source, encoded);
+    }
+    List<byte[]> body = new ArrayList<>(3);
+    if (rule == null || rule.equals(LONG_REPORTING_LINE)) {
+      body.add(encoded.longReportingLines());
+    }
+    if (rule == null || rule.equals(UNDERPAID_MANAGER)) {
+      body.add(encoded.underpaidManagers());
+    }
+    if (rule == null || rule.equals(OVERPAID_MANAGER)) {
+      body.add(encoded.overpaidManagers());
+    }
+    send(exchange, 200, NDJSON, body.toArray(byte[][]::new));
+  }
+
+  private void reportingLine(HttpExchange exchange, Map<String, String> parameters)
+      throws IOException {
+    String employee = parameters.get("employee");
+    if (employee == null) {
+      throw new ConfigurationException("Missing the parameter employee");
+    }
+    int employeeId;
+    try {
+      employeeId = Integer.parseInt(employee);
+    } catch (NumberFormatException e) {
+      throw new ConfigurationException("Invalid value for the parameter employee: " + employee);
+    }
+    Optional<List<Integer>> reportingLine =
+        queryService.getReportingLine(parameters.get("source"), employeeId);
+    if (reportingLine.isEmpty()) {
+      sendText(exchange, 404, "Unknown employee ID: " + employeeId);
+      return;
+    }
+    StringBuilder json = new StringBuilder("{\"employeeId\":").append(employeeId)
+        .append(",\"reportingLine\":[");
+    String separator = "";
+    for (Integer managerId : reportingLine.get()) {
+      json.append(separator).append(managerId);
+      separator = ",";
+    }
+    json.append("]}\n");
+    send(exchange, 200, JSON, json.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void reload(HttpExchange exchange, Map<String, String> parameters) throws IOException {
+    Organization organization = queryService.reload(parameters.get("source"));
+    send(exchange, 200, JSON, ("{\"employees\":" + organization.getEmployees().size() + "}\n")
+        .getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns the port the server listens to.
+   *
+   * @return the port, e.g. the one picked if started on port 0
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Stops the server, without waiting for the requests in progress.
+   */
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  /**
+   * The findings of each report, encoded as newline-delimited JSON.
+   */
+  private record EncodedReports(OrgHierarchyReports reports, byte[] longReportingLines,
+                                byte[] underpaidManagers, byte[] overpaidManagers) {
+
+    private static EncodedReports of(OrgHierarchyReports reports) {
+      ByteArrayOutputStream longReportingLines = new ByteArrayOutputStream();
+      PortFactory.newNdjsonReportsWriter(longReportingLines)
+          .longReportingLines(reports.longReportingLines());
+      ByteArrayOutputStream underpaidManagers = new ByteArrayOutputStream();
+      PortFactory.newNdjsonReportsWriter(underpaidManagers)
+          .underpaidManagers(reports.underpaidManagers());
+      ByteArrayOutputStream overpaidManagers = new ByteArrayOutputStream();
+      PortFactory.newNdjsonReportsWriter(overpaidManagers)
+          .overpaidManagers(reports.overpaidManagers());
+      return new EncodedReports(reports, longReportingLines.toByteArray(),
+          underpaidManagers.toByteArray(), overpaidManagers.toByteArray());
+    }
+  }
+
+  @FunctionalInterface
+  private interface RequestHandler {
+
+    void handle(HttpExchange exchange, Map<String, String> parameters) throws IOException;
+  }
+}
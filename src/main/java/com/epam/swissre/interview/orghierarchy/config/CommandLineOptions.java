@@ -0,0 +1,179 @@
+package com.epam.swissre.interview.orghierarchy.config;
+
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The {@link CommandLineOptions} class parses the command-line arguments of the applications into
+ * options and positional arguments.
+ *
+ * <p>Options start with {@code --}. An option taking a value accepts it either as the next argument
+ * or after an equals sign, e.g. {@code --size 1000} or {@code --size=1000}, while a flag takes no
+ * value. Any other argument is positional, and {@code --} ends the options.
+ */
+public final class CommandLineOptions {
+
+  private static final String PREFIX = "--";
+
+  private final Map<String, String> values;
+  private final Set<String> flags;
+  private final List<String> arguments;
+
+  private CommandLineOptions(Map<String, String> values, Set<String> flags,
+      List<String> arguments) {
+    this.values = values;
+    this.flags = flags;
+    this.arguments = arguments;
+  }
+
+  /**
+   * Parses the given command-line arguments.
+   *
+   * @param args         the command-line arguments
+   * @param valueOptions the names of the options taking a value, without the {@code --} prefix
+   * @param flagOptions  the names of the options taking no value, without the {@code --} prefix
+   * @return the parsed options
+   * @throws ConfigurationException if an option is unknown or misses its value
+   */
+  public static CommandLineOptions parse(String[] args, Set<String> valueOptions,
+      Set<String> flagOptions) {
+    Map<String, String> values = new HashMap<>();
+    Set<String> flags = new HashSet<>();
+    List<String> arguments = new ArrayList<>();
+    for (int i = 0; i < args.length; i++) {
+      String arg = args[i];
+      if (arg.equals(PREFIX)) {
+        arguments.addAll(List.of(args).subList(i + 1, args.length));
+        break;
+      }
+      if (!arg.startsWith(PREFIX)) {
+        arguments.add(arg);
+        continue;
+      }
+      int equals = arg.indexOf('=');
+      String name = arg.substring(PREFIX.length(), equals < 0 ? arg.length() : equals);
+      if (flagOptions.contains(name) && equals < 0) {
+        flags.add(name);
+      } else if (!valueOptions.contains(name)) {
+        throw new ConfigurationException("Unknown option: " + arg);
+      } else if (equals >= 0) {
+        values.put(name, arg.substring(equals + 1));
+      } else if (i + 1 < args.length) {
+        values.put(name, args[++i]);
+      } else {
+        throw new ConfigurationException("Missing value for the option --" + name);
+      }
+    }
+    return new CommandLineOptions(values, flags, arguments);
+  }
+
+  /**
+   * Tells whether the given flag is set.
+   *
+   * @param name the name of the flag
+   * @return true if the flag is set
+   */
+  public boolean hasFlag(String name) {
+    return flags.contains(name);
+  }
+
+  /**
+   * Tells whether a value is given for the option.
+   *
+   * @param name the name of the option
+   * @return true if a value is given
+   */
+  public boolean hasValue(String name) {
+    return values.containsKey(name);
+  }
+
+  /**
+   * Returns the positional arguments, in their order on the command line.
+   *
+   * @return the arguments that are not options
+   */
+  public List<String> arguments() {
+    return List.copyOf(arguments);
+  }
+
+  /**
+   * Returns the value of the option.
+   *
+   * @param name         the name of the option
+   * @param defaultValue the value to return if the option is not given
+   * @return the value of the option
+   */
+  public String getString(String name, String defaultValue) {
+    return values.getOrDefault(name, defaultValue);
+  }
+
+  /**
+   * Returns the value of the option as an int.
+   *
+   * @param name         the name of the option
+   * @param defaultValue the value to return if the option is not given
+   * @return the value of the option
+   * @throws ConfigurationException if the value is not an int
+   */
+  public int getInt(String name, int defaultValue) {
+    return get(name, defaultValue, Integer::parseInt);
+  }
+
+  /**
+   * Returns the value of the option as a long.
+   *
+   * @param name         the name of the option
+   * @param defaultValue the value to return if the option is not given
+   * @return the value of the option
+   * @throws ConfigurationException if the value is not a long
+   */
+  public long getLong(String name, long defaultValue) {
+    return get(name, defaultValue, Long::parseLong);
+  }
+
+  /**
+   * Returns the value of the option as a double.
+   *
+   * @param name         the name of the option
+   * @param defaultValue the value to return if the option is not given
+   * @return the value of the option
+   * @throws ConfigurationException if the value is not a double
+   */
+  public double getDouble(String name, double defaultValue) {
+    return get(name, defaultValue, Double::parseDouble);
+  }
+
+  /**
+   * Returns the value of the option as a constant of the given enum, ignoring the case.
+   *
+   * @param name         the name of the option
+   * @param type         the enum type
+   * @param defaultValue the value to return if the option is not given
+   * @param <E>          the enum type
+   * @return the constant named by the option
+   * @throws ConfigurationException if no constant has the given name
+   */
+  public <E extends Enum<E>> E getEnum(String name, Class<E> type, E defaultValue) {
+    return get(name, defaultValue, value -> Enum.valueOf(type, value.toUpperCase(Locale.ROOT)));
+  }
+
+  private <T> T get(String name, T defaultValue, Function<String, T> parser) {
+    String value = values.get(name);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      return parser.apply(value.trim());
+    } catch (IllegalArgumentException e) {
+      throw new ConfigurationException(
+          String.format("Invalid value for the option --%s: %s", name, value), e);
+    }
+  }
+}
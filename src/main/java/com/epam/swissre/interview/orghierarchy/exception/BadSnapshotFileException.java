@@ -0,0 +1,15 @@
+package com.epam.swissre.interview.orghierarchy.exception;
+
+/**
+ * Exception thrown when a snapshot file is missing, inaccessible or not a valid snapshot.
+ */
+public class BadSnapshotFileException extends OrgHierarchyException {
+
+  public BadSnapshotFileException(String message) {
+    super(message);
+  }
+
+  public BadSnapshotFileException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,12 @@
+package com.epam.swissre.interview.orghierarchy.exception;
+
+/**
+ * Exception thrown when a change set cannot be applied to an organization, e.g. because it hires
+ * an employee that already exists or refers to one that does not.
+ */
+public class InvalidChangeSetException extends OrgHierarchyException {
+
+  public InvalidChangeSetException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
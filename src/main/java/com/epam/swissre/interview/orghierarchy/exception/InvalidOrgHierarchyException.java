@@ -0,0 +1,32 @@
+package com.epam.swissre.interview.orghierarchy.exception;
+
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Exception thrown when the validation of an organization hierarchy finds one or more structural
+ * problems. All the problems found are reported together.
+ */
+public class InvalidOrgHierarchyException extends OrgHierarchyException {
+
+  private final transient List<HierarchyProblem> problems;
+
+  public InvalidOrgHierarchyException(List<HierarchyProblem> problems) {
+    super(String.format("The organization hierarchy has %d problem(s):%s", problems.size(),
+        problems.stream()
+            .map(HierarchyProblem::description)
+            .collect(Collectors.joining(System.lineSeparator() + "\t",
+                System.lineSeparator() + "\t", ""))));
+    this.problems = List.copyOf(problems);
+  }
+
+  /**
+   * Returns all the problems found in the hierarchy.
+   *
+   * @return an unmodifiable list of the problems
+   */
+  public List<HierarchyProblem> getProblems() {
+    return problems;
+  }
+}
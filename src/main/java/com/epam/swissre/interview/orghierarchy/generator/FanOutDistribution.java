@@ -0,0 +1,75 @@
+package com.epam.swissre.interview.orghierarchy.generator;
+
+import java.util.Random;
+
+/**
+ * The distribution of the number of direct reports that the generated employees get.
+ */
+public enum FanOutDistribution {
+
+  /**
+   * Every employee gets the maximum fan-out.
+   */
+  FIXED {
+    @Override
+    int draw(Random random, int min, int max) {
+      return max;
+    }
+
+    @Override
+    double mean(int min, int max) {
+      return max;
+    }
+  },
+
+  /**
+   * The fan-out is drawn uniformly between the minimum and the maximum, both inclusive.
+   */
+  UNIFORM {
+    @Override
+    int draw(Random random, int min, int max) {
+      return min + random.nextInt(max - min + 1);
+    }
+
+    @Override
+    double mean(int min, int max) {
+      return (min + max) / 2.0;
+    }
+  },
+
+  /**
+   * The fan-out is mostly close to the minimum, with a long tail up to the maximum: a few managers
+   * get large teams while most employees get few direct reports or none.
+   */
+  SKEWED {
+    @Override
+    int draw(Random random, int min, int max) {
+      double u = random.nextDouble();
+      return min + (int) Math.round(u * u * u * (max - min));
+    }
+
+    @Override
+    double mean(int min, int max) {
+      return min + (max - min) / 4.0;
+    }
+  };
+
+  /**
+   * Draws the fan-out of an employee.
+   *
+   * @param random the source of randomness
+   * @param min    the minimum fan-out
+   * @param max    the maximum fan-out
+   * @return the number of direct reports of the employee
+   */
+  abstract int draw(Random random, int min, int max);
+
+  /**
+   * Returns the expected fan-out of an employee.
+   *
+   * @param min the minimum fan-out
+   * @param max the maximum fan-out
+   * @return the mean of the distribution
+   */
+  abstract double mean(int min, int max);
+}
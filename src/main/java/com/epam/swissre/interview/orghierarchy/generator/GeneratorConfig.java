@@ -0,0 +1,238 @@
+package com.epam.swissre.interview.orghierarchy.generator;
+
+import com.epam.swissre.interview.orghierarchy.config.ConfigLoader;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+
+/**
+ * The {@link GeneratorConfig} class contains the shape of the organizations generated by the
+ * {@link OrgHierarchyGenerator}. Instances are created with a {@link Builder}, which provides
+ * defaults for everything but the size.
+ *
+ * @param size               the number of employees in the hierarchy, excluding the defects
+ * @param seed               the seed of the generator, the same seed giving the same organization
+ * @param fanOutDistribution the distribution of the number of direct reports
+ * @param minFanOut          the minimum number of direct reports of an employee
+ * @param maxFanOut          the maximum number of direct reports of an employee
+ * @param maxDepth           the maximum number of managers between an employee and the CEO,
+ *                           including the CEO
+ * @param leafSalary         the typical salary at the bottom of the hierarchy, the salaries growing
+ *                           level by level up to the CEO
+ * @param salarySpread       the relative standard deviation of the salaries of the direct reports
+ *                           of a manager
+ * @param violatorShare      the share of managers breaking one of the salary rules, half of them
+ *                           underpaid and half overpaid
+ * @param cycles             the number of cycles of employees reporting to each other to inject
+ * @param danglingManagers   the number of employees reporting to non-existent managers to inject
+ * @param reportingConfig    the salary rules that the managers follow or break
+ */
+public record GeneratorConfig(int size, long seed, FanOutDistribution fanOutDistribution,
+                              int minFanOut, int maxFanOut, int maxDepth, int leafSalary,
+                              double salarySpread, double violatorShare, int cycles,
+                              int danglingManagers, ReportingConfig reportingConfig) {
+
+  /**
+   * The maximum number of employees in an injected cycle.
+   */
+  public static final int MAX_CYCLE_LENGTH = 4;
+
+  // the max salary of the CEO, leaving room for the direct reports drawn above their average
+  static final double MAX_CEO_SALARY = 1e9;
+
+  /**
+   * Validates the configuration.
+   *
+   * @throws ConfigurationException if a value is out of its range, if the hierarchy cannot hold
+   *                                the requested number of employees, or if it is too deep for
+   *                                int salaries complying with the salary factors
+   */
+  public GeneratorConfig {
+    assertInRange(size, 1, Integer.MAX_VALUE, "size");
+    assertInRange(maxFanOut, 1, Integer.MAX_VALUE, "maxFanOut");
+    assertInRange(minFanOut, 0, maxFanOut, "minFanOut");
+    assertInRange(maxDepth, 1, Integer.MAX_VALUE, "maxDepth");
+    assertInRange(leafSalary, 1, Integer.MAX_VALUE, "leafSalary");
+    assertInRange(salarySpread, 0, 1, "salarySpread");
+    assertInRange(violatorShare, 0, 1, "violatorShare");
+    assertInRange(cycles, 0, Integer.MAX_VALUE, "cycles");
+    assertInRange(danglingManagers, 0, Integer.MAX_VALUE, "danglingManagers");
+    if (fanOutDistribution == null || reportingConfig == null) {
+      throw new ConfigurationException("No fan-out distribution or reporting config provided");
+    }
+    // the dangling managers take the IDs counting down from the max, see OrgHierarchyGenerator
+    if ((long) size + (long) cycles * MAX_CYCLE_LENGTH + 2L * danglingManagers
+        > Integer.MAX_VALUE) {
+      throw new ConfigurationException("Too many employees requested: the IDs would not fit in an"
+          + " int");
+    }
+    if (size > capacity(maxFanOut, maxDepth)) {
+      throw new ConfigurationException(String.format(
+          "A hierarchy with a fan-out of at most %d and a depth of at most %d cannot hold %d"
+              + " employees", maxFanOut, maxDepth, size));
+    }
+    // every level multiplies the salaries by the average factor on the way up to the CEO, so that
+    // the salaries of a deeper hierarchy would round down to a few units or to zero, where the
+    // rounding decides whether a manager complies
+    double factor = averageFactor(reportingConfig);
+    int depth = expectedDepth(size, fanOutDistribution, minFanOut, maxFanOut, maxDepth);
+    if (factor > 1 && leafSalary * Math.pow(factor, depth) > MAX_CEO_SALARY) {
+      throw new ConfigurationException(String.format(
+          "A hierarchy about %d levels deep cannot hold salaries complying with the salary factors"
+              + " from a leaf salary of %d: at most %d levels fit", depth, leafSalary,
+          Math.max(0, (int) (Math.log(MAX_CEO_SALARY / leafSalary) / Math.log(factor)))));
+    }
+  }
+
+  /**
+   * Estimates the depth of the hierarchy from the mean fan-out, or bounds it by the size if the
+   * hierarchy does not grow on average, in both cases at most the max depth.
+   */
+  private static int expectedDepth(int size, FanOutDistribution fanOutDistribution, int minFanOut,
+      int maxFanOut, int maxDepth) {
+    double meanFanOut = fanOutDistribution.mean(minFanOut, maxFanOut);
+    double depth = meanFanOut > 1 ? Math.ceil(Math.log(size) / Math.log(meanFanOut)) : size - 1;
+    return (int) Math.min(depth, maxDepth);
+  }
+
+  private static double averageFactor(ReportingConfig reportingConfig) {
+    return (reportingConfig.minSalaryFactorForManagers()
+        + reportingConfig.maxSalaryFactorForManagers()) / 2;
+  }
+
+  /**
+   * Returns the expected depth of the hierarchy, i.e. the number of levels below the CEO.
+   */
+  int expectedDepth() {
+    return expectedDepth(size, fanOutDistribution, minFanOut, maxFanOut, maxDepth);
+  }
+
+  /**
+   * Returns the average of the salary factors, by which the salaries grow from level to level.
+   */
+  double averageFactor() {
+    return averageFactor(reportingConfig);
+  }
+
+  /**
+   * Creates a builder for a configuration with the given number of employees.
+   *
+   * @param size the number of employees in the hierarchy, excluding the defects
+   * @return a new {@link Builder} with the default values
+   */
+  public static Builder builder(int size) {
+    return new Builder(size);
+  }
+
+  /**
+   * Computes the number of employees in a full hierarchy, i.e. with the max fan-out down to the
+   * max depth.
+   *
+   * @return the number of employees, saturating right above {@link Integer#MAX_VALUE}
+   */
+  static long capacity(int maxFanOut, int maxDepth) {
+    if (maxFanOut == 1) {
+      return maxDepth + 1L;
+    }
+    long capacity = 1;
+    long level = 1;
+    for (int depth = 1; depth <= maxDepth && capacity <= Integer.MAX_VALUE; depth++) {
+      level = Math.min(level * maxFanOut, Integer.MAX_VALUE + 1L);
+      capacity += level;
+    }
+    return capacity;
+  }
+
+  private static void assertInRange(double value, double min, double max, String name) {
+    if (value < min || value > max) {
+      throw new ConfigurationException(String.format(
+          "Found value %s for %s while it must be between %s and %s", value, name, min, max));
+    }
+  }
+
+  private static void assertInRange(long value, long min, long max, String name) {
+    if (value < min || value > max) {
+      throw new ConfigurationException(String.format(
+          "Found value %d for %s while it must be between %d and %d", value, name, min, max));
+    }
+  }
+
+  /**
+   * Builds a {@link GeneratorConfig}, defaulting to a seed of 0, between 0 and 10 direct reports
+   * drawn uniformly, no maximum depth, a leaf salary of 40000 with a spread of 10%, 5% of the
+   * managers breaking the salary rules, no defects, and the reporting config of the application.
+   */
+  public static final class Builder {
+
+    private final int size;
+    private long seed;
+    private FanOutDistribution fanOutDistribution = FanOutDistribution.UNIFORM;
+    private int minFanOut = 0;
+    private int maxFanOut = 10;
+    private int maxDepth = Integer.MAX_VALUE;
+    private int leafSalary = 40_000;
+    private double salarySpread = 0.1;
+    private double violatorShare = 0.05;
+    private int cycles;
+    private int danglingManagers;
+    private ReportingConfig reportingConfig;
+
+    private Builder(int size) {
+      this.size = size;
+    }
+
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    public Builder fanOut(FanOutDistribution fanOutDistribution, int minFanOut, int maxFanOut) {
+      this.fanOutDistribution = fanOutDistribution;
+      this.minFanOut = minFanOut;
+      this.maxFanOut = maxFanOut;
+      return this;
+    }
+
+    public Builder maxDepth(int maxDepth) {
+      this.maxDepth = maxDepth;
+      return this;
+    }
+
+    public Builder salaries(int leafSalary, double salarySpread) {
+      this.leafSalary = leafSalary;
+      this.salarySpread = salarySpread;
+      return this;
+    }
+
+    public Builder violatorShare(double violatorShare) {
+      this.violatorShare = violatorShare;
+      return this;
+    }
+
+    public Builder cycles(int cycles) {
+      this.cycles = cycles;
+      return this;
+    }
+
+    public Builder danglingManagers(int danglingManagers) {
+      this.danglingManagers = danglingManagers;
+      return this;
+    }
+
+    public Builder reportingConfig(ReportingConfig reportingConfig) {
+      this.reportingConfig = reportingConfig;
+      return this;
+    }
+
+    /**
+     * Builds the configuration.
+     *
+     * @return a new {@link GeneratorConfig}
+     * @throws ConfigurationException if the configuration is invalid
+     */
+    public GeneratorConfig build() {
+      return new GeneratorConfig(size, seed, fanOutDistribution, minFanOut, maxFanOut, maxDepth,
+          leafSalary, salarySpread, violatorShare, cycles, danglingManagers,
+          reportingConfig == null ? ConfigLoader.getReportingConfig() : reportingConfig);
+    }
+  }
+}
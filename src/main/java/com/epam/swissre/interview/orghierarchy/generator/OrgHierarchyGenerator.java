@@ -0,0 +1,282 @@
+package com.epam.swissre.interview.orghierarchy.generator;
+
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Generates synthetic organizations of any size, e.g. to test the application at production scale.
+ * The shape of the organization is given by a {@link GeneratorConfig}, and the same configuration
+ * always generates the same organization.
+ *
+ * <p>The hierarchy is generated level by level from the CEO, with sequential IDs, and the employees
+ * are emitted as soon as they are generated: a CSV file is written in a single pass, holding only
+ * the salaries of the employees still waiting for their direct reports in memory. Every manager
+ * gets the salaries of its direct reports drawn around a target average, which complies with the
+ * salary rules or breaks one of them on purpose, so that the share of violators is controlled.
+ * The salaries therefore grow level by level up to the CEO.
+ *
+ * <p>The defects, if any, are emitted after the hierarchy: the cycles as rings of 2 to
+ * {@link GeneratorConfig#MAX_CYCLE_LENGTH} employees, and the dangling managers as employees
+ * reporting to IDs counting down from {@link Integer#MAX_VALUE}, which are never generated.
+ */
+public final class OrgHierarchyGenerator {
+
+  static final String CSV_HEADER = "Id,firstName,lastName,salary,managerId";
+  private static final int NO_MANAGER = 0;
+  // the margin kept from the salary factors, so that the rounding of the salaries never changes
+  // whether a manager complies with the rules, as long as the salaries are far above 1 / MARGIN,
+  // which GeneratorConfig ensures down to the expected depth
+  private static final double MARGIN = 0.05;
+  private static final String[] FIRST_NAMES = {"Joe", "Martin", "Bob", "Alice", "Brett", "Maria",
+      "Yuki", "Amir", "Olga", "Chen", "Fatima", "Lars", "Priya", "Diego", "Aisha", "Tom"};
+  private static final String[] LAST_NAMES = {"Doe", "Chekov", "Ronstad", "Hasacat", "Hardleaf",
+      "Santos", "Tanaka", "Haddad", "Ivanova", "Wang", "Khan", "Larsen", "Patel", "Garcia",
+      "Okafor", "Smith"};
+
+  private final GeneratorConfig config;
+
+  public OrgHierarchyGenerator(GeneratorConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Writes the organization to a CSV file, in the format read by the loaders.
+   *
+   * @param file the path of the file to create or overwrite
+   * @throws IOException if the file cannot be written
+   */
+  public void writeCsv(Path file) throws IOException {
+    try (Writer writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8),
+        1 << 16)) {
+      writeCsv(writer);
+    }
+  }
+
+  /**
+   * Writes the organization as CSV to the given writer, in the format read by the loaders.
+   *
+   * @param writer the writer to write to, buffering is left to the caller
+   * @throws IOException if the writer fails
+   */
+  public void writeCsv(Writer writer) throws IOException {
+    writer.write(CSV_HEADER);
+    writer.write('\n');
+    StringBuilder line = new StringBuilder(64);
+    generate((id, firstName, lastName, salary, managerId) -> {
+      line.setLength(0);
+      line.append(id).append(',').append(firstName).append(',').append(lastName).append(',')
+          .append(salary).append(',');
+      if (managerId != NO_MANAGER) {
+        line.append(managerId);
+      }
+      line.append('\n');
+      writer.append(line);
+    });
+  }
+
+  /**
+   * Generates the employees of the organization one by one.
+   *
+   * @param consumer the consumer of the employees, called in the order of their IDs
+   */
+  public void generate(Consumer<Employee> consumer) {
+    try {
+      generate((id, firstName, lastName, salary, managerId) -> consumer.accept(
+          new Employee(id, firstName, lastName, salary,
+              managerId == NO_MANAGER ? null : managerId)));
+    } catch (IOException e) {
+      // never thrown by the consumer
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Generates the whole organization in memory.
+   *
+   * @return a new {@link Organization} with all the generated employees
+   */
+  public Organization createOrganization() {
+    Organization organization = new Organization(config.size());
+    generate(organization::addEmployee);
+    return organization;
+  }
+
+  private void generate(EmployeeSink sink) throws IOException {
+    Random random = new Random(config.seed());
+    int lastId = generateHierarchy(random, sink);
+    generateDefects(random, sink, lastId);
+  }
+
+  /**
+   * Generates the hierarchy breadth-first, so that the IDs of the employees of a level follow each
+   * other, and the level of the next manager to get its direct reports is known from the ID
+   * where its level ends.
+   *
+   * @return the last generated ID
+   */
+  private int generateHierarchy(Random random, EmployeeSink sink) throws IOException {
+    int size = config.size();
+    int maxFanOut = config.maxFanOut();
+    int maxDepth = config.maxDepth();
+    SalaryQueue salaries = new SalaryQueue();
+    double[] spreads = new double[16];
+
+    int ceoSalary = ceoSalary();
+    sink.accept(1, firstName(random), lastName(random), ceoSalary, NO_MANAGER);
+    salaries.add(ceoSalary);
+    int lastId = 1;
+    int levelEnd = 1;
+    int depth = 0;
+    // the max number of employees in the subtree of a direct report of the current level
+    long reportCapacity = GeneratorConfig.capacity(maxFanOut, maxDepth - 1);
+    for (int manager = 1; lastId < size; manager++) {
+      if (manager > levelEnd) {
+        depth++;
+        levelEnd = lastId;
+        reportCapacity = GeneratorConfig.capacity(maxFanOut, maxDepth - depth - 1);
+      }
+      if (manager > lastId || depth >= maxDepth) {
+        // prevented by the capacity checks
+        throw new IllegalStateException("The hierarchy ran out of managers after " + lastId
+            + " employees");
+      }
+      int managerSalary = salaries.poll();
+      int fanOut = config.fanOutDistribution().draw(random, config.minFanOut(), maxFanOut);
+      if (reportCapacity < size) {
+        // leave no more employees than the other managers of the level and their direct reports
+        // can take with the max fan-out
+        double othersCapacity = (double) (levelEnd - manager) * maxFanOut * reportCapacity
+            + (double) (lastId - levelEnd) * (reportCapacity - 1);
+        double minFanOut = Math.ceil((size - lastId - othersCapacity) / reportCapacity);
+        fanOut = (int) Math.max(fanOut, Math.min(maxFanOut, minFanOut));
+      }
+      if (fanOut == 0 && manager == lastId) {
+        // keep the hierarchy growing
+        fanOut = 1;
+      }
+      fanOut = Math.min(fanOut, size - lastId);
+      if (fanOut == 0) {
+        continue;
+      }
+
+      double average = managerSalary / salaryRatio(random);
+      if (spreads.length < fanOut) {
+        spreads = new double[Math.max(fanOut, spreads.length * 2)];
+      }
+      double sum = 0;
+      for (int i = 0; i < fanOut; i++) {
+        spreads[i] = Math.max(0.1, 1 + config.salarySpread() * random.nextGaussian());
+        sum += spreads[i];
+      }
+      // scale the salaries to the exact target average
+      double scale = average * fanOut / sum;
+      boolean withReports = depth + 1 < maxDepth;
+      for (int i = 0; i < fanOut; i++) {
+        int salary = (int) Math.round(spreads[i] * scale);
+        sink.accept(++lastId, firstName(random), lastName(random), salary, manager);
+        if (withReports) {
+          salaries.add(salary);
+        }
+      }
+    }
+    return lastId;
+  }
+
+  private void generateDefects(Random random, EmployeeSink sink, int lastId) throws IOException {
+    for (int cycle = 0; cycle < config.cycles(); cycle++) {
+      int length = 2 + random.nextInt(GeneratorConfig.MAX_CYCLE_LENGTH - 1);
+      int first = lastId + 1;
+      for (int i = 0; i < length; i++) {
+        int id = ++lastId;
+        sink.accept(id, firstName(random), lastName(random), config.leafSalary(),
+            i == length - 1 ? first : id + 1);
+      }
+    }
+    for (int i = 0; i < config.danglingManagers(); i++) {
+      sink.accept(++lastId, firstName(random), lastName(random), config.leafSalary(),
+          Integer.MAX_VALUE - i);
+    }
+  }
+
+  /**
+   * Estimates the depth of the hierarchy and grows the leaf salary by the average salary factor for
+   * every level up to the CEO.
+   */
+  private int ceoSalary() {
+    return (int) Math.min(config.leafSalary() * Math.pow(config.averageFactor(),
+        config.expectedDepth()), GeneratorConfig.MAX_CEO_SALARY);
+  }
+
+  /**
+   * Draws the ratio between the salary of a manager and the average salary of its direct reports,
+   * within the salary factors for a compliant manager, or below or above them for a violator.
+   */
+  private double salaryRatio(Random random) {
+    double min = config.reportingConfig().minSalaryFactorForManagers();
+    double max = config.reportingConfig().maxSalaryFactorForManagers();
+    double u = random.nextDouble();
+    double violation = random.nextDouble();
+    if (violation < config.violatorShare() / 2) {
+      return min * (1 - MARGIN - u * 0.2);
+    }
+    if (violation < config.violatorShare()) {
+      return max * (1 + MARGIN + u * 0.2);
+    }
+    double margin = Math.min(min, max) * MARGIN;
+    return max - min > 2 * margin ? min + margin + u * (max - min - 2 * margin)
+        : config.averageFactor();
+  }
+
+  private static String firstName(Random random) {
+    return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+  }
+
+  private static String lastName(Random random) {
+    return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+  }
+
+  @FunctionalInterface
+  private interface EmployeeSink {
+
+    void accept(int id, String firstName, String lastName, int salary, int managerId)
+        throws IOException;
+  }
+
+  /**
+   * A growable ring buffer of the salaries of the employees waiting for their direct reports, in
+   * the order of their IDs.
+   */
+  private static final class SalaryQueue {
+
+    private int[] salaries = new int[1024];
+    private int head;
+    private int size;
+
+    private void add(int salary) {
+      if (size == salaries.length) {
+        int[] grown = Arrays.copyOfRange(salaries, head, head + salaries.length * 2);
+        System.arraycopy(salaries, 0, grown, salaries.length - head, head);
+        salaries = grown;
+        head = 0;
+      }
+      salaries[(head + size++) % salaries.length] = salary;
+    }
+
+    private int poll() {
+      int salary = salaries[head];
+      head = (head + 1) % salaries.length;
+      size--;
+      return salary;
+    }
+  }
+}
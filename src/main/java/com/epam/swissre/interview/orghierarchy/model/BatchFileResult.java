@@ -0,0 +1,74 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+/**
+ * The outcome of the analysis of one source of a batch.
+ *
+ * @param source             the source of the organization analyzed
+ * @param employees          the number of employees analyzed, 0 if the analysis failed
+ * @param longReportingLines the number of employees with a too long reporting line
+ * @param underpaidManagers  the number of underpaid managers
+ * @param overpaidManagers   the number of overpaid managers
+ * @param wallNanos          the elapsed time of the analysis, waiting for memory excluded
+ * @param error              the reason why the analysis failed, or null if it succeeded
+ */
+public record BatchFileResult(String source, int employees, int longReportingLines,
+                              int underpaidManagers, int overpaidManagers, long wallNanos,
+                              String error) {
+
+  /**
+   * Constructs a BatchFileResult instance with the specified counts.
+   *
+   * @throws IllegalArgumentException if the source is null or a count is negative
+   */
+  public BatchFileResult {
+    if (source == null || employees < 0 || longReportingLines < 0 || underpaidManagers < 0
+        || overpaidManagers < 0) {
+      throw new IllegalArgumentException("Invalid batch file result parameters provided.");
+    }
+  }
+
+  /**
+   * Creates the result of a successful analysis.
+   *
+   * @param source    the source of the organization analyzed
+   * @param employees the number of employees analyzed
+   * @param reports   the reports on the organization
+   * @param wallNanos the elapsed time of the analysis
+   * @return the result with the number of findings of each report
+   */
+  public static BatchFileResult succeeded(String source, int employees,
+      OrgHierarchyReports reports, long wallNanos) {
+    return new BatchFileResult(source, employees, reports.longReportingLines().size(),
+        reports.underpaidManagers().size(), reports.overpaidManagers().size(), wallNanos, null);
+  }
+
+  /**
+   * Creates the result of a failed analysis.
+   *
+   * @param source    the source of the organization
+   * @param wallNanos the elapsed time until the failure
+   * @param error     the reason of the failure
+   * @return the result without any employee nor finding
+   */
+  public static BatchFileResult failed(String source, long wallNanos, String error) {
+    return new BatchFileResult(source, 0, 0, 0, 0, wallNanos, String.valueOf(error));
+  }
+
+  /**
+   * Tells whether the source was analyzed.
+   *
+   * @return true if the analysis succeeded, false if it failed
+   */
+  public boolean isSucceeded() {
+    return error == null;
+  }
+
+  /**
+   * Counts the findings of all the reports.
+   *
+   * @return the number of findings on the organization
+   */
+  public int findings() {
+    return longReportingLines + underpaidManagers + overpaidManagers;
+  }
+}
@@ -0,0 +1,51 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import java.util.List;
+
+/**
+ * The outcome of the analysis of a batch of sources.
+ *
+ * @param files     the results of the sources, in the order the sources were given
+ * @param wallNanos the elapsed time of the whole batch
+ */
+public record BatchSummary(List<BatchFileResult> files, long wallNanos) {
+
+  /**
+   * Constructs a BatchSummary instance with the specified results.
+   *
+   * @throws IllegalArgumentException if the results are null
+   */
+  public BatchSummary {
+    if (files == null) {
+      throw new IllegalArgumentException("Invalid batch summary parameters provided.");
+    }
+    files = List.copyOf(files);
+  }
+
+  /**
+   * Counts the sources whose analysis failed.
+   *
+   * @return the number of failed sources
+   */
+  public int failedFiles() {
+    return (int) files.stream().filter(file -> !file.isSucceeded()).count();
+  }
+
+  /**
+   * Adds up the employees of all the sources.
+   *
+   * @return the number of employees analyzed
+   */
+  public long employees() {
+    return files.stream().mapToLong(BatchFileResult::employees).sum();
+  }
+
+  /**
+   * Adds up the findings of all the sources.
+   *
+   * @return the number of findings of all the reports
+   */
+  public long findings() {
+    return files.stream().mapToLong(BatchFileResult::findings).sum();
+  }
+}
@@ -0,0 +1,382 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents an organization stored column by column: the IDs, salaries and manager positions of
+ * all employees are kept in primitive arrays indexed by the position of the employee, while the
+ * names are kept separately as references into a dictionary of distinct names.
+ *
+ * <p>Compared to {@link Organization}, this representation needs no object per employee, which
+ * cuts the heap usage several-fold and lets the reporting rules run as tight loops over arrays. The
+ * direct reports of every employee are indexed once, when the organization is built. Instances are
+ * immutable and are created with a {@link Builder} or from an existing {@link Organization}.
+ */
+public final class ColumnarOrganization {
+
+  /**
+   * The manager position of an employee without a manager, i.e. the CEO.
+   */
+  public static final int NO_MANAGER = -1;
+  /**
+   * The manager position of an employee referring to a manager that is not part of the
+   * organization.
+   */
+  public static final int UNKNOWN_MANAGER = -2;
+
+  // the columns are package-private for OrganizationSnapshot, which stores them as they are
+  final int[] ids;
+  final int[] salaries;
+  final int[] managerIndexes;
+  final int[] firstNameRefs;
+  final int[] lastNameRefs;
+  final String[] names;
+  // direct reports of the employee at position i are reports[reportOffsets[i]..reportOffsets[i+1])
+  final int[] reportOffsets;
+  final int[] reports;
+  final IntIntHashMap indexesById;
+  // the raw manager IDs of the employees referring to unknown managers, by employee position
+  final Map<Integer, Integer> unknownManagerIds;
+
+  ColumnarOrganization(int[] ids, int[] salaries, int[] managerIndexes, int[] firstNameRefs,
+      int[] lastNameRefs, String[] names, int[] reportOffsets, int[] reports,
+      IntIntHashMap indexesById, Map<Integer, Integer> unknownManagerIds) {
+    this.ids = ids;
+    this.salaries = salaries;
+    this.managerIndexes = managerIndexes;
+    this.firstNameRefs = firstNameRefs;
+    this.lastNameRefs = lastNameRefs;
+    this.names = names;
+    this.reportOffsets = reportOffsets;
+    this.reports = reports;
+    this.indexesById = indexesById;
+    this.unknownManagerIds = unknownManagerIds;
+  }
+
+  private ColumnarOrganization(int[] ids, int[] salaries, int[] managerIndexes,
+      int[] firstNameRefs, int[] lastNameRefs, String[] names, IntIntHashMap indexesById,
+      Map<Integer, Integer> unknownManagerIds) {
+    this(ids, salaries, managerIndexes, firstNameRefs, lastNameRefs, names,
+        new int[ids.length + 1], new int[ids.length - unknownManagerIds.size()
+            - countWithoutManager(managerIndexes)], indexesById, unknownManagerIds);
+
+    // counting sort of the employees by manager position
+    for (int managerIndex : managerIndexes) {
+      if (managerIndex >= 0) {
+        reportOffsets[managerIndex + 1]++;
+      }
+    }
+    for (int i = 0; i < ids.length; i++) {
+      reportOffsets[i + 1] += reportOffsets[i];
+    }
+    int[] next = Arrays.copyOf(reportOffsets, ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      if (managerIndexes[i] >= 0) {
+        reports[next[managerIndexes[i]]++] = i;
+      }
+    }
+  }
+
+  private static int countWithoutManager(int[] managerIndexes) {
+    int count = 0;
+    for (int managerIndex : managerIndexes) {
+      if (managerIndex == NO_MANAGER) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Converts the given organization into its columnar representation.
+   *
+   * @param organization the organization to convert
+   * @return a new {@link ColumnarOrganization} with the same employees
+   */
+  public static ColumnarOrganization of(Organization organization) {
+    Builder builder = new Builder(organization.getEmployees().size());
+    organization.getEmployees().forEach(builder::addEmployee);
+    return builder.build();
+  }
+
+  /**
+   * Returns the number of employees in the organization.
+   *
+   * @return the number of employees
+   */
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * Returns the position of the employee with the given ID.
+   *
+   * @param id the unique identifier of the employee
+   * @return the position of the employee, or -1 if there is no such employee
+   */
+  public int indexOf(int id) {
+    return indexesById.get(id);
+  }
+
+  /**
+   * Returns the ID of the employee at the given position.
+   *
+   * @param index the position of the employee
+   * @return the unique identifier of the employee
+   */
+  public int id(int index) {
+    return ids[index];
+  }
+
+  /**
+   * Returns the salary of the employee at the given position.
+   *
+   * @param index the position of the employee
+   * @return the salary of the employee
+   */
+  public int salary(int index) {
+    return salaries[index];
+  }
+
+  /**
+   * Returns the position of the manager of the employee at the given position.
+   *
+   * @param index the position of the employee
+   * @return the position of the manager, {@link #NO_MANAGER} for the CEO, or
+   * {@link #UNKNOWN_MANAGER} if the manager is not part of the organization
+   */
+  public int managerIndex(int index) {
+    return managerIndexes[index];
+  }
+
+  /**
+   * Returns the number of direct reports of the employee at the given position.
+   *
+   * @param index the position of the employee
+   * @return the number of direct reports
+   */
+  public int directReportCount(int index) {
+    return reportOffsets[index + 1] - reportOffsets[index];
+  }
+
+  /**
+   * Returns the position of a direct report of the employee at the given position.
+   *
+   * @param index the position of the employee
+   * @param n     the number of the direct report, between zero and
+   *              {@link #directReportCount(int)} exclusive
+   * @return the position of the direct report
+   */
+  public int directReport(int index, int n) {
+    return reports[reportOffsets[index] + n];
+  }
+
+  /**
+   * Returns the first name of the employee at the given position.
+   *
+   * @param index the position of the employee
+   * @return the first name of the employee
+   */
+  public String firstName(int index) {
+    return names[firstNameRefs[index]];
+  }
+
+  /**
+   * Returns the last name of the employee at the given position.
+   *
+   * @param index the position of the employee
+   * @return the last name of the employee
+   */
+  public String lastName(int index) {
+    return names[lastNameRefs[index]];
+  }
+
+  /**
+   * Returns the ID of the manager of the employee at the given position, as given in the source of
+   * the organization, even if that manager is not part of the organization.
+   *
+   * @param index the position of the employee
+   * @return the ID of the manager, or null for the CEO
+   */
+  public Integer managerId(int index) {
+    int managerIndex = managerIndexes[index];
+    if (managerIndex >= 0) {
+      return ids[managerIndex];
+    }
+    return managerIndex == NO_MANAGER ? null : unknownManagerIds.get(index);
+  }
+
+  /**
+   * Materializes the employee at the given position.
+   *
+   * @param index the position of the employee
+   * @return a new {@link Employee} with the attributes of the employee
+   */
+  public Employee toEmployee(int index) {
+    return new Employee(ids[index], firstName(index), lastName(index), salaries[index],
+        managerId(index));
+  }
+
+  /**
+   * Materializes all the employees into an {@link Organization}.
+   *
+   * @return a new {@link Organization} with the same employees
+   */
+  public Organization toOrganization() {
+    Organization organization = new Organization(ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      organization.addEmployee(toEmployee(i));
+    }
+    return organization;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnarOrganization{size=" + ids.length + ", distinctNames=" + names.length + '}';
+  }
+
+  /**
+   * Builds a {@link ColumnarOrganization} employee by employee, validating the attributes the same
+   * way as {@link Employee} does.
+   */
+  public static final class Builder {
+
+    private final IntIntHashMap indexesById;
+    private final Map<String, Integer> nameRefs = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final BitSet withoutManager = new BitSet();
+    private int[] ids;
+    private int[] salaries;
+    private int[] managerIds;
+    private int[] firstNameRefs;
+    private int[] lastNameRefs;
+    private int size;
+
+    /**
+     * Creates a builder sized for the expected number of employees.
+     *
+     * @param expectedSize the expected number of employees
+     */
+    public Builder(int expectedSize) {
+      int capacity = Math.max(expectedSize, 16);
+      indexesById = new IntIntHashMap(capacity);
+      ids = new int[capacity];
+      salaries = new int[capacity];
+      managerIds = new int[capacity];
+      firstNameRefs = new int[capacity];
+      lastNameRefs = new int[capacity];
+    }
+
+    /**
+     * Adds an employee without a manager.
+     *
+     * @param id        the unique identifier of the employee, must be positive
+     * @param firstName the first name of the employee, must not be null
+     * @param lastName  the last name of the employee, must not be null
+     * @param salary    the salary of the employee, must be non-negative
+     * @return this builder
+     * @throws IllegalArgumentException if the attributes are invalid or the ID is a duplicate
+     */
+    public Builder addEmployee(int id, String firstName, String lastName, int salary) {
+      add(id, firstName, lastName, salary);
+      withoutManager.set(size - 1);
+      return this;
+    }
+
+    /**
+     * Adds an employee with a manager.
+     *
+     * @param id        the unique identifier of the employee, must be positive
+     * @param firstName the first name of the employee, must not be null
+     * @param lastName  the last name of the employee, must not be null
+     * @param salary    the salary of the employee, must be non-negative
+     * @param managerId the ID of the direct manager
+     * @return this builder
+     * @throws IllegalArgumentException if the attributes are invalid or the ID is a duplicate
+     */
+    public Builder addEmployee(int id, String firstName, String lastName, int salary,
+        int managerId) {
+      add(id, firstName, lastName, salary);
+      managerIds[size - 1] = managerId;
+      return this;
+    }
+
+    /**
+     * Adds the given employee.
+     *
+     * @param employee the employee to add
+     * @return this builder
+     * @throws IllegalArgumentException if the employee is null or the ID is a duplicate
+     */
+    public Builder addEmployee(Employee employee) {
+      if (employee == null) {
+        throw new IllegalArgumentException("Employee cannot be null.");
+      }
+      return employee.managerId() == null
+          ? addEmployee(employee.id(), employee.firstName(), employee.lastName(),
+          employee.salary())
+          : addEmployee(employee.id(), employee.firstName(), employee.lastName(),
+              employee.salary(), employee.managerId());
+    }
+
+    private void add(int id, String firstName, String lastName, int salary) {
+      if (id <= 0 || salary < 0 || firstName == null || lastName == null) {
+        throw new IllegalArgumentException("Invalid employee parameters provided.");
+      }
+      if (indexesById.putIfAbsent(id, size) != IntIntHashMap.NO_VALUE) {
+        throw new IllegalArgumentException("Duplicate employee ID: " + id);
+      }
+      if (size == ids.length) {
+        int capacity = size + (size >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        managerIds = Arrays.copyOf(managerIds, capacity);
+        firstNameRefs = Arrays.copyOf(firstNameRefs, capacity);
+        lastNameRefs = Arrays.copyOf(lastNameRefs, capacity);
+      }
+      ids[size] = id;
+      salaries[size] = salary;
+      firstNameRefs[size] = nameRef(firstName);
+      lastNameRefs[size] = nameRef(lastName);
+      size++;
+    }
+
+    private int nameRef(String name) {
+      return nameRefs.computeIfAbsent(name, n -> {
+        names.add(n);
+        return names.size() - 1;
+      });
+    }
+
+    /**
+     * Resolves the manager references and builds the organization.
+     *
+     * @return a new {@link ColumnarOrganization} with all the added employees
+     */
+    public ColumnarOrganization build() {
+      int[] managerIndexes = new int[size];
+      Map<Integer, Integer> unknownManagerIds = new HashMap<>();
+      for (int i = 0; i < size; i++) {
+        if (withoutManager.get(i)) {
+          managerIndexes[i] = NO_MANAGER;
+          continue;
+        }
+        int managerIndex = indexesById.get(managerIds[i]);
+        if (managerIndex == IntIntHashMap.NO_VALUE) {
+          managerIndexes[i] = UNKNOWN_MANAGER;
+          unknownManagerIds.put(i, managerIds[i]);
+        } else {
+          managerIndexes[i] = managerIndex;
+        }
+      }
+      return new ColumnarOrganization(Arrays.copyOf(ids, size), Arrays.copyOf(salaries, size),
+          managerIndexes, Arrays.copyOf(firstNameRefs, size), Arrays.copyOf(lastNameRefs, size),
+          names.toArray(String[]::new), indexesById, unknownManagerIds);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import java.util.List;
+
+/**
+ * Represents a structural problem found in the hierarchy of an organization, such as a circular
+ * reference between employees or a reference to a non-existent manager.
+ *
+ * @param type        the kind of the problem
+ * @param employeeIds the IDs of the employees involved in the problem, e.g. the members of a cycle
+ * @param description a human-readable description of the problem
+ */
+public record HierarchyProblem(Type type, List<Integer> employeeIds, String description) {
+
+  /**
+   * Constructs a HierarchyProblem instance with the specified attributes.
+   *
+   * @param type        the kind of the problem, must not be null
+   * @param employeeIds the IDs of the employees involved in the problem, must not be null
+   * @param description a human-readable description of the problem, must not be null
+   * @throws IllegalArgumentException if any of the fields is null
+   */
+  public HierarchyProblem {
+    if (type == null || employeeIds == null || description == null) {
+      throw new IllegalArgumentException("Invalid hierarchy problem parameters provided.");
+    }
+    employeeIds = List.copyOf(employeeIds);
+  }
+
+  /**
+   * The kinds of structural problems in a hierarchy.
+   */
+  public enum Type {
+    /**
+     * The hierarchy has no employee without a manager.
+     */
+    MISSING_CEO,
+    /**
+     * The hierarchy has more than one employee without a manager.
+     */
+    MULTIPLE_CEOS,
+    /**
+     * An employee refers to a manager that is not part of the organization.
+     */
+    BAD_MANAGER_REFERENCE,
+    /**
+     * A group of employees report to each other in a loop.
+     */
+    CIRCULAR_REFERENCE
+  }
+}
@@ -0,0 +1,158 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import java.util.Arrays;
+
+/**
+ * A minimal open-addressing hash map from {@code int} keys to non-negative {@code int} values, used
+ * to look up employee positions by ID without boxing either of them.
+ *
+ * <p>The table uses linear probing over a power-of-two capacity kept at most half full. Entries
+ * cannot be removed individually.
+ */
+public final class IntIntHashMap {
+
+  /**
+   * The value returned by {@link #get(int)} for keys that are not present.
+   */
+  public static final int NO_VALUE = -1;
+
+  private int[] keys;
+  private int[] values;
+  private int size;
+
+  /**
+   * Wraps an existing table, as returned by {@link #keys()} and {@link #values()}.
+   */
+  IntIntHashMap(int[] keys, int[] values, int size) {
+    if (Integer.bitCount(keys.length) != 1 || keys.length != values.length
+        || size * 2 > keys.length) {
+      throw new IllegalArgumentException("Invalid hash table of capacity " + keys.length);
+    }
+    this.keys = keys;
+    this.values = values;
+    this.size = size;
+  }
+
+  public IntIntHashMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+    keys = new int[capacity];
+    values = new int[capacity];
+    Arrays.fill(values, NO_VALUE);
+  }
+
+  private static int mix(int key) {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Returns the slot where probing for the key starts, in a table of the given capacity minus one.
+   */
+  static int slotOf(int key, int mask) {
+    return mix(key) & mask;
+  }
+
+  /**
+   * Returns the value mapped to the key.
+   *
+   * @param key the key to look up
+   * @return the mapped value, or {@link #NO_VALUE} if the key is not present
+   */
+  public int get(int key) {
+    int mask = keys.length - 1;
+    for (int slot = mix(key) & mask; values[slot] != NO_VALUE; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return values[slot];
+      }
+    }
+    return NO_VALUE;
+  }
+
+  /**
+   * Maps the key to the value unless the key is already present.
+   *
+   * @param key   the key to map
+   * @param value the value, must be non-negative
+   * @return the value already mapped to the key, or {@link #NO_VALUE} if the key was added
+   */
+  public int putIfAbsent(int key, int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Value must be non-negative: " + value);
+    }
+    int mask = keys.length - 1;
+    int slot = mix(key) & mask;
+    for (; values[slot] != NO_VALUE; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return values[slot];
+      }
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size * 2 > keys.length) {
+      rehash(keys.length * 2);
+    }
+    return NO_VALUE;
+  }
+
+  /**
+   * Maps the key to the value, replacing any value already mapped to it.
+   *
+   * @param key   the key to map
+   * @param value the value, must be non-negative
+   */
+  public void put(int key, int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Value must be non-negative: " + value);
+    }
+    int mask = keys.length - 1;
+    int slot = mix(key) & mask;
+    for (; values[slot] != NO_VALUE; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        values[slot] = value;
+        return;
+      }
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size * 2 > keys.length) {
+      rehash(keys.length * 2);
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the keys slots of the table, with {@link #values()} telling which ones are in use.
+   */
+  int[] keys() {
+    return keys;
+  }
+
+  /**
+   * Returns the values slots of the table, {@link #NO_VALUE} for the free slots.
+   */
+  int[] values() {
+    return values;
+  }
+
+  private void rehash(int capacity) {
+    int[] oldKeys = keys;
+    int[] oldValues = values;
+    keys = new int[capacity];
+    values = new int[capacity];
+    Arrays.fill(values, NO_VALUE);
+    int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != NO_VALUE) {
+        int slot = mix(oldKeys[i]) & mask;
+        while (values[slot] != NO_VALUE) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+}
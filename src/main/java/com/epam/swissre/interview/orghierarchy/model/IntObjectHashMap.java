@@ -0,0 +1,256 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A minimal open-addressing hash map from {@code int} keys to non-null objects, used to look up
+ * employees by ID without boxing the IDs nor allocating a node per entry.
+ *
+ * <p>The table uses linear probing over a power-of-two capacity kept at most half full. Entries
+ * are removed by shifting the following entries of their cluster back, so that no tombstones slow
+ * down the lookups.
+ *
+ * <p>Unlike {@link IntIntHashMap}, the keys are only spread like {@link java.util.HashMap} does,
+ * not scrambled: employee IDs are mostly assigned in sequence, and compact IDs then land in
+ * consecutive slots without any collision, so that the table works as an array indexed by ID. The
+ * employees looked up one after the other, e.g. the managers of a reporting line, are thus close
+ * to each other in memory, and the values are iterated in the order of their IDs.
+ *
+ * <p>Spreading the keys only folds their high bits into the low ones, so keys sharing their low
+ * bits, e.g. IDs assigned with a stride of 1024, all start probing from a few slots and make
+ * clusters growing with the number of keys, degrading every operation to linear time. Once a probe
+ * sequence is longer than 64 slots, the keys are thus scrambled like those of
+ * {@link IntIntHashMap} from then on, which bounds the probes again at the cost of the order of
+ * the values. The worst case is the probe sequence that trips the switch, plus one rehash.
+ *
+ * @param <V> the type of the values
+ */
+public final class IntObjectHashMap<V> {
+
+  // the longest probe sequence met before the keys are scrambled
+  private static final int MAX_PROBE_LENGTH = 64;
+
+  private int[] keys;
+  private Object[] values;
+  private int size;
+  private int modCount;
+  private boolean scrambled;
+
+  public IntObjectHashMap(int expectedSize) {
+    int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+    keys = new int[capacity];
+    values = new Object[capacity];
+  }
+
+  private int spread(int key) {
+    if (scrambled) {
+      int h = key * 0x9E3779B9;
+      return h ^ (h >>> 16);
+    }
+    return key ^ (key >>> 16);
+  }
+
+  private int slotOf(int key) {
+    int mask = keys.length - 1;
+    for (int slot = spread(key) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the value mapped to the key.
+   *
+   * @param key the key to look up
+   * @return the mapped value, or null if the key is not present
+   */
+  @SuppressWarnings("unchecked")
+  public V get(int key) {
+    int mask = keys.length - 1;
+    for (int slot = spread(key) & mask; ; slot = (slot + 1) & mask) {
+      Object value = values[slot];
+      if (value == null || keys[slot] == key) {
+        return (V) value;
+      }
+    }
+  }
+
+  /**
+   * Maps the key to the value unless the key is already present.
+   *
+   * @param key   the key to map
+   * @param value the value, must not be null
+   * @return the value already mapped to the key, or null if the key was added
+   */
+  @SuppressWarnings("unchecked")
+  public V putIfAbsent(int key, V value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Value cannot be null.");
+    }
+    int mask = keys.length - 1;
+    int slot = spread(key) & mask;
+    int probeLength = 0;
+    for (; values[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return (V) values[slot];
+      }
+      probeLength++;
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    modCount++;
+    if (++size * 2 > keys.length) {
+      rehash(keys.length * 2);
+    } else if (probeLength > MAX_PROBE_LENGTH && !scrambled) {
+      scrambled = true;
+      rehash(keys.length);
+    }
+    return null;
+  }
+
+  /**
+   * Replaces the value mapped to the key, if the key is present.
+   *
+   * @param key   the key to map
+   * @param value the new value, must not be null
+   * @return the previous value, or null if the key is not present
+   */
+  @SuppressWarnings("unchecked")
+  public V replace(int key, V value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Value cannot be null.");
+    }
+    int slot = slotOf(key);
+    if (slot < 0) {
+      return null;
+    }
+    V previous = (V) values[slot];
+    values[slot] = value;
+    return previous;
+  }
+
+  /**
+   * Removes the key.
+   *
+   * @param key the key to remove
+   * @return the value mapped to the key, or null if the key was not present
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(int key) {
+    int slot = slotOf(key);
+    if (slot < 0) {
+      return null;
+    }
+    V previous = (V) values[slot];
+    int mask = keys.length - 1;
+    // shift back the entries of the cluster that could not be found past the freed slot anymore
+    int free = slot;
+    for (int next = (free + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+      int home = spread(keys[next]) & mask;
+      if (((next - home) & mask) >= ((next - free) & mask)) {
+        keys[free] = keys[next];
+        values[free] = values[next];
+        free = next;
+      }
+    }
+    values[free] = null;
+    size--;
+    modCount++;
+    return previous;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Tells whether the keys are scrambled, after a probe sequence grew too long.
+   */
+  boolean isScrambled() {
+    return scrambled;
+  }
+
+  /**
+   * Returns a view of the values, in the order of the slots of the table. The view cannot be
+   * modified, and its iterators fail fast if keys are added or removed.
+   */
+  public Collection<V> values() {
+    return new AbstractCollection<>() {
+      @Override
+      public Iterator<V> iterator() {
+        return new ValueIterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  private void rehash(int capacity) {
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+    keys = new int[capacity];
+    values = new Object[capacity];
+    int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != null) {
+        int slot = spread(oldKeys[i]) & mask;
+        int probeLength = 0;
+        while (values[slot] != null) {
+          slot = (slot + 1) & mask;
+          probeLength++;
+        }
+        if (probeLength > MAX_PROBE_LENGTH && !scrambled) {
+          // the keys clustered again in the larger table: start over with scrambled keys
+          scrambled = true;
+          keys = oldKeys;
+          values = oldValues;
+          rehash(capacity);
+          return;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private final class ValueIterator implements Iterator<V> {
+
+    private final int expectedModCount = modCount;
+    private int slot = nextSlot(0);
+
+    private int nextSlot(int from) {
+      while (from < values.length && values[from] == null) {
+        from++;
+      }
+      return from;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return slot < values.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V next() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (slot >= values.length) {
+        throw new NoSuchElementException();
+      }
+      V value = (V) values[slot];
+      slot = nextSlot(slot + 1);
+      return value;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+/**
+ * Represents a single change to the employees of an organization, as sent by the HR system in a
+ * change set.
+ *
+ * @param type       the kind of the change
+ * @param employeeId the unique identifier of the employee the change applies to
+ * @param firstName  the first name of a hired employee, null for the other changes
+ * @param lastName   the last name of a hired employee, null for the other changes
+ * @param salary     the salary of a hired employee or the new salary, null for the other changes
+ * @param managerId  the manager of a hired employee (null for a CEO) or the new manager of a moved
+ *                   employee, null for the other changes
+ */
+public record OrgChange(Type type, int employeeId, String firstName, String lastName,
+                        Integer salary, Integer managerId) {
+
+  /**
+   * Constructs an OrgChange instance, checking that the attributes required by its type are
+   * present.
+   *
+   * @throws IllegalArgumentException if the type is null or an attribute required by the type is
+   *                                  missing
+   */
+  public OrgChange {
+    if (type == null || employeeId <= 0
+        || type == Type.HIRE && (firstName == null || lastName == null || salary == null)
+        || type == Type.SALARY && salary == null
+        || type == Type.MOVE && managerId == null) {
+      throw new IllegalArgumentException("Invalid change parameters provided.");
+    }
+  }
+
+  /**
+   * Creates the change hiring the given employee.
+   *
+   * @param employee the new employee
+   * @return the hire change
+   */
+  public static OrgChange hire(Employee employee) {
+    return new OrgChange(Type.HIRE, employee.id(), employee.firstName(), employee.lastName(),
+        employee.salary(), employee.managerId());
+  }
+
+  /**
+   * Creates the change removing an employee from the organization.
+   *
+   * @param employeeId the unique identifier of the leaving employee
+   * @return the leave change
+   */
+  public static OrgChange leave(int employeeId) {
+    return new OrgChange(Type.LEAVE, employeeId, null, null, null, null);
+  }
+
+  /**
+   * Creates the change setting a new salary for an employee.
+   *
+   * @param employeeId the unique identifier of the employee
+   * @param salary     the new salary
+   * @return the salary change
+   */
+  public static OrgChange salaryChange(int employeeId, int salary) {
+    return new OrgChange(Type.SALARY, employeeId, null, null, salary, null);
+  }
+
+  /**
+   * Creates the change moving an employee, with its whole subtree, under another manager.
+   *
+   * @param employeeId the unique identifier of the employee
+   * @param managerId  the unique identifier of the new manager
+   * @return the move change
+   */
+  public static OrgChange move(int employeeId, int managerId) {
+    return new OrgChange(Type.MOVE, employeeId, null, null, null, managerId);
+  }
+
+  /**
+   * Applies the change to the current state of the employee.
+   *
+   * @param employee the employee the change applies to, null for a hire
+   * @return the new state of the employee, null for a leave
+   */
+  public Employee applyTo(Employee employee) {
+    return switch (type) {
+      case HIRE -> new Employee(employeeId, firstName, lastName, salary, managerId);
+      case LEAVE -> null;
+      case SALARY -> new Employee(employee.id(), employee.firstName(), employee.lastName(), salary,
+          employee.managerId());
+      case MOVE -> new Employee(employee.id(), employee.firstName(), employee.lastName(),
+          employee.salary(), managerId);
+    };
+  }
+
+  /**
+   * The kinds of changes to an organization.
+   */
+  public enum Type {
+    /**
+     * A new employee joins the organization.
+     */
+    HIRE,
+    /**
+     * An employee leaves the organization.
+     */
+    LEAVE,
+    /**
+     * The salary of an employee changes.
+     */
+    SALARY,
+    /**
+     * An employee moves under another manager, together with its subtree.
+     */
+    MOVE
+  }
+}
@@ -0,0 +1,48 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the findings of the three reports on an organization hierarchy, e.g. the results of a
+ * previous analysis to be updated incrementally.
+ *
+ * @param longReportingLines the employees with too long reporting lines, with their reporting line
+ * @param underpaidManagers  the underpaid managers, with the amount they are underpaid
+ * @param overpaidManagers   the overpaid managers, with the amount they are overpaid
+ */
+public record OrgHierarchyReports(Map<Employee, List<Integer>> longReportingLines,
+                                  Map<Employee, Double> underpaidManagers,
+                                  Map<Employee, Double> overpaidManagers) {
+
+  /**
+   * Constructs an OrgHierarchyReports instance with the specified findings.
+   *
+   * @throws IllegalArgumentException if any of the maps is null
+   */
+  public OrgHierarchyReports {
+    if (longReportingLines == null || underpaidManagers == null || overpaidManagers == null) {
+      throw new IllegalArgumentException("Invalid reports parameters provided.");
+    }
+  }
+
+  /**
+   * Creates reports without any finding, whose maps can be filled in.
+   *
+   * @return new empty and modifiable reports
+   */
+  public static OrgHierarchyReports empty() {
+    return new OrgHierarchyReports(new HashMap<>(), new HashMap<>(), new HashMap<>());
+  }
+
+  /**
+   * Tells whether the reports have no finding at all.
+   *
+   * @return true if all three reports are empty
+   */
+  public boolean isEmpty() {
+    return longReportingLines.isEmpty() && underpaidManagers.isEmpty()
+        && overpaidManagers.isEmpty();
+  }
+}
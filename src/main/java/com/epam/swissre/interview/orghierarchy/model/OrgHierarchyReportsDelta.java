@@ -0,0 +1,31 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+/**
+ * Describes how the findings of the reports changed after changes to the organization.
+ *
+ * @param changed  the findings that are new or whose value changed, in their new state
+ * @param resolved the findings that no longer apply, in their previous state
+ */
+public record OrgHierarchyReportsDelta(OrgHierarchyReports changed,
+                                       OrgHierarchyReports resolved) {
+
+  /**
+   * Constructs an OrgHierarchyReportsDelta instance with the specified findings.
+   *
+   * @throws IllegalArgumentException if any of the reports is null
+   */
+  public OrgHierarchyReportsDelta {
+    if (changed == null || resolved == null) {
+      throw new IllegalArgumentException("Invalid reports delta parameters provided.");
+    }
+  }
+
+  /**
+   * Tells whether no finding changed.
+   *
+   * @return true if there is neither a changed nor a resolved finding
+   */
+  public boolean isEmpty() {
+    return changed.isEmpty() && resolved.isEmpty();
+  }
+}
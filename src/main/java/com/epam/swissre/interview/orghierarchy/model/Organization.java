@@ -1,19 +1,47 @@
 package com.epam.swissre.interview.orghierarchy.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Represents an organization consisting of employees. Provides storage and retrieval of employees
  * by ID and collection of all employees.
+ *
+ * <p>Besides the employees themselves, the organization keeps an index of direct reports per
+ * manager ID. The index is maintained as employees are added, replaced or removed, so looking up
+ * the direct reports of a manager does not require scanning all the employees.
+ *
+ * <p>Both are stored in open-addressing hash tables keyed by primitive {@code int} IDs, so that the
+ * lookups on the hot paths, e.g. when walking up the reporting lines, neither box the IDs nor chase
+ * the nodes of a {@link java.util.HashMap}. When the IDs are compact, the table of the employees
+ * works as an array indexed by ID.
  */
 public final class Organization {
 
-  private final Map<Integer, Employee> employees = new HashMap<>();
+  private final IntObjectHashMap<Employee> employees;
+  private final IntObjectHashMap<List<Employee>> directReports;
+
+  /**
+   * Creates an empty organization.
+   */
+  public Organization() {
+    this(0);
+  }
+
+  /**
+   * Creates an empty organization sized for the expected number of employees, so that adding them
+   * does not need to grow the storage.
+   *
+   * @param expectedEmployees the expected number of employees
+   */
+  public Organization(int expectedEmployees) {
+    employees = new IntObjectHashMap<>(expectedEmployees);
+    directReports = new IntObjectHashMap<>(expectedEmployees / 4);
+  }
 
   /**
    * Adds an employee to the organization.
@@ -25,9 +53,73 @@ public final class Organization {
     if (employee == null) {
       throw new IllegalArgumentException("Employee cannot be null.");
     }
-    if (employees.put(employee.id(), employee) != null) {
+    if (employees.putIfAbsent(employee.id(), employee) != null) {
       throw new IllegalArgumentException("Duplicate employee ID: " + employee.id());
     }
+    indexDirectReport(employee);
+  }
+
+  /**
+   * Replaces an employee with a new state of it, e.g. with another salary or manager.
+   *
+   * @param employee the new state of the employee
+   * @return the previous state of the employee
+   * @throws IllegalArgumentException if there is no employee with the same ID
+   */
+  public Employee replaceEmployee(Employee employee) {
+    if (employee == null) {
+      throw new IllegalArgumentException("Employee cannot be null.");
+    }
+    Employee previous = employees.replace(employee.id(), employee);
+    if (previous == null) {
+      throw new IllegalArgumentException("Unknown employee ID: " + employee.id());
+    }
+    unindexDirectReport(previous);
+    indexDirectReport(employee);
+    return previous;
+  }
+
+  /**
+   * Removes an employee from the organization. The direct reports of the employee, if any, are
+   * left referring to it.
+   *
+   * @param id the unique identifier of the employee
+   * @return the removed employee
+   * @throws IllegalArgumentException if there is no employee with the given ID
+   */
+  public Employee removeEmployee(int id) {
+    Employee previous = employees.remove(id);
+    if (previous == null) {
+      throw new IllegalArgumentException("Unknown employee ID: " + id);
+    }
+    unindexDirectReport(previous);
+    return previous;
+  }
+
+  private void indexDirectReport(Employee employee) {
+    if (employee.managerId() == null) {
+      return;
+    }
+    int managerId = employee.managerId();
+    List<Employee> reports = directReports.get(managerId);
+    if (reports == null) {
+      reports = new ArrayList<>();
+      directReports.putIfAbsent(managerId, reports);
+    }
+    reports.add(employee);
+  }
+
+  private void unindexDirectReport(Employee employee) {
+    if (employee.managerId() == null) {
+      return;
+    }
+    int managerId = employee.managerId();
+    List<Employee> reports = directReports.get(managerId);
+    // linear in the number of direct reports of the manager
+    reports.remove(employee);
+    if (reports.isEmpty()) {
+      directReports.remove(managerId);
+    }
   }
 
   /**
@@ -40,13 +132,48 @@ public final class Organization {
     return Optional.ofNullable(employees.get(id));
   }
 
+  /**
+   * Retrieves an employee by their unique ID without wrapping it, for the hot paths looking up many
+   * employees, e.g. when walking up the reporting lines.
+   *
+   * @param id the unique identifier of the employee
+   * @return the employee if found, otherwise null
+   */
+  public Employee getEmployeeOrNull(int id) {
+    return employees.get(id);
+  }
+
+  /**
+   * Tells whether the organization has an employee with the given ID.
+   *
+   * @param id the unique identifier of the employee
+   * @return true if the employee is part of the organization
+   */
+  public boolean containsEmployee(int id) {
+    return employees.get(id) != null;
+  }
+
+  /**
+   * Retrieves the direct reports of the manager with the given ID, i.e. the employees whose
+   * {@code managerId} refers to it. The manager itself does not need to be part of the
+   * organization.
+   *
+   * @param managerId the unique identifier of the manager
+   * @return an unmodifiable list of the direct reports, empty if there are none
+   */
+  public List<Employee> getDirectReports(int managerId) {
+    List<Employee> reports = directReports.get(managerId);
+    return reports == null ? List.of() : Collections.unmodifiableList(reports);
+  }
+
   /**
    * Returns all employees within the organization.
    *
-   * @return a collection of all employees
+   * @return an unmodifiable view of all the employees, in the order of their IDs when these are
+   * compact
    */
   public Collection<Employee> getEmployees() {
-    return Collections.unmodifiableCollection(employees.values());
+    return employees.values();
   }
 
   @Override
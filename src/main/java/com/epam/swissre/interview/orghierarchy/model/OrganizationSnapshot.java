@@ -0,0 +1,308 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads and writes the binary snapshot format of a {@link ColumnarOrganization}.
+ *
+ * <p>A snapshot stores the columns of the organization exactly as they are kept in memory, so that
+ * reading it back is a matter of bulk copies rather than parsing. All the values are little-endian
+ * 32-bit integers:
+ * <ul>
+ *   <li>a header of {@value #HEADER_INTS} integers: the magic number, the format version, the
+ *   number of employees, of distinct names, of direct reports, the capacity of the ID index, the
+ *   number of employees referring to unknown managers, and a reserved zero;</li>
+ *   <li>the IDs, salaries, manager positions, first name and last name references, one per
+ *   employee;</li>
+ *   <li>the direct reports index: the offsets, one per employee plus one, and the reports;</li>
+ *   <li>the key and value slots of the ID index;</li>
+ *   <li>the position and the raw manager ID of every employee referring to an unknown manager;</li>
+ *   <li>the name dictionary, each name being its UTF-8 length followed by its bytes.</li>
+ * </ul>
+ */
+public final class OrganizationSnapshot {
+
+  /**
+   * The magic number at the start of every snapshot, "ORGS" in ASCII.
+   */
+  public static final int MAGIC = 0x4F52_4753;
+  /**
+   * The version of the format written by {@link #write(ColumnarOrganization, WritableByteChannel)}.
+   */
+  public static final int VERSION = 1;
+
+  private static final int HEADER_INTS = 8;
+  private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+  private OrganizationSnapshot() {
+  }
+
+  /**
+   * Writes the snapshot of the organization to the channel.
+   *
+   * @param organization the organization to write
+   * @param channel      the channel to write to
+   * @throws IOException if the channel cannot be written
+   */
+  public static void write(ColumnarOrganization organization, WritableByteChannel channel)
+      throws IOException {
+    SnapshotOutput output = new SnapshotOutput(channel);
+    int[] hashKeys = organization.indexesById.keys();
+    output.writeInts(new int[]{MAGIC, VERSION, organization.size(), organization.names.length,
+        organization.reports.length, hashKeys.length, organization.unknownManagerIds.size(), 0});
+    output.writeInts(organization.ids);
+    output.writeInts(organization.salaries);
+    output.writeInts(organization.managerIndexes);
+    output.writeInts(organization.firstNameRefs);
+    output.writeInts(organization.lastNameRefs);
+    output.writeInts(organization.reportOffsets);
+    output.writeInts(organization.reports);
+    output.writeInts(hashKeys);
+    output.writeInts(organization.indexesById.values());
+    for (Map.Entry<Integer, Integer> entry : organization.unknownManagerIds.entrySet()) {
+      output.writeInts(new int[]{entry.getKey(), entry.getValue()});
+    }
+    for (String name : organization.names) {
+      output.writeBytes(name.getBytes(StandardCharsets.UTF_8));
+    }
+    output.flush();
+  }
+
+  /**
+   * Reads an organization from a snapshot, starting at the position of the buffer. The buffer is
+   * typically a memory-mapped snapshot file.
+   *
+   * <p>The structure of the snapshot is checked while it is read: every count, position and offset
+   * must be within bounds, and the direct reports and the ID index must match the manager
+   * positions and the IDs, so that a corrupt snapshot is rejected rather than failing later on.
+   *
+   * @param buffer the buffer holding the snapshot
+   * @return a new {@link ColumnarOrganization} with the employees of the snapshot
+   * @throws IllegalArgumentException if the buffer does not hold a valid snapshot
+   */
+  public static ColumnarOrganization read(ByteBuffer buffer) {
+    ByteBuffer input = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+    int[] header = readInts(input, HEADER_INTS);
+    if (header[0] != MAGIC) {
+      throw new IllegalArgumentException("Not an organization snapshot");
+    }
+    if (header[1] != VERSION) {
+      throw new IllegalArgumentException("Unsupported snapshot version: " + header[1]);
+    }
+    int size = header[2];
+    int nameCount = header[3];
+    int reportCount = header[4];
+    int hashCapacity = header[5];
+    int unknownCount = header[6];
+    if (size < 0 || nameCount < 0 || reportCount < 0 || unknownCount < 0
+        || size == Integer.MAX_VALUE) {
+      throw corrupt("count out of bounds");
+    }
+    if (Integer.bitCount(hashCapacity) != 1 || hashCapacity / 2 < size) {
+      throw corrupt("ID index capacity not a power of two above twice the size: " + hashCapacity);
+    }
+
+    int[] ids = readInts(input, size);
+    int[] salaries = readInts(input, size);
+    checkRange(ids, 1, Integer.MAX_VALUE, "ID");
+    checkRange(salaries, 0, Integer.MAX_VALUE, "salary");
+    int[] managerIndexes = readInts(input, size);
+    checkRange(managerIndexes, ColumnarOrganization.UNKNOWN_MANAGER, size - 1,
+        "manager position");
+    int[] firstNameRefs = readInts(input, size);
+    checkRange(firstNameRefs, 0, nameCount - 1, "first name reference");
+    int[] lastNameRefs = readInts(input, size);
+    checkRange(lastNameRefs, 0, nameCount - 1, "last name reference");
+    int[] reportOffsets = readInts(input, size + 1);
+    int[] reports = readInts(input, reportCount);
+    checkReports(managerIndexes, reportOffsets, reports);
+    int[] hashKeys = readInts(input, hashCapacity);
+    int[] hashValues = readInts(input, hashCapacity);
+    IntIntHashMap indexesById = checkIndex(ids, hashKeys, hashValues);
+    Map<Integer, Integer> unknownManagerIds = new HashMap<>();
+    int[] unknownManagers = readInts(input, (int) Math.min(unknownCount * 2L, Integer.MAX_VALUE));
+    for (int i = 0; i < unknownManagers.length; i += 2) {
+      int position = unknownManagers[i];
+      if (position < 0 || position >= size
+          || managerIndexes[position] != ColumnarOrganization.UNKNOWN_MANAGER
+          || unknownManagerIds.put(position, unknownManagers[i + 1]) != null) {
+        throw corrupt("unknown manager of employee position " + position);
+      }
+    }
+    if (unknownManagerIds.size() != count(managerIndexes, ColumnarOrganization.UNKNOWN_MANAGER)) {
+      throw corrupt("unknown managers not matching the manager positions");
+    }
+    if (nameCount > input.remaining() / Integer.BYTES) {
+      throw new IllegalArgumentException("Truncated organization snapshot");
+    }
+    String[] names = new String[nameCount];
+    for (int i = 0; i < nameCount; i++) {
+      int length = readInts(input, 1)[0];
+      if (length < 0) {
+        throw corrupt("negative name length");
+      }
+      if (length > input.remaining()) {
+        throw new IllegalArgumentException("Truncated organization snapshot");
+      }
+      byte[] bytes = new byte[length];
+      input.get(bytes);
+      names[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+    return new ColumnarOrganization(ids, salaries, managerIndexes, firstNameRefs, lastNameRefs,
+        names, reportOffsets, reports, indexesById, unknownManagerIds);
+  }
+
+  private static int[] readInts(ByteBuffer input, int count) {
+    // checked before allocating, so that a corrupt count cannot exhaust the heap
+    if (count > input.remaining() / Integer.BYTES) {
+      throw new IllegalArgumentException("Truncated organization snapshot");
+    }
+    int[] values = new int[count];
+    // a bulk copy, which is a plain memory copy on little-endian platforms
+    input.asIntBuffer().get(values);
+    input.position(input.position() + count * Integer.BYTES);
+    return values;
+  }
+
+  private static IllegalArgumentException corrupt(String problem) {
+    return new IllegalArgumentException("Corrupt organization snapshot: " + problem);
+  }
+
+  private static int count(int[] values, int value) {
+    int count = 0;
+    for (int v : values) {
+      if (v == value) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static void checkRange(int[] values, int min, int max, String column) {
+    for (int value : values) {
+      if (value < min || value > max) {
+        throw corrupt(column + " out of bounds: " + value);
+      }
+    }
+  }
+
+  /**
+   * Checks that the direct reports of every employee are exactly the employees it manages, in
+   * ascending order of position as the organization sorts them.
+   */
+  private static void checkReports(int[] managerIndexes, int[] reportOffsets, int[] reports) {
+    int managed = 0;
+    for (int managerIndex : managerIndexes) {
+      if (managerIndex >= 0) {
+        managed++;
+      }
+    }
+    if (reportOffsets[0] != 0 || reportOffsets[managerIndexes.length] != reports.length
+        || reports.length != managed) {
+      throw corrupt("direct reports not matching the managers");
+    }
+    for (int i = 0; i < managerIndexes.length; i++) {
+      if (reportOffsets[i] > reportOffsets[i + 1]) {
+        throw corrupt("decreasing direct report offsets");
+      }
+    }
+    for (int i = 0; i < managerIndexes.length; i++) {
+      for (int offset = reportOffsets[i]; offset < reportOffsets[i + 1]; offset++) {
+        int report = reports[offset];
+        if (report < 0 || report >= managerIndexes.length || managerIndexes[report] != i
+            || offset > reportOffsets[i] && reports[offset - 1] >= report) {
+          throw corrupt("direct report not matching its manager: " + report);
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks that the ID index maps every employee position exactly once, from the ID at that
+   * position, and that every key can be reached by probing from its hash without crossing a free
+   * slot, so that the lookups find every ID and never run over a full table.
+   */
+  private static IntIntHashMap checkIndex(int[] ids, int[] hashKeys, int[] hashValues) {
+    int mask = hashKeys.length - 1;
+    boolean[] mapped = new boolean[ids.length];
+    int used = 0;
+    // the probing runs wrap around the table, so start right after a free slot
+    int start = 0;
+    while (start < hashKeys.length && hashValues[start] != IntIntHashMap.NO_VALUE) {
+      start++;
+    }
+    int run = 0;
+    for (int n = 1; n <= hashKeys.length; n++) {
+      int slot = (start + n) & mask;
+      int position = hashValues[slot];
+      if (position == IntIntHashMap.NO_VALUE) {
+        run = 0;
+        continue;
+      }
+      int probeLength = (slot - IntIntHashMap.slotOf(hashKeys[slot], mask)) & mask;
+      if (position < 0 || position >= ids.length || ids[position] != hashKeys[slot]
+          || mapped[position] || probeLength > run) {
+        throw corrupt("ID index not matching the IDs at slot " + slot);
+      }
+      mapped[position] = true;
+      run++;
+      used++;
+    }
+    if (used != ids.length) {
+      throw corrupt("ID index not matching the number of employees");
+    }
+    return new IntIntHashMap(hashKeys, hashValues, ids.length);
+  }
+
+  /**
+   * Buffers the writes of a snapshot to a channel.
+   */
+  private static final class SnapshotOutput {
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer =
+        ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    private SnapshotOutput(WritableByteChannel channel) {
+      this.channel = channel;
+    }
+
+    private void writeInts(int[] values) throws IOException {
+      for (int offset = 0; offset < values.length; ) {
+        if (buffer.remaining() < Integer.BYTES) {
+          flush();
+        }
+        int count = Math.min(values.length - offset, buffer.remaining() / Integer.BYTES);
+        buffer.asIntBuffer().put(values, offset, count);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        offset += count;
+      }
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+      writeInts(new int[]{bytes.length});
+      for (int offset = 0; offset < bytes.length; ) {
+        if (!buffer.hasRemaining()) {
+          flush();
+        }
+        int count = Math.min(bytes.length - offset, buffer.remaining());
+        buffer.put(bytes, offset, count);
+        offset += count;
+      }
+    }
+
+    private void flush() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+  }
+}
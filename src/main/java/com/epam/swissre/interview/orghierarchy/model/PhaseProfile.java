@@ -0,0 +1,27 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+/**
+ * The resources used by a phase of a run, e.g. the loading of the organization.
+ *
+ * @param phase          the name of the phase
+ * @param wallNanos      the elapsed time, in nanoseconds
+ * @param cpuNanos       the CPU time of the thread running the phase, in nanoseconds, or -1 if not
+ *                       supported by the JVM
+ * @param allocatedBytes the bytes allocated by the thread running the phase, or -1 if not
+ *                       supported by the JVM
+ * @param peakHeapBytes  the peak usage of the heap during the phase, in bytes
+ */
+public record PhaseProfile(String phase, long wallNanos, long cpuNanos, long allocatedBytes,
+                           long peakHeapBytes) {
+
+  /**
+   * Constructs a PhaseProfile instance with the specified measures.
+   *
+   * @throws IllegalArgumentException if the phase is null
+   */
+  public PhaseProfile {
+    if (phase == null) {
+      throw new IllegalArgumentException("Invalid phase profile parameters provided.");
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable reporting line, i.e. the IDs of the managers of an employee up to and including the
+ * CEO, stored as a linked list of managers. The reporting line of an employee is its direct manager
+ * followed by the reporting line of that manager, so all the employees of a subtree share the same
+ * tail instead of each holding a copy of it: the reporting lines of a whole organization take
+ * linear memory whatever its depth.
+ *
+ * <p>The IDs are only read when the list is iterated. Accessing an element by index takes time
+ * proportional to the index, so the list is meant to be iterated: the comparisons, hashing and
+ * searches of the list walk the links instead of accessing the elements by index, and two chains
+ * sharing a tail stop comparing where they meet.
+ */
+public final class ReportingChain extends AbstractList<Integer> {
+
+  /**
+   * The reporting line of the CEO, which has no manager.
+   */
+  public static final ReportingChain EMPTY = new ReportingChain(0, null, 0);
+
+  private final int managerId;
+  private final ReportingChain next;
+  private final int size;
+
+  private ReportingChain(int managerId, ReportingChain next, int size) {
+    this.managerId = managerId;
+    this.next = next;
+    this.size = size;
+  }
+
+  /**
+   * Returns the reporting line of a direct report of the given manager, whose reporting line is
+   * this one.
+   *
+   * @param managerId the ID of the direct manager
+   * @return the reporting line starting with the given manager, sharing this one as its tail
+   */
+  public ReportingChain prepend(int managerId) {
+    return new ReportingChain(managerId, this, size + 1);
+  }
+
+  @Override
+  public Integer get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+    }
+    ReportingChain chain = this;
+    for (int i = 0; i < index; i++) {
+      chain = chain.next;
+    }
+    return chain.managerId;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof List<?> list) || list.size() != size) {
+      return false;
+    }
+    if (o instanceof ReportingChain other) {
+      ReportingChain chain = this;
+      // a shared tail is equal to itself
+      while (chain != other) {
+        if (chain.managerId != other.managerId) {
+          return false;
+        }
+        chain = chain.next;
+        other = other.next;
+      }
+      return true;
+    }
+    Iterator<?> iterator = list.iterator();
+    for (ReportingChain chain = this; chain.size > 0; chain = chain.next) {
+      if (!iterator.hasNext() || !Integer.valueOf(chain.managerId).equals(iterator.next())) {
+        return false;
+      }
+    }
+    return !iterator.hasNext();
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 1;
+    for (ReportingChain chain = this; chain.size > 0; chain = chain.next) {
+      hashCode = 31 * hashCode + Integer.hashCode(chain.managerId);
+    }
+    return hashCode;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    if (o instanceof Integer id) {
+      int index = 0;
+      for (ReportingChain chain = this; chain.size > 0; chain = chain.next, index++) {
+        if (chain.managerId == id) {
+          return index;
+        }
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    int lastIndex = -1;
+    if (o instanceof Integer id) {
+      int index = 0;
+      for (ReportingChain chain = this; chain.size > 0; chain = chain.next, index++) {
+        if (chain.managerId == id) {
+          lastIndex = index;
+        }
+      }
+    }
+    return lastIndex;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) >= 0;
+  }
+
+  @Override
+  public Iterator<Integer> iterator() {
+    return new Iterator<>() {
+      private ReportingChain chain = ReportingChain.this;
+
+      @Override
+      public boolean hasNext() {
+        return chain.size > 0;
+      }
+
+      @Override
+      public Integer next() {
+        if (chain.size == 0) {
+          throw new NoSuchElementException();
+        }
+        int id = chain.managerId;
+        chain = chain.next;
+        return id;
+      }
+    };
+  }
+}
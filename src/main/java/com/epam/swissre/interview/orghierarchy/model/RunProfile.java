@@ -0,0 +1,46 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import java.util.List;
+
+/**
+ * The resources used by a run of the analysis, phase by phase.
+ *
+ * @param source    the source of the organization analyzed
+ * @param employees the number of employees analyzed
+ * @param phases    the profiles of the phases, in the order they were run
+ */
+public record RunProfile(String source, int employees, List<PhaseProfile> phases) {
+
+  /**
+   * Constructs a RunProfile instance with the specified phases.
+   *
+   * @throws IllegalArgumentException if the phases are null
+   */
+  public RunProfile {
+    if (phases == null) {
+      throw new IllegalArgumentException("Invalid run profile parameters provided.");
+    }
+    phases = List.copyOf(phases);
+  }
+
+  /**
+   * Adds up the phases of the run.
+   *
+   * @return the total of the times and allocations of all the phases, with the highest peak of the
+   * heap, or -1 for the measures not supported by the JVM
+   */
+  public PhaseProfile total() {
+    long wallNanos = 0;
+    long cpuNanos = 0;
+    long allocatedBytes = 0;
+    long peakHeapBytes = 0;
+    for (PhaseProfile phase : phases) {
+      wallNanos += phase.wallNanos();
+      cpuNanos = cpuNanos < 0 || phase.cpuNanos() < 0 ? -1 : cpuNanos + phase.cpuNanos();
+      allocatedBytes = allocatedBytes < 0 || phase.allocatedBytes() < 0 ? -1
+          : allocatedBytes + phase.allocatedBytes();
+      peakHeapBytes = Math.max(peakHeapBytes, phase.peakHeapBytes());
+    }
+    return new PhaseProfile("total", wallNanos, cpuNanos, allocatedBytes, peakHeapBytes);
+  }
+}
@@ -0,0 +1,89 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Formats amounts with two decimals into a {@link StringBuilder}, giving exactly the same text as
+ * {@code String.format(locale, "%.2f", amount)} without parsing the format for every amount.
+ *
+ * <p>Like {@link java.util.Formatter}, the amount is rounded half up from the shortest decimal
+ * representation of the double, i.e. from the digits of {@link Double#toString(double)}, and is
+ * written with the zero digit and the decimal separator of the locale.
+ */
+final class AmountFormat {
+
+  private final char zeroDigit;
+  private final char decimalSeparator;
+
+  AmountFormat(Locale locale) {
+    DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+    zeroDigit = symbols.getZeroDigit();
+    decimalSeparator = symbols.getDecimalSeparator();
+  }
+
+  /**
+   * Appends the amount with two decimals.
+   *
+   * @param out    the builder to append to
+   * @param amount the amount to format
+   * @return the given builder
+   */
+  StringBuilder append(StringBuilder out, double amount) {
+    if (!Double.isFinite(amount)) {
+      return out.append(amount);
+    }
+    String digits = Double.toString(Math.abs(amount));
+    if (amount < 0 || Double.doubleToRawLongBits(amount) == Long.MIN_VALUE) {
+      out.append('-');
+    }
+    if (digits.indexOf('E') >= 0) {
+      // scientific notation, for amounts below 0.001 or from 10 million on
+      return appendLocalized(out,
+          new BigDecimal(digits).setScale(2, RoundingMode.HALF_UP).toPlainString());
+    }
+    long hundredths = roundToHundredths(digits);
+    appendDigits(out, hundredths / 100);
+    out.append(decimalSeparator);
+    out.append((char) (zeroDigit + hundredths / 10 % 10));
+    out.append((char) (zeroDigit + hundredths % 10));
+    return out;
+  }
+
+  /**
+   * Rounds a plain decimal representation half up to hundredths.
+   *
+   * @return the rounded amount in hundredths
+   */
+  private static long roundToHundredths(String digits) {
+    int dot = digits.indexOf('.');
+    long hundredths = 0;
+    for (int i = 0; i < dot; i++) {
+      hundredths = hundredths * 10 + (digits.charAt(i) - '0');
+    }
+    for (int i = dot + 1; i < dot + 3; i++) {
+      hundredths = hundredths * 10 + (i < digits.length() ? digits.charAt(i) - '0' : 0);
+    }
+    if (dot + 3 < digits.length() && digits.charAt(dot + 3) >= '5') {
+      hundredths++;
+    }
+    return hundredths;
+  }
+
+  private StringBuilder appendLocalized(StringBuilder out, String plainAmount) {
+    for (int i = 0; i < plainAmount.length(); i++) {
+      char c = plainAmount.charAt(i);
+      out.append(c == '.' ? decimalSeparator : (char) (zeroDigit + c - '0'));
+    }
+    return out;
+  }
+
+  private void appendDigits(StringBuilder out, long value) {
+    if (value >= 10) {
+      appendDigits(out, value / 10);
+    }
+    out.append((char) (zeroDigit + value % 10));
+  }
+}
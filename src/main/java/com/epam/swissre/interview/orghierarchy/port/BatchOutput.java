@@ -0,0 +1,28 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.BatchSummary;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+
+/**
+ * The {@code BatchOutput} is responsible for outputting the results of a batch analysis: the
+ * reports on each source, and then the summary of the whole batch.
+ *
+ * <p>The reports on several sources may be written concurrently.
+ */
+public interface BatchOutput {
+
+  /**
+   * Outputs the reports on one source of the batch.
+   *
+   * @param source  the source of the organization analyzed
+   * @param reports the reports on the organization
+   */
+  void writeReports(String source, OrgHierarchyReports reports);
+
+  /**
+   * Outputs the summary of the batch, once all its sources are analyzed.
+   *
+   * @param summary the results of all the sources
+   */
+  void writeSummary(BatchSummary summary);
+}
@@ -0,0 +1,19 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import java.util.List;
+
+/**
+ * The {@code ChangeSetLoader} is responsible for loading and parsing the change sets sent by the HR
+ * system, i.e. the hires, leavers, salary changes and manager moves since the last analysis.
+ */
+public interface ChangeSetLoader {
+
+  /**
+   * Loads the changes from the given {@code source}
+   *
+   * @param source the reference to the source of data
+   * @return the changes, in the order they must be applied
+   */
+  List<OrgChange> loadChangeSet(String source);
+}
@@ -0,0 +1,54 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.PhaseProfile;
+import com.epam.swissre.interview.orghierarchy.model.RunProfile;
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Outputs a compact summary of the profile of a run to the console, one line per phase followed by
+ * the total, e.g.
+ * <pre>
+ * Profile of employees.csv (1000 employees):
+ * phase       wall ms     cpu ms   alloc MiB    heap MiB
+ * load          12.34      10.21        5.20       20.13
+ * ...
+ * Throughput: 81037 employees/s
+ * </pre>
+ * The measures not supported by the JVM are shown as {@code n/a}.
+ */
+class ConsoleProfileWriter implements ProfileWriter {
+
+  private static final String ROW_FORMAT = "%-8s%11s%11s%12s%12s";
+  private static final double NANOS_PER_MILLI = 1e6;
+  private static final double BYTES_PER_MEBIBYTE = 1 << 20;
+
+  private final PrintStream outputStream;
+
+  public ConsoleProfileWriter(PrintStream outputStream) {
+    this.outputStream = outputStream;
+  }
+
+  private static String format(long value, double unit) {
+    return value < 0 ? "n/a" : String.format(Locale.ROOT, "%.2f", value / unit);
+  }
+
+  private void printPhase(PhaseProfile phase) {
+    outputStream.println(String.format(Locale.ROOT, ROW_FORMAT, phase.phase(),
+        format(phase.wallNanos(), NANOS_PER_MILLI), format(phase.cpuNanos(), NANOS_PER_MILLI),
+        format(phase.allocatedBytes(), BYTES_PER_MEBIBYTE),
+        format(phase.peakHeapBytes(), BYTES_PER_MEBIBYTE)));
+  }
+
+  @Override
+  public void writeProfile(RunProfile profile) {
+    outputStream.println("Profile of " + (profile.source() == null ? "the default file"
+        : profile.source()) + " (" + profile.employees() + " employees):");
+    outputStream.println(String.format(Locale.ROOT, ROW_FORMAT, "phase", "wall ms", "cpu ms",
+        "alloc MiB", "heap MiB"));
+    profile.phases().forEach(this::printPhase);
+    printPhase(profile.total());
+    outputStream.println(String.format(Locale.ROOT, "Throughput: %.0f employees/s",
+        ProfileWriter.employeesPerSecond(profile)));
+  }
+}
@@ -1,60 +1,155 @@
 package com.epam.swissre.interview.orghierarchy.port;
 
 import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
 import java.io.PrintStream;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Outputs the reports on the organization hierarchy to the console.
+ *
+ * <p>The findings are streamed: each one is formatted into a buffer as it comes, and the buffer is
+ * written out whenever it is full, so that the memory used does not depend on the number of
+ * findings.
  */
 class ConsoleReportsWriter implements ReportsWriter {
 
+  // the number of characters buffered before writing them to the output stream
+  static final int BUFFER_SIZE = 1 << 16;
+  private static final String FIRST_SEPARATOR = System.lineSeparator() + "\t";
+  private static final String SEPARATOR = "," + FIRST_SEPARATOR;
+
   private final PrintStream outputStream;
+  private final AmountFormat amountFormat =
+      new AmountFormat(Locale.getDefault(Locale.Category.FORMAT));
 
   public ConsoleReportsWriter(PrintStream outputStream) {
     this.outputStream = outputStream;
   }
 
-  /**
-   * Converts a map of key-value pairs into a formatted string output.
-   *
-   * @param map           The map to be converted to a string.
-   * @param lineFormatter A function that formats each entry in the map to a string.
-   * @param <K>           The type of keys in the map.
-   * @param <V>           The type of values in the map.
-   * @return A formatted string representing the contents of the map.
-   */
-  static <K, V> String mapToOutputLines(Map<K, V> map,
-      Function<Entry<K, V>, String> lineFormatter) {
-    return map.entrySet().stream()
-        .map(lineFormatter)
-        .collect(
-            Collectors.joining("," + System.lineSeparator() + "\t", System.lineSeparator() + "\t",
-                ""));
+  private static void appendReportingLine(StringBuilder line, List<Integer> reportingLine) {
+    // same as List.toString(), without building the String
+    line.append('[');
+    String separator = "";
+    for (Integer managerId : reportingLine) {
+      line.append(separator).append(managerId);
+      separator = ", ";
+    }
+    line.append(']');
   }
 
-  private <K, V> void doWriteToStream(String prefix, String lineFormat, Map<K, V> map) {
-    outputStream.println(
-        prefix + mapToOutputLines(map, e -> String.format(lineFormat, e.getKey(), e.getValue())));
+  @Override
+  public FindingsSink<List<Integer>> openLongReportingLines() {
+    return new ConsoleFindingsSink<>(ReportWriteEvent.LONG_REPORTING_LINES,
+        "Too long reporting lines: ",
+        (line, employee, reportingLine) -> {
+          line.append(employee).append(" reports to ");
+          appendReportingLine(line, reportingLine);
+        });
+  }
+
+  @Override
+  public FindingsSink<Double> openUnderpaidManagers() {
+    return new ConsoleFindingsSink<>(ReportWriteEvent.UNDERPAID_MANAGERS, "Underpaid managers: ",
+        (line, employee, amount) ->
+        amountFormat.append(line.append(employee).append(" earns less than intended by "),
+            amount));
+  }
+
+  @Override
+  public FindingsSink<Double> openOverpaidManagers() {
+    return new ConsoleFindingsSink<>(ReportWriteEvent.OVERPAID_MANAGERS, "Overpaid managers: ",
+        (line, employee, amount) ->
+        amountFormat.append(line.append(employee).append(" earns more than intended by "),
+            amount));
   }
 
   @Override
   public void longReportingLines(Map<Employee, List<Integer>> longReportingLines) {
-    doWriteToStream("Too long reporting lines: ", "%s reports to %s", longReportingLines);
+    try (FindingsSink<List<Integer>> sink = openLongReportingLines()) {
+      sink.acceptAll(longReportingLines);
+    }
   }
 
   @Override
   public void underpaidManagers(Map<Employee, Double> underpaidManagers) {
-    doWriteToStream("Underpaid managers: ", "%s earns less than intended by %.2f",
-        underpaidManagers);
+    try (FindingsSink<Double> sink = openUnderpaidManagers()) {
+      sink.acceptAll(underpaidManagers);
+    }
   }
 
   @Override
   public void overpaidManagers(Map<Employee, Double> overpaidManagers) {
-    doWriteToStream("Overpaid managers: ", "%s earns more than intended by %.2f", overpaidManagers);
+    try (FindingsSink<Double> sink = openOverpaidManagers()) {
+      sink.acceptAll(overpaidManagers);
+    }
+  }
+
+  @Override
+  public void resolvedFindings(OrgHierarchyReports resolvedFindings) {
+    try (FindingsSink<String> sink = new ConsoleFindingsSink<>(ReportWriteEvent.RESOLVED_FINDINGS,
+        "Resolved findings: ",
+        (line, employee, resolution) -> line.append(employee).append(resolution))) {
+      resolvedFindings.longReportingLines().keySet()
+          .forEach(e -> sink.accept(e, " no longer has a too long reporting line"));
+      resolvedFindings.underpaidManagers().keySet()
+          .forEach(e -> sink.accept(e, " is no longer underpaid"));
+      resolvedFindings.overpaidManagers().keySet()
+          .forEach(e -> sink.accept(e, " is no longer overpaid"));
+    }
+  }
+
+  @FunctionalInterface
+  private interface LineFormatter<V> {
+
+    void format(StringBuilder line, Employee employee, V value);
+  }
+
+  /**
+   * Prints a report as its prefix followed by one finding per line, each line starting with a tab
+   * and all but the last one ending with a comma.
+   */
+  private final class ConsoleFindingsSink<V> implements FindingsSink<V> {
+
+    private final StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 1024);
+    private final LineFormatter<V> formatter;
+    private final ReportWriteEvent event;
+    private boolean empty = true;
+
+    private ConsoleFindingsSink(String report, String prefix, LineFormatter<V> formatter) {
+      this.formatter = formatter;
+      event = new ReportWriteEvent(ConsoleReportsWriter.this, report);
+      event.begin();
+      buffer.append(prefix);
+    }
+
+    @Override
+    public void accept(Employee employee, V value) {
+      event.findings++;
+      buffer.append(empty ? FIRST_SEPARATOR : SEPARATOR);
+      empty = false;
+      formatter.format(buffer, employee, value);
+      if (buffer.length() >= BUFFER_SIZE) {
+        flushBuffer();
+      }
+    }
+
+    @Override
+    public void close() {
+      if (empty) {
+        buffer.append(FIRST_SEPARATOR);
+      }
+      buffer.append(System.lineSeparator());
+      flushBuffer();
+      outputStream.flush();
+      event.commit();
+    }
+
+    private void flushBuffer() {
+      outputStream.append(buffer);
+      buffer.setLength(0);
+    }
   }
 }
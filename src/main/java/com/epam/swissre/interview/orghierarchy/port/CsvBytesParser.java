@@ -0,0 +1,234 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parses CSV lines of employee data straight from bytes, accepting the same lines as
+ * {@link CsvOrgHierarchyLoader} does: fields are separated by commas and trimmed, trailing empty
+ * fields are ignored, and the manager ID is optional. The lines of a file holding the employees
+ * of several tenants have the tenant as a sixth field.
+ *
+ * <p>Integers are parsed in place, and the only objects created for a valid line are the two name
+ * Strings and the {@link Employee} itself. A parser keeps a reusable buffer for the current line,
+ * so an instance must not be shared between threads.
+ */
+final class CsvBytesParser {
+
+  private static final int EMPLOYEE_FIELDS = 5;
+  private static final int TENANT_FIELD = 5;
+  private static final int MAX_FIELDS = 6;
+
+  private final int[] fieldStarts = new int[MAX_FIELDS];
+  private final int[] fieldEnds = new int[MAX_FIELDS];
+  private byte[] line = new byte[256];
+  private int length;
+  // the tenant of the last line, reused as long as the next lines have the same
+  private String tenant;
+  private byte[] tenantBytes = new byte[0];
+
+  private static boolean isWhitespace(byte b) {
+    // same as String.trim(): every character up to the space, while UTF-8 bytes are all negative
+    return b >= 0 && b <= ' ';
+  }
+
+  private static NumberFormatException numberFormatException(byte[] bytes, int from, int to) {
+    return new NumberFormatException(
+        "For input string: \"" + new String(bytes, from, to - from, StandardCharsets.UTF_8)
+            + "\"");
+  }
+
+  /**
+   * Parses a decimal integer the same way as {@link Integer#parseInt(String)} does for ASCII
+   * digits.
+   */
+  static int parseInt(byte[] bytes, int from, int to) {
+    int i = from;
+    boolean negative = false;
+    if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+      negative = bytes[i] == '-';
+      i++;
+    }
+    if (i == to) {
+      throw numberFormatException(bytes, from, to);
+    }
+    long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+    long result = 0;
+    for (; i < to; i++) {
+      int digit = bytes[i] - '0';
+      if (digit < 0 || digit > 9) {
+        throw numberFormatException(bytes, from, to);
+      }
+      result = result * 10 + digit;
+      if (result > limit) {
+        throw numberFormatException(bytes, from, to);
+      }
+    }
+    return (int) (negative ? -result : result);
+  }
+
+  /**
+   * Copies a line from the buffer into the parser, dropping a trailing carriage return.
+   *
+   * @param buffer the buffer holding the line
+   * @param start  the position of the first byte of the line
+   * @param end    the position after the last byte of the line, excluding the line feed
+   */
+  void setLine(ByteBuffer buffer, int start, int end) {
+    length = end - start;
+    if (length > 0 && buffer.get(end - 1) == '\r') {
+      length--;
+    }
+    if (length > line.length) {
+      line = new byte[Math.max(length, line.length * 2)];
+    }
+    buffer.get(start, line, 0, length);
+  }
+
+  /**
+   * Tells whether the current line is made of whitespace only.
+   *
+   * @return true if the line is blank
+   */
+  boolean isBlank() {
+    for (int i = 0; i < length; i++) {
+      if (!isWhitespace(line[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the current line as a String, e.g. to report an error.
+   *
+   * @return the current line
+   */
+  String lineAsString() {
+    return new String(line, 0, length, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Parses the current line into an {@link Employee}.
+   *
+   * @return the {@link Employee} object created from the line
+   * @throws IllegalArgumentException if the line format is invalid
+   */
+  Employee parseEmployee() {
+    int fieldCount = splitFields();
+    if (fieldCount < 4 || fieldCount > EMPLOYEE_FIELDS) {
+      throw new IllegalArgumentException("Invalid CSV line format: " + lineAsString());
+    }
+    return toEmployee(fieldCount);
+  }
+
+  /**
+   * Parses the current line and adds the employee straight to the builder, without creating an
+   * {@link Employee}.
+   *
+   * @param builder the builder of the organization to add the employee to
+   * @throws IllegalArgumentException if the line format is invalid or the ID is a duplicate
+   */
+  void parseEmployeeInto(ColumnarOrganization.Builder builder) {
+    int fieldCount = splitFields();
+    if (fieldCount < 4 || fieldCount > EMPLOYEE_FIELDS) {
+      throw new IllegalArgumentException("Invalid CSV line format: " + lineAsString());
+    }
+    int id = parseInt(line, fieldStarts[0], fieldEnds[0]);
+    String firstName = fieldAsString(1);
+    String lastName = fieldAsString(2);
+    int salary = parseInt(line, fieldStarts[3], fieldEnds[3]);
+    if (fieldCount >= 5 && fieldStarts[4] < fieldEnds[4]) {
+      builder.addEmployee(id, firstName, lastName, salary,
+          parseInt(line, fieldStarts[4], fieldEnds[4]));
+    } else {
+      builder.addEmployee(id, firstName, lastName, salary);
+    }
+  }
+
+  /**
+   * Parses the current line of a file holding several tenants, i.e. the fields of an employee
+   * followed by its tenant, into an {@link Employee}, and keeps the tenant for {@link #tenant()}.
+   *
+   * @return the {@link Employee} object created from the line
+   * @throws IllegalArgumentException if the line format is invalid or the tenant is missing
+   */
+  Employee parseTenantEmployee() {
+    int fieldCount = splitFields();
+    if (fieldCount != MAX_FIELDS || fieldStarts[TENANT_FIELD] == fieldEnds[TENANT_FIELD]) {
+      throw new IllegalArgumentException("Invalid CSV line format: " + lineAsString());
+    }
+    Employee employee = toEmployee(fieldCount);
+    int tenantLength = fieldEnds[TENANT_FIELD] - fieldStarts[TENANT_FIELD];
+    // the lines of a tenant mostly follow each other, so the String is rarely created
+    if (!Arrays.equals(line, fieldStarts[TENANT_FIELD], fieldEnds[TENANT_FIELD], tenantBytes, 0,
+        tenantBytes.length)) {
+      tenantBytes = Arrays.copyOfRange(line, fieldStarts[TENANT_FIELD], fieldEnds[TENANT_FIELD]);
+      tenant = new String(tenantBytes, 0, tenantLength, StandardCharsets.UTF_8);
+    }
+    return employee;
+  }
+
+  /**
+   * Returns the tenant of the line last parsed by {@link #parseTenantEmployee()}.
+   *
+   * @return the tenant, trimmed
+   */
+  String tenant() {
+    return tenant;
+  }
+
+  private Employee toEmployee(int fieldCount) {
+    int id = parseInt(line, fieldStarts[0], fieldEnds[0]);
+    String firstName = fieldAsString(1);
+    String lastName = fieldAsString(2);
+    int salary = parseInt(line, fieldStarts[3], fieldEnds[3]);
+    Integer managerId = fieldCount >= 5 && fieldStarts[4] < fieldEnds[4]
+        ? parseInt(line, fieldStarts[4], fieldEnds[4]) : null;
+
+    return new Employee(id, firstName, lastName, salary, managerId);
+  }
+
+  private String fieldAsString(int field) {
+    return new String(line, fieldStarts[field], fieldEnds[field] - fieldStarts[field],
+        StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Splits the current line into trimmed fields, ignoring the trailing empty fields like
+   * {@link String#split(String)} does.
+   *
+   * @return the number of fields
+   */
+  private int splitFields() {
+    int fieldCount = 0;
+    int fieldStart = 0;
+    int lastNonEmpty = 0;
+    for (int i = 0; i <= length; i++) {
+      if (i == length || line[i] == ',') {
+        if (i > fieldStart) {
+          lastNonEmpty = fieldCount + 1;
+        }
+        // the positions of the extra fields are not needed, only whether they are empty
+        if (fieldCount < MAX_FIELDS) {
+          int start = fieldStart;
+          int end = i;
+          while (start < end && isWhitespace(line[start])) {
+            start++;
+          }
+          while (end > start && isWhitespace(line[end - 1])) {
+            end--;
+          }
+          fieldStarts[fieldCount] = start;
+          fieldEnds[fieldCount] = end;
+        }
+        fieldCount++;
+        fieldStart = i + 1;
+      }
+    }
+    return lastNonEmpty;
+  }
+}
@@ -0,0 +1,105 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
+import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineException;
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The {@code CsvChangeSetLoader} class loads change sets from CSV files with the header
+ * {@code change,id,firstName,lastName,salary,managerId}. The columns that a change does not need
+ * are left empty, e.g.:
+ * <pre>
+ * HIRE,400,Ann,Lee,40000,124
+ * LEAVE,305
+ * SALARY,124,,,52000
+ * MOVE,300,,,,125
+ * </pre>
+ */
+class CsvChangeSetLoader implements ChangeSetLoader {
+
+  /**
+   * Parses a single line of CSV data into an {@link OrgChange} object.
+   *
+   * @param line the CSV line representing a change
+   * @return the {@link OrgChange} object created from the line
+   * @throws IllegalArgumentException if the line format is invalid
+   */
+  private static OrgChange parseChange(String line) {
+    String[] fields = Arrays.stream(line.split(","))
+        .map(String::trim)
+        .toArray(String[]::new);
+    if (fields.length < 2 || fields.length > 6) {
+      throw new IllegalArgumentException("Invalid CSV line format: " + line);
+    }
+
+    OrgChange.Type type = OrgChange.Type.valueOf(fields[0].toUpperCase(Locale.ROOT));
+    int id = Integer.parseInt(fields[1]);
+    String firstName = field(fields, 2);
+    String lastName = field(fields, 3);
+    Integer salary = field(fields, 4) == null ? null : Integer.parseInt(fields[4]);
+    Integer managerId = field(fields, 5) == null ? null : Integer.parseInt(fields[5]);
+
+    return new OrgChange(type, id, firstName, lastName, salary, managerId);
+  }
+
+  private static String field(String[] fields, int index) {
+    return index < fields.length && !fields[index].isEmpty() ? fields[index] : null;
+  }
+
+  /**
+   * Reads the changes from a CSV file path.
+   *
+   * @param source path to the CSV file
+   * @return the changes, in the order of the file
+   * @throws BadCsvFileException      if the CSV file is missing or inaccessible
+   * @throws EmployeeCsvLineException if a change line is improperly formatted
+   */
+  @Override
+  public List<OrgChange> loadChangeSet(String source) {
+    if (source == null || source.trim().isEmpty()) {
+      throw new BadCsvFileException("No change set file specified");
+    }
+    try (Reader fileReader = new FileReader(source)) {
+      return loadChangeSetCsv(fileReader);
+    } catch (IOException e) {
+      throw new BadCsvFileException("CSV file is missing or inaccessible: " + source, e);
+    }
+  }
+
+  /**
+   * Reads the changes from a reader supplying CSV data.
+   *
+   * @param reader the reader supplying CSV data
+   * @return the changes, in the order of the data
+   * @throws IOException              if the data cannot be read
+   * @throws EmployeeCsvLineException if a change line is improperly formatted
+   */
+  List<OrgChange> loadChangeSetCsv(Reader reader) throws IOException {
+    BufferedReader bufferedReader = new BufferedReader(reader);
+    List<OrgChange> changes = new ArrayList<>();
+    int lineNumber = 0;
+    String line;
+    while ((line = bufferedReader.readLine()) != null) {
+      lineNumber++;
+      // skip the header row and the blank lines
+      if (lineNumber == 1 || line.isBlank()) {
+        continue;
+      }
+      try {
+        changes.add(parseChange(line));
+      } catch (IllegalArgumentException e) {
+        throw new EmployeeCsvLineException(
+            String.format("Error parsing change at line %d: %s", lineNumber, line), e);
+      }
+    }
+    return changes;
+  }
+}
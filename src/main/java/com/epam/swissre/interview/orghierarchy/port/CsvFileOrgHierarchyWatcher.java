@@ -0,0 +1,275 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
+import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The {@code CsvFileOrgHierarchyWatcher} class watches a CSV file with the
+ * {@link java.nio.file.WatchService} of its file system, and keeps the bytes of the last accepted
+ * content to find what a rewrite of the file changed.
+ * <p>
+ * The lines shared by the start and by the end of the old and new contents are unchanged, so only
+ * the lines in between are parsed, on both sides, and compared employee by employee: an edit of a
+ * few lines costs a byte comparison of the file rather than parsing it again, whatever its size.
+ * An employee only found in the old lines left, one only found in the new lines was hired, and one
+ * found in both got a new salary or manager, or is replaced if its name changed or it became the
+ * CEO. The same lines as {@link CsvOrgHierarchyLoader} reads are accepted.
+ * </p>
+ */
+class CsvFileOrgHierarchyWatcher implements OrgHierarchyWatcher {
+
+  // the time without further events after which a rewrite is considered complete
+  static final long SETTLE_MILLIS = 50;
+
+  private final CsvSourceConfig config;
+  private final CsvBytesParser parser = new CsvBytesParser();
+  private Path path;
+  private WatchService watchService;
+  private byte[] acceptedContent;
+  private byte[] changedContent;
+
+  public CsvFileOrgHierarchyWatcher(CsvSourceConfig csvSourceConfig) {
+    config = csvSourceConfig;
+  }
+
+  private static boolean isLineStart(byte[] content, int position) {
+    return position == 0 || content[position - 1] == '\n';
+  }
+
+  /**
+   * Loads the organization from the CSV file and starts watching the file.
+   *
+   * @param source optional path to the CSV file. Defaulting to a default path specified in the
+   *               config
+   * @return a new {@link Organization} instance with loaded employees
+   * @throws BadCsvFileException      if the CSV file is missing, inaccessible, or too long
+   * @throws EmployeeCsvLineException if an employee line is improperly formatted
+   */
+  @Override
+  public Organization load(String source) {
+    String actualSource =
+        source == null || source.trim().isEmpty() ? config.defaultSource() : source;
+    path = Path.of(actualSource).toAbsolutePath();
+    try {
+      watchService = path.getFileSystem().newWatchService();
+      path.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY);
+      acceptedContent = read();
+    } catch (IOException e) {
+      close();
+      throw new BadCsvFileException("CSV file is missing or inaccessible: " + actualSource, e);
+    }
+    Organization organization = new Organization();
+    parseLines(acceptedContent, 0, acceptedContent.length, 1, organization::addEmployee);
+    CsvOrgHierarchyLoader.printOrganization(organization);
+    return organization;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>A rewrite is read once no event came for {@value #SETTLE_MILLIS} ms, so that a file written
+   * in several steps is read once complete.
+   *
+   * @throws BadCsvFileException      if the CSV file is inaccessible or too long
+   * @throws EmployeeCsvLineException if a changed employee line is improperly formatted
+   */
+  @Override
+  public List<OrgChange> awaitChanges() throws InterruptedException {
+    while (true) {
+      awaitRewrite();
+      byte[] content;
+      try {
+        content = read();
+      } catch (NoSuchFileException e) {
+        // replaced by renaming another file over it: its creation comes next
+        continue;
+      } catch (IOException e) {
+        throw new BadCsvFileException("CSV file is missing or inaccessible: " + path, e);
+      }
+      if (!Arrays.equals(content, acceptedContent)) {
+        changedContent = content;
+        return diff(acceptedContent, content);
+      }
+    }
+  }
+
+  @Override
+  public void acceptChanges() {
+    if (changedContent != null) {
+      acceptedContent = changedContent;
+      changedContent = null;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (watchService != null) {
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        // nothing more to do about a watch service that failed to close
+      }
+    }
+  }
+
+  private byte[] read() throws IOException {
+    byte[] content = Files.readAllBytes(path);
+    int lineCount = 0;
+    for (byte b : content) {
+      if (b == '\n') {
+        lineCount++;
+      }
+    }
+    if (content.length > 0 && content[content.length - 1] != '\n') {
+      lineCount++;
+    }
+    if (lineCount > config.maxLineCount()) {
+      throw new BadCsvFileException(String.format(
+          "The provided file is too long: contains more than the allowed max of %d rows",
+          config.maxLineCount()));
+    }
+    return content;
+  }
+
+  /**
+   * Waits for an event on the file, then for the events to settle.
+   */
+  private void awaitRewrite() throws InterruptedException {
+    try {
+      boolean rewritten = false;
+      while (!rewritten) {
+        rewritten = pollEvents(watchService.take());
+      }
+      for (WatchKey key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS); key != null;
+          key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) {
+        pollEvents(key);
+      }
+    } catch (ClosedWatchServiceException e) {
+      throw new BadCsvFileException("The watch of the CSV file was closed: " + path);
+    }
+  }
+
+  private boolean pollEvents(WatchKey key) {
+    boolean rewritten = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      // events may have been lost on overflow, including those on the file
+      rewritten |= event.kind() == StandardWatchEventKinds.OVERFLOW
+          || path.getFileName().equals(event.context());
+    }
+    if (!key.reset()) {
+      throw new BadCsvFileException("The directory of the CSV file is no longer accessible: "
+          + path.getParent());
+    }
+    return rewritten;
+  }
+
+  /**
+   * Finds the changes between two contents of the file from the lines that differ.
+   */
+  List<OrgChange> diff(byte[] oldContent, byte[] newContent) {
+    int maxCommon = Math.min(oldContent.length, newContent.length);
+    int start = 0;
+    while (start < maxCommon && oldContent[start] == newContent[start]) {
+      start++;
+    }
+    while (!isLineStart(oldContent, start)) {
+      start--;
+    }
+    // the common end of both contents, not overlapping their common start
+    int endLength = 0;
+    while (endLength < maxCommon - start && oldContent[oldContent.length - 1 - endLength]
+        == newContent[newContent.length - 1 - endLength]) {
+      endLength++;
+    }
+    while (endLength > 0 && !(isLineStart(oldContent, oldContent.length - endLength)
+        && isLineStart(newContent, newContent.length - endLength))) {
+      endLength--;
+    }
+    int firstLineNumber = 1;
+    for (int i = 0; i < start; i++) {
+      if (oldContent[i] == '\n') {
+        firstLineNumber++;
+      }
+    }
+
+    Map<Integer, Employee> oldEmployees = new LinkedHashMap<>();
+    parseLines(oldContent, start, oldContent.length - endLength, firstLineNumber,
+        employee -> oldEmployees.put(employee.id(), employee));
+    Map<Integer, Employee> newEmployees = new LinkedHashMap<>();
+    parseLines(newContent, start, newContent.length - endLength, firstLineNumber, employee -> {
+      if (newEmployees.putIfAbsent(employee.id(), employee) != null) {
+        throw new IllegalArgumentException("Duplicate employee ID: " + employee.id());
+      }
+    });
+
+    List<OrgChange> changes = new ArrayList<>();
+    for (Employee previous : oldEmployees.values()) {
+      Employee current = newEmployees.remove(previous.id());
+      if (current == null) {
+        changes.add(OrgChange.leave(previous.id()));
+      } else if (!previous.firstName().equals(current.firstName())
+          || !previous.lastName().equals(current.lastName())
+          || current.managerId() == null && previous.managerId() != null) {
+        changes.add(OrgChange.leave(previous.id()));
+        changes.add(OrgChange.hire(current));
+      } else {
+        if (previous.salary() != current.salary()) {
+          changes.add(OrgChange.salaryChange(current.id(), current.salary()));
+        }
+        if (!Objects.equals(previous.managerId(), current.managerId())) {
+          changes.add(OrgChange.move(current.id(), current.managerId()));
+        }
+      }
+    }
+    newEmployees.values().forEach(employee -> changes.add(OrgChange.hire(employee)));
+    return changes;
+  }
+
+  /**
+   * Parses the lines of a range of the content, skipping the header row and the blank lines.
+   */
+  private void parseLines(byte[] content, int from, int to, int firstLineNumber,
+      Consumer<Employee> employees) {
+    ByteBuffer buffer = ByteBuffer.wrap(content);
+    int lineNumber = firstLineNumber;
+    for (int lineStart = from; lineStart < to; lineNumber++) {
+      int lineEnd = lineStart;
+      while (lineEnd < to && content[lineEnd] != '\n') {
+        lineEnd++;
+      }
+      parser.setLine(buffer, lineStart, lineEnd);
+      if (lineNumber > 1 && !parser.isBlank()) {
+        try {
+          employees.accept(parser.parseEmployee());
+        } catch (IllegalArgumentException e) {
+          throw new EmployeeCsvLineException(String.format(
+              "Error parsing employee data at line %d: %s", lineNumber, parser.lineAsString()), e);
+        }
+      }
+      lineStart = lineEnd + 1;
+    }
+  }
+}
@@ -6,12 +6,11 @@ import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineExceptio
 import com.epam.swissre.interview.orghierarchy.model.Employee;
 import com.epam.swissre.interview.orghierarchy.model.Organization;
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.Reader;
-import java.io.UncheckedIOException;
 import java.util.Arrays;
-import java.util.List;
 
 /**
  * The {@code CsvOrgHierarchyLoader} class loads and parses organizational hierarchy data from a CSV
@@ -69,13 +68,38 @@ class CsvOrgHierarchyLoader implements OrgHierarchyLoader {
   public Organization loadOrgHierarchy(String source) {
     String actualSource =
         source == null || source.trim().isEmpty() ? config.defaultSource() : source;
+    OrgHierarchyLoadEvent event = new OrgHierarchyLoadEvent(this, actualSource);
+    event.begin();
+    Organization organization;
     try (Reader fileReader = new FileReader(actualSource)) {
-      Organization organization = loadOrgHierarchyCsv(fileReader);
-      System.out.println("Loaded the following organization: " + organization);
-      return organization;
+      organization = loadOrgHierarchyCsv(fileReader);
     } catch (IOException e) {
       throw new BadCsvFileException("CSV file is missing or inaccessible: " + actualSource, e);
     }
+    if (event.shouldCommit()) {
+      event.employees = organization.getEmployees().size();
+      event.bytesRead = new File(actualSource).length();
+      event.commit();
+    }
+    printOrganization(organization);
+    return organization;
+  }
+
+  /**
+   * Prints the organization the same way as {@link Organization#toString()} does, but employee by
+   * employee, without building the whole text in memory.
+   *
+   * @param organization the organization to print
+   */
+  static void printOrganization(Organization organization) {
+    System.out.print("Loaded the following organization: Organization{employees=");
+    String separator = "";
+    for (Employee employee : organization.getEmployees()) {
+      System.out.print(separator);
+      System.out.print(employee);
+      separator = "," + System.lineSeparator();
+    }
+    System.out.println('}');
   }
 
   /**
@@ -83,6 +107,9 @@ class CsvOrgHierarchyLoader implements OrgHierarchyLoader {
    * populated with employees. This method allows loading from any source of text, including test
    * strings.
    *
+   * <p>The lines are parsed one by one as they are read, and the maximum number of lines is
+   * enforced while reading, so the raw text of the file is never held in memory as a whole.
+   *
    * @param reader the {@link Reader} providing CSV content
    * @return a new {@link Organization} instance with loaded employees
    * @throws BadCsvFileException      if there was an error reading from the file, or it is too
@@ -90,33 +117,39 @@ class CsvOrgHierarchyLoader implements OrgHierarchyLoader {
    * @throws EmployeeCsvLineException if an employee line is improperly formatted
    */
   Organization loadOrgHierarchyCsv(Reader reader) {
-    List<String> lines;
+    Organization organization = new Organization();
+    CsvParseEvent event = new CsvParseEvent();
+    event.begin();
 
-    try (reader) {
-      lines = new BufferedReader(reader).lines().toList();
-    } catch (UncheckedIOException | IOException e) {
+    int lineNumber = 0;
+    try (BufferedReader lines = new BufferedReader(reader)) {
+      for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+        if (++lineNumber > config.maxLineCount()) {
+          throw new BadCsvFileException(String.format(
+              "The provided file is too long: contains more than the allowed max of %d rows",
+              config.maxLineCount()));
+        }
+        // skip the header row and the blank lines
+        if (lineNumber > 1 && !line.isBlank()) {
+          addEmployee(organization, line, lineNumber);
+        }
+      }
+    } catch (IOException e) {
       throw new BadCsvFileException("Error reading from the provided reader.", e);
     }
 
-    if (lines.size() > config.maxLineCount()) {
-      throw new BadCsvFileException(String.format(
-          "The provided file is too long: contains %d rows, while the allowed max is %d",
-          lines.size(), config.maxLineCount()));
-    }
-
-    Organization organization = new Organization();
-
-    lines.stream()
-        .skip(1) // Skip the header row and parse each line
-        .filter(line -> !line.trim().isEmpty())
-        .forEach(line -> {
-          try {
-            organization.addEmployee(parseEmployee(line));
-          } catch (IllegalArgumentException e) {
-            throw new EmployeeCsvLineException("Error parsing employee data: " + line, e);
-          }
-        });
-
+    event.lines = lineNumber;
+    event.employees = organization.getEmployees().size();
+    event.commit();
     return organization;
   }
+
+  private static void addEmployee(Organization organization, String line, int lineNumber) {
+    try {
+      organization.addEmployee(parseEmployee(line));
+    } catch (IllegalArgumentException e) {
+      throw new EmployeeCsvLineException(
+          String.format("Error parsing employee data at line %d: %s", lineNumber, line), e);
+    }
+  }
 }
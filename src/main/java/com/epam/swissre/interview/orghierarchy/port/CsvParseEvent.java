@@ -0,0 +1,27 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the parsing of CSV lines into employees, either of a whole file
+ * or of one of the chunks parsed in parallel.
+ */
+@Name("com.epam.swissre.interview.orghierarchy.CsvParse")
+@Label("CSV Parse")
+@Description("Parsing of CSV lines into employees")
+@Category({"Org Hierarchy Checker", "Port"})
+@StackTrace(false)
+class CsvParseEvent extends Event {
+
+  @Label("Lines")
+  @Description("Number of lines read, including the header and the blank lines")
+  int lines;
+
+  @Label("Employees")
+  int employees;
+}
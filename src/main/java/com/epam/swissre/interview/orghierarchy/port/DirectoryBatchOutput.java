@@ -0,0 +1,133 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import com.epam.swissre.interview.orghierarchy.model.BatchFileResult;
+import com.epam.swissre.interview.orghierarchy.model.BatchSummary;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes the reports on every source of a batch to a file of its own in a directory, named after
+ * the source, e.g. {@code reports/acme.txt} for {@code input/acme.csv}, either in the console
+ * format or as newline-delimited JSON in a {@code .ndjson} file. Sources with the same file name
+ * get a numbered file each, e.g. {@code acme-2.txt}, in the order their reports are written.
+ * <p>
+ * The summary is written to {@value #SUMMARY_FILE_NAME}, e.g.
+ * <pre>
+ * {"files":[{"source":"input/acme.csv","reports":"acme.txt","employees":1000,
+ * "longReportingLines":3,"underpaidManagers":12,"overpaidManagers":7,"wallNanos":12340000},
+ * {"source":"input/broken.csv","error":"CSV file is missing or inaccessible: input/broken.csv",
+ * "wallNanos":120000}],
+ * "totalFiles":2,"failedFiles":1,"employees":1000,"findings":22,"wallNanos":15200000}
+ * </pre>
+ * </p>
+ */
+class DirectoryBatchOutput implements BatchOutput {
+
+  static final String SUMMARY_FILE_NAME = "summary.json";
+
+  private final Path directory;
+  private final boolean ndjson;
+  private final Set<String> reportFileNames = ConcurrentHashMap.newKeySet();
+  private final ConcurrentHashMap<String, String> reportFileNamesBySource =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Creates an output to the given directory, created if missing.
+   *
+   * @param directory the directory of the reports and of the summary
+   * @param ndjson    true to write the reports as newline-delimited JSON, false to write them as
+   *                  text like on the console
+   * @throws ConfigurationException if the directory cannot be created
+   */
+  public DirectoryBatchOutput(Path directory, boolean ndjson) {
+    try {
+      this.directory = Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new ConfigurationException("Cannot create the output directory: " + directory);
+    }
+    this.ndjson = ndjson;
+  }
+
+  /**
+   * Reserves a file name of its own for the reports on the source.
+   */
+  private String reserveReportFileName(String source) {
+    String fileName = Path.of(source).getFileName().toString();
+    int extension = fileName.lastIndexOf('.');
+    String baseName = extension > 0 ? fileName.substring(0, extension) : fileName;
+    String suffix = ndjson ? ".ndjson" : ".txt";
+    String reportFileName = baseName + suffix;
+    for (int i = 2; !reportFileNames.add(reportFileName); i++) {
+      reportFileName = baseName + "-" + i + suffix;
+    }
+    reportFileNamesBySource.put(source, reportFileName);
+    return reportFileName;
+  }
+
+  @Override
+  public void writeReports(String source, OrgHierarchyReports reports) {
+    Path target = directory.resolve(reserveReportFileName(source));
+    try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(target))) {
+      PrintStream printStream = new PrintStream(outputStream, false, StandardCharsets.UTF_8);
+      ReportsWriter writer =
+          ndjson ? new NdjsonReportsWriter(outputStream) : new ConsoleReportsWriter(printStream);
+      writer.longReportingLines(reports.longReportingLines());
+      writer.underpaidManagers(reports.underpaidManagers());
+      writer.overpaidManagers(reports.overpaidManagers());
+      // a print stream never throws, but records its failures
+      if (printStream.checkError()) {
+        throw new IOException("Cannot write the reports to " + target);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void writeSummary(BatchSummary summary) {
+    try {
+      Files.writeString(directory.resolve(SUMMARY_FILE_NAME), toJson(summary),
+          StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  String toJson(BatchSummary summary) {
+    StringBuilder json = new StringBuilder("{\"files\":[");
+    String separator = "";
+    for (BatchFileResult file : summary.files()) {
+      json.append(separator).append("{\"source\":");
+      JsonProfileWriter.appendString(json, file.source());
+      if (file.isSucceeded()) {
+        json.append(",\"reports\":");
+        JsonProfileWriter.appendString(json, reportFileNamesBySource.get(file.source()));
+        json.append(",\"employees\":").append(file.employees())
+            .append(",\"longReportingLines\":").append(file.longReportingLines())
+            .append(",\"underpaidManagers\":").append(file.underpaidManagers())
+            .append(",\"overpaidManagers\":").append(file.overpaidManagers());
+      } else {
+        json.append(",\"error\":");
+        JsonProfileWriter.appendString(json, file.error());
+      }
+      json.append(",\"wallNanos\":").append(file.wallNanos()).append('}');
+      separator = ",\n";
+    }
+    json.append("],\n\"totalFiles\":").append(summary.files().size())
+        .append(",\"failedFiles\":").append(summary.failedFiles())
+        .append(",\"employees\":").append(summary.employees())
+        .append(",\"findings\":").append(summary.findings())
+        .append(",\"wallNanos\":").append(summary.wallNanos());
+    return json.append("}\n").toString();
+  }
+}
@@ -0,0 +1,52 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.exception.BadSnapshotFileException;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.OrganizationSnapshot;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@code FileOrgHierarchySnapshotWriter} class writes the snapshots in the
+ * {@link OrganizationSnapshot} format to files. A snapshot is written to a temporary file first and
+ * then moved over the target, so that a reader never sees a partial snapshot.
+ */
+class FileOrgHierarchySnapshotWriter implements OrgHierarchySnapshotWriter {
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws BadSnapshotFileException if the file cannot be written
+   */
+  @Override
+  public void writeSnapshot(ColumnarOrganization organization, String target) {
+    Path targetPath = Path.of(target).toAbsolutePath();
+    Path tempPath = null;
+    try {
+      tempPath = Files.createTempFile(targetPath.getParent(), ".snapshot", ".tmp");
+      try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+        OrganizationSnapshot.write(organization, channel);
+      }
+      Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new BadSnapshotFileException("Cannot write the snapshot file: " + target, e);
+    } finally {
+      deleteQuietly(tempPath);
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path != null) {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        // nothing more to do about a leftover temporary file
+      }
+    }
+  }
+}
@@ -0,0 +1,295 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+
+/**
+ * The {@code FileReportsCache} class stores the reports as binary files in a directory, which
+ * several runs may share, e.g. the runs of a batch scheduler.
+ * <p>
+ * The key of the reports on a source is made of two checksums of its bytes and of the reporting
+ * configuration, CRC32C and CRC32, both computed by hardware instructions on most CPUs, and of the
+ * number of bytes: the source is read once, far faster than it is parsed, and two sources only get
+ * the same key if both checksums and the size collide.
+ * </p>
+ * <p>
+ * The directory is bounded in size by evicting the least recently used entries: a hit sets the
+ * modification time of its entry, and every new entry evicts the entries modified the longest ago
+ * until the directory fits again. An entry is written to a temporary file first and then moved in
+ * place, so concurrent runs never see a partial entry. An entry that cannot be read, e.g. evicted
+ * by another run meanwhile, is a miss, and one that cannot be written is skipped: the cache never
+ * fails an analysis.
+ * </p>
+ */
+class FileReportsCache implements ReportsCache {
+
+  static final String SUFFIX = ".reports";
+  private static final int MAGIC = 0x4F524843; // "ORHC"
+  private static final int VERSION = 1;
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Path directory;
+  private final long maxBytes;
+  private final ReportingConfig reportingConfig;
+  private final CsvSourceConfig sourceConfig;
+
+  /**
+   * Creates a cache in the given directory, created if missing.
+   *
+   * @param directory       the directory of the entries
+   * @param maxBytes        the maximum total size of the entries
+   * @param reportingConfig the configuration the cached reports are built with
+   * @param sourceConfig    the configuration of the default source
+   * @throws ConfigurationException if the directory cannot be created or the size is not positive
+   */
+  public FileReportsCache(Path directory, long maxBytes, ReportingConfig reportingConfig,
+      CsvSourceConfig sourceConfig) {
+    if (maxBytes <= 0) {
+      throw new ConfigurationException("The size of the cache must be positive: " + maxBytes);
+    }
+    try {
+      this.directory = Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new ConfigurationException("Cannot create the cache directory: " + directory);
+    }
+    this.maxBytes = maxBytes;
+    this.reportingConfig = reportingConfig;
+    this.sourceConfig = sourceConfig;
+  }
+
+  private String actualSource(String source) {
+    return source == null || source.trim().isEmpty() ? sourceConfig.defaultSource() : source;
+  }
+
+  @Override
+  public Optional<String> keyOf(String source, int findingsLimit) {
+    CRC32C crc32c = new CRC32C();
+    CRC32 crc32 = new CRC32();
+    long size = 0;
+    try (FileChannel channel =
+        FileChannel.open(Path.of(actualSource(source)), StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+      while (channel.read(buffer) >= 0) {
+        buffer.flip();
+        size += buffer.remaining();
+        crc32c.update(buffer.duplicate());
+        crc32.update(buffer);
+        buffer.clear();
+      }
+    } catch (IOException | InvalidPathException e) {
+      return Optional.empty();
+    }
+    byte[] settings = (VERSION + ";" + reportingConfig.maxManagersToCEO() + ";"
+        + reportingConfig.minSalaryFactorForManagers() + ";"
+        + reportingConfig.maxSalaryFactorForManagers() + ";" + findingsLimit)
+        .getBytes(StandardCharsets.US_ASCII);
+    crc32c.update(settings);
+    crc32.update(settings);
+    return Optional.of(String.format("%08x%08x%x", crc32c.getValue(), crc32.getValue(), size));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The version is made of the size, the modification time and the identity of the file, if
+   * the file system has one, so that a file replaced by another one is another version too.
+   */
+  @Override
+  public Optional<String> versionOf(String source) {
+    try {
+      BasicFileAttributes attributes =
+          Files.readAttributes(Path.of(actualSource(source)), BasicFileAttributes.class);
+      return Optional.of(attributes.size() + "/" + attributes.lastModifiedTime() + "/"
+          + attributes.fileKey());
+    } catch (IOException | InvalidPathException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public Optional<OrgHierarchyReports> get(String key) {
+    Path entry = directory.resolve(key + SUFFIX);
+    OrgHierarchyReports reports;
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(entry), BUFFER_SIZE))) {
+      if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+        return Optional.empty();
+      }
+      reports = new OrgHierarchyReports(readReportingLines(input), readAmounts(input),
+          readAmounts(input));
+    } catch (IOException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    try {
+      Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (IOException e) {
+      // evicted meanwhile, or read-only: the entry is only evicted sooner
+    }
+    return Optional.of(reports);
+  }
+
+  @Override
+  public void put(String key, OrgHierarchyReports reports) {
+    Path tempPath = null;
+    try {
+      tempPath = Files.createTempFile(directory, SUFFIX, ".tmp");
+      try (DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(tempPath), BUFFER_SIZE))) {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        writeReportingLines(output, reports.longReportingLines());
+        writeAmounts(output, reports.underpaidManagers());
+        writeAmounts(output, reports.overpaidManagers());
+      }
+      Files.move(tempPath, directory.resolve(key + SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      evict();
+    } catch (IOException e) {
+      // the reports are only not cached
+    } finally {
+      deleteQuietly(tempPath);
+    }
+  }
+
+  /**
+   * Deletes the least recently used entries until the directory holds at most the maximum size.
+   */
+  private void evict() throws IOException {
+    List<CacheEntry> entries = new ArrayList<>();
+    long totalBytes = 0;
+    try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+      for (Path path : paths) {
+        try {
+          BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+          entries.add(new CacheEntry(path, attributes.lastModifiedTime(), attributes.size()));
+          totalBytes += attributes.size();
+        } catch (NoSuchFileException e) {
+          // evicted by another run meanwhile
+        }
+      }
+    }
+    entries.sort(Comparator.comparing(CacheEntry::lastModified));
+    for (int i = 0; i < entries.size() && totalBytes > maxBytes; i++) {
+      deleteQuietly(entries.get(i).path());
+      totalBytes -= entries.get(i).size();
+    }
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path != null) {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        // e.g. still open by another run on some platforms: evicted by a later run
+      }
+    }
+  }
+
+  private static void writeEmployee(DataOutputStream output, Employee employee)
+      throws IOException {
+    output.writeInt(employee.id());
+    output.writeUTF(employee.firstName());
+    output.writeUTF(employee.lastName());
+    output.writeInt(employee.salary());
+    output.writeBoolean(employee.managerId() != null);
+    if (employee.managerId() != null) {
+      output.writeInt(employee.managerId());
+    }
+  }
+
+  private static Employee readEmployee(DataInputStream input) throws IOException {
+    int id = input.readInt();
+    String firstName = input.readUTF();
+    String lastName = input.readUTF();
+    int salary = input.readInt();
+    Integer managerId = input.readBoolean() ? input.readInt() : null;
+    return new Employee(id, firstName, lastName, salary, managerId);
+  }
+
+  private static void writeReportingLines(DataOutputStream output,
+      Map<Employee, List<Integer>> reportingLines) throws IOException {
+    output.writeInt(reportingLines.size());
+    for (Map.Entry<Employee, List<Integer>> entry : reportingLines.entrySet()) {
+      writeEmployee(output, entry.getKey());
+      output.writeInt(entry.getValue().size());
+      for (Integer managerId : entry.getValue()) {
+        output.writeInt(managerId);
+      }
+    }
+  }
+
+  private static Map<Employee, List<Integer>> readReportingLines(DataInputStream input)
+      throws IOException {
+    int count = readCount(input);
+    // the findings are replayed in the order they were stored
+    Map<Employee, List<Integer>> reportingLines = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      Employee employee = readEmployee(input);
+      int size = readCount(input);
+      List<Integer> reportingLine = new ArrayList<>(size);
+      for (int j = 0; j < size; j++) {
+        reportingLine.add(input.readInt());
+      }
+      reportingLines.put(employee, reportingLine);
+    }
+    return reportingLines;
+  }
+
+  private static void writeAmounts(DataOutputStream output, Map<Employee, Double> amounts)
+      throws IOException {
+    output.writeInt(amounts.size());
+    for (Map.Entry<Employee, Double> entry : amounts.entrySet()) {
+      writeEmployee(output, entry.getKey());
+      output.writeDouble(entry.getValue());
+    }
+  }
+
+  private static Map<Employee, Double> readAmounts(DataInputStream input) throws IOException {
+    int count = readCount(input);
+    Map<Employee, Double> amounts = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      amounts.put(readEmployee(input), input.readDouble());
+    }
+    return amounts;
+  }
+
+  private static int readCount(DataInputStream input) throws IOException {
+    int count = input.readInt();
+    if (count < 0) {
+      throw new IOException("Invalid count: " + count);
+    }
+    return count;
+  }
+
+  private record CacheEntry(Path path, FileTime lastModified, long size) {
+
+  }
+}
@@ -0,0 +1,62 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Receives the findings of a single report, one at a time or in batches, as they are produced. The
+ * report is complete once the sink is closed.
+ *
+ * @param <V> the type of the value associated with each employee, e.g. a reporting line or an
+ *            amount
+ */
+public interface FindingsSink<V> extends AutoCloseable {
+
+  /**
+   * Creates a sink collecting the findings into a map, which is passed to the given report when the
+   * sink is closed.
+   *
+   * @param report the report receiving all the findings at once
+   * @param <V>    the type of the value associated with each employee
+   * @return a new collecting {@link FindingsSink}
+   */
+  static <V> FindingsSink<V> collecting(Consumer<Map<Employee, V>> report) {
+    Map<Employee, V> findings = new LinkedHashMap<>();
+    return new FindingsSink<>() {
+      @Override
+      public void accept(Employee employee, V value) {
+        findings.put(employee, value);
+      }
+
+      @Override
+      public void close() {
+        report.accept(findings);
+      }
+    };
+  }
+
+  /**
+   * Receives a single finding.
+   *
+   * @param employee the employee the finding is about
+   * @param value    the value of the finding
+   */
+  void accept(Employee employee, V value);
+
+  /**
+   * Receives a batch of findings.
+   *
+   * @param findings the findings by employee
+   */
+  default void acceptAll(Map<Employee, ? extends V> findings) {
+    findings.forEach(this::accept);
+  }
+
+  /**
+   * Completes the report.
+   */
+  @Override
+  void close();
+}
@@ -0,0 +1,87 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.PhaseProfile;
+import com.epam.swissre.interview.orghierarchy.model.RunProfile;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Writes the profile of a run as a JSON file, for the batch scheduler to track the throughput of
+ * the runs, e.g.
+ * <pre>
+ * {"source":"employees.csv","employees":1000,"employeesPerSecond":81037.12,
+ * "phases":[{"phase":"load","wallNanos":12340000,"cpuNanos":10210000,
+ * "allocatedBytes":5452595,"peakHeapBytes":21108224},...],
+ * "total":{"phase":"total",...}}
+ * </pre>
+ * The measures not supported by the JVM are written as {@code -1}. The file is replaced if it
+ * exists.
+ */
+class JsonProfileWriter implements ProfileWriter {
+
+  private final Path target;
+
+  public JsonProfileWriter(Path target) {
+    this.target = target;
+  }
+
+  static void appendString(StringBuilder json, String value) {
+    if (value == null) {
+      json.append("null");
+      return;
+    }
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      } else if (c < 0x20) {
+        json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+      } else {
+        json.append(c);
+      }
+    }
+    json.append('"');
+  }
+
+  private static void appendPhase(StringBuilder json, PhaseProfile phase) {
+    json.append("{\"phase\":");
+    appendString(json, phase.phase());
+    json.append(",\"wallNanos\":").append(phase.wallNanos())
+        .append(",\"cpuNanos\":").append(phase.cpuNanos())
+        .append(",\"allocatedBytes\":").append(phase.allocatedBytes())
+        .append(",\"peakHeapBytes\":").append(phase.peakHeapBytes())
+        .append('}');
+  }
+
+  static String toJson(RunProfile profile) {
+    StringBuilder json = new StringBuilder("{\"source\":");
+    appendString(json, profile.source());
+    json.append(",\"employees\":").append(profile.employees())
+        .append(",\"employeesPerSecond\":")
+        .append(String.format(Locale.ROOT, "%.2f", ProfileWriter.employeesPerSecond(profile)))
+        .append(",\"phases\":[");
+    String separator = "";
+    for (PhaseProfile phase : profile.phases()) {
+      json.append(separator);
+      appendPhase(json, phase);
+      separator = ",";
+    }
+    json.append("],\"total\":");
+    appendPhase(json, profile.total());
+    return json.append("}\n").toString();
+  }
+
+  @Override
+  public void writeProfile(RunProfile profile) {
+    try {
+      Files.writeString(target, toJson(profile), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
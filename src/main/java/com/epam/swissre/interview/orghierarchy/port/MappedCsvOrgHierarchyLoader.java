@@ -0,0 +1,304 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
+import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineException;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * The {@code MappedCsvOrgHierarchyLoader} class loads the same CSV files as
+ * {@link CsvOrgHierarchyLoader}, but memory-maps the file and scans its bytes directly instead of
+ * decoding it into lines of text. Integers are parsed in place, and Strings are only created for
+ * the name fields.
+ *
+ * <p>Files larger than a single mapping can address are mapped window by window, each window
+ * ending on a line boundary.
+ *
+ * <p>Unlike the other loaders, a loader created not to print the organization only loads it, e.g.
+ * to load many organizations concurrently without interleaving them on the console.
+ *
+ * <p>A {@link ColumnarOrganization} is filled straight from the parsed lines, with no
+ * {@link Employee} nor {@link Organization} in between. It is never printed, being meant for
+ * organizations too large to print.
+ *
+ * <p>Files holding several tenants have the tenant as the last column, after the manager ID, e.g.
+ * {@code 124,Martin,Chekov,45000,123,Acme UK}. Their lines are dispatched to the organization of
+ * their tenant as they are parsed, so the tenants are never copied out of a whole organization.
+ */
+class MappedCsvOrgHierarchyLoader implements OrgHierarchyLoader, TenantOrgHierarchyLoader {
+
+  static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+  private final CsvSourceConfig config;
+  private final int maxWindowSize;
+  private final boolean printOrganization;
+
+  public MappedCsvOrgHierarchyLoader(CsvSourceConfig csvSourceConfig) {
+    this(csvSourceConfig, true);
+  }
+
+  public MappedCsvOrgHierarchyLoader(CsvSourceConfig csvSourceConfig, boolean printOrganization) {
+    this(csvSourceConfig, MAX_WINDOW_SIZE, printOrganization);
+  }
+
+  MappedCsvOrgHierarchyLoader(CsvSourceConfig csvSourceConfig, int maxWindowSize) {
+    this(csvSourceConfig, maxWindowSize, true);
+  }
+
+  private MappedCsvOrgHierarchyLoader(CsvSourceConfig csvSourceConfig, int maxWindowSize,
+      boolean printOrganization) {
+    config = csvSourceConfig;
+    this.maxWindowSize = maxWindowSize;
+    this.printOrganization = printOrganization;
+  }
+
+  /**
+   * Finds the next line feed in the buffer.
+   *
+   * @return the position of the line feed, or {@code end} if there is none
+   */
+  static int indexOfLineFeed(ByteBuffer buffer, int from, int end) {
+    for (int i = from; i < end; i++) {
+      if (buffer.get(i) == '\n') {
+        return i;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Reads employee data from a CSV file path and returns a new {@link Organization} instance
+   * populated with employees.
+   *
+   * @param source optional path to the CSV file. Defaulting to a default path specified in the
+   *               config
+   * @return a new {@link Organization} instance with loaded employees
+   * @throws BadCsvFileException      if the CSV file is missing, inaccessible, or too long
+   * @throws EmployeeCsvLineException if an employee line is improperly formatted
+   */
+  @Override
+  public Organization loadOrgHierarchy(String source) {
+    Organization organization = load(source, this::loadOrgHierarchyCsv,
+        loaded -> loaded.getEmployees().size());
+    if (printOrganization) {
+      CsvOrgHierarchyLoader.printOrganization(organization);
+    }
+    return organization;
+  }
+
+  /**
+   * Reads employee data from a CSV file path and returns a new {@link ColumnarOrganization}
+   * populated with employees, without materializing them.
+   *
+   * @param source optional path to the CSV file. Defaulting to a default path specified in the
+   *               config
+   * @return a new {@link ColumnarOrganization} with loaded employees
+   * @throws BadCsvFileException      if the CSV file is missing, inaccessible, or too long
+   * @throws EmployeeCsvLineException if an employee line is improperly formatted
+   */
+  @Override
+  public ColumnarOrganization loadColumnarOrgHierarchy(String source) {
+    return load(source, this::loadColumnarOrgHierarchyCsv, ColumnarOrganization::size);
+  }
+
+  /**
+   * Reads the employee data of several tenants from a CSV file path and returns a new
+   * {@link Organization} instance for each tenant, populated with its employees.
+   *
+   * @param source optional path to the CSV file. Defaulting to a default path specified in the
+   *               config
+   * @return a new {@link Organization} instance for each tenant, in the order of the file
+   * @throws BadCsvFileException      if the CSV file is missing, inaccessible, or too long
+   * @throws EmployeeCsvLineException if an employee line is improperly formatted or has no tenant
+   */
+  @Override
+  public Map<String, Organization> loadTenantOrgHierarchies(String source) {
+    Map<String, Organization> tenants = load(source, this::loadTenantOrgHierarchiesCsv,
+        loaded -> loaded.values().stream().mapToInt(tenant -> tenant.getEmployees().size()).sum());
+    if (printOrganization) {
+      tenants.forEach((tenant, organization) -> {
+        System.out.print(tenant + ": ");
+        CsvOrgHierarchyLoader.printOrganization(organization);
+      });
+    }
+    return tenants;
+  }
+
+  private <T> T load(String source, ChannelLoader<T> channelLoader,
+      ToIntFunction<T> employeeCount) {
+    String actualSource =
+        source == null || source.trim().isEmpty() ? config.defaultSource() : source;
+    OrgHierarchyLoadEvent event = new OrgHierarchyLoadEvent(this, actualSource);
+    event.begin();
+    T loaded;
+    try (FileChannel channel = FileChannel.open(Path.of(actualSource), StandardOpenOption.READ)) {
+      loaded = channelLoader.load(channel);
+      event.bytesRead = channel.size();
+    } catch (IOException e) {
+      throw new BadCsvFileException("CSV file is missing or inaccessible: " + actualSource, e);
+    }
+    event.employees = employeeCount.applyAsInt(loaded);
+    event.commit();
+    return loaded;
+  }
+
+  /**
+   * Reads employee data from the given file channel and returns a new {@link Organization}
+   * instance populated with employees.
+   *
+   * @param channel the channel of the CSV file
+   * @return a new {@link Organization} instance with loaded employees
+   * @throws IOException              if the file cannot be mapped
+   * @throws BadCsvFileException      if the file is too long
+   * @throws EmployeeCsvLineException if an employee line is improperly formatted
+   */
+  Organization loadOrgHierarchyCsv(FileChannel channel) throws IOException {
+    Organization organization = new Organization();
+    parseEmployeeLines(channel, (parser, lineNumber) -> addEmployee(organization, parser,
+        lineNumber));
+    return organization;
+  }
+
+  /**
+   * Reads employee data from the given file channel and returns a new {@link ColumnarOrganization}
+   * populated with employees.
+   *
+   * @param channel the channel of the CSV file
+   * @return a new {@link ColumnarOrganization} with loaded employees
+   * @throws IOException              if the file cannot be mapped
+   * @throws BadCsvFileException      if the file is too long
+   * @throws EmployeeCsvLineException if an employee line is improperly formatted
+   */
+  ColumnarOrganization loadColumnarOrgHierarchyCsv(FileChannel channel) throws IOException {
+    // about 32 bytes per line, so that the columns are rarely grown
+    ColumnarOrganization.Builder builder =
+        new ColumnarOrganization.Builder((int) Math.min(channel.size() / 32, Integer.MAX_VALUE));
+    parseEmployeeLines(channel, (parser, lineNumber) -> addEmployee(builder, parser, lineNumber));
+    return builder.build();
+  }
+
+  /**
+   * Reads the employee data of several tenants from the given file channel and returns a new
+   * {@link Organization} instance for each tenant, populated with its employees.
+   *
+   * @param channel the channel of the CSV file
+   * @return a new {@link Organization} instance for each tenant, in the order of the file
+   * @throws IOException              if the file cannot be mapped
+   * @throws BadCsvFileException      if the file is too long
+   * @throws EmployeeCsvLineException if an employee line is improperly formatted or has no tenant
+   */
+  Map<String, Organization> loadTenantOrgHierarchiesCsv(FileChannel channel) throws IOException {
+    Map<String, Organization> tenants = new LinkedHashMap<>();
+    parseEmployeeLines(channel, (parser, lineNumber) -> addTenantEmployee(tenants, parser,
+        lineNumber));
+    return tenants;
+  }
+
+  /**
+   * Maps the file window by window, and hands every employee line to the handler, skipping the
+   * header row and the blank lines.
+   */
+  private void parseEmployeeLines(FileChannel channel, EmployeeLineHandler handler)
+      throws IOException {
+    CsvParseEvent event = new CsvParseEvent();
+    event.begin();
+    CsvBytesParser parser = new CsvBytesParser();
+    long size = channel.size();
+    long position = 0;
+    int lineNumber = 0;
+    int employees = 0;
+
+    while (position < size) {
+      int windowSize = (int) Math.min(size - position, maxWindowSize);
+      MappedByteBuffer window = channel.map(MapMode.READ_ONLY, position, windowSize);
+      int limit = windowSize;
+      if (position + windowSize < size) {
+        // cut the window after its last line feed, the rest goes to the next window
+        limit = windowSize - 1;
+        while (limit >= 0 && window.get(limit) != '\n') {
+          limit--;
+        }
+        if (limit < 0) {
+          throw new BadCsvFileException(
+              String.format("The provided file has a line longer than %d bytes", windowSize));
+        }
+        limit++;
+      }
+
+      for (int start = 0; start < limit; ) {
+        int end = indexOfLineFeed(window, start, limit);
+        if (++lineNumber > config.maxLineCount()) {
+          throw new BadCsvFileException(String.format(
+              "The provided file is too long: contains more than the allowed max of %d rows",
+              config.maxLineCount()));
+        }
+        parser.setLine(window, start, end);
+        // skip the header row and the blank lines
+        if (lineNumber > 1 && !parser.isBlank()) {
+          handler.handle(parser, lineNumber);
+          employees++;
+        }
+        start = end + 1;
+      }
+      position += limit;
+    }
+
+    event.lines = lineNumber;
+    event.employees = employees;
+    event.commit();
+  }
+
+  private static void addEmployee(Organization organization, CsvBytesParser parser,
+      int lineNumber) {
+    try {
+      organization.addEmployee(parser.parseEmployee());
+    } catch (IllegalArgumentException e) {
+      throw new EmployeeCsvLineException(String.format("Error parsing employee data at line %d: %s",
+          lineNumber, parser.lineAsString()), e);
+    }
+  }
+
+  private static void addEmployee(ColumnarOrganization.Builder builder, CsvBytesParser parser,
+      int lineNumber) {
+    try {
+      parser.parseEmployeeInto(builder);
+    } catch (IllegalArgumentException e) {
+      throw new EmployeeCsvLineException(String.format("Error parsing employee data at line %d: %s",
+          lineNumber, parser.lineAsString()), e);
+    }
+  }
+
+  private static void addTenantEmployee(Map<String, Organization> tenants,
+      CsvBytesParser parser, int lineNumber) {
+    try {
+      Employee employee = parser.parseTenantEmployee();
+      tenants.computeIfAbsent(parser.tenant(), tenant -> new Organization())
+          .addEmployee(employee);
+    } catch (IllegalArgumentException e) {
+      throw new EmployeeCsvLineException(String.format("Error parsing employee data at line %d: %s",
+          lineNumber, parser.lineAsString()), e);
+    }
+  }
+
+  private interface ChannelLoader<T> {
+
+    T load(FileChannel channel) throws IOException;
+  }
+
+  private interface EmployeeLineHandler {
+
+    void handle(CsvBytesParser parser, int lineNumber);
+  }
+}
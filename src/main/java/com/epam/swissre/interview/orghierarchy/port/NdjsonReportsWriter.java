@@ -0,0 +1,271 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Outputs the reports on the organization hierarchy as newline-delimited JSON, one finding per
+ * line, for machine consumption, e.g.
+ * <pre>
+ * {"rule":"UNDERPAID_MANAGER","employeeId":124,"firstName":"Martin","lastName":"Chekov",
+ * "salary":45000,"managerId":123,"amount":15000.00}
+ * </pre>
+ * with a {@code reportingLine} array of manager IDs instead of the {@code amount} for the
+ * {@code LONG_REPORTING_LINE} rule, and {@code "resolved":true} right after the rule for the
+ * findings that no longer apply. The amounts are rounded to two decimals like in the console
+ * reports.
+ *
+ * <p>The JSON is encoded by hand, straight into a byte buffer in UTF-8, which is written out
+ * whenever it is full and at the end of every report.
+ */
+class NdjsonReportsWriter implements ReportsWriter {
+
+  static final String LONG_REPORTING_LINE = "LONG_REPORTING_LINE";
+  static final String UNDERPAID_MANAGER = "UNDERPAID_MANAGER";
+  static final String OVERPAID_MANAGER = "OVERPAID_MANAGER";
+  static final int BUFFER_SIZE = 1 << 16;
+  // the max number of bytes written at once, e.g. for an escaped character
+  private static final int MAX_CHUNK_SIZE = 64;
+  private static final byte[] HEX_DIGITS =
+      "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  private final OutputStream outputStream;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private final byte[] digits = new byte[20];
+  private final StringBuilder amount = new StringBuilder();
+  private final AmountFormat amountFormat = new AmountFormat(Locale.ROOT);
+  private int position;
+
+  public NdjsonReportsWriter(OutputStream outputStream) {
+    this.outputStream = outputStream;
+  }
+
+  @Override
+  public FindingsSink<List<Integer>> openLongReportingLines() {
+    return new NdjsonFindingsSink<>(ReportWriteEvent.LONG_REPORTING_LINES, LONG_REPORTING_LINE,
+        false, this::writeReportingLine);
+  }
+
+  @Override
+  public FindingsSink<Double> openUnderpaidManagers() {
+    return new NdjsonFindingsSink<>(ReportWriteEvent.UNDERPAID_MANAGERS, UNDERPAID_MANAGER,
+        false, this::writeAmount);
+  }
+
+  @Override
+  public FindingsSink<Double> openOverpaidManagers() {
+    return new NdjsonFindingsSink<>(ReportWriteEvent.OVERPAID_MANAGERS, OVERPAID_MANAGER,
+        false, this::writeAmount);
+  }
+
+  @Override
+  public void longReportingLines(Map<Employee, List<Integer>> longReportingLines) {
+    try (FindingsSink<List<Integer>> sink = openLongReportingLines()) {
+      sink.acceptAll(longReportingLines);
+    }
+  }
+
+  @Override
+  public void underpaidManagers(Map<Employee, Double> underpaidManagers) {
+    try (FindingsSink<Double> sink = openUnderpaidManagers()) {
+      sink.acceptAll(underpaidManagers);
+    }
+  }
+
+  @Override
+  public void overpaidManagers(Map<Employee, Double> overpaidManagers) {
+    try (FindingsSink<Double> sink = openOverpaidManagers()) {
+      sink.acceptAll(overpaidManagers);
+    }
+  }
+
+  @Override
+  public void resolvedFindings(OrgHierarchyReports resolvedFindings) {
+    try (FindingsSink<List<Integer>> sink = new NdjsonFindingsSink<>(
+        ReportWriteEvent.RESOLVED_FINDINGS, LONG_REPORTING_LINE, true, this::writeReportingLine)) {
+      sink.acceptAll(resolvedFindings.longReportingLines());
+    }
+    try (FindingsSink<Double> sink = new NdjsonFindingsSink<>(
+        ReportWriteEvent.RESOLVED_FINDINGS, UNDERPAID_MANAGER, true, this::writeAmount)) {
+      sink.acceptAll(resolvedFindings.underpaidManagers());
+    }
+    try (FindingsSink<Double> sink = new NdjsonFindingsSink<>(
+        ReportWriteEvent.RESOLVED_FINDINGS, OVERPAID_MANAGER, true, this::writeAmount)) {
+      sink.acceptAll(resolvedFindings.overpaidManagers());
+    }
+  }
+
+  private void writeFinding(String rule, boolean resolved, Employee employee) {
+    writeAscii("{\"rule\":\"");
+    writeAscii(rule);
+    writeAscii(resolved ? "\",\"resolved\":true,\"employeeId\":" : "\",\"employeeId\":");
+    writeLong(employee.id());
+    writeAscii(",\"firstName\":");
+    writeString(employee.firstName());
+    writeAscii(",\"lastName\":");
+    writeString(employee.lastName());
+    writeAscii(",\"salary\":");
+    writeLong(employee.salary());
+    writeAscii(",\"managerId\":");
+    if (employee.managerId() == null) {
+      writeAscii("null");
+    } else {
+      writeLong(employee.managerId());
+    }
+  }
+
+  private void writeReportingLine(List<Integer> reportingLine) {
+    writeAscii(",\"reportingLine\":[");
+    boolean first = true;
+    for (Integer managerId : reportingLine) {
+      if (!first) {
+        writeByte(',');
+      }
+      first = false;
+      writeLong(managerId);
+    }
+    writeByte(']');
+  }
+
+  private void writeAmount(Double value) {
+    writeAscii(",\"amount\":");
+    amount.setLength(0);
+    writeAscii(amountFormat.append(amount, value));
+  }
+
+  private void ensureCapacity() {
+    if (position + MAX_CHUNK_SIZE > buffer.length) {
+      flushBuffer();
+    }
+  }
+
+  private void writeByte(int b) {
+    ensureCapacity();
+    buffer[position++] = (byte) b;
+  }
+
+  private void writeAscii(CharSequence text) {
+    for (int i = 0; i < text.length(); i++) {
+      writeByte(text.charAt(i));
+    }
+  }
+
+  private void writeLong(long value) {
+    ensureCapacity();
+    if (value < 0) {
+      buffer[position++] = '-';
+    }
+    int count = 0;
+    do {
+      digits[count++] = (byte) ('0' + Math.abs(value % 10));
+      value /= 10;
+    } while (value != 0);
+    while (count > 0) {
+      buffer[position++] = digits[--count];
+    }
+  }
+
+  /**
+   * Writes a JSON string, escaping the quotes, the backslashes and the control characters, and
+   * encoding the rest in UTF-8. Unpaired surrogates are replaced by a question mark, like
+   * {@link String#getBytes} does.
+   */
+  private void writeString(String text) {
+    writeByte('"');
+    for (int i = 0; i < text.length(); i++) {
+      ensureCapacity();
+      char c = text.charAt(i);
+      if (c == '"' || c == '\\') {
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) c;
+      } else if (c < 0x20) {
+        buffer[position++] = '\\';
+        buffer[position++] = 'u';
+        buffer[position++] = '0';
+        buffer[position++] = '0';
+        buffer[position++] = HEX_DIGITS[c >> 4];
+        buffer[position++] = HEX_DIGITS[c & 0xF];
+      } else if (c < 0x80) {
+        buffer[position++] = (byte) c;
+      } else if (c < 0x800) {
+        buffer[position++] = (byte) (0xC0 | c >> 6);
+        buffer[position++] = (byte) (0x80 | c & 0x3F);
+      } else if (Character.isHighSurrogate(c) && i + 1 < text.length()
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, text.charAt(++i));
+        buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+        buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+        buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+        buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+      } else if (Character.isSurrogate(c)) {
+        buffer[position++] = '?';
+      } else {
+        buffer[position++] = (byte) (0xE0 | c >> 12);
+        buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+        buffer[position++] = (byte) (0x80 | c & 0x3F);
+      }
+    }
+    writeByte('"');
+  }
+
+  private void flushBuffer() {
+    try {
+      outputStream.write(buffer, 0, position);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    position = 0;
+  }
+
+  @FunctionalInterface
+  private interface ValueEncoder<V> {
+
+    void write(V value);
+  }
+
+  /**
+   * Writes a line for every finding of a report.
+   */
+  private final class NdjsonFindingsSink<V> implements FindingsSink<V> {
+
+    private final String rule;
+    private final boolean resolved;
+    private final ValueEncoder<V> encoder;
+    private final ReportWriteEvent event;
+
+    private NdjsonFindingsSink(String report, String rule, boolean resolved,
+        ValueEncoder<V> encoder) {
+      this.rule = rule;
+      this.resolved = resolved;
+      this.encoder = encoder;
+      event = new ReportWriteEvent(NdjsonReportsWriter.this, report);
+      event.begin();
+    }
+
+    @Override
+    public void accept(Employee employee, V value) {
+      event.findings++;
+      writeFinding(rule, resolved, employee);
+      encoder.write(value);
+      writeAscii("}\n");
+    }
+
+    @Override
+    public void close() {
+      flushBuffer();
+      try {
+        outputStream.flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      event.commit();
+    }
+  }
+}
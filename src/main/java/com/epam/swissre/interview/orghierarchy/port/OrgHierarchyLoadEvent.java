@@ -0,0 +1,40 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the loading of an organization by an
+ * {@link OrgHierarchyLoader}, from opening the source to the last employee added, excluding the
+ * printing of the organization.
+ */
+@Name("com.epam.swissre.interview.orghierarchy.Load")
+@Label("Organization Load")
+@Description("Loading of an organization from its source")
+@Category({"Org Hierarchy Checker", "Port"})
+@StackTrace(false)
+class OrgHierarchyLoadEvent extends Event {
+
+  @Label("Loader")
+  String loader;
+
+  @Label("Source")
+  String source;
+
+  @Label("Employees")
+  int employees;
+
+  @Label("Bytes Read")
+  @DataAmount
+  long bytesRead;
+
+  OrgHierarchyLoadEvent(OrgHierarchyLoader loader, String source) {
+    this.loader = loader.getClass().getSimpleName();
+    this.source = source;
+  }
+}
@@ -1,5 +1,6 @@
 package com.epam.swissre.interview.orghierarchy.port;
 
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
 import com.epam.swissre.interview.orghierarchy.model.Organization;
 
 /**
@@ -15,4 +16,16 @@ public interface OrgHierarchyLoader {
    * @return the loaded @{@link Organization}
    */
   Organization loadOrgHierarchy(String source);
+
+  /**
+   * Loads the {@link ColumnarOrganization} from the given {@code source}. By default the
+   * {@link Organization} is loaded and converted, loaders storing the columns directly should
+   * override it.
+   *
+   * @param source the reference to the source of data
+   * @return the loaded {@link ColumnarOrganization}
+   */
+  default ColumnarOrganization loadColumnarOrgHierarchy(String source) {
+    return ColumnarOrganization.of(loadOrgHierarchy(source));
+  }
 }
@@ -0,0 +1,32 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+
+/**
+ * The {@code OrgHierarchySnapshotWriter} is responsible for storing organizations as binary
+ * snapshots, which the snapshot {@link OrgHierarchyLoader} loads back much faster than the
+ * original CSV file can be parsed.
+ */
+public interface OrgHierarchySnapshotWriter {
+
+  /**
+   * Writes the snapshot of the {@link ColumnarOrganization} to the given {@code target}, replacing
+   * any existing snapshot.
+   *
+   * @param organization the organization to write
+   * @param target       the reference to the target of the snapshot
+   */
+  void writeSnapshot(ColumnarOrganization organization, String target);
+
+  /**
+   * Writes the snapshot of the {@link Organization} to the given {@code target}, replacing any
+   * existing snapshot.
+   *
+   * @param organization the organization to write
+   * @param target       the reference to the target of the snapshot
+   */
+  default void writeSnapshot(Organization organization, String target) {
+    writeSnapshot(ColumnarOrganization.of(organization), target);
+  }
+}
@@ -0,0 +1,45 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.List;
+
+/**
+ * The {@link OrgHierarchyWatcher} loads an organization from a source, then waits for the source to
+ * change and turns every change into the list of {@link OrgChange}s to apply to the organization.
+ * A watcher follows a single source and is not thread-safe.
+ */
+public interface OrgHierarchyWatcher extends AutoCloseable {
+
+  /**
+   * Loads the organization from the source and starts watching the source.
+   *
+   * @param source the source of the data with the organizational hierarchy, null for the default
+   *               one
+   * @return a new {@link Organization} instance with the loaded employees
+   */
+  Organization load(String source);
+
+  /**
+   * Waits until the content of the source differs from the last accepted one, i.e. the loaded one
+   * or the one of the last changes accepted with {@link #acceptChanges()}.
+   *
+   * @return the changes turning the organization of the last accepted content into the
+   * organization of the current one, in the order they must be applied
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  List<OrgChange> awaitChanges() throws InterruptedException;
+
+  /**
+   * Accepts the last changes returned by {@link #awaitChanges()}, e.g. once they are applied to the
+   * organization, so that the next changes are relative to them. Changes that are not accepted are
+   * returned again, with any further ones, on the next change of the source.
+   */
+  void acceptChanges();
+
+  /**
+   * Stops watching the source.
+   */
+  @Override
+  void close();
+}
@@ -0,0 +1,296 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
+import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The {@code ParallelCsvOrgHierarchyLoader} class loads the same CSV files as
+ * {@link CsvOrgHierarchyLoader}, but splits the file into byte ranges aligned on line boundaries
+ * and parses them in parallel on a {@link ForkJoinPool}.
+ *
+ * <p>Each chunk is memory-mapped and parsed with a {@link CsvBytesParser} of its own. The parsed
+ * chunks are then joined and merged in file order into an {@link Organization} sized for all
+ * their employees, which keeps the duplicate ID detection, the line cap and the line numbers in
+ * error messages exactly as when the file is read sequentially.
+ */
+class ParallelCsvOrgHierarchyLoader implements OrgHierarchyLoader {
+
+  static final int DEFAULT_MIN_CHUNK_SIZE = 1 << 20;
+  private static final int MAX_CHUNK_SIZE = 1 << 28;
+  // chunks per worker thread, so that faster workers can steal the remaining chunks
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private final CsvSourceConfig config;
+  private final ForkJoinPool pool;
+  private final int minChunkSize;
+
+  public ParallelCsvOrgHierarchyLoader(CsvSourceConfig csvSourceConfig) {
+    this(csvSourceConfig, ForkJoinPool.commonPool(), DEFAULT_MIN_CHUNK_SIZE);
+  }
+
+  ParallelCsvOrgHierarchyLoader(CsvSourceConfig csvSourceConfig, ForkJoinPool pool,
+      int minChunkSize) {
+    config = csvSourceConfig;
+    this.pool = pool;
+    this.minChunkSize = minChunkSize;
+  }
+
+  /**
+   * Finds the position right after the line feed ending the line that contains the given position.
+   *
+   * @return the start of the next line, or the size of the file if the line is the last one
+   */
+  private static long nextLineStart(FileChannel channel, long position, long size)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(4096);
+    while (position < size) {
+      buffer.clear();
+      int read = channel.read(buffer, position);
+      if (read <= 0) {
+        break;
+      }
+      int lineFeed = MappedCsvOrgHierarchyLoader.indexOfLineFeed(buffer, 0, read);
+      if (lineFeed < read) {
+        return position + lineFeed + 1;
+      }
+      position += read;
+    }
+    return size;
+  }
+
+  /**
+   * Reads employee data from a CSV file path and returns a new {@link Organization} instance
+   * populated with employees.
+   *
+   * @param source optional path to the CSV file. Defaulting to a default path specified in the
+   *               config
+   * @return a new {@link Organization} instance with loaded employees
+   * @throws BadCsvFileException      if the CSV file is missing, inaccessible, or too long
+   * @throws EmployeeCsvLineException if an employee line is improperly formatted
+   */
+  @Override
+  public Organization loadOrgHierarchy(String source) {
+    String actualSource =
+        source == null || source.trim().isEmpty() ? config.defaultSource() : source;
+    OrgHierarchyLoadEvent event = new OrgHierarchyLoadEvent(this, actualSource);
+    event.begin();
+    Organization organization;
+    try (FileChannel channel = FileChannel.open(Path.of(actualSource), StandardOpenOption.READ)) {
+      organization = loadOrgHierarchyCsv(channel);
+      event.bytesRead = channel.size();
+    } catch (IOException | UncheckedIOException e) {
+      throw new BadCsvFileException("CSV file is missing or inaccessible: " + actualSource, e);
+    }
+    event.employees = organization.getEmployees().size();
+    event.commit();
+    CsvOrgHierarchyLoader.printOrganization(organization);
+    return organization;
+  }
+
+  /**
+   * Reads employee data from the given file channel in parallel and returns a new
+   * {@link Organization} instance populated with employees.
+   *
+   * @param channel the channel of the CSV file
+   * @return a new {@link Organization} instance with loaded employees
+   * @throws IOException              if the file cannot be read
+   * @throws BadCsvFileException      if the file is too long
+   * @throws EmployeeCsvLineException if an employee line is improperly formatted
+   */
+  Organization loadOrgHierarchyCsv(FileChannel channel) throws IOException {
+    List<ChunkTask> tasks = splitIntoChunks(channel);
+    tasks.forEach(pool::execute);
+
+    try {
+      // join the chunks to merge first, so that the organization is sized for all their employees
+      List<Chunk> chunks = new ArrayList<>(tasks.size());
+      long lineCount = 0;
+      int employeeCount = 0;
+      for (ChunkTask task : tasks) {
+        Chunk chunk = task.join();
+        chunks.add(chunk);
+        lineCount += chunk.lineCount;
+        employeeCount += chunk.employees.size();
+        // the merge stops at the first invalid line or once the file is too long
+        if (chunk.error != null || lineCount > config.maxLineCount()) {
+          break;
+        }
+      }
+      Organization organization = new Organization(employeeCount);
+      int linesBefore = 0;
+      for (int c = 0; c < chunks.size(); c++) {
+        Chunk chunk = chunks.get(c);
+        ChunkTask task = tasks.get(c);
+        for (int i = 0; i < chunk.employees.size(); i++) {
+          addEmployee(organization, chunk.employees.get(i), linesBefore + chunk.lineNumbers[i],
+              channel, task.position + chunk.lineStarts[i]);
+        }
+        if (chunk.error != null) {
+          int lineNumber = linesBefore + chunk.errorLineNumber;
+          assertNotTooLong(lineNumber);
+          throw new EmployeeCsvLineException(String.format(
+              "Error parsing employee data at line %d: %s", lineNumber, chunk.errorLine),
+              chunk.error);
+        }
+        linesBefore += chunk.lineCount;
+        assertNotTooLong(linesBefore);
+      }
+      return organization;
+    } finally {
+      // stop parsing the remaining chunks if the merge failed
+      tasks.forEach(task -> task.cancel(false));
+    }
+  }
+
+  private List<ChunkTask> splitIntoChunks(FileChannel channel) throws IOException {
+    long size = channel.size();
+    long targetChunkSize = size / ((long) pool.getParallelism() * CHUNKS_PER_THREAD);
+    long chunkSize = Math.max(minChunkSize, Math.min(targetChunkSize, MAX_CHUNK_SIZE));
+
+    List<ChunkTask> tasks = new ArrayList<>();
+    long start = 0;
+    while (start < size) {
+      long end = start + chunkSize >= size ? size
+          : nextLineStart(channel, start + chunkSize - 1, size);
+      if (end - start > Integer.MAX_VALUE) {
+        throw new BadCsvFileException(String.format(
+            "The provided file has a line longer than %d bytes", Integer.MAX_VALUE));
+      }
+      tasks.add(new ChunkTask(channel, start, (int) (end - start), tasks.isEmpty()));
+      start = end;
+    }
+    return tasks;
+  }
+
+  private void assertNotTooLong(int lineCount) {
+    if (lineCount > config.maxLineCount()) {
+      throw new BadCsvFileException(String.format(
+          "The provided file is too long: contains more than the allowed max of %d rows",
+          config.maxLineCount()));
+    }
+  }
+
+  private void addEmployee(Organization organization, Employee employee, int lineNumber,
+      FileChannel channel, long lineStart) throws IOException {
+    assertNotTooLong(lineNumber);
+    try {
+      organization.addEmployee(employee);
+    } catch (IllegalArgumentException e) {
+      throw new EmployeeCsvLineException(String.format(
+          "Error parsing employee data at line %d: %s", lineNumber,
+          readLine(channel, lineStart)), e);
+    }
+  }
+
+  /**
+   * Reads back the line starting at the given position, to report it in an error message.
+   */
+  private static String readLine(FileChannel channel, long lineStart) throws IOException {
+    long lineEnd = nextLineStart(channel, lineStart, channel.size());
+    CsvBytesParser parser = new CsvBytesParser();
+    MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, lineStart, lineEnd - lineStart);
+    int end = buffer.limit();
+    parser.setLine(buffer, 0, end > 0 && buffer.get(end - 1) == '\n' ? end - 1 : end);
+    return parser.lineAsString();
+  }
+
+  /**
+   * The employees parsed from a chunk of the file, with the numbers and the positions of their
+   * lines relative to the start of the chunk. Parsing stops at the first invalid line, which is
+   * kept as the error.
+   */
+  private static final class Chunk {
+
+    private final List<Employee> employees = new ArrayList<>();
+    private int[] lineNumbers = new int[1024];
+    private int[] lineStarts = new int[1024];
+    private int lineCount;
+    private IllegalArgumentException error;
+    private int errorLineNumber;
+    private String errorLine;
+
+    private void add(Employee employee, int lineNumber, int lineStart) {
+      if (employees.size() == lineNumbers.length) {
+        lineNumbers = Arrays.copyOf(lineNumbers, lineNumbers.length * 2);
+        lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+      }
+      lineNumbers[employees.size()] = lineNumber;
+      lineStarts[employees.size()] = lineStart;
+      employees.add(employee);
+    }
+  }
+
+  /**
+   * Maps and parses a single chunk of the file.
+   */
+  private static final class ChunkTask extends RecursiveTask<Chunk> {
+
+    private final transient FileChannel channel;
+    private final long position;
+    private final int size;
+    private final boolean withHeader;
+
+    private ChunkTask(FileChannel channel, long position, int size, boolean withHeader) {
+      this.channel = channel;
+      this.position = position;
+      this.size = size;
+      this.withHeader = withHeader;
+    }
+
+    @Override
+    protected Chunk compute() {
+      CsvParseEvent event = new CsvParseEvent();
+      event.begin();
+      Chunk chunk = parse();
+      event.lines = chunk.lineCount;
+      event.employees = chunk.employees.size();
+      event.commit();
+      return chunk;
+    }
+
+    private Chunk parse() {
+      MappedByteBuffer buffer;
+      try {
+        buffer = channel.map(MapMode.READ_ONLY, position, size);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      CsvBytesParser parser = new CsvBytesParser();
+      Chunk chunk = new Chunk();
+      for (int start = 0; start < size; ) {
+        int end = MappedCsvOrgHierarchyLoader.indexOfLineFeed(buffer, start, size);
+        int lineNumber = ++chunk.lineCount;
+        parser.setLine(buffer, start, end);
+        // skip the header row and the blank lines
+        if (!(withHeader && lineNumber == 1) && !parser.isBlank()) {
+          try {
+            chunk.add(parser.parseEmployee(), lineNumber, start);
+          } catch (IllegalArgumentException e) {
+            chunk.error = e;
+            chunk.errorLineNumber = lineNumber;
+            chunk.errorLine = parser.lineAsString();
+            return chunk;
+          }
+        }
+        start = end + 1;
+      }
+      return chunk;
+    }
+  }
+}
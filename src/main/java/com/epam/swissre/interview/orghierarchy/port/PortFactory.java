@@ -1,6 +1,8 @@
 package com.epam.swissre.interview.orghierarchy.port;
 
 import com.epam.swissre.interview.orghierarchy.config.ConfigLoader;
+import java.io.OutputStream;
+import java.nio.file.Path;
 
 /**
  * Factory interface for creating instances of organization hierarchy-related ports.
@@ -18,6 +20,38 @@ public interface PortFactory {
     return new ConsoleReportsWriter(System.out);
   }
 
+  /**
+   * Creates a new instance of {@link ReportsWriter} that outputs the findings as newline-delimited
+   * JSON, e.g. for downstream jobs.
+   *
+   * @param outputStream the stream to write the findings to, left open by the writer
+   * @return a {@link NdjsonReportsWriter} instance writing to the given stream
+   */
+  static ReportsWriter newNdjsonReportsWriter(OutputStream outputStream) {
+    return new NdjsonReportsWriter(outputStream);
+  }
+
+  /**
+   * Creates a new instance of {@link ProfileWriter} that outputs a summary of the profile to the
+   * console.
+   *
+   * @return a {@link ConsoleProfileWriter} instance configured to write to {@code System.out}
+   */
+  static ProfileWriter newConsoleProfileWriter() {
+    return new ConsoleProfileWriter(System.out);
+  }
+
+  /**
+   * Creates a new instance of {@link ProfileWriter} that writes the profile as a JSON file, e.g.
+   * for the batch scheduler.
+   *
+   * @param target the path of the file to write, replaced if it exists
+   * @return a {@link JsonProfileWriter} instance writing to the given file
+   */
+  static ProfileWriter newJsonProfileWriter(Path target) {
+    return new JsonProfileWriter(target);
+  }
+
   /**
    * Creates a new instance of {@link OrgHierarchyLoader} that loads organization hierarchy data
    * from a CSV file, as specified in the application configuration.
@@ -27,4 +61,119 @@ public interface PortFactory {
   static OrgHierarchyLoader newCsvOrgHierarchyLoader() {
     return new CsvOrgHierarchyLoader(ConfigLoader.getCsvSourceConfig());
   }
+
+  /**
+   * Creates a new instance of {@link OrgHierarchyLoader} that loads organization hierarchy data
+   * from a memory-mapped CSV file, parsing its bytes directly, as specified in the application
+   * configuration.
+   *
+   * @return a {@link MappedCsvOrgHierarchyLoader} instance configured with the CSV source from {@link ConfigLoader#getCsvSourceConfig()}
+   */
+  static OrgHierarchyLoader newMappedCsvOrgHierarchyLoader() {
+    return new MappedCsvOrgHierarchyLoader(ConfigLoader.getCsvSourceConfig());
+  }
+
+  /**
+   * Creates a new instance of {@link OrgHierarchyLoader} that loads organization hierarchy data
+   * from a memory-mapped CSV file like {@link #newMappedCsvOrgHierarchyLoader()}, optionally
+   * without printing the loaded organization, e.g. to load many organizations concurrently.
+   *
+   * @param printOrganization true to print the loaded organization, false to only load it
+   * @return a {@link MappedCsvOrgHierarchyLoader} instance configured with the CSV source from {@link ConfigLoader#getCsvSourceConfig()}
+   */
+  static OrgHierarchyLoader newMappedCsvOrgHierarchyLoader(boolean printOrganization) {
+    return new MappedCsvOrgHierarchyLoader(ConfigLoader.getCsvSourceConfig(), printOrganization);
+  }
+
+  /**
+   * Creates a new instance of {@link TenantOrgHierarchyLoader} that loads the organizations of the
+   * tenants of a memory-mapped CSV file, told apart by a last column, as specified in the
+   * application configuration.
+   *
+   * @param printOrganization true to print the loaded organizations, false to only load them
+   * @return a {@link MappedCsvOrgHierarchyLoader} instance configured with the CSV source from {@link ConfigLoader#getCsvSourceConfig()}
+   */
+  static TenantOrgHierarchyLoader newMappedCsvTenantOrgHierarchyLoader(boolean printOrganization) {
+    return new MappedCsvOrgHierarchyLoader(ConfigLoader.getCsvSourceConfig(), printOrganization);
+  }
+
+  /**
+   * Creates a new instance of {@link OrgHierarchyLoader} that loads organization hierarchy data
+   * from a CSV file, parsing chunks of the file in parallel on the common fork-join pool, as
+   * specified in the application configuration.
+   *
+   * @return a {@link ParallelCsvOrgHierarchyLoader} instance configured with the CSV source from {@link ConfigLoader#getCsvSourceConfig()}
+   */
+  static OrgHierarchyLoader newParallelCsvOrgHierarchyLoader() {
+    return new ParallelCsvOrgHierarchyLoader(ConfigLoader.getCsvSourceConfig());
+  }
+
+  /**
+   * Creates a new instance of {@link OrgHierarchyLoader} that loads organization hierarchy data
+   * from a memory-mapped binary snapshot file.
+   *
+   * @return a {@link SnapshotOrgHierarchyLoader} instance
+   */
+  static OrgHierarchyLoader newSnapshotOrgHierarchyLoader() {
+    return new SnapshotOrgHierarchyLoader();
+  }
+
+  /**
+   * Creates a new instance of {@link OrgHierarchySnapshotWriter} that writes organizations as
+   * binary snapshot files.
+   *
+   * @return a {@link FileOrgHierarchySnapshotWriter} instance
+   */
+  static OrgHierarchySnapshotWriter newOrgHierarchySnapshotWriter() {
+    return new FileOrgHierarchySnapshotWriter();
+  }
+
+  /**
+   * Creates a new instance of {@link ChangeSetLoader} that loads the change sets of the HR system
+   * from CSV files.
+   *
+   * @return a {@link CsvChangeSetLoader} instance
+   */
+  static ChangeSetLoader newCsvChangeSetLoader() {
+    return new CsvChangeSetLoader();
+  }
+
+  /**
+   * Creates a new instance of {@link ReportsCache} that stores the reports as files in a directory,
+   * for the reporting configuration and the default source specified in the application
+   * configuration.
+   *
+   * @param directory the directory of the cache, created if missing, which may be shared by
+   *                  several runs
+   * @param maxBytes  the maximum total size of the cached reports, beyond which the least recently
+   *                  used are evicted
+   * @return a {@link FileReportsCache} instance storing the reports in the given directory
+   */
+  static ReportsCache newFileReportsCache(Path directory, long maxBytes) {
+    return new FileReportsCache(directory, maxBytes, ConfigLoader.getReportingConfig(),
+        ConfigLoader.getCsvSourceConfig());
+  }
+
+  /**
+   * Creates a new instance of {@link OrgHierarchyWatcher} that loads organization hierarchy data
+   * from a CSV file and finds the changes of every rewrite of the file, as specified in the
+   * application configuration.
+   *
+   * @return a {@link CsvFileOrgHierarchyWatcher} instance configured with the CSV source from {@link ConfigLoader#getCsvSourceConfig()}
+   */
+  static OrgHierarchyWatcher newCsvOrgHierarchyWatcher() {
+    return new CsvFileOrgHierarchyWatcher(ConfigLoader.getCsvSourceConfig());
+  }
+
+  /**
+   * Creates a new instance of {@link BatchOutput} that writes the reports on each source of a batch
+   * to a file of its own in the given directory, and the summary of the batch as JSON.
+   *
+   * @param directory the directory of the output files, created if missing
+   * @param ndjson    true to write the reports as newline-delimited JSON, false as text
+   * @return a {@link DirectoryBatchOutput} instance writing to the given directory
+   */
+  static BatchOutput newDirectoryBatchOutput(Path directory, boolean ndjson) {
+    return new DirectoryBatchOutput(directory, ndjson);
+  }
 }
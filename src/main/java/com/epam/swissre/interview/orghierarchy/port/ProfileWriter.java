@@ -0,0 +1,28 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.RunProfile;
+
+/**
+ * The {@code ProfileWriter} is responsible for outputting the profile of a run of the analysis,
+ * i.e. the resources used by each of its phases.
+ */
+public interface ProfileWriter {
+
+  /**
+   * Outputs the profile of a run.
+   *
+   * @param profile the profile of the run
+   */
+  void writeProfile(RunProfile profile);
+
+  /**
+   * Computes the throughput of a run.
+   *
+   * @param profile the profile of the run
+   * @return the number of employees analyzed per second of elapsed time, or 0 if no time elapsed
+   */
+  static double employeesPerSecond(RunProfile profile) {
+    long wallNanos = profile.total().wallNanos();
+    return wallNanos > 0 ? profile.employees() * 1e9 / wallNanos : 0;
+  }
+}
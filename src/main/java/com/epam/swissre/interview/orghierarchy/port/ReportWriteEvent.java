@@ -0,0 +1,39 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the output of a report by a {@link ReportsWriter}, from the
+ * opening of its {@link FindingsSink} to its closing.
+ */
+@Name("com.epam.swissre.interview.orghierarchy.ReportWrite")
+@Label("Report Write")
+@Description("Output of a report on the organization")
+@Category({"Org Hierarchy Checker", "Port"})
+@StackTrace(false)
+class ReportWriteEvent extends Event {
+
+  static final String LONG_REPORTING_LINES = "longReportingLines";
+  static final String UNDERPAID_MANAGERS = "underpaidManagers";
+  static final String OVERPAID_MANAGERS = "overpaidManagers";
+  static final String RESOLVED_FINDINGS = "resolvedFindings";
+
+  @Label("Writer")
+  String writer;
+
+  @Label("Report")
+  String report;
+
+  @Label("Findings")
+  int findings;
+
+  ReportWriteEvent(ReportsWriter writer, String report) {
+    this.writer = writer.getClass().getSimpleName();
+    this.report = report;
+  }
+}
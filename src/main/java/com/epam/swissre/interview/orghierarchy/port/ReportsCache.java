@@ -0,0 +1,51 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import java.util.Optional;
+
+/**
+ * The {@link ReportsCache} keeps the reports of previous analyses, keyed by the content of their
+ * source and the reporting configuration they were built with, so that an unchanged source does
+ * not need to be loaded and analyzed again.
+ */
+public interface ReportsCache {
+
+  /**
+   * Computes the key of the reports on the current content of the source.
+   *
+   * @param source        the source of the data with the organizational hierarchy, null for the
+   *                      default one
+   * @param findingsLimit the maximum number of findings of each report, {@link Integer#MAX_VALUE}
+   *                      for all of them
+   * @return the key of the reports, or empty if the source cannot be read, e.g. for the loader to
+   * report why
+   */
+  Optional<String> keyOf(String source, int findingsLimit);
+
+  /**
+   * Returns the version of the source, which changes whenever the source is modified, without
+   * reading its content, so that reports built from a source modified since its key was computed
+   * are not stored with that key.
+   *
+   * @param source the source of the data with the organizational hierarchy, null for the default
+   *               one
+   * @return the version of the source, or empty if the source cannot be read
+   */
+  Optional<String> versionOf(String source);
+
+  /**
+   * Returns the reports stored with the given key, if any.
+   *
+   * @param key the key computed by {@link #keyOf(String, int)}
+   * @return the stored reports, or empty if there are none
+   */
+  Optional<OrgHierarchyReports> get(String key);
+
+  /**
+   * Stores the reports with the given key, replacing any stored with the same key.
+   *
+   * @param key     the key computed by {@link #keyOf(String, int)}
+   * @param reports the reports to store
+   */
+  void put(String key, OrgHierarchyReports reports);
+}
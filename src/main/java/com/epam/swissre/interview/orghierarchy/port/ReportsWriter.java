@@ -1,6 +1,7 @@
 package com.epam.swissre.interview.orghierarchy.port;
 
 import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +16,11 @@ import java.util.Map;
  *   <li>Underpaid managers relative to their position</li>
  *   <li>Overpaid managers relative to their position</li>
  * </ul>
+ *
+ * <p>Each report can either be given as a whole, or be streamed finding by finding through the
+ * {@link FindingsSink} opened for it. The sinks opened by default collect the findings and pass
+ * them as a whole on close, implementations able to output the findings as they come override
+ * them.
  */
 public interface ReportsWriter {
 
@@ -47,4 +53,44 @@ public interface ReportsWriter {
    *                         overpayment
    */
   void overpaidManagers(Map<Employee, Double> overpaidManagers);
+
+  /**
+   * Opens the report of employees with long reporting lines, to be given finding by finding.
+   *
+   * @return the sink of the report, to be closed once all the findings are given
+   */
+  default FindingsSink<List<Integer>> openLongReportingLines() {
+    return FindingsSink.collecting(this::longReportingLines);
+  }
+
+  /**
+   * Opens the report of underpaid managers, to be given finding by finding.
+   *
+   * @return the sink of the report, to be closed once all the findings are given
+   */
+  default FindingsSink<Double> openUnderpaidManagers() {
+    return FindingsSink.collecting(this::underpaidManagers);
+  }
+
+  /**
+   * Opens the report of overpaid managers, to be given finding by finding.
+   *
+   * @return the sink of the report, to be closed once all the findings are given
+   */
+  default FindingsSink<Double> openOverpaidManagers() {
+    return FindingsSink.collecting(this::overpaidManagers);
+  }
+
+  /**
+   * Outputs the findings of a previous analysis that no longer apply after changes to the
+   * organization. Only the incremental analyses output such findings, so that the writers not
+   * meant for them need not implement it, and fail if they are given some.
+   *
+   * @param resolvedFindings the findings that no longer apply, in their previous state
+   * @throws UnsupportedOperationException if the writer does not output resolved findings
+   */
+  default void resolvedFindings(OrgHierarchyReports resolvedFindings) {
+    throw new UnsupportedOperationException(getClass().getSimpleName()
+        + " does not output resolved findings, it cannot write the reports of changes");
+  }
 }
@@ -0,0 +1,71 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.exception.BadSnapshotFileException;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.model.OrganizationSnapshot;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The {@code SnapshotOrgHierarchyLoader} class loads an organization from a binary snapshot written
+ * by an {@link OrgHierarchySnapshotWriter}. The snapshot file is memory-mapped and its columns are
+ * copied in bulk, with no parsing and no per-employee object: only the distinct names are decoded.
+ *
+ * <p>A single mapping is limited to 2 GB, which is enough for about 40 million employees.
+ */
+class SnapshotOrgHierarchyLoader implements OrgHierarchyLoader {
+
+  /**
+   * Loads the organization from a snapshot file and materializes its employees.
+   *
+   * @param source the path to the snapshot file
+   * @return a new {@link Organization} instance with loaded employees
+   * @throws BadSnapshotFileException if the file is missing, inaccessible or not a valid snapshot
+   */
+  @Override
+  public Organization loadOrgHierarchy(String source) {
+    Organization organization = loadColumnarOrgHierarchy(source).toOrganization();
+    CsvOrgHierarchyLoader.printOrganization(organization);
+    return organization;
+  }
+
+  /**
+   * Loads the organization from a snapshot file, without materializing its employees.
+   *
+   * @param source the path to the snapshot file
+   * @return a new {@link ColumnarOrganization} with the employees of the snapshot
+   * @throws BadSnapshotFileException if the file is missing, inaccessible or not a valid snapshot
+   */
+  @Override
+  public ColumnarOrganization loadColumnarOrgHierarchy(String source) {
+    if (source == null || source.trim().isEmpty()) {
+      throw new BadSnapshotFileException("No snapshot file specified");
+    }
+    OrgHierarchyLoadEvent event = new OrgHierarchyLoadEvent(this, source);
+    event.begin();
+    try (FileChannel channel = FileChannel.open(Path.of(source), StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new BadSnapshotFileException(String.format(
+            "The snapshot file is too large: %d bytes, while the max is %d", size,
+            Integer.MAX_VALUE));
+      }
+      // the mapping stays valid once the channel is closed, until the buffer is collected
+      ColumnarOrganization organization =
+          OrganizationSnapshot.read(channel.map(MapMode.READ_ONLY, 0, size));
+      event.employees = organization.size();
+      event.bytesRead = size;
+      event.commit();
+      return organization;
+    } catch (IOException e) {
+      throw new BadSnapshotFileException("Snapshot file is missing or inaccessible: " + source, e);
+    } catch (IllegalArgumentException e) {
+      throw new BadSnapshotFileException("Invalid snapshot file " + source + ": " + e.getMessage(),
+          e);
+    }
+  }
+}
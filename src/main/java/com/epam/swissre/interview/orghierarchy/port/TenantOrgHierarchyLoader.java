@@ -0,0 +1,21 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.Map;
+
+/**
+ * The {@code TenantOrgHierarchyLoader} loads a source holding the employees of several tenants,
+ * e.g. the legal entities of a consolidated export, as one {@link Organization} per tenant. The
+ * employee IDs only need to be unique within a tenant.
+ */
+public interface TenantOrgHierarchyLoader {
+
+  /**
+   * Loads the organizations of all the tenants from the given {@code source}.
+   *
+   * @param source the reference to the source of data
+   * @return the loaded {@link Organization} of each tenant, in the order the tenants first appear
+   * in the source
+   */
+  Map<String, Organization> loadTenantOrgHierarchies(String source);
+}
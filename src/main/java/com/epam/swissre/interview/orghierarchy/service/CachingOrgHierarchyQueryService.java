@@ -0,0 +1,141 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.OrgHierarchyLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Loads the organizations with the {@link OrgHierarchyLoader}, validates them with the
+ * {@link OrgHierarchyValidationService} and builds their reports with the
+ * {@link OrgHierarchyReportingService} once, then keeps both the organizations and their reports
+ * in memory by source.
+ *
+ * <p>The organizations are only read once analyzed, so the queries run concurrently without
+ * locking. A source is analyzed by the first query on it, while the other queries on the same
+ * source wait for the analysis, and a reload replaces the analysis atomically once complete. Each
+ * source is mapped to the future of its analysis, which runs outside of the map, so that the
+ * analyses of other sources are neither blocked nor serialized by it. A failed analysis is not
+ * kept, so the next query on the source analyzes it again.
+ */
+class CachingOrgHierarchyQueryService implements OrgHierarchyQueryService {
+
+  private final OrgHierarchyLoader loader;
+  private final OrgHierarchyValidationService validationService;
+  private final OrgHierarchyReportingService reportingService;
+  private final ConcurrentMap<String, CompletableFuture<AnalyzedOrganization>> analyses =
+      new ConcurrentHashMap<>();
+
+  public CachingOrgHierarchyQueryService(OrgHierarchyLoader loader,
+      OrgHierarchyValidationService validationService,
+      OrgHierarchyReportingService reportingService) {
+    this.loader = loader;
+    this.validationService = validationService;
+    this.reportingService = reportingService;
+  }
+
+  // the loaders fall back to the default source for a blank one
+  private static String key(String source) {
+    return source == null ? "" : source.trim();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws InvalidOrgHierarchyException if the hierarchy has structural problems, all of which
+   *                                      are reported in the exception
+   */
+  @Override
+  public OrgHierarchyReports getReports(String source) {
+    return getAnalysis(source).reports();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The reporting line is built by climbing the managers of the employee.
+   *
+   * @throws InvalidOrgHierarchyException if the hierarchy has structural problems, all of which
+   *                                      are reported in the exception
+   */
+  @Override
+  public Optional<List<Integer>> getReportingLine(String source, int employeeId) {
+    Organization organization = getAnalysis(source).organization();
+    Employee employee = organization.getEmployeeOrNull(employeeId);
+    if (employee == null) {
+      return Optional.empty();
+    }
+    List<Integer> reportingLine = new ArrayList<>();
+    // the hierarchy is validated, so the climb ends with the CEO
+    for (Integer managerId = employee.managerId(); managerId != null;
+        managerId = organization.getEmployeeOrNull(managerId).managerId()) {
+      reportingLine.add(managerId);
+    }
+    return Optional.of(reportingLine);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws InvalidOrgHierarchyException if the hierarchy has structural problems, all of which
+   *                                      are reported in the exception
+   */
+  @Override
+  public Organization reload(String source) {
+    AnalyzedOrganization analysis = analyze(key(source));
+    analyses.put(key(source), CompletableFuture.completedFuture(analysis));
+    return analysis.organization();
+  }
+
+  private AnalyzedOrganization getAnalysis(String source) {
+    String key = key(source);
+    CompletableFuture<AnalyzedOrganization> analysis = analyses.get(key);
+    if (analysis == null) {
+      CompletableFuture<AnalyzedOrganization> newAnalysis = new CompletableFuture<>();
+      analysis = analyses.putIfAbsent(key, newAnalysis);
+      if (analysis == null) {
+        analysis = newAnalysis;
+        try {
+          newAnalysis.complete(analyze(key));
+        } catch (Throwable e) {
+          // even on an error, e.g. out of memory, so that the waiting and later queries never
+          // block on an analysis that will not complete
+          analyses.remove(key, newAnalysis);
+          newAnalysis.completeExceptionally(e);
+          throw e;
+        }
+      }
+    }
+    try {
+      return analysis.join();
+    } catch (CompletionException e) {
+      // the waiting queries fail like the query running the analysis
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw (RuntimeException) e.getCause();
+    }
+  }
+
+  private AnalyzedOrganization analyze(String source) {
+    Organization organization = loader.loadOrgHierarchy(source);
+    List<HierarchyProblem> problems = validationService.validate(organization);
+    if (!problems.isEmpty()) {
+      throw new InvalidOrgHierarchyException(problems);
+    }
+    return new AnalyzedOrganization(organization, reportingService.buildReports(organization));
+  }
+
+  private record AnalyzedOrganization(Organization organization, OrgHierarchyReports reports) {
+
+  }
+}
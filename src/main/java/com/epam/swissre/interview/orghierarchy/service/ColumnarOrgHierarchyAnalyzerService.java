@@ -0,0 +1,82 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.OrgHierarchyLoader;
+import com.epam.swissre.interview.orghierarchy.port.OrgHierarchySnapshotWriter;
+import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
+import java.util.List;
+
+/**
+ * Analyzes the organization like {@link SimpleOrgHierarchyAnalyzerService} does, but on its
+ * {@link ColumnarOrganization} only: the organization is loaded in its columnar form, then
+ * validated and reported on without ever being materialized as an {@link Organization}, unless its
+ * hierarchy turns out to be invalid. Each phase is measured by the {@link PhaseProfiler}, if
+ * enabled.
+ *
+ * <p>With a snapshot target, the loaded organization is also written as a snapshot by the
+ * {@link OrgHierarchySnapshotWriter}, before it is validated, so that the next analyses can load
+ * the snapshot instead of parsing the source again.
+ */
+class ColumnarOrgHierarchyAnalyzerService implements OrgHierarchyAnalyzerService {
+
+  private final OrgHierarchyLoader loader;
+  private final ReportsWriter writer;
+  private final OrgHierarchyValidationService validationService;
+  private final ColumnarOrgHierarchyReportingService reportingService;
+  private final PhaseProfiler profiler;
+  private final OrgHierarchySnapshotWriter snapshotWriter;
+  // null if no snapshot is written
+  private final String snapshotTarget;
+
+  public ColumnarOrgHierarchyAnalyzerService(OrgHierarchyLoader loader, ReportsWriter writer,
+      OrgHierarchyValidationService validationService,
+      ColumnarOrgHierarchyReportingService reportingService, PhaseProfiler profiler) {
+    this(loader, writer, validationService, reportingService, profiler, null, null);
+  }
+
+  public ColumnarOrgHierarchyAnalyzerService(OrgHierarchyLoader loader, ReportsWriter writer,
+      OrgHierarchyValidationService validationService,
+      ColumnarOrgHierarchyReportingService reportingService, PhaseProfiler profiler,
+      OrgHierarchySnapshotWriter snapshotWriter, String snapshotTarget) {
+    this.loader = loader;
+    this.writer = writer;
+    this.validationService = validationService;
+    this.reportingService = reportingService;
+    this.profiler = profiler;
+    this.snapshotWriter = snapshotWriter;
+    this.snapshotTarget = snapshotTarget;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws InvalidOrgHierarchyException if the hierarchy has structural problems, all of which
+   *                                      are reported in the exception
+   */
+  @Override
+  public void analyze(String source) {
+    ColumnarOrganization organization =
+        profiler.measure("load", () -> loader.loadColumnarOrgHierarchy(source));
+    profiler.setEmployees(organization.size());
+    if (snapshotTarget != null) {
+      profiler.measure("snapshot",
+          () -> snapshotWriter.writeSnapshot(organization, snapshotTarget));
+    }
+    List<HierarchyProblem> problems =
+        profiler.measure("validate", () -> validationService.validate(organization));
+    if (!problems.isEmpty()) {
+      throw new InvalidOrgHierarchyException(problems);
+    }
+    OrgHierarchyReports reports =
+        profiler.measure("report", () -> reportingService.buildReports(organization));
+    profiler.measure("write", () -> {
+      writer.longReportingLines(reports.longReportingLines());
+      writer.underpaidManagers(reports.underpaidManagers());
+      writer.overpaidManagers(reports.overpaidManagers());
+    });
+  }
+}
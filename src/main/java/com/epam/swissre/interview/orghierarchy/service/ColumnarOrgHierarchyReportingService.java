@@ -0,0 +1,235 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadManagerReferenceException;
+import com.epam.swissre.interview.orghierarchy.exception.CircularReferenceException;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.model.ReportingChain;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the same reports as {@link SimpleOrgHierarchyReportingService}, but on a
+ * {@link ColumnarOrganization}: the rules run as loops over the primitive columns, and an
+ * {@link Employee} is only materialized for the employees that end up in a report.
+ *
+ * <p>The {@link OrgHierarchyReportingService} methods taking an {@link Organization} convert it to
+ * the columnar representation first.
+ */
+class ColumnarOrgHierarchyReportingService implements OrgHierarchyReportingService {
+
+  private final ReportingConfig config;
+
+  public ColumnarOrgHierarchyReportingService(ReportingConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Computes the length of the reporting line of every employee, i.e. the number of managers up to
+   * and including the CEO, with a single breadth-first traversal down from the CEO.
+   *
+   * @param organization the organization containing employees
+   * @return the lengths of the reporting lines, by employee position
+   * @throws BadManagerReferenceException if a reference to a non-existent employee is provided or
+   *                                      the number of CEOs is not exactly one
+   * @throws CircularReferenceException   if there is a circular reference in the hierarchy
+   */
+  static int[] buildLineLengths(ColumnarOrganization organization) {
+    int size = organization.size();
+    int[] lineLengths = new int[size];
+    // the traversal order doubles as the queue of the breadth-first traversal
+    int[] queue = new int[size];
+    int tail = 0;
+    for (int i = 0; i < size; i++) {
+      if (organization.managerIndex(i) == ColumnarOrganization.NO_MANAGER) {
+        queue[tail++] = i;
+      }
+    }
+    int ceoCount = tail;
+    // assuming that there should always be exactly one CEO
+    if (ceoCount == 1) {
+      for (int head = 0; head < tail; head++) {
+        int manager = queue[head];
+        int lineLength = lineLengths[manager] + 1;
+        for (int n = 0, count = organization.directReportCount(manager); n < count; n++) {
+          int report = organization.directReport(manager, n);
+          lineLengths[report] = lineLength;
+          queue[tail++] = report;
+        }
+      }
+    }
+    if (ceoCount != 1 || tail != size) {
+      // not on the hot path: let the object model explain what is wrong with the hierarchy
+      ReportingLines.of(organization.toOrganization());
+      throw new IllegalStateException("Hierarchy expected to be invalid: " + organization);
+    }
+    return lineLengths;
+  }
+
+  /**
+   * Builds the reporting line of an employee on top of the reporting lines of its managers built so
+   * far, then keeps those of the managers climbed, so that all the reporting lines share their
+   * common tails.
+   *
+   * @param organization the organization containing employees
+   * @param index        the position of the employee
+   * @param chains       the reporting lines built so far, by position, of the managers only
+   * @param climbed      a buffer for the positions of the managers climbed, at least as long as the
+   *                     reporting line of the employee
+   * @return the reporting line of the employee
+   */
+  private static ReportingChain buildReportingLine(ColumnarOrganization organization, int index,
+      ReportingChain[] chains, int[] climbed) {
+    ReportingChain chain = ReportingChain.EMPTY;
+    int count = 0;
+    for (int manager = organization.managerIndex(index); manager >= 0;
+        manager = organization.managerIndex(manager)) {
+      climbed[count++] = manager;
+      if (chains[manager] != null) {
+        chain = chains[manager];
+        break;
+      }
+    }
+    while (count > 0) {
+      int manager = climbed[--count];
+      chains[manager] = chain;
+      chain = chain.prepend(organization.id(manager));
+    }
+    return chain;
+  }
+
+  /**
+   * Computes the average salary of the direct reports of every employee.
+   *
+   * @param organization the organization containing employees
+   * @return the average salaries of the direct reports by employee position, NaN for employees
+   * without direct reports
+   */
+  private static double[] buildDirectReportsAvgSalaries(ColumnarOrganization organization) {
+    double[] averages = new double[organization.size()];
+    for (int i = 0; i < averages.length; i++) {
+      int count = organization.directReportCount(i);
+      long sum = 0;
+      for (int n = 0; n < count; n++) {
+        sum += organization.salary(organization.directReport(i, n));
+      }
+      averages[i] = count == 0 ? Double.NaN : (double) sum / count;
+    }
+    return averages;
+  }
+
+  /**
+   * Identifies employees with reporting lines that exceed the specified maximum number of managers
+   * leading to the CEO.
+   *
+   * @param organization the organization containing employees
+   * @return a map of employees with reporting lines that are too long
+   */
+  public Map<Employee, List<Integer>> getLongReportingLines(ColumnarOrganization organization) {
+    ReportingRuleEvent event =
+        ReportingRuleEvent.begin(this, ReportingRuleEvent.LONG_REPORTING_LINE);
+    int[] lineLengths = buildLineLengths(organization);
+    Map<Employee, List<Integer>> longReportingLines = new HashMap<>();
+    ReportingChain[] chains = null;
+    int[] climbed = null;
+    for (int i = 0; i < lineLengths.length; i++) {
+      if (lineLengths[i] > config.maxManagersToCEO() + 1) {
+        if (chains == null) {
+          chains = new ReportingChain[lineLengths.length];
+          climbed = new int[Arrays.stream(lineLengths).max().orElse(0)];
+        }
+        longReportingLines.put(organization.toEmployee(i),
+            buildReportingLine(organization, i, chains, climbed));
+      }
+    }
+    return event.complete(organization.size(), longReportingLines);
+  }
+
+  /**
+   * Identifies managers who are underpaid compared to the average salary of their direct reports,
+   * based on a specified minimum factor above the average.
+   *
+   * @param organization the organization containing employees
+   * @return a map of underpaid managers with the amount they are underpaid
+   */
+  public Map<Employee, Double> getUnderpaidManagers(ColumnarOrganization organization) {
+    return getUnderpaidManagers(organization, buildDirectReportsAvgSalaries(organization));
+  }
+
+  private Map<Employee, Double> getUnderpaidManagers(ColumnarOrganization organization,
+      double[] averages) {
+    ReportingRuleEvent event = ReportingRuleEvent.begin(this, ReportingRuleEvent.UNDERPAID_MANAGER);
+    Map<Employee, Double> underpaidManagers = new HashMap<>();
+    for (int i = 0; i < averages.length; i++) {
+      double diff = config.minSalaryFactorForManagers() * averages[i] - organization.salary(i);
+      // NaN for employees without direct reports is never positive
+      if (diff > 0) {
+        underpaidManagers.put(organization.toEmployee(i), diff);
+      }
+    }
+    return event.complete(organization.size(), underpaidManagers);
+  }
+
+  /**
+   * Identifies managers who are overpaid compared to the average salary of their direct reports,
+   * based on a specified maximum factor above the average.
+   *
+   * @param organization the organization containing employees
+   * @return a map of overpaid managers with the amount they are overpaid
+   */
+  public Map<Employee, Double> getOverpaidManagers(ColumnarOrganization organization) {
+    return getOverpaidManagers(organization, buildDirectReportsAvgSalaries(organization));
+  }
+
+  private Map<Employee, Double> getOverpaidManagers(ColumnarOrganization organization,
+      double[] averages) {
+    ReportingRuleEvent event = ReportingRuleEvent.begin(this, ReportingRuleEvent.OVERPAID_MANAGER);
+    Map<Employee, Double> overpaidManagers = new HashMap<>();
+    for (int i = 0; i < averages.length; i++) {
+      double diff = organization.salary(i) - config.maxSalaryFactorForManagers() * averages[i];
+      // NaN for employees without direct reports is never positive
+      if (diff > 0) {
+        overpaidManagers.put(organization.toEmployee(i), diff);
+      }
+    }
+    return event.complete(organization.size(), overpaidManagers);
+  }
+
+  /**
+   * Builds all three reports on the organization, computing the average salaries of the direct
+   * reports once for both salary rules.
+   *
+   * @param organization the organization containing employees
+   * @return the modifiable reports of the organization
+   */
+  public OrgHierarchyReports buildReports(ColumnarOrganization organization) {
+    double[] averages = buildDirectReportsAvgSalaries(organization);
+    return new OrgHierarchyReports(getLongReportingLines(organization),
+        getUnderpaidManagers(organization, averages), getOverpaidManagers(organization, averages));
+  }
+
+  @Override
+  public Map<Employee, List<Integer>> getLongReportingLines(Organization organization) {
+    return getLongReportingLines(ColumnarOrganization.of(organization));
+  }
+
+  @Override
+  public Map<Employee, Double> getUnderpaidManagers(Organization organization) {
+    return getUnderpaidManagers(ColumnarOrganization.of(organization));
+  }
+
+  @Override
+  public Map<Employee, Double> getOverpaidManagers(Organization organization) {
+    return getOverpaidManagers(ColumnarOrganization.of(organization));
+  }
+
+  @Override
+  public OrgHierarchyReports buildReports(Organization organization) {
+    return buildReports(ColumnarOrganization.of(organization));
+  }
+}
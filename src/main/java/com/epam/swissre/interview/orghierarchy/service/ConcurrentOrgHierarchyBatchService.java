@@ -0,0 +1,186 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.exception.OrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.BatchFileResult;
+import com.epam.swissre.interview.orghierarchy.model.BatchSummary;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.BatchOutput;
+import com.epam.swissre.interview.orghierarchy.port.OrgHierarchyLoader;
+import com.epam.swissre.interview.orghierarchy.port.TenantOrgHierarchyLoader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Analyzes the sources of a batch concurrently, each like {@link SimpleOrgHierarchyAnalyzerService}
+ * does: loaded with the {@link OrgHierarchyLoader}, validated with the
+ * {@link OrgHierarchyValidationService}, reported on by the {@link OrgHierarchyReportingService},
+ * and output via the {@link BatchOutput}. Whatever fails while analyzing a source, including its
+ * output, is recorded as the failure of that source, and the others are still analyzed.
+ *
+ * <p>Every source gets a virtual thread of its own when the JVM supports them, i.e. from Java 21
+ * on, and the sources share a fixed pool of as many platform threads as processors otherwise. The
+ * heap used at once is bounded by a memory budget instead: a source only starts once the memory it
+ * is estimated to need, {@value #MEMORY_PER_SOURCE_BYTE} times its size, is available in the
+ * budget, and gives it back once its reports are written. A source larger than the whole budget
+ * runs alone.
+ *
+ * <p>The tenants of a single source are loaded at once by the {@link TenantOrgHierarchyLoader},
+ * without any budget, then analyzed concurrently on the same threads as the sources of a batch.
+ */
+class ConcurrentOrgHierarchyBatchService implements OrgHierarchyBatchService {
+
+  // the heap needed by an organization and its reports for every byte of its CSV file
+  static final int MEMORY_PER_SOURCE_BYTE = 10;
+  // the budget is counted in KiB, so that budgets of terabytes still fit in the permits
+  private static final int PERMIT_BYTES = 1 << 10;
+
+  private final OrgHierarchyLoader loader;
+  private final TenantOrgHierarchyLoader tenantLoader;
+  private final OrgHierarchyValidationService validationService;
+  private final OrgHierarchyReportingService reportingService;
+  private final BatchOutput output;
+  private final int budgetPermits;
+  private final Semaphore memoryBudget;
+
+  /**
+   * Creates a service analyzing the sources within the given memory budget.
+   *
+   * @param memoryBudget the heap, in bytes, that the analyses running at once may use
+   * @throws IllegalArgumentException if the budget is less than 1 KiB
+   */
+  public ConcurrentOrgHierarchyBatchService(OrgHierarchyLoader loader,
+      TenantOrgHierarchyLoader tenantLoader, OrgHierarchyValidationService validationService,
+      OrgHierarchyReportingService reportingService, BatchOutput output, long memoryBudget) {
+    if (memoryBudget < PERMIT_BYTES) {
+      throw new IllegalArgumentException("The memory budget must be at least 1 KiB.");
+    }
+    this.loader = loader;
+    this.tenantLoader = tenantLoader;
+    this.validationService = validationService;
+    this.reportingService = reportingService;
+    this.output = output;
+    budgetPermits = (int) Math.min(memoryBudget / PERMIT_BYTES, Integer.MAX_VALUE);
+    this.memoryBudget = new Semaphore(budgetPermits, true);
+  }
+
+  /**
+   * Estimates the part of the budget needed to analyze the source, from the size of its file.
+   */
+  int permitsFor(String source) {
+    long size;
+    try {
+      size = source == null || source.isBlank() ? 0 : Files.size(Path.of(source));
+    } catch (IOException | InvalidPathException e) {
+      // fails to load right away
+      size = 0;
+    }
+    long permits = size / PERMIT_BYTES * MEMORY_PER_SOURCE_BYTE + 1;
+    return (int) Math.min(permits, budgetPermits);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if the thread is interrupted while waiting for the batch
+   */
+  @Override
+  public BatchSummary analyze(List<String> sources) {
+    return analyzeAll(System.nanoTime(), sources, this::analyzeWithinBudget);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if the thread is interrupted while waiting for the batch
+   */
+  @Override
+  public BatchSummary analyzeTenants(String source) {
+    long start = System.nanoTime();
+    Map<String, Organization> tenants = tenantLoader.loadTenantOrgHierarchies(source);
+    // let every organization be collected once analyzed, while the others still are
+    Map<String, Organization> pendingTenants = new ConcurrentHashMap<>(tenants);
+    return analyzeAll(start, List.copyOf(tenants.keySet()),
+        tenant -> analyze(tenant, () -> pendingTenants.remove(tenant)));
+  }
+
+  /**
+   * Analyzes the organizations concurrently, then outputs the summary.
+   */
+  private BatchSummary analyzeAll(long start, List<String> sources, Analysis analysis) {
+    List<Future<BatchFileResult>> futures = new ArrayList<>(sources.size());
+    ExecutorService executor = VirtualThreadExecutors.newThreadPerTaskExecutor(
+        () -> Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()));
+    try {
+      for (String source : sources) {
+        futures.add(executor.submit(() -> analysis.analyze(source)));
+      }
+      List<BatchFileResult> results = new ArrayList<>(sources.size());
+      for (Future<BatchFileResult> future : futures) {
+        results.add(future.get());
+      }
+      BatchSummary summary = new BatchSummary(results, System.nanoTime() - start);
+      output.writeSummary(summary);
+      return summary;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while analyzing the batch", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private BatchFileResult analyzeWithinBudget(String source) throws InterruptedException {
+    int permits = permitsFor(source);
+    memoryBudget.acquire(permits);
+    try {
+      return analyze(source, () -> loader.loadOrgHierarchy(source));
+    } finally {
+      memoryBudget.release(permits);
+    }
+  }
+
+  private BatchFileResult analyze(String source, Supplier<Organization> organizationSupplier) {
+    long start = System.nanoTime();
+    try {
+      Organization organization = organizationSupplier.get();
+      List<HierarchyProblem> problems = validationService.validate(organization);
+      if (!problems.isEmpty()) {
+        throw new InvalidOrgHierarchyException(problems);
+      }
+      OrgHierarchyReports reports = reportingService.buildReports(organization);
+      output.writeReports(source, reports);
+      return BatchFileResult.succeeded(source, organization.getEmployees().size(), reports,
+          System.nanoTime() - start);
+    } catch (OrgHierarchyException e) {
+      return BatchFileResult.failed(source, System.nanoTime() - start, e.getMessage());
+    } catch (RuntimeException e) {
+      // e.g. the reports failing to be written, or a name unfit for a path: only this source fails
+      return BatchFileResult.failed(source, System.nanoTime() - start, e.toString());
+    }
+  }
+
+  private interface Analysis {
+
+    BatchFileResult analyze(String source) throws InterruptedException;
+  }
+}
@@ -0,0 +1,137 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.IntObjectHashMap;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The {@code DirectReportsSalaryStatistics} class holds the number of direct reports and the sum of
+ * their salaries for every manager of an organization. It is built with a single pass over the
+ * employees, and answers both the underpaid and the overpaid managers rules. The statistics are
+ * keyed by the primitive ID of the manager, so that no ID is boxed while counting.
+ */
+final class DirectReportsSalaryStatistics {
+
+  private final Organization organization;
+  private final IntObjectHashMap<ManagerStatistics> statisticsByManagerId;
+
+  private DirectReportsSalaryStatistics(Organization organization,
+      IntObjectHashMap<ManagerStatistics> statisticsByManagerId) {
+    this.organization = organization;
+    this.statisticsByManagerId = statisticsByManagerId;
+  }
+
+  /**
+   * Builds the statistics of the direct reports of every manager of the given organization.
+   *
+   * @param organization the organization containing employees
+   * @return the statistics of the organization
+   */
+  static DirectReportsSalaryStatistics of(Organization organization) {
+    // sized for a few direct reports per manager, growing for the narrower hierarchies
+    IntObjectHashMap<ManagerStatistics> statisticsByManagerId =
+        new IntObjectHashMap<>(organization.getEmployees().size() / 4);
+    for (Employee employee : organization.getEmployees()) {
+      if (employee.managerId() != null) {
+        int managerId = employee.managerId();
+        ManagerStatistics statistics = statisticsByManagerId.get(managerId);
+        if (statistics == null) {
+          statistics = new ManagerStatistics(managerId);
+          statisticsByManagerId.putIfAbsent(managerId, statistics);
+        }
+        statistics.add(employee.salary());
+      }
+    }
+    return new DirectReportsSalaryStatistics(organization, statisticsByManagerId);
+  }
+
+  /**
+   * Identifies the managers earning less than the given factor of the average salary of their
+   * direct reports.
+   *
+   * @param minSalaryFactor the minimum factor of the average that a manager should earn
+   * @return a map of underpaid managers with the amount they are underpaid
+   */
+  Map<Employee, Double> getUnderpaidManagers(double minSalaryFactor) {
+    Map<Employee, Double> underpaidManagers = new HashMap<>();
+    forEachUnderpaid(minSalaryFactor, underpaidManagers::put);
+    return underpaidManagers;
+  }
+
+  /**
+   * Identifies the managers earning more than the given factor of the average salary of their
+   * direct reports.
+   *
+   * @param maxSalaryFactor the maximum factor of the average that a manager should earn
+   * @return a map of overpaid managers with the amount they are overpaid
+   */
+  Map<Employee, Double> getOverpaidManagers(double maxSalaryFactor) {
+    Map<Employee, Double> overpaidManagers = new HashMap<>();
+    forEachOverpaid(maxSalaryFactor, overpaidManagers::put);
+    return overpaidManagers;
+  }
+
+  /**
+   * Passes every underpaid manager to the given action, with the amount they are underpaid.
+   *
+   * @param minSalaryFactor the minimum factor of the average that a manager should earn
+   * @param action          the action taking each underpaid manager and its amount
+   */
+  void forEachUnderpaid(double minSalaryFactor, BiConsumer<Employee, Double> action) {
+    for (ManagerStatistics statistics : statisticsByManagerId.values()) {
+      Employee manager = organization.getEmployeeOrNull(statistics.managerId);
+      // references to non-existent managers are reported by the validation
+      if (manager != null) {
+        double diff = minSalaryFactor * statistics.average() - manager.salary();
+        if (diff > 0) {
+          action.accept(manager, diff);
+        }
+      }
+    }
+  }
+
+  /**
+   * Passes every overpaid manager to the given action, with the amount they are overpaid.
+   *
+   * @param maxSalaryFactor the maximum factor of the average that a manager should earn
+   * @param action          the action taking each overpaid manager and its amount
+   */
+  void forEachOverpaid(double maxSalaryFactor, BiConsumer<Employee, Double> action) {
+    for (ManagerStatistics statistics : statisticsByManagerId.values()) {
+      Employee manager = organization.getEmployeeOrNull(statistics.managerId);
+      // references to non-existent managers are reported by the validation
+      if (manager != null) {
+        double diff = manager.salary() - maxSalaryFactor * statistics.average();
+        if (diff > 0) {
+          action.accept(manager, diff);
+        }
+      }
+    }
+  }
+
+  /**
+   * The number of direct reports of a manager and the sum of their salaries.
+   */
+  private static final class ManagerStatistics {
+
+    private final int managerId;
+    private int count;
+    private long salarySum;
+
+    private ManagerStatistics(int managerId) {
+      this.managerId = managerId;
+    }
+
+    private void add(int salary) {
+      count++;
+      salarySum += salary;
+    }
+
+    private double average() {
+      return (double) salarySum / count;
+    }
+  }
+}
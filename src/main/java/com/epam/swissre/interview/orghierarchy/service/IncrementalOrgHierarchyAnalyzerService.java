@@ -0,0 +1,40 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReportsDelta;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.List;
+
+/**
+ * The {@link IncrementalOrgHierarchyAnalyzerService} applies change sets to an already analyzed
+ * organization and updates the previous reports, re-checking only the parts of the hierarchy
+ * affected by the changes instead of the whole organization.
+ */
+public interface IncrementalOrgHierarchyAnalyzerService {
+
+  /**
+   * Applies the changes to the organization and brings the reports up to date with them. Either
+   * all the changes are applied, or the organization and the reports are left untouched.
+   *
+   * @param organization the organization the reports were built on, updated in place
+   * @param reports      the modifiable reports of the organization, updated in place
+   * @param changes      the changes to apply, in order
+   * @return the findings that changed
+   */
+  OrgHierarchyReportsDelta reanalyze(Organization organization, OrgHierarchyReports reports,
+      List<OrgChange> changes);
+
+  /**
+   * Loads the change set indicated by the source, applies it like
+   * {@link #reanalyze(Organization, OrgHierarchyReports, List)} does, then outputs the findings
+   * that changed
+   *
+   * @param organization    the organization the reports were built on, updated in place
+   * @param reports         the modifiable reports of the organization, updated in place
+   * @param changeSetSource the source of the change set
+   * @return the findings that changed
+   */
+  OrgHierarchyReportsDelta reanalyze(Organization organization, OrgHierarchyReports reports,
+      String changeSetSource);
+}
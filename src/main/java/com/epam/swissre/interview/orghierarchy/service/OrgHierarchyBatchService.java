@@ -0,0 +1,36 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.model.BatchSummary;
+import java.util.List;
+
+/**
+ * The {@link OrgHierarchyBatchService} analyzes many organizations in a single run, e.g. the
+ * organizations of all the subsidiaries of a company, and outputs the reports on each of them and
+ * a summary of the whole batch. The organizations of a batch may also be the tenants of a single
+ * source.
+ */
+public interface OrgHierarchyBatchService {
+
+  /**
+   * Analyzes the organizations indicated by the sources. A source that cannot be analyzed, e.g. a
+   * missing file or a broken hierarchy, is reported as failed in the summary, and does not stop
+   * the analysis of the other sources.
+   *
+   * @param sources the sources of the data with the organizational hierarchies
+   * @return the summary of the batch, with the results of the sources in the same order
+   */
+  BatchSummary analyze(List<String> sources);
+
+  /**
+   * Analyzes the organizations of all the tenants of a source, e.g. the legal entities of a
+   * consolidated export, each independently of the others. A tenant that cannot be analyzed, e.g.
+   * with a broken hierarchy, is reported as failed in the summary, and does not stop the analysis
+   * of the other tenants.
+   *
+   * @param source the source of the data with the organizational hierarchies of the tenants, null
+   *               for the default one
+   * @return the summary of the batch, with the results of the tenants, named after them, in the
+   * order they appear in the source
+   */
+  BatchSummary analyzeTenants(String source);
+}
@@ -0,0 +1,49 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@link OrgHierarchyQueryService} keeps the analyzed organizations in memory, by source, and
+ * answers queries on them, so that only the first query on a source pays for loading, validating
+ * and analyzing it.
+ *
+ * <p>The service is thread-safe.
+ */
+public interface OrgHierarchyQueryService {
+
+  /**
+   * Returns the reports on the organization indicated by the source, analyzing it first if it is
+   * not in memory yet.
+   *
+   * @param source the source of the data with the organizational hierarchy, null for the default
+   *               one
+   * @return the reports on the organization, not to be modified
+   */
+  OrgHierarchyReports getReports(String source);
+
+  /**
+   * Returns the reporting line of an employee of the organization indicated by the source,
+   * analyzing it first if it is not in memory yet.
+   *
+   * @param source     the source of the data with the organizational hierarchy, null for the
+   *                   default one
+   * @param employeeId the ID of the employee
+   * @return the IDs of the managers of the employee up to and including the CEO, or empty if the
+   * organization has no such employee
+   */
+  Optional<List<Integer>> getReportingLine(String source, int employeeId);
+
+  /**
+   * Loads and analyzes the organization indicated by the source again, e.g. after the source has
+   * changed. The previous analysis keeps answering the queries until the new one is complete, and
+   * is kept if the new one fails.
+   *
+   * @param source the source of the data with the organizational hierarchy, null for the default
+   *               one
+   * @return the reloaded organization
+   */
+  Organization reload(String source);
+}
@@ -1,7 +1,9 @@
 package com.epam.swissre.interview.orghierarchy.service;
 
 import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
 import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,4 +41,45 @@ public interface OrgHierarchyReportingService {
    * @return a map of overpaid managers with the amount they are overpaid
    */
   Map<Employee, Double> getOverpaidManagers(Organization organization);
+
+  /**
+   * Builds all three reports at once, e.g. to keep them as the previous results of an incremental
+   * analysis.
+   *
+   * @param organization the organization containing employees
+   * @return the modifiable reports of the organization
+   */
+  default OrgHierarchyReports buildReports(Organization organization) {
+    return new OrgHierarchyReports(new HashMap<>(getLongReportingLines(organization)),
+        new HashMap<>(getUnderpaidManagers(organization)),
+        new HashMap<>(getOverpaidManagers(organization)));
+  }
+
+  /**
+   * Builds the three reports restricted to their worst findings, i.e. the most underpaid, the most
+   * overpaid and the deepest employees, e.g. for a dashboard.
+   *
+   * <p>This default implementation selects the worst findings out of the full reports;
+   * implementations should rather keep a bounded selection of findings while scanning the
+   * organization, so that the memory used depends on the limit only.
+   *
+   * @param organization the organization containing employees
+   * @param limit        the maximum number of findings of each report
+   * @return the reports with the worst findings first, in descending order of the amount or of the
+   * length of the reporting line
+   * @throws IllegalArgumentException if the limit is not positive
+   */
+  default OrgHierarchyReports buildTopReports(Organization organization, int limit) {
+    OrgHierarchyReports reports = buildReports(organization);
+    TopFindings longReportingLines = new TopFindings(limit);
+    reports.longReportingLines().forEach((e, line) -> longReportingLines.offer(e, line.size()));
+    TopFindings underpaidManagers = new TopFindings(limit);
+    reports.underpaidManagers().forEach(underpaidManagers::offer);
+    TopFindings overpaidManagers = new TopFindings(limit);
+    reports.overpaidManagers().forEach(overpaidManagers::offer);
+    return new OrgHierarchyReports(
+        longReportingLines.toMap((e, length) -> reports.longReportingLines().get(e)),
+        underpaidManagers.toMap((e, amount) -> amount),
+        overpaidManagers.toMap((e, amount) -> amount));
+  }
 }
@@ -0,0 +1,34 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.List;
+
+/**
+ * The {@code OrgHierarchyValidationService} checks the structure of an organization hierarchy
+ * before any report is built on it.
+ */
+public interface OrgHierarchyValidationService {
+
+  /**
+   * Finds all the structural problems in the hierarchy of the organization: a missing or extra
+   * CEO, references to non-existent managers and circular references between employees.
+   *
+   * @param organization the organization containing employees
+   * @return the list of all the problems found, empty if the hierarchy is valid
+   */
+  List<HierarchyProblem> validate(Organization organization);
+
+  /**
+   * Finds all the structural problems in the hierarchy of a columnar organization. By default the
+   * employees are materialized and validated as an {@link Organization}, implementations should
+   * rather check the columns themselves.
+   *
+   * @param organization the organization containing employees
+   * @return the list of all the problems found, empty if the hierarchy is valid
+   */
+  default List<HierarchyProblem> validate(ColumnarOrganization organization) {
+    return validate(organization.toOrganization());
+  }
+}
@@ -0,0 +1,18 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+/**
+ * The {@link OrgHierarchyWatchService} analyzes the organizational hierarchy indicated by the
+ * source, then keeps the organization and its reports in memory and analyzes every change of the
+ * source incrementally, providing only the findings that changed
+ */
+public interface OrgHierarchyWatchService {
+
+  /**
+   * Loads and analyzes the organizational hierarchy indicated by the source and provides the
+   * reports, then waits for the source to change and provides the changed and resolved findings of
+   * every change, until the thread is interrupted
+   *
+   * @param source the source of the data with the organizational hierarchy
+   */
+  void watch(String source);
+}
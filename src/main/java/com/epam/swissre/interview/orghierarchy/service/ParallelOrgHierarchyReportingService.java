@@ -0,0 +1,228 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadManagerReferenceException;
+import com.epam.swissre.interview.orghierarchy.exception.CircularReferenceException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.model.ReportingChain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Builds the same reports as {@link SimpleOrgHierarchyReportingService}, but traverses the
+ * hierarchy down from the CEO in parallel on a {@link ForkJoinPool}. The subtrees are independent
+ * for all three rules: every employee is checked against the length of its own reporting line and
+ * against the salaries of its own direct reports.
+ *
+ * <p>Each task walks its subtrees depth-first with an explicit stack, so a deep chain is never a
+ * problem for the call stack. Whenever other workers are idle, a task hands the bottom half of its
+ * stack, i.e. the pending subtrees closest to the CEO, over to a new task. Wide levels, such as a
+ * CEO with thousands of direct reports, are therefore split as finely as needed, while deep and
+ * narrow parts stay in one task.
+ *
+ * <p>The traversal only checks the rules of the reports requested, so that each single-report
+ * method runs one rule, and only {@link #buildReports(Organization)} runs all three, e.g. no
+ * reporting line is built for the salary reports.
+ *
+ * <p>The parallel traversal requires a valid hierarchy. Otherwise the reports fall back to the
+ * sequential service, which throws the same exceptions and builds the same salary reports.
+ */
+class ParallelOrgHierarchyReportingService implements OrgHierarchyReportingService {
+
+  // bounds the nesting of tasks run inline while joining the tasks they split off
+  private static final int MAX_GENERATIONS = 32;
+
+  private final ReportingConfig config;
+  private final ForkJoinPool pool;
+  private final SimpleOrgHierarchyReportingService sequentialService;
+
+  public ParallelOrgHierarchyReportingService(ReportingConfig config) {
+    this(config, ForkJoinPool.commonPool());
+  }
+
+  ParallelOrgHierarchyReportingService(ReportingConfig config, ForkJoinPool pool) {
+    this.config = config;
+    this.pool = pool;
+    this.sequentialService = new SimpleOrgHierarchyReportingService(config);
+  }
+
+  @Override
+  public Map<Employee, List<Integer>> getLongReportingLines(Organization organization) {
+    OrgHierarchyReports reports = traverse(organization, Rules.LONG_REPORTING_LINES);
+    return reports != null ? reports.longReportingLines()
+        : sequentialService.getLongReportingLines(organization);
+  }
+
+  @Override
+  public Map<Employee, Double> getUnderpaidManagers(Organization organization) {
+    OrgHierarchyReports reports = traverse(organization, Rules.UNDERPAID_MANAGERS);
+    return reports != null ? reports.underpaidManagers()
+        : sequentialService.getUnderpaidManagers(organization);
+  }
+
+  @Override
+  public Map<Employee, Double> getOverpaidManagers(Organization organization) {
+    OrgHierarchyReports reports = traverse(organization, Rules.OVERPAID_MANAGERS);
+    return reports != null ? reports.overpaidManagers()
+        : sequentialService.getOverpaidManagers(organization);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>All three reports are built by a single parallel traversal.
+   *
+   * @throws BadManagerReferenceException if a reference to a non-existent employee is provided or
+   *                                      the number of CEOs is not exactly one
+   * @throws CircularReferenceException   if there is a circular reference in the hierarchy
+   */
+  @Override
+  public OrgHierarchyReports buildReports(Organization organization) {
+    OrgHierarchyReports reports = traverse(organization, Rules.ALL);
+    return reports != null ? reports : sequentialService.buildReports(organization);
+  }
+
+  /**
+   * Checks the given rules on every employee with a parallel traversal down from the CEO.
+   *
+   * @return the reports of the given rules, the other ones empty, or null if some employees are
+   * not reachable from the CEO, for the sequential service to report why
+   */
+  private OrgHierarchyReports traverse(Organization organization, Rules rules) {
+    List<Employee> ceos = organization.getEmployees().stream()
+        .filter(e -> e.managerId() == null)
+        .toList();
+    if (ceos.size() != 1) {
+      return null;
+    }
+    List<Pending> stack = new ArrayList<>();
+    stack.add(new Pending(ceos.get(0), 0, ReportingChain.EMPTY));
+    Findings findings = pool.invoke(new SubtreeTask(organization, config, rules, stack, 0));
+    return findings.visited == organization.getEmployees().size() ? findings.reports : null;
+  }
+
+  /**
+   * The rules checked by a traversal.
+   */
+  private record Rules(boolean longReportingLines, boolean underpaidManagers,
+                       boolean overpaidManagers) {
+
+    private static final Rules ALL = new Rules(true, true, true);
+    private static final Rules LONG_REPORTING_LINES = new Rules(true, false, false);
+    private static final Rules UNDERPAID_MANAGERS = new Rules(false, true, false);
+    private static final Rules OVERPAID_MANAGERS = new Rules(false, false, true);
+  }
+
+  /**
+   * An employee waiting to be checked, together with its subtree.
+   *
+   * @param employee   the employee
+   * @param lineLength the length of its reporting line
+   * @param chain      its reporting line, shared with the other direct reports of its manager, or
+   *                   null if the long reporting lines are not checked
+   */
+  private record Pending(Employee employee, int lineLength, ReportingChain chain) {
+
+  }
+
+  /**
+   * The findings of a task, with the number of employees it visited.
+   */
+  private static final class Findings {
+
+    private final OrgHierarchyReports reports = OrgHierarchyReports.empty();
+    private int visited;
+
+    private void merge(Findings other) {
+      reports.longReportingLines().putAll(other.reports.longReportingLines());
+      reports.underpaidManagers().putAll(other.reports.underpaidManagers());
+      reports.overpaidManagers().putAll(other.reports.overpaidManagers());
+      visited += other.visited;
+    }
+  }
+
+  /**
+   * Checks the employees of a stack and their subtrees, splitting the stack when workers are idle.
+   */
+  private static final class SubtreeTask extends RecursiveTask<Findings> {
+
+    private final transient Organization organization;
+    private final transient ReportingConfig config;
+    private final transient Rules rules;
+    private final transient List<Pending> stack;
+    private final int generation;
+
+    private SubtreeTask(Organization organization, ReportingConfig config, Rules rules,
+        List<Pending> stack, int generation) {
+      this.organization = organization;
+      this.config = config;
+      this.rules = rules;
+      this.stack = stack;
+      this.generation = generation;
+    }
+
+    @Override
+    protected Findings compute() {
+      Findings findings = new Findings();
+      List<SubtreeTask> splits = new ArrayList<>();
+      while (!stack.isEmpty()) {
+        if (stack.size() > 1 && generation < MAX_GENERATIONS
+            && getSurplusQueuedTaskCount() <= 2) {
+          splits.add(splitOff());
+        }
+        check(stack.remove(stack.size() - 1), findings);
+      }
+      for (SubtreeTask split : splits) {
+        findings.merge(split.join());
+      }
+      return findings;
+    }
+
+    /**
+     * Forks a new task for the bottom half of the stack.
+     */
+    private SubtreeTask splitOff() {
+      List<Pending> bottom = stack.subList(0, stack.size() / 2);
+      SubtreeTask split =
+          new SubtreeTask(organization, config, rules, new ArrayList<>(bottom), generation + 1);
+      bottom.clear();
+      split.fork();
+      return split;
+    }
+
+    private void check(Pending pending, Findings findings) {
+      Employee employee = pending.employee();
+      findings.visited++;
+      if (rules.longReportingLines() && pending.lineLength() > config.maxManagersToCEO() + 1) {
+        findings.reports.longReportingLines().put(employee, pending.chain());
+      }
+
+      List<Employee> reports = organization.getDirectReports(employee.id());
+      if (reports.isEmpty()) {
+        return;
+      }
+      ReportingChain chain =
+          rules.longReportingLines() ? pending.chain().prepend(employee.id()) : null;
+      long salarySum = 0;
+      for (Employee report : reports) {
+        salarySum += report.salary();
+        stack.add(new Pending(report, pending.lineLength() + 1, chain));
+      }
+      // the same average as DirectReportsSalaryStatistics, so the amounts match exactly
+      double average = (double) salarySum / reports.size();
+      double underpaidBy = config.minSalaryFactorForManagers() * average - employee.salary();
+      if (rules.underpaidManagers() && underpaidBy > 0) {
+        findings.reports.underpaidManagers().put(employee, underpaidBy);
+      }
+      double overpaidBy = employee.salary() - config.maxSalaryFactorForManagers() * average;
+      if (rules.overpaidManagers() && overpaidBy > 0) {
+        findings.reports.overpaidManagers().put(employee, overpaidBy);
+      }
+    }
+  }
+}
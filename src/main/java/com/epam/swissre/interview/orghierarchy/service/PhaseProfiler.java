@@ -0,0 +1,138 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.model.PhaseProfile;
+import com.epam.swissre.interview.orghierarchy.model.RunProfile;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Measures the phases of a run of the analysis: the elapsed time, the CPU time and the bytes
+ * allocated by the current thread, as reported by the {@link ThreadMXBean}, and the peak usage of
+ * the heap.
+ *
+ * <p>The CPU time and the allocations of other threads, e.g. of the workers of a parallel loader,
+ * are not included. The peak usage of the heap is the sum of the peak usages of the heap memory
+ * pools since the start of the phase, which may overestimate it when the pools peak at different
+ * times.
+ *
+ * <p>A profiler is not thread-safe: the phases must be measured one after the other.
+ */
+public final class PhaseProfiler {
+
+  private static final PhaseProfiler DISABLED = new PhaseProfiler(false);
+
+  private final boolean enabled;
+  private final List<PhaseProfile> phases = new ArrayList<>();
+  private int employees;
+
+  private PhaseProfiler(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Creates a profiler recording the phases it measures.
+   *
+   * @return a new profiler
+   */
+  public static PhaseProfiler create() {
+    return new PhaseProfiler(true);
+  }
+
+  /**
+   * Returns a profiler running the phases without measuring them.
+   *
+   * @return the disabled profiler
+   */
+  public static PhaseProfiler disabled() {
+    return DISABLED;
+  }
+
+  private static List<MemoryPoolMXBean> heapPools() {
+    return ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP && pool.isValid())
+        .toList();
+  }
+
+  private static long cpuTime(ThreadMXBean threads) {
+    return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : -1;
+  }
+
+  private static long allocatedBytes(ThreadMXBean threads) {
+    if (threads instanceof com.sun.management.ThreadMXBean allocations
+        && allocations.isThreadAllocatedMemorySupported()
+        && allocations.isThreadAllocatedMemoryEnabled()) {
+      return allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return -1;
+  }
+
+  private static long difference(long start, long end) {
+    return start < 0 || end < 0 ? -1 : end - start;
+  }
+
+  /**
+   * Runs and measures a phase.
+   *
+   * @param phase  the name of the phase
+   * @param action the work of the phase
+   * @param <T>    the type of the result of the phase
+   * @return the result of the phase
+   */
+  public <T> T measure(String phase, Supplier<T> action) {
+    if (!enabled) {
+      return action.get();
+    }
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    List<MemoryPoolMXBean> heapPools = heapPools();
+    heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+    long startAllocatedBytes = allocatedBytes(threads);
+    long startCpuNanos = cpuTime(threads);
+    long startWallNanos = System.nanoTime();
+
+    T result = action.get();
+
+    long wallNanos = System.nanoTime() - startWallNanos;
+    long cpuNanos = difference(startCpuNanos, cpuTime(threads));
+    long allocated = difference(startAllocatedBytes, allocatedBytes(threads));
+    long peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    phases.add(new PhaseProfile(phase, wallNanos, cpuNanos, allocated, peakHeapBytes));
+    return result;
+  }
+
+  /**
+   * Runs and measures a phase without a result.
+   *
+   * @param phase  the name of the phase
+   * @param action the work of the phase
+   */
+  public void measure(String phase, Runnable action) {
+    measure(phase, () -> {
+      action.run();
+      return null;
+    });
+  }
+
+  /**
+   * Records the number of employees analyzed, e.g. to compute the throughput of the run.
+   *
+   * @param employees the number of employees
+   */
+  public void setEmployees(int employees) {
+    this.employees = employees;
+  }
+
+  /**
+   * Returns the profile of the phases measured so far.
+   *
+   * @param source the source of the organization analyzed
+   * @return the profile of the run
+   */
+  public RunProfile toRunProfile(String source) {
+    return new RunProfile(source, employees, phases);
+  }
+}
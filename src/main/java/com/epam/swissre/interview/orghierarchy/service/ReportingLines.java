@@ -0,0 +1,161 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.exception.BadManagerReferenceException;
+import com.epam.swissre.interview.orghierarchy.exception.CircularReferenceException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.IntIntHashMap;
+import com.epam.swissre.interview.orghierarchy.model.IntObjectHashMap;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.model.ReportingChain;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * The {@code ReportingLines} class holds the reporting structure of an organization. It is built by
+ * a single breadth-first traversal down from the CEO, which assigns each employee the length of
+ * its reporting line, while the parent of each employee is its direct manager.
+ *
+ * <p>The traversal is iterative and visits every employee exactly once, so building the structure
+ * takes linear time regardless of the depth of the hierarchy. Full reporting lines are only built
+ * on request by climbing the parents of an employee, as {@link ReportingChain}s sharing the
+ * reporting lines of the managers already climbed.
+ *
+ * <p>Both the lengths of the reporting lines and the reporting lines of the managers are kept in
+ * primitive hash maps by employee ID, without boxing the IDs nor allocating a node per entry.
+ */
+final class ReportingLines {
+
+  private final Organization organization;
+  private final IntIntHashMap lineLengths;
+  // the reporting lines built so far, by employee ID, of the managers only
+  private final IntObjectHashMap<ReportingChain> chainsByManagerId;
+
+  private ReportingLines(Organization organization, IntIntHashMap lineLengths) {
+    this.organization = organization;
+    this.lineLengths = lineLengths;
+    chainsByManagerId = new IntObjectHashMap<>(organization.getEmployees().size() / 4);
+  }
+
+  /**
+   * Builds the reporting structure of the given organization.
+   *
+   * @param organization the organization containing employees
+   * @return the reporting structure of the organization
+   * @throws BadManagerReferenceException if a reference to a non-existent employee is provided or
+   *                                      the number of CEOs is not exactly one
+   * @throws CircularReferenceException   if there is a circular reference in the hierarchy
+   */
+  static ReportingLines of(Organization organization) {
+    List<Employee> ceos = organization.getEmployees().stream()
+        .filter(e -> e.getManagerId().isEmpty())
+        .toList();
+    // assuming that there should always be exactly one CEO
+    if (ceos.size() != 1) {
+      throw new BadManagerReferenceException(
+          "The hierarchy must have exactly one CEO, but instead has the following: "
+              + ceos.stream().map(Employee::id).toList());
+    }
+
+    IntIntHashMap lineLengths = new IntIntHashMap(organization.getEmployees().size());
+    Queue<Employee> queue = new ArrayDeque<>();
+    Employee ceo = ceos.get(0);
+    lineLengths.put(ceo.id(), 0);
+    queue.add(ceo);
+    while (!queue.isEmpty()) {
+      Employee manager = queue.poll();
+      int lineLength = lineLengths.get(manager.id()) + 1;
+      for (Employee report : organization.getDirectReports(manager.id())) {
+        lineLengths.put(report.id(), lineLength);
+        queue.add(report);
+      }
+    }
+
+    if (lineLengths.size() != organization.getEmployees().size()) {
+      throw unreachableEmployeesException(organization, lineLengths);
+    }
+    return new ReportingLines(organization, lineLengths);
+  }
+
+  /**
+   * Explains why some employees were not reached from the CEO: either one of them refers to a
+   * non-existent manager, or they are part of (or report into) a circular reference.
+   */
+  private static RuntimeException unreachableEmployeesException(Organization organization,
+      IntIntHashMap lineLengths) {
+    List<Employee> unreached = organization.getEmployees().stream()
+        .filter(e -> lineLengths.get(e.id()) == IntIntHashMap.NO_VALUE)
+        .toList();
+    for (Employee employee : unreached) {
+      Integer managerId = employee.getManagerId().orElseThrow();
+      if (!organization.containsEmployee(managerId)) {
+        return new BadManagerReferenceException(
+            String.format("Bad manager id [%d] specified for employee [%d]", managerId,
+                employee.id()));
+      }
+    }
+
+    // every unreached employee has an existing manager, so climbing from any of them ends in a loop
+    List<Integer> reportingLine = new ArrayList<>();
+    Set<Integer> visited = new HashSet<>();
+    Employee employee = unreached.get(0);
+    while (true) {
+      Employee manager = organization.getEmployeeById(employee.getManagerId().orElseThrow())
+          .orElseThrow();
+      if (!visited.add(manager.id())) {
+        return new CircularReferenceException(String.format(
+            "Circular reference detected in hierarchy for employee ID=[%d]. The path: %s",
+            employee.id(), reportingLine));
+      }
+      reportingLine.add(manager.id());
+      employee = manager;
+    }
+  }
+
+  /**
+   * Returns the length of the reporting line of the given employee, i.e. the number of managers
+   * up to and including the CEO.
+   *
+   * @param employee an employee of the organization
+   * @return the length of the reporting line, zero for the CEO
+   */
+  int getLineLength(Employee employee) {
+    return lineLengths.get(employee.id());
+  }
+
+  /**
+   * Returns the reporting line for a given employee, which includes their manager IDs up to and
+   * including the CEO. The reporting lines of the managers met on the way are kept, so that the
+   * reporting lines of all the employees share their common tails.
+   *
+   * @param employee an employee of the organization
+   * @return a list of manager IDs leading up to the CEO
+   */
+  List<Integer> getReportingLine(Employee employee) {
+    // climb up to the CEO or to the first manager whose reporting line is known, which takes at
+    // most as many steps as the employee has managers
+    int[] managerIds = new int[getLineLength(employee)];
+    int climbed = 0;
+    ReportingChain chain = ReportingChain.EMPTY;
+    Integer managerId = employee.managerId();
+    while (managerId != null) {
+      managerIds[climbed++] = managerId;
+      ReportingChain known = chainsByManagerId.get(managerId);
+      if (known != null) {
+        chain = known;
+        break;
+      }
+      managerId = organization.getEmployeeOrNull(managerId).managerId();
+    }
+    // then build the reporting lines back down
+    while (climbed > 0) {
+      int id = managerIds[--climbed];
+      chainsByManagerId.putIfAbsent(id, chain);
+      chain = chain.prepend(id);
+    }
+    return chain;
+  }
+}
@@ -0,0 +1,69 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import java.util.Map;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for a reporting rule checked on a whole organization.
+ */
+@Name("com.epam.swissre.interview.orghierarchy.ReportingRule")
+@Label("Reporting Rule")
+@Description("Check of a reporting rule on all the employees of an organization")
+@Category({"Org Hierarchy Checker", "Service"})
+@StackTrace(false)
+class ReportingRuleEvent extends Event {
+
+  static final String LONG_REPORTING_LINE = "LONG_REPORTING_LINE";
+  static final String UNDERPAID_MANAGER = "UNDERPAID_MANAGER";
+  static final String OVERPAID_MANAGER = "OVERPAID_MANAGER";
+
+  @Label("Rule")
+  String rule;
+
+  @Label("Reporting Service")
+  String reportingService;
+
+  @Label("Employees")
+  int employees;
+
+  @Label("Findings")
+  int findings;
+
+  private ReportingRuleEvent(OrgHierarchyReportingService reportingService, String rule) {
+    this.reportingService = reportingService.getClass().getSimpleName();
+    this.rule = rule;
+  }
+
+  /**
+   * Starts timing a rule.
+   *
+   * @param reportingService the service checking the rule
+   * @param rule             the name of the rule
+   * @return the started event
+   */
+  static ReportingRuleEvent begin(OrgHierarchyReportingService reportingService, String rule) {
+    ReportingRuleEvent event = new ReportingRuleEvent(reportingService, rule);
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Commits the event with the findings of the rule.
+   *
+   * @param employees the number of employees checked
+   * @param findings  the findings of the rule
+   * @param <M>       the type of the findings
+   * @return the given findings
+   */
+  <M extends Map<?, ?>> M complete(int employees, M findings) {
+    this.employees = employees;
+    this.findings = findings.size();
+    commit();
+    return findings;
+  }
+}
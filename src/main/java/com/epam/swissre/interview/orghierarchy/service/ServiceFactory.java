@@ -1,7 +1,11 @@
 package com.epam.swissre.interview.orghierarchy.service;
 
 import com.epam.swissre.interview.orghierarchy.config.ConfigLoader;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.port.BatchOutput;
 import com.epam.swissre.interview.orghierarchy.port.PortFactory;
+import com.epam.swissre.interview.orghierarchy.port.ReportsCache;
+import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
 
 /**
  * The {@link ServiceFactory} is responsible for building and wiring together the instances of the
@@ -16,10 +20,229 @@ public interface ServiceFactory {
    * @return a new instance of an {@link OrgHierarchyAnalyzerService}
    */
   static OrgHierarchyAnalyzerService newOrgHierarchyAnalyzerService() {
-    // can be parameterized if/when other implementations of the service, loader, or writer are available
+    return newOrgHierarchyAnalyzerService(PortFactory.newConsoleReportsWriter());
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyAnalyzerService} outputting the
+   * reports via the given writer
+   *
+   * @param writer the writer of the reports, e.g. from {@link PortFactory}
+   * @return a new instance of an {@link OrgHierarchyAnalyzerService}
+   */
+  static OrgHierarchyAnalyzerService newOrgHierarchyAnalyzerService(ReportsWriter writer) {
+    return newOrgHierarchyAnalyzerService(writer, SimpleOrgHierarchyAnalyzerService.ALL_FINDINGS);
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyAnalyzerService} outputting only the
+   * worst findings of each report via the given writer, e.g. the most underpaid managers first
+   *
+   * @param writer        the writer of the reports, e.g. from {@link PortFactory}
+   * @param findingsLimit the maximum number of findings of each report
+   * @return a new instance of an {@link OrgHierarchyAnalyzerService}
+   * @throws IllegalArgumentException if the limit is not positive
+   */
+  static OrgHierarchyAnalyzerService newOrgHierarchyAnalyzerService(ReportsWriter writer,
+      int findingsLimit) {
+    return newOrgHierarchyAnalyzerService(writer, findingsLimit, PhaseProfiler.disabled());
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyAnalyzerService} outputting the
+   * worst findings of each report via the given writer, and measuring each phase of the analysis
+   * with the given profiler
+   *
+   * @param writer        the writer of the reports, e.g. from {@link PortFactory}
+   * @param findingsLimit the maximum number of findings of each report, {@link Integer#MAX_VALUE}
+   *                      for all of them
+   * @param profiler      the profiler of the phases, e.g. {@link PhaseProfiler#create()}
+   * @return a new instance of an {@link OrgHierarchyAnalyzerService}
+   * @throws IllegalArgumentException if the limit is not positive
+   */
+  static OrgHierarchyAnalyzerService newOrgHierarchyAnalyzerService(ReportsWriter writer,
+      int findingsLimit, PhaseProfiler profiler) {
+    return newOrgHierarchyAnalyzerService(writer, findingsLimit, profiler, null);
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyAnalyzerService} outputting the
+   * worst findings of each report via the given writer, measuring each phase of the analysis with
+   * the given profiler, and reading the reports on the sources already analyzed from the given
+   * cache
+   *
+   * @param writer        the writer of the reports, e.g. from {@link PortFactory}
+   * @param findingsLimit the maximum number of findings of each report, {@link Integer#MAX_VALUE}
+   *                      for all of them
+   * @param profiler      the profiler of the phases, e.g. {@link PhaseProfiler#create()}
+   * @param cache         the cache of the reports, e.g. from
+   *                      {@link PortFactory#newFileReportsCache}, or null not to cache them
+   * @return a new instance of an {@link OrgHierarchyAnalyzerService}
+   * @throws IllegalArgumentException if the limit is not positive
+   */
+  static OrgHierarchyAnalyzerService newOrgHierarchyAnalyzerService(ReportsWriter writer,
+      int findingsLimit, PhaseProfiler profiler, ReportsCache cache) {
+    if (findingsLimit <= 0) {
+      throw new IllegalArgumentException("The number of findings to keep must be positive.");
+    }
+    // can be parameterized if/when other implementations of the service or loader are available
     return new SimpleOrgHierarchyAnalyzerService(
         PortFactory.newCsvOrgHierarchyLoader(),
+        writer,
+        new SimpleOrgHierarchyValidationService(),
+        new SimpleOrgHierarchyReportingService(ConfigLoader.getReportingConfig()),
+        findingsLimit, profiler, cache);
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyAnalyzerService} building the
+   * reports on the columnar representation of the organization, which keeps the employees in
+   * primitive arrays, and which is filled straight from a memory-mapped CSV file
+   *
+   * @return a new instance of an {@link OrgHierarchyAnalyzerService}
+   */
+  static OrgHierarchyAnalyzerService newColumnarOrgHierarchyAnalyzerService() {
+    return new ColumnarOrgHierarchyAnalyzerService(
+        PortFactory.newMappedCsvOrgHierarchyLoader(false),
         PortFactory.newConsoleReportsWriter(),
+        new SimpleOrgHierarchyValidationService(),
+        new ColumnarOrgHierarchyReportingService(ConfigLoader.getReportingConfig()),
+        PhaseProfiler.disabled());
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyAnalyzerService} building the
+   * reports on the columnar representation of a memory-mapped CSV file, like
+   * {@link #newColumnarOrgHierarchyAnalyzerService()}, outputting them via the given writer, and
+   * writing the loaded organization as a snapshot to the given target
+   *
+   * @param writer         the writer of the reports, e.g. from {@link PortFactory}
+   * @param profiler       the profiler of the phases, e.g. {@link PhaseProfiler#create()}
+   * @param snapshotTarget the file to write the snapshot to, replaced if it exists
+   * @return a new instance of an {@link OrgHierarchyAnalyzerService}
+   */
+  static OrgHierarchyAnalyzerService newColumnarOrgHierarchyAnalyzerService(ReportsWriter writer,
+      PhaseProfiler profiler, String snapshotTarget) {
+    return new ColumnarOrgHierarchyAnalyzerService(
+        PortFactory.newMappedCsvOrgHierarchyLoader(false),
+        writer,
+        new SimpleOrgHierarchyValidationService(),
+        new ColumnarOrgHierarchyReportingService(ConfigLoader.getReportingConfig()),
+        profiler,
+        PortFactory.newOrgHierarchySnapshotWriter(),
+        snapshotTarget);
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyAnalyzerService} loading the
+   * organizations from the memory-mapped snapshot files written by
+   * {@link PortFactory#newOrgHierarchySnapshotWriter()}, and building the reports on their columnar
+   * representation, without parsing nor materializing the employees
+   *
+   * @param writer   the writer of the reports, e.g. from {@link PortFactory}
+   * @param profiler the profiler of the phases, e.g. {@link PhaseProfiler#create()}
+   * @return a new instance of an {@link OrgHierarchyAnalyzerService}
+   */
+  static OrgHierarchyAnalyzerService newSnapshotOrgHierarchyAnalyzerService(ReportsWriter writer,
+      PhaseProfiler profiler) {
+    return new ColumnarOrgHierarchyAnalyzerService(
+        PortFactory.newSnapshotOrgHierarchyLoader(),
+        writer,
+        new SimpleOrgHierarchyValidationService(),
+        new ColumnarOrgHierarchyReportingService(ConfigLoader.getReportingConfig()),
+        profiler);
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyAnalyzerService} like
+   * {@link #newOrgHierarchyAnalyzerService(ReportsWriter, int, PhaseProfiler, ReportsCache)}, but
+   * building the reports with a parallel traversal of the hierarchy on the common fork-join pool
+   *
+   * @param writer        the writer of the reports, e.g. from {@link PortFactory}
+   * @param findingsLimit the maximum number of findings of each report, {@link Integer#MAX_VALUE}
+   *                      for all of them
+   * @param profiler      the profiler of the phases, e.g. {@link PhaseProfiler#create()}
+   * @param cache         the cache of the reports, e.g. from
+   *                      {@link PortFactory#newFileReportsCache}, or null not to cache them
+   * @return a new instance of an {@link OrgHierarchyAnalyzerService}
+   * @throws IllegalArgumentException if the limit is not positive
+   */
+  static OrgHierarchyAnalyzerService newParallelOrgHierarchyAnalyzerService(ReportsWriter writer,
+      int findingsLimit, PhaseProfiler profiler, ReportsCache cache) {
+    if (findingsLimit <= 0) {
+      throw new IllegalArgumentException("The number of findings to keep must be positive.");
+    }
+    return new SimpleOrgHierarchyAnalyzerService(
+        PortFactory.newCsvOrgHierarchyLoader(),
+        writer,
+        new SimpleOrgHierarchyValidationService(),
+        new ParallelOrgHierarchyReportingService(ConfigLoader.getReportingConfig()),
+        findingsLimit, profiler, cache);
+  }
+
+  /**
+   * Static factory method to instantiate an {@link IncrementalOrgHierarchyAnalyzerService} applying
+   * CSV change sets and printing the changed findings to the console
+   *
+   * @return a new instance of an {@link IncrementalOrgHierarchyAnalyzerService}
+   */
+  static IncrementalOrgHierarchyAnalyzerService newIncrementalOrgHierarchyAnalyzerService() {
+    return new SimpleIncrementalOrgHierarchyAnalyzerService(
+        PortFactory.newCsvChangeSetLoader(),
+        PortFactory.newConsoleReportsWriter(),
+        ConfigLoader.getReportingConfig());
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyWatchService} watching CSV files and
+   * outputting the reports, then the changed findings, via the given writer
+   *
+   * @param writer the writer of the reports, e.g. from {@link PortFactory}
+   * @return a new instance of an {@link OrgHierarchyWatchService}
+   */
+  static OrgHierarchyWatchService newOrgHierarchyWatchService(ReportsWriter writer) {
+    ReportingConfig config = ConfigLoader.getReportingConfig();
+    return new SimpleOrgHierarchyWatchService(
+        PortFactory.newCsvOrgHierarchyWatcher(),
+        writer,
+        new SimpleOrgHierarchyValidationService(),
+        new SimpleOrgHierarchyReportingService(config),
+        new SimpleIncrementalOrgHierarchyAnalyzerService(PortFactory.newCsvChangeSetLoader(),
+            writer, config),
+        System.err);
+  }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyQueryService} keeping the analyzed
+   * organizations in memory, e.g. for a long-running server
+   *
+   * @return a new instance of an {@link OrgHierarchyQueryService}
+   */
+  static OrgHierarchyQueryService newOrgHierarchyQueryService() {
+    return new CachingOrgHierarchyQueryService(
+        PortFactory.newMappedCsvOrgHierarchyLoader(false),
+        new SimpleOrgHierarchyValidationService(),
         new SimpleOrgHierarchyReportingService(ConfigLoader.getReportingConfig()));
   }
+
+  /**
+   * Static factory method to instantiate an {@link OrgHierarchyBatchService} analyzing CSV files,
+   * or the tenants of a CSV file, concurrently within the given memory budget, and outputting the
+   * results via the given output
+   *
+   * @param output       the output of the reports and of the summary, e.g. from
+   *                     {@link PortFactory#newDirectoryBatchOutput}
+   * @param memoryBudget the heap, in bytes, that the analyses running at once may use
+   * @return a new instance of an {@link OrgHierarchyBatchService}
+   * @throws IllegalArgumentException if the budget is less than 1 KiB
+   */
+  static OrgHierarchyBatchService newOrgHierarchyBatchService(BatchOutput output,
+      long memoryBudget) {
+    return new ConcurrentOrgHierarchyBatchService(
+        PortFactory.newMappedCsvOrgHierarchyLoader(false),
+        PortFactory.newMappedCsvTenantOrgHierarchyLoader(false),
+        new SimpleOrgHierarchyValidationService(),
+        new SimpleOrgHierarchyReportingService(ConfigLoader.getReportingConfig()),
+        output, memoryBudget);
+  }
 }
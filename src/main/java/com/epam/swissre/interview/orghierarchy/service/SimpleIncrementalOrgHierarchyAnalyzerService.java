@@ -0,0 +1,318 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.InvalidChangeSetException;
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem.Type;
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReportsDelta;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.ChangeSetLoader;
+import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Applies change sets to an organization and updates its reports incrementally. The work is
+ * proportional to the size of the change set rather than to the size of the organization:
+ * <ul>
+ *   <li>the salary findings are re-computed only for the changed employees and for their previous
+ *   and new managers, whose direct reports changed;</li>
+ *   <li>the reporting lines are re-computed only for the changed employees and for the subtrees of
+ *   the hired and moved ones, whose depth changed;</li>
+ *   <li>the structure is re-validated only around the changed employees, assuming that it was
+ *   valid before the changes.</li>
+ * </ul>
+ */
+class SimpleIncrementalOrgHierarchyAnalyzerService implements
+    IncrementalOrgHierarchyAnalyzerService {
+
+  private final ChangeSetLoader loader;
+  private final ReportsWriter writer;
+  private final ReportingConfig config;
+
+  public SimpleIncrementalOrgHierarchyAnalyzerService(ChangeSetLoader loader,
+      ReportsWriter writer, ReportingConfig config) {
+    this.loader = loader;
+    this.writer = writer;
+    this.config = config;
+  }
+
+  /**
+   * Updates a finding of a report and records how it changed.
+   *
+   * @param findings  the findings of the report, updated in place
+   * @param oldKey    the previous state of the employee, null if it was just hired
+   * @param newKey    the new state of the employee, null if it left
+   * @param newValue  the new finding for the employee, null if there is none
+   * @param changed   the changed findings, where the new finding is added if it differs
+   * @param resolved  the resolved findings, where the previous finding is added if there is no new
+   *                  finding
+   */
+  private static <V> void updateFinding(Map<Employee, V> findings, Employee oldKey,
+      Employee newKey, V newValue, Map<Employee, V> changed, Map<Employee, V> resolved) {
+    V oldValue = oldKey == null ? null : findings.remove(oldKey);
+    if (newValue == null) {
+      if (oldValue != null) {
+        resolved.put(oldKey, oldValue);
+      }
+      return;
+    }
+    findings.put(newKey, newValue);
+    if (!newValue.equals(oldValue) || !newKey.equals(oldKey)) {
+      changed.put(newKey, newValue);
+    }
+  }
+
+  private static List<Integer> buildReportingLine(Organization organization, Employee employee) {
+    List<Integer> reportingLine = new ArrayList<>();
+    Integer managerId = employee.managerId();
+    while (managerId != null) {
+      reportingLine.add(managerId);
+      managerId = organization.getEmployeeOrNull(managerId).managerId();
+    }
+    return reportingLine;
+  }
+
+  @Override
+  public OrgHierarchyReportsDelta reanalyze(Organization organization,
+      OrgHierarchyReports reports, String changeSetSource) {
+    OrgHierarchyReportsDelta delta =
+        reanalyze(organization, reports, loader.loadChangeSet(changeSetSource));
+    writer.longReportingLines(delta.changed().longReportingLines());
+    writer.underpaidManagers(delta.changed().underpaidManagers());
+    writer.overpaidManagers(delta.changed().overpaidManagers());
+    writer.resolvedFindings(delta.resolved());
+    return delta;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws InvalidChangeSetException    if a change hires an existing employee or refers to a
+   *                                      non-existent one
+   * @throws InvalidOrgHierarchyException if the changes break the structure of the hierarchy
+   */
+  @Override
+  public OrgHierarchyReportsDelta reanalyze(Organization organization,
+      OrgHierarchyReports reports, List<OrgChange> changes) {
+    // the state of every changed employee before the change set, null for the hired ones
+    Map<Integer, Employee> before = new LinkedHashMap<>();
+    applyChanges(organization, changes, before);
+    List<HierarchyProblem> problems = validateChanges(organization, before);
+    if (!problems.isEmpty()) {
+      revertChanges(organization, before);
+      throw new InvalidOrgHierarchyException(problems);
+    }
+
+    OrgHierarchyReports changed = OrgHierarchyReports.empty();
+    OrgHierarchyReports resolved = OrgHierarchyReports.empty();
+    updateSalaryFindings(organization, reports, before, changed, resolved);
+    updateReportingLineFindings(organization, reports, before, changed, resolved);
+    return new OrgHierarchyReportsDelta(changed, resolved);
+  }
+
+  private void applyChanges(Organization organization, List<OrgChange> changes,
+      Map<Integer, Employee> before) {
+    for (int i = 0; i < changes.size(); i++) {
+      OrgChange change = changes.get(i);
+      Employee current = organization.getEmployeeOrNull(change.employeeId());
+      before.putIfAbsent(change.employeeId(), current);
+      try {
+        if (current == null && change.type() != OrgChange.Type.HIRE) {
+          throw new IllegalArgumentException("Unknown employee ID: " + change.employeeId());
+        }
+        switch (change.type()) {
+          case HIRE -> organization.addEmployee(change.applyTo(null));
+          case LEAVE -> organization.removeEmployee(change.employeeId());
+          default -> organization.replaceEmployee(change.applyTo(current));
+        }
+      } catch (IllegalArgumentException e) {
+        revertChanges(organization, before);
+        throw new InvalidChangeSetException(
+            String.format("Cannot apply change #%d %s: %s", i + 1, change, e.getMessage()), e);
+      }
+    }
+  }
+
+  private void revertChanges(Organization organization, Map<Integer, Employee> before) {
+    before.forEach((id, previous) -> {
+      boolean present = organization.containsEmployee(id);
+      if (previous == null) {
+        if (present) {
+          organization.removeEmployee(id);
+        }
+      } else if (present) {
+        organization.replaceEmployee(previous);
+      } else {
+        organization.addEmployee(previous);
+      }
+    });
+  }
+
+  /**
+   * Finds the structural problems introduced by the changes. As the hierarchy was valid before
+   * them, a problem must involve a changed employee: a leaver still having direct reports, a hired
+   * or moved employee referring to a non-existent manager or ending up in its own subtree, or a
+   * change in the number of CEOs.
+   */
+  private List<HierarchyProblem> validateChanges(Organization organization,
+      Map<Integer, Employee> before) {
+    List<HierarchyProblem> problems = new ArrayList<>();
+    int ceoCountChange = 0;
+    for (Map.Entry<Integer, Employee> entry : before.entrySet()) {
+      Employee previous = entry.getValue();
+      Employee current = organization.getEmployeeOrNull(entry.getKey());
+      ceoCountChange += (isCeo(current) ? 1 : 0) - (isCeo(previous) ? 1 : 0);
+      if (current == null) {
+        for (Employee report : organization.getDirectReports(entry.getKey())) {
+          problems.add(badManagerReference(report));
+        }
+      } else if (!isCeo(current) && (previous == null
+          || !Objects.equals(previous.managerId(), current.managerId()))) {
+        validateManager(organization, current).ifPresent(problems::add);
+      }
+    }
+
+    if (ceoCountChange != 0) {
+      // not on the hot path: only a broken change set needs all the CEOs listed
+      List<Integer> ceoIds = organization.getEmployees().stream()
+          .filter(SimpleIncrementalOrgHierarchyAnalyzerService::isCeo)
+          .map(Employee::id)
+          .toList();
+      problems.add(0, new HierarchyProblem(
+          ceoIds.isEmpty() ? Type.MISSING_CEO : Type.MULTIPLE_CEOS, ceoIds,
+          "The hierarchy must have exactly one CEO, but instead has the following: " + ceoIds));
+    }
+    return problems;
+  }
+
+  private static boolean isCeo(Employee employee) {
+    return employee != null && employee.managerId() == null;
+  }
+
+  private static HierarchyProblem badManagerReference(Employee employee) {
+    return new HierarchyProblem(Type.BAD_MANAGER_REFERENCE, List.of(employee.id()),
+        String.format("Bad manager id [%d] specified for employee [%d]", employee.managerId(),
+            employee.id()));
+  }
+
+  /**
+   * Climbs from the new manager of an employee up to the CEO, which fails if the manager does not
+   * exist or if the climb comes back to the employee.
+   */
+  private static Optional<HierarchyProblem> validateManager(Organization organization,
+      Employee employee) {
+    if (!organization.containsEmployee(employee.managerId())) {
+      return Optional.of(badManagerReference(employee));
+    }
+    List<Integer> cycle = new ArrayList<>();
+    cycle.add(employee.id());
+    int maxSteps = organization.getEmployees().size();
+    Integer managerId = employee.managerId();
+    while (managerId != null && managerId != employee.id() && cycle.size() <= maxSteps) {
+      cycle.add(managerId);
+      // a missing manager further up is reported for the changed employee referring to it
+      managerId = organization.getEmployeeById(managerId).map(Employee::managerId).orElse(null);
+    }
+    if (managerId != null && managerId == employee.id()) {
+      return Optional.of(new HierarchyProblem(Type.CIRCULAR_REFERENCE, cycle,
+          "Circular reference detected in hierarchy between employees " + cycle));
+    }
+    return Optional.empty();
+  }
+
+  private void updateSalaryFindings(Organization organization, OrgHierarchyReports reports,
+      Map<Integer, Employee> before, OrgHierarchyReports changed, OrgHierarchyReports resolved) {
+    // the changed employees and the managers whose direct reports changed
+    Set<Integer> managerIds = new LinkedHashSet<>();
+    before.forEach((id, previous) -> {
+      managerIds.add(id);
+      if (previous != null && previous.managerId() != null) {
+        managerIds.add(previous.managerId());
+      }
+      organization.getEmployeeById(id).map(Employee::managerId).ifPresent(managerIds::add);
+    });
+
+    for (int managerId : managerIds) {
+      Employee oldKey = before.containsKey(managerId) ? before.get(managerId)
+          : organization.getEmployeeOrNull(managerId);
+      Employee newKey = organization.getEmployeeOrNull(managerId);
+      Double underpaid = null;
+      Double overpaid = null;
+      if (newKey != null) {
+        OptionalDouble average = organization.getDirectReports(managerId).stream()
+            .mapToInt(Employee::salary).average();
+        if (average.isPresent()) {
+          double underpaidBy =
+              config.minSalaryFactorForManagers() * average.getAsDouble() - newKey.salary();
+          double overpaidBy =
+              newKey.salary() - config.maxSalaryFactorForManagers() * average.getAsDouble();
+          underpaid = underpaidBy > 0 ? underpaidBy : null;
+          overpaid = overpaidBy > 0 ? overpaidBy : null;
+        }
+      }
+      updateFinding(reports.underpaidManagers(), oldKey, newKey, underpaid,
+          changed.underpaidManagers(), resolved.underpaidManagers());
+      updateFinding(reports.overpaidManagers(), oldKey, newKey, overpaid,
+          changed.overpaidManagers(), resolved.overpaidManagers());
+    }
+  }
+
+  private void updateReportingLineFindings(Organization organization,
+      OrgHierarchyReports reports, Map<Integer, Employee> before, OrgHierarchyReports changed,
+      OrgHierarchyReports resolved) {
+    // the changed employees, then the subtrees of the hired and moved ones with their new depth
+    Map<Integer, Integer> lineLengths = new HashMap<>();
+    Set<Integer> expanded = new HashSet<>();
+    Queue<Employee> queue = new ArrayDeque<>();
+    for (Map.Entry<Integer, Employee> entry : before.entrySet()) {
+      Employee current = organization.getEmployeeOrNull(entry.getKey());
+      Employee previous = entry.getValue();
+      if (current == null) {
+        updateFinding(reports.longReportingLines(), previous, null, null,
+            changed.longReportingLines(), resolved.longReportingLines());
+      } else if (!lineLengths.containsKey(current.id())) {
+        lineLengths.put(current.id(), buildReportingLine(organization, current).size());
+        if (previous == null || !Objects.equals(previous.managerId(), current.managerId())) {
+          expanded.add(current.id());
+          queue.add(current);
+        }
+      }
+    }
+    while (!queue.isEmpty()) {
+      Employee manager = queue.poll();
+      int lineLength = lineLengths.get(manager.id()) + 1;
+      for (Employee report : organization.getDirectReports(manager.id())) {
+        lineLengths.put(report.id(), lineLength);
+        // the subtree of a moved employee may hold another moved employee, already expanded
+        if (expanded.add(report.id())) {
+          queue.add(report);
+        }
+      }
+    }
+
+    lineLengths.forEach((id, lineLength) -> {
+      Employee current = organization.getEmployeeById(id).orElseThrow();
+      Employee oldKey = before.containsKey(id) ? before.get(id) : current;
+      List<Integer> reportingLine = lineLength > config.maxManagersToCEO() + 1
+          ? buildReportingLine(organization, current) : null;
+      updateFinding(reports.longReportingLines(), oldKey, current, reportingLine,
+          changed.longReportingLines(), resolved.longReportingLines());
+    });
+  }
+}
@@ -1,32 +1,105 @@
 package com.epam.swissre.interview.orghierarchy.service;
 
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
 import com.epam.swissre.interview.orghierarchy.model.Organization;
 import com.epam.swissre.interview.orghierarchy.port.OrgHierarchyLoader;
+import com.epam.swissre.interview.orghierarchy.port.ReportsCache;
 import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
+import java.util.List;
+import java.util.Optional;
 
 /**
- * Loads the organization hierarchy data from source using the {@link OrgHierarchyLoader}, then
- * builds the reports with the help of {@link OrgHierarchyReportingService}, and outputs them via
- * the {@link ReportsWriter}
+ * Loads the organization hierarchy data from source using the {@link OrgHierarchyLoader}, validates
+ * it with the {@link OrgHierarchyValidationService}, then builds the reports with the help of
+ * {@link OrgHierarchyReportingService}, and outputs them via the {@link ReportsWriter}, either in
+ * full or restricted to the worst findings of each report. Each of these phases is measured by
+ * the {@link PhaseProfiler}, if enabled.
+ *
+ * <p>With a {@link ReportsCache}, the reports on a source whose content was already analyzed are
+ * read from the cache and written out, without loading the source again. The source is hashed and
+ * loaded in two reads, so the reports built on a miss are only stored if the version of the source
+ * is the same after loading it as before hashing it.
  */
 class SimpleOrgHierarchyAnalyzerService implements OrgHierarchyAnalyzerService {
 
+  // the limit on the number of findings of each report that means no limit
+  static final int ALL_FINDINGS = Integer.MAX_VALUE;
+
   private final OrgHierarchyLoader loader;
   private final ReportsWriter writer;
+  private final OrgHierarchyValidationService validationService;
   private final OrgHierarchyReportingService reportingService;
+  private final int findingsLimit;
+  private final PhaseProfiler profiler;
+  // null if the reports are not cached
+  private final ReportsCache cache;
 
   public SimpleOrgHierarchyAnalyzerService(OrgHierarchyLoader loader, ReportsWriter writer,
+      OrgHierarchyValidationService validationService,
       OrgHierarchyReportingService reportingService) {
+    this(loader, writer, validationService, reportingService, ALL_FINDINGS,
+        PhaseProfiler.disabled());
+  }
+
+  public SimpleOrgHierarchyAnalyzerService(OrgHierarchyLoader loader, ReportsWriter writer,
+      OrgHierarchyValidationService validationService,
+      OrgHierarchyReportingService reportingService, int findingsLimit, PhaseProfiler profiler) {
+    this(loader, writer, validationService, reportingService, findingsLimit, profiler, null);
+  }
+
+  public SimpleOrgHierarchyAnalyzerService(OrgHierarchyLoader loader, ReportsWriter writer,
+      OrgHierarchyValidationService validationService,
+      OrgHierarchyReportingService reportingService, int findingsLimit, PhaseProfiler profiler,
+      ReportsCache cache) {
     this.loader = loader;
     this.writer = writer;
+    this.validationService = validationService;
     this.reportingService = reportingService;
+    this.findingsLimit = findingsLimit;
+    this.profiler = profiler;
+    this.cache = cache;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * @throws InvalidOrgHierarchyException if the hierarchy has structural problems, all of which
+   *                                      are reported in the exception
+   */
   @Override
   public void analyze(String source) {
-    Organization organization = loader.loadOrgHierarchy(source);
-    writer.longReportingLines(reportingService.getLongReportingLines(organization));
-    writer.underpaidManagers(reportingService.getUnderpaidManagers(organization));
-    writer.overpaidManagers(reportingService.getOverpaidManagers(organization));
+    // the version of the source is taken before hashing it, so that any modification of the
+    // source until it is loaded changes the version
+    Optional<String> sourceVersion = cache == null ? Optional.empty() : cache.versionOf(source);
+    Optional<String> cacheKey = sourceVersion.isEmpty() ? Optional.empty()
+        : profiler.measure("hash", () -> cache.keyOf(source, findingsLimit));
+    Optional<OrgHierarchyReports> cachedReports = cacheKey.isEmpty() ? Optional.empty()
+        : profiler.measure("lookup", () -> cache.get(cacheKey.get()));
+    OrgHierarchyReports reports = cachedReports.isPresent() ? cachedReports.get()
+        : buildReports(source);
+    if (cacheKey.isPresent() && cachedReports.isEmpty()
+        && sourceVersion.equals(cache.versionOf(source))) {
+      profiler.measure("store", () -> cache.put(cacheKey.get(), reports));
+    }
+    profiler.measure("write", () -> {
+      writer.longReportingLines(reports.longReportingLines());
+      writer.underpaidManagers(reports.underpaidManagers());
+      writer.overpaidManagers(reports.overpaidManagers());
+    });
+  }
+
+  private OrgHierarchyReports buildReports(String source) {
+    Organization organization = profiler.measure("load", () -> loader.loadOrgHierarchy(source));
+    profiler.setEmployees(organization.getEmployees().size());
+    List<HierarchyProblem> problems =
+        profiler.measure("validate", () -> validationService.validate(organization));
+    if (!problems.isEmpty()) {
+      throw new InvalidOrgHierarchyException(problems);
+    }
+    return profiler.measure("report", () -> findingsLimit == ALL_FINDINGS
+        ? reportingService.buildReports(organization)
+        : reportingService.buildTopReports(organization, findingsLimit));
   }
 }
@@ -4,14 +4,12 @@ import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
 import com.epam.swissre.interview.orghierarchy.exception.BadManagerReferenceException;
 import com.epam.swissre.interview.orghierarchy.exception.CircularReferenceException;
 import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
 import com.epam.swissre.interview.orghierarchy.model.Organization;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.OptionalDouble;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * The {@code OrgHierarchyAnalyzerService} class provides methods to analyze the organizational
@@ -26,134 +24,105 @@ class SimpleOrgHierarchyReportingService implements OrgHierarchyReportingService
     this.config = config;
   }
 
-  private static List<Employee> getDirectReportsForManager(Organization organization,
-      int managerId) {
-    return organization.getEmployees().stream()
-        .filter(e -> e.getManagerId().isPresent() && e.getManagerId().get() == managerId)
-        .toList();
-  }
-
-  /**
-   * Builds a stream of entries mapping each employee to the average salary of their direct
-   * reports.
-   *
-   * @param organization the organization containing employees
-   * @return a stream of entries with each employee and their corresponding average salary of direct
-   * reports
-   */
-  private static Stream<Entry<Employee, Double>> buildDirectReportsAvgSalaryMap(
-      Organization organization) {
-    return organization.getEmployees().stream()
-        // build the list of direct reports for each employee
-        .map(employee -> Map.entry(employee,
-            getDirectReportsForManager(organization, employee.id())))
-        // map employee to the average of his direct reports
-        .map(entry -> Map.entry(entry.getKey(), calcAverageSalary(entry.getValue())))
-        // pick only those having direct reports, i.e. an average for them
-        .filter(entry -> entry.getValue().isPresent())
-        .map(entry -> Map.entry(entry.getKey(), entry.getValue().getAsDouble()));
-  }
-
-  private static OptionalDouble calcAverageSalary(List<Employee> employees) {
-    return employees.stream().mapToInt(Employee::salary).average();
-  }
-
-  /**
-   * Builds the reporting line for a given employee, which includes their manager IDs up to and
-   * including the CEO.
-   *
-   * @param organization the organization containing the entire set of employees
-   * @param employee     the employee for whom to build the reporting line
-   * @return a list of manager IDs leading up to the CEO
-   */
-  private static List<Integer> buildReportingLine(Organization organization, Employee employee) {
-    return buildReportingLine(organization, employee, new ArrayList<>());
-  }
-
-  /**
-   * Recursive helper method to build the reporting line for an employee.
-   *
-   * @param organization  the organization containing the entire set of employees
-   * @param employee      the employee for whom to build the reporting line
-   * @param reportingLine the current list of reporting IDs
-   * @return a list of manager IDs leading up to the CEO
-   * @throws BadManagerReferenceException if a reference to a non-existent employee is provided
-   * @throws CircularReferenceException   if a circular reference is detected in the hierarchy
-   */
-  private static List<Integer> buildReportingLine(Organization organization, Employee employee,
-      List<Integer> reportingLine) {
-    if (employee.getManagerId().isEmpty()) {
-      return reportingLine;
-    } else {
-      Integer managerId = employee.getManagerId().get();
-      Employee manager = organization.getEmployeeById(managerId).orElseThrow(
-          () -> new BadManagerReferenceException(
-              String.format("Bad manager id [%d] specified for employee [%d]",
-                  employee.getManagerId().get(), employee.id())));
-      if (reportingLine.contains(manager.id())) {
-        throw new CircularReferenceException(String.format(
-            "Circular reference detected in hierarchy for employee ID=[%d]. The path: %s",
-            employee.id(), reportingLine));
-      }
-      reportingLine.add(manager.id());
-      return buildReportingLine(organization, manager, reportingLine);
-    }
-  }
-
   /**
-   * Establishes the reporting structure for each employee in the organization. Links employees to
-   * their direct managers based on `managerId` and builds their corresponding reporting lines.
+   * Establishes the reporting structure of the organization with a single traversal down from the
+   * CEO, linking employees to their direct managers.
    *
    * @param organization the organization containing employees
-   * @return a map of each employee and their reporting line
+   * @return the reporting structure of the organization
    * @throws BadManagerReferenceException if a reference to a non-existent employee is provided or
    *                                      the number of CEOs is not exactly one
    * @throws CircularReferenceException   if there is a circular reference in the hierarchy
    */
-  Map<Employee, List<Integer>> buildReportingLines(Organization organization) {
-    List<Integer> ceoIds = organization.getEmployees().stream()
-        .filter(e -> e.getManagerId().isEmpty())
-        .map(Employee::id)
-        .toList();
-    // assuming that there should always be exactly one CEO
-    if (ceoIds.size() != 1) {
-      throw new BadManagerReferenceException(
-          "The hierarchy must have exactly one CEO, but instead has the following: " + ceoIds);
-    }
-
-    return organization.getEmployees().stream()
-        .map(e -> Map.entry(e, buildReportingLine(organization, e)))
-        .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+  ReportingLines buildReportingLines(Organization organization) {
+    return ReportingLines.of(organization);
   }
 
   @Override
   public Map<Employee, List<Integer>> getLongReportingLines(Organization organization) {
-    return buildReportingLines(organization).entrySet().stream()
-        .filter(e -> e.getValue().size() > config.maxManagersToCEO() + 1)
-        .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+    ReportingRuleEvent event =
+        ReportingRuleEvent.begin(this, ReportingRuleEvent.LONG_REPORTING_LINE);
+    ReportingLines reportingLines = buildReportingLines(organization);
+    // only the employees over the limit get their full reporting line built
+    return event.complete(organization.getEmployees().size(), organization.getEmployees().stream()
+        .filter(e -> reportingLines.getLineLength(e) > config.maxManagersToCEO() + 1)
+        .collect(Collectors.toMap(Function.identity(), reportingLines::getReportingLine)));
   }
 
   @Override
   public Map<Employee, Double> getUnderpaidManagers(Organization organization) {
-    return buildDirectReportsAvgSalaryMap(organization)
-        // map the managers to the diff between intended minimum wage and their current wage
-        .map(entry -> Map.entry(entry.getKey(),
-            config.minSalaryFactorForManagers() * entry.getValue()
-                - entry.getKey().salary()))
-        // pick only those having a positive diff, i.e. being below the intended minimum wage
-        .filter(entry -> entry.getValue() > 0)
-        .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+    ReportingRuleEvent event = ReportingRuleEvent.begin(this, ReportingRuleEvent.UNDERPAID_MANAGER);
+    DirectReportsSalaryStatistics statistics = DirectReportsSalaryStatistics.of(organization);
+    return event.complete(organization.getEmployees().size(),
+        statistics.getUnderpaidManagers(config.minSalaryFactorForManagers()));
   }
 
   @Override
   public Map<Employee, Double> getOverpaidManagers(Organization organization) {
-    return buildDirectReportsAvgSalaryMap(organization)
-        // map the managers to the diff between intended maximum wage and their current wage
-        .map(entry -> Map.entry(entry.getKey(),
-            entry.getKey().salary()
-                - config.maxSalaryFactorForManagers() * entry.getValue()))
-        // pick only those having a positive diff, i.e. being above the intended maximum wage
-        .filter(entry -> entry.getValue() > 0)
-        .collect(Collectors.toMap(Entry::getKey, Entry::getValue));
+    ReportingRuleEvent event = ReportingRuleEvent.begin(this, ReportingRuleEvent.OVERPAID_MANAGER);
+    DirectReportsSalaryStatistics statistics = DirectReportsSalaryStatistics.of(organization);
+    return event.complete(organization.getEmployees().size(),
+        statistics.getOverpaidManagers(config.maxSalaryFactorForManagers()));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The statistics of the direct reports are built once and shared by the underpaid and overpaid
+   * managers reports, and timed with the underpaid managers rule, which builds them.
+   */
+  @Override
+  public OrgHierarchyReports buildReports(Organization organization) {
+    int employees = organization.getEmployees().size();
+    Map<Employee, List<Integer>> longReportingLines = getLongReportingLines(organization);
+    ReportingRuleEvent underpaidEvent =
+        ReportingRuleEvent.begin(this, ReportingRuleEvent.UNDERPAID_MANAGER);
+    DirectReportsSalaryStatistics statistics = DirectReportsSalaryStatistics.of(organization);
+    Map<Employee, Double> underpaidManagers = underpaidEvent.complete(employees,
+        statistics.getUnderpaidManagers(config.minSalaryFactorForManagers()));
+    ReportingRuleEvent overpaidEvent =
+        ReportingRuleEvent.begin(this, ReportingRuleEvent.OVERPAID_MANAGER);
+    Map<Employee, Double> overpaidManagers = overpaidEvent.complete(employees,
+        statistics.getOverpaidManagers(config.maxSalaryFactorForManagers()));
+    return new OrgHierarchyReports(longReportingLines, underpaidManagers, overpaidManagers);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The worst findings are selected with a bounded heap per report while scanning the
+   * organization, and only the reporting lines of the deepest employees selected are built. Each
+   * rule is timed like in {@link #buildReports(Organization)}, its findings being the ones kept.
+   */
+  @Override
+  public OrgHierarchyReports buildTopReports(Organization organization, int limit) {
+    int employees = organization.getEmployees().size();
+    ReportingRuleEvent longEvent =
+        ReportingRuleEvent.begin(this, ReportingRuleEvent.LONG_REPORTING_LINE);
+    TopFindings longReportingLines = new TopFindings(limit);
+    ReportingLines reportingLines = buildReportingLines(organization);
+    for (Employee employee : organization.getEmployees()) {
+      int lineLength = reportingLines.getLineLength(employee);
+      if (lineLength > config.maxManagersToCEO() + 1) {
+        longReportingLines.offer(employee, lineLength);
+      }
+    }
+    Map<Employee, List<Integer>> longReportingLinesMap = longEvent.complete(employees,
+        longReportingLines.toMap((e, length) -> reportingLines.getReportingLine(e)));
+    ReportingRuleEvent underpaidEvent =
+        ReportingRuleEvent.begin(this, ReportingRuleEvent.UNDERPAID_MANAGER);
+    TopFindings underpaidManagers = new TopFindings(limit);
+    DirectReportsSalaryStatistics statistics = DirectReportsSalaryStatistics.of(organization);
+    statistics.forEachUnderpaid(config.minSalaryFactorForManagers(), underpaidManagers::offer);
+    Map<Employee, Double> underpaidManagersMap =
+        underpaidEvent.complete(employees, underpaidManagers.toMap((e, amount) -> amount));
+    ReportingRuleEvent overpaidEvent =
+        ReportingRuleEvent.begin(this, ReportingRuleEvent.OVERPAID_MANAGER);
+    TopFindings overpaidManagers = new TopFindings(limit);
+    statistics.forEachOverpaid(config.maxSalaryFactorForManagers(), overpaidManagers::offer);
+    Map<Employee, Double> overpaidManagersMap =
+        overpaidEvent.complete(employees, overpaidManagers.toMap((e, amount) -> amount));
+    return new OrgHierarchyReports(longReportingLinesMap, underpaidManagersMap,
+        overpaidManagersMap);
   }
 }
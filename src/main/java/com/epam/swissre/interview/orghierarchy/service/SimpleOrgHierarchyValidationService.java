@@ -0,0 +1,147 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem.Type;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates the hierarchy of an organization in a single linear pass.
+ *
+ * <p>Every employee has at most one manager, so following the managers from any employee either
+ * ends at a CEO, at a reference to a non-existent manager, or runs into a loop. The employees are
+ * coloured while being walked: an employee on the current walk is "in progress", and once the walk
+ * is finished all its employees are "done" and never walked again. Running into an employee in
+ * progress means that a cycle has been found, consisting of the employees walked since then.
+ *
+ * <p>A {@link ColumnarOrganization} is first checked on its columns, with a traversal down from
+ * its CEO which must reach every employee. Only an invalid hierarchy is materialized and walked as
+ * above, to find all its problems.
+ */
+class SimpleOrgHierarchyValidationService implements OrgHierarchyValidationService {
+
+  @Override
+  public List<HierarchyProblem> validate(Organization organization) {
+    ValidationEvent event = new ValidationEvent();
+    event.begin();
+    List<HierarchyProblem> problems = new ArrayList<>();
+    List<Integer> ceoIds = new ArrayList<>();
+    Set<Integer> done = new HashSet<>();
+    // position of each employee in progress within the current walk
+    Map<Integer, Integer> inProgress = new HashMap<>();
+    List<Employee> walk = new ArrayList<>();
+
+    for (Employee start : organization.getEmployees()) {
+      if (done.contains(start.id())) {
+        continue;
+      }
+      Employee current = start;
+      while (current != null) {
+        inProgress.put(current.id(), walk.size());
+        walk.add(current);
+        current = nextToWalk(organization, current, ceoIds, done, inProgress, walk, problems);
+      }
+      walk.forEach(e -> done.add(e.id()));
+      inProgress.clear();
+      walk.clear();
+    }
+
+    if (ceoIds.size() != 1) {
+      problems.add(0, new HierarchyProblem(ceoIds.isEmpty() ? Type.MISSING_CEO : Type.MULTIPLE_CEOS,
+          ceoIds,
+          "The hierarchy must have exactly one CEO, but instead has the following: " + ceoIds));
+    }
+    event.employees = organization.getEmployees().size();
+    event.problems = problems.size();
+    event.commit();
+    return problems;
+  }
+
+  @Override
+  public List<HierarchyProblem> validate(ColumnarOrganization organization) {
+    ValidationEvent event = new ValidationEvent();
+    event.begin();
+    if (!isTree(organization)) {
+      // not on the hot path: the event of the walk records the problems
+      return validate(organization.toOrganization());
+    }
+    event.employees = organization.size();
+    event.commit();
+    return List.of();
+  }
+
+  /**
+   * Checks whether the hierarchy has a single CEO from whom every employee can be reached, which
+   * rules out any reference to a non-existent manager and any cycle.
+   */
+  private static boolean isTree(ColumnarOrganization organization) {
+    int size = organization.size();
+    int ceo = -1;
+    for (int i = 0; i < size; i++) {
+      if (organization.managerIndex(i) == ColumnarOrganization.NO_MANAGER) {
+        if (ceo >= 0) {
+          return false;
+        }
+        ceo = i;
+      }
+    }
+    if (ceo < 0) {
+      return false;
+    }
+    int[] stack = new int[size];
+    int top = 0;
+    int reached = 0;
+    stack[top++] = ceo;
+    while (top > 0) {
+      int manager = stack[--top];
+      reached++;
+      for (int n = 0, count = organization.directReportCount(manager); n < count; n++) {
+        stack[top++] = organization.directReport(manager, n);
+      }
+    }
+    return reached == size;
+  }
+
+  /**
+   * Steps from the given employee to its manager, recording the problem found if the walk cannot
+   * continue.
+   *
+   * @return the manager to walk next, or null if the walk is over
+   */
+  private static Employee nextToWalk(Organization organization, Employee current,
+      List<Integer> ceoIds, Set<Integer> done, Map<Integer, Integer> inProgress,
+      List<Employee> walk, List<HierarchyProblem> problems) {
+    if (current.getManagerId().isEmpty()) {
+      ceoIds.add(current.id());
+      return null;
+    }
+    int managerId = current.getManagerId().get();
+    Employee manager = organization.getEmployeeOrNull(managerId);
+    if (manager == null) {
+      problems.add(new HierarchyProblem(Type.BAD_MANAGER_REFERENCE, List.of(current.id()),
+          String.format("Bad manager id [%d] specified for employee [%d]", managerId,
+              current.id())));
+      return null;
+    }
+    if (done.contains(managerId)) {
+      return null;
+    }
+    Integer cycleStart = inProgress.get(managerId);
+    if (cycleStart != null) {
+      List<Integer> cycle = walk.subList(cycleStart, walk.size()).stream()
+          .map(Employee::id)
+          .toList();
+      problems.add(new HierarchyProblem(Type.CIRCULAR_REFERENCE, cycle,
+          "Circular reference detected in hierarchy between employees " + cycle));
+      return null;
+    }
+    return manager;
+  }
+}
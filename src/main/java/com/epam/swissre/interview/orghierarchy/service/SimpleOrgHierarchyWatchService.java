@@ -0,0 +1,88 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.exception.OrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReportsDelta;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.OrgHierarchyWatcher;
+import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Loads the organization with the {@link OrgHierarchyWatcher}, validates it with the
+ * {@link OrgHierarchyValidationService} and outputs the reports of the
+ * {@link OrgHierarchyReportingService} via the {@link ReportsWriter}, like
+ * {@link SimpleOrgHierarchyAnalyzerService} does. Then every change found by the watcher is applied
+ * by the {@link IncrementalOrgHierarchyAnalyzerService}, which re-checks only the affected managers
+ * and subtrees, and only the changed and resolved findings are output.
+ *
+ * <p>A change that cannot be applied, e.g. a line being edited or a broken hierarchy, is reported
+ * on the error stream and left out, so that the next change is applied to the last valid state of
+ * the organization.
+ */
+class SimpleOrgHierarchyWatchService implements OrgHierarchyWatchService {
+
+  private final OrgHierarchyWatcher watcher;
+  private final ReportsWriter writer;
+  private final OrgHierarchyValidationService validationService;
+  private final OrgHierarchyReportingService reportingService;
+  private final IncrementalOrgHierarchyAnalyzerService incrementalService;
+  private final PrintStream errorStream;
+
+  public SimpleOrgHierarchyWatchService(OrgHierarchyWatcher watcher, ReportsWriter writer,
+      OrgHierarchyValidationService validationService,
+      OrgHierarchyReportingService reportingService,
+      IncrementalOrgHierarchyAnalyzerService incrementalService, PrintStream errorStream) {
+    this.watcher = watcher;
+    this.writer = writer;
+    this.validationService = validationService;
+    this.reportingService = reportingService;
+    this.incrementalService = incrementalService;
+    this.errorStream = errorStream;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws InvalidOrgHierarchyException if the initial hierarchy has structural problems, all of
+   *                                      which are reported in the exception
+   */
+  @Override
+  public void watch(String source) {
+    try (watcher) {
+      Organization organization = watcher.load(source);
+      List<HierarchyProblem> problems = validationService.validate(organization);
+      if (!problems.isEmpty()) {
+        throw new InvalidOrgHierarchyException(problems);
+      }
+      OrgHierarchyReports reports = reportingService.buildReports(organization);
+      writer.longReportingLines(reports.longReportingLines());
+      writer.underpaidManagers(reports.underpaidManagers());
+      writer.overpaidManagers(reports.overpaidManagers());
+      while (true) {
+        reanalyze(organization, reports);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void reanalyze(Organization organization, OrgHierarchyReports reports)
+      throws InterruptedException {
+    try {
+      List<OrgChange> changes = watcher.awaitChanges();
+      OrgHierarchyReportsDelta delta = incrementalService.reanalyze(organization, reports, changes);
+      watcher.acceptChanges();
+      writer.longReportingLines(delta.changed().longReportingLines());
+      writer.underpaidManagers(delta.changed().underpaidManagers());
+      writer.overpaidManagers(delta.changed().overpaidManagers());
+      writer.resolvedFindings(delta.resolved());
+    } catch (OrgHierarchyException e) {
+      errorStream.println("Ignoring the last change of the source: " + e.getMessage());
+    }
+  }
+}
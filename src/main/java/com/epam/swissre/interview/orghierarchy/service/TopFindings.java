@@ -0,0 +1,83 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BiFunction;
+
+/**
+ * The {@code TopFindings} class keeps the worst findings of a report, i.e. the ones with the
+ * highest score, out of the findings offered one at a time. It is a bounded min-heap: once it holds
+ * the limit, a new finding only gets in by evicting the least bad one, so the memory used is
+ * proportional to the limit rather than to the number of findings.
+ *
+ * <p>Findings with the same score are ranked by ascending employee ID, so that the selection does
+ * not depend on the order in which the findings are offered.
+ */
+final class TopFindings {
+
+  // the least bad finding first, i.e. at the head of the heap
+  private static final Comparator<Finding> LEAST_BAD_FIRST = Comparator
+      .comparingDouble(Finding::score)
+      .thenComparing(Comparator.comparingInt((Finding f) -> f.employee().id()).reversed());
+
+  private final int limit;
+  private final PriorityQueue<Finding> heap = new PriorityQueue<>(LEAST_BAD_FIRST);
+
+  /**
+   * Creates an empty selection.
+   *
+   * @param limit the maximum number of findings to keep
+   * @throws IllegalArgumentException if the limit is not positive
+   */
+  TopFindings(int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("The number of findings to keep must be positive.");
+    }
+    this.limit = limit;
+  }
+
+  /**
+   * Offers a finding, which is kept if it is among the worst ones offered so far.
+   *
+   * @param employee the employee the finding is about
+   * @param score    how bad the finding is, the higher the worse
+   */
+  void offer(Employee employee, double score) {
+    if (heap.size() == limit) {
+      Finding leastBad = heap.peek();
+      if (score < leastBad.score()
+          || score == leastBad.score() && employee.id() > leastBad.employee().id()) {
+        return;
+      }
+      heap.poll();
+    }
+    heap.add(new Finding(employee, score));
+  }
+
+  /**
+   * Returns the findings kept, the worst first.
+   *
+   * @param value computes the value of a finding reported for an employee from its score, e.g. only
+   *              for the findings kept
+   * @param <V>   the type of the value associated with each employee
+   * @return the worst findings by employee, in descending order of their score
+   */
+  <V> Map<Employee, V> toMap(BiFunction<Employee, Double, V> value) {
+    List<Finding> findings = new ArrayList<>(heap);
+    findings.sort(LEAST_BAD_FIRST.reversed());
+    Map<Employee, V> worstFindings = new LinkedHashMap<>();
+    for (Finding finding : findings) {
+      worstFindings.put(finding.employee(), value.apply(finding.employee(), finding.score()));
+    }
+    return worstFindings;
+  }
+
+  private record Finding(Employee employee, double score) {
+
+  }
+}
@@ -0,0 +1,25 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for the validation of the structure of an organization.
+ */
+@Name("com.epam.swissre.interview.orghierarchy.Validation")
+@Label("Hierarchy Validation")
+@Description("Search for the structural problems of the hierarchy")
+@Category({"Org Hierarchy Checker", "Service"})
+@StackTrace(false)
+class ValidationEvent extends Event {
+
+  @Label("Employees")
+  int employees;
+
+  @Label("Problems")
+  int problems;
+}
@@ -0,0 +1,32 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Creates the executors running every task on a virtual thread of its own when the JVM supports
+ * them, i.e. from Java 21 on. The factory method of the JDK is looked up reflectively, so that the
+ * application still runs on Java 17, with the given fallback executor of platform threads.
+ */
+public final class VirtualThreadExecutors {
+
+  private VirtualThreadExecutors() {
+  }
+
+  /**
+   * Creates an executor starting a new virtual thread for each task, or the fallback executor if
+   * the JVM has no virtual threads.
+   *
+   * @param fallback the executor to use without virtual threads, e.g. a pool of platform threads
+   * @return a new {@link ExecutorService}
+   */
+  public static ExecutorService newThreadPerTaskExecutor(Supplier<ExecutorService> fallback) {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return fallback.get();
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.epam.swissre.interview.orghierarchy;
 import com.epam.swissre.interview.orghierarchy.model.Employee;
 import com.epam.swissre.interview.orghierarchy.model.Organization;
 import java.util.List;
+import java.util.Random;
 
 public interface Fixture {
 
@@ -20,4 +21,48 @@ public interface Fixture {
         .forEach(organization::addEmployee);
     return organization;
   }
+
+  /**
+   * Creates a valid organization of random salaries, where the CEO has ID 1 and every other
+   * employee reports to one of the employees with a lower ID, picked by the given strategy.
+   */
+  static Organization createRandomOrganization(int size, long seed, ManagerPicker managerPicker) {
+    return createRandomOrganization(size, new Random(seed), managerPicker);
+  }
+
+  /**
+   * Creates a random organization like {@link #createRandomOrganization(int, long, ManagerPicker)}
+   * does, drawing from the given source of randomness, e.g. to keep drawing from it afterwards.
+   */
+  static Organization createRandomOrganization(int size, Random random,
+      ManagerPicker managerPicker) {
+    Organization organization = new Organization(size);
+    organization.addEmployee(new Employee(1, "CEO", "Boss", 200000, null));
+    for (int id = 2; id <= size; id++) {
+      int salary = 30000 + random.nextInt(100000);
+      organization.addEmployee(new Employee(id, "Worker" + id % 7, "Jones" + id % 11, salary,
+          managerPicker.pick(random, id)));
+    }
+    return organization;
+  }
+
+  /**
+   * Picks the manager of an employee of a random organization among the employees added before.
+   */
+  @FunctionalInterface
+  interface ManagerPicker {
+
+    /**
+     * Any employee added before, which makes the hierarchy shallow.
+     */
+    ManagerPicker ANY = (random, id) -> 1 + random.nextInt(id - 1);
+
+    /**
+     * One of the 50 employees added last, which makes the hierarchy deeper.
+     */
+    ManagerPicker RECENT =
+        (random, id) -> Math.max(1, id - 1 - random.nextInt(Math.min(id - 1, 50)));
+
+    int pick(Random random, int id);
+  }
 }
@@ -0,0 +1,46 @@
+package com.epam.swissre.interview.orghierarchy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Records the Java Flight Recorder events emitted by the code under test.
+ */
+public final class FlightRecordings {
+
+  private FlightRecordings() {
+  }
+
+  /**
+   * Runs the given action with a recording of the given events, without any threshold.
+   *
+   * @param action     the action to record
+   * @param eventNames the names of the events to record
+   * @return the recorded events, in the order they were committed
+   */
+  public static List<RecordedEvent> record(Runnable action, String... eventNames) {
+    try (Recording recording = new Recording()) {
+      for (String eventName : eventNames) {
+        recording.enable(eventName).withoutThreshold();
+      }
+      recording.start();
+      action.run();
+      recording.stop();
+      Path file = Files.createTempFile("org-hierarchy-", ".jfr");
+      try {
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+      } finally {
+        Files.delete(file);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.epam.swissre.interview.orghierarchy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OrgHierarchyBatchCheckerTest {
+
+  private static final String CSV = """
+      Id,firstName,lastName,salary,managerId
+      123,Joe,Doe,60000,
+      124,Martin,Chekov,45000,123
+      125,Bob,Ronstad,47000,123
+      300,Alice,Hasacat,50000,124
+      305,Brett,Hardleaf,34000,300
+      """;
+
+  private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    System.setOut(new PrintStream(outputStream));
+  }
+
+  @Test
+  void main_withDirectory_shouldWriteTheReportsOfEachFileAndTheSummary() throws IOException {
+    Path input = Files.createDirectory(tempDir.resolve("input"));
+    Files.writeString(input.resolve("first.csv"), CSV);
+    Files.writeString(input.resolve("second.csv"), CSV);
+    Files.writeString(input.resolve("notes.txt"), "not an organization");
+    Path output = tempDir.resolve("output");
+
+    OrgHierarchyBatchChecker.main("--output-dir", output.toString(), "--ndjson",
+        input.toString(), tempDir.resolve("missing.csv").toString());
+
+    String reports = Files.readString(output.resolve("first.ndjson"));
+    assertTrue(reports.contains("\"rule\":\"UNDERPAID_MANAGER\",\"employeeId\":124"));
+    assertEquals(reports, Files.readString(output.resolve("second.ndjson")));
+    String summary = Files.readString(output.resolve("summary.json"));
+    assertTrue(summary.contains("\"totalFiles\":3,\"failedFiles\":1,\"employees\":10"));
+    assertTrue(outputStream.toString()
+        .startsWith("Analyzed 3 files (1 failed) with 10 employees and 2 findings in "));
+  }
+
+  @Test
+  void main_withTenantsOption_shouldWriteTheReportsOfEachTenant() throws IOException {
+    Path export = Files.writeString(tempDir.resolve("export.csv"), """
+        Id,firstName,lastName,salary,managerId,tenant
+        123,Joe,Doe,60000,,Acme UK
+        124,Martin,Chekov,45000,123,Acme UK
+        1,Ann,Lee,90000,,Acme US
+        125,Bob,Ronstad,47000,123,Acme UK
+        300,Alice,Hasacat,50000,124,Acme UK
+        305,Brett,Hardleaf,34000,300,Acme UK
+        """);
+    Path output = tempDir.resolve("output");
+
+    OrgHierarchyBatchChecker.main("--tenants", "--output-dir", output.toString(),
+        export.toString());
+
+    assertTrue(Files.readString(output.resolve("Acme UK.txt"))
+        .contains("Employee[id=124, firstName=Martin, lastName=Chekov, salary=45000, "
+            + "managerId=123] earns less than intended by"));
+    assertTrue(Files.readString(output.resolve("summary.json"))
+        .contains("\"totalFiles\":2,\"failedFiles\":0,\"employees\":6"));
+    assertTrue(outputStream.toString()
+        .startsWith("Analyzed 2 tenants (0 failed) with 6 employees and 1 findings in "));
+  }
+
+  @Test
+  void main_withTenantsOptionAndSeveralFiles_shouldThrowConfigurationException() {
+    assertThrows(ConfigurationException.class,
+        () -> OrgHierarchyBatchChecker.main("--tenants", "first.csv", "second.csv"));
+  }
+
+  @Test
+  void main_withoutSources_shouldThrowConfigurationException() {
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> OrgHierarchyBatchChecker.main("--ndjson"));
+
+    assertEquals(OrgHierarchyBatchChecker.USAGE, exception.getMessage());
+  }
+
+  @Test
+  void listSources_withDirectory_shouldListItsCsvFilesSortedByName() throws IOException {
+    Files.writeString(tempDir.resolve("b.csv"), CSV);
+    Files.writeString(tempDir.resolve("a.csv"), CSV);
+    Files.createDirectory(tempDir.resolve("nested.csv"));
+
+    assertEquals(List.of("first.csv", tempDir.resolve("a.csv").toString(),
+            tempDir.resolve("b.csv").toString()),
+        OrgHierarchyBatchChecker.listSources(List.of("first.csv", tempDir.toString())));
+  }
+}
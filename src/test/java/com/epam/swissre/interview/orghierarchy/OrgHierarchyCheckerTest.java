@@ -1,11 +1,19 @@
 package com.epam.swissre.interview.orghierarchy;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class OrgHierarchyCheckerTest {
 
@@ -34,4 +42,119 @@ class OrgHierarchyCheckerTest {
     assertTrue(actualOutput.contains("Overpaid managers:"),
         "Expected the output to contain the list of overpaid managers");
   }
+
+  @Test
+  void main_withNonPositiveTopOption_shouldThrowConfigurationException() {
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> OrgHierarchyChecker.main("--top", "0"));
+
+    assertEquals("Invalid value for the option --top: 0", exception.getMessage());
+  }
+
+  @Test
+  void main_withProfileOption_shouldPrintAndWriteTheProfileOfEachPhase(@TempDir Path tempDir)
+      throws IOException {
+    Path profileOutput = tempDir.resolve("profile.json");
+
+    OrgHierarchyChecker.main("--profile", "--profile-output", profileOutput.toString());
+
+    String actualOutput = outputStream.toString();
+    assertTrue(actualOutput.contains("Profile of the default file ("),
+        "Expected the output to contain the summary of the profile");
+    assertTrue(actualOutput.contains("Throughput: "),
+        "Expected the output to contain the throughput of the run");
+    String profile = Files.readString(profileOutput);
+    for (String phase : new String[]{"load", "validate", "report", "write"}) {
+      assertTrue(profile.contains("{\"phase\":\"" + phase + "\","),
+          "Expected the profile file to contain the phase " + phase);
+    }
+  }
+
+  @Test
+  void main_withCacheDirOption_shouldReplayTheReportsOfAnUnchangedFile(@TempDir Path tempDir) {
+    String cacheDir = tempDir.resolve("cache").toString();
+    OrgHierarchyChecker.main("--cache-dir", cacheDir);
+    String firstOutput = outputStream.toString();
+    outputStream.reset();
+
+    OrgHierarchyChecker.main("--cache-dir", cacheDir);
+
+    String secondOutput = outputStream.toString();
+    assertFalse(secondOutput.contains("Loaded the following organization"),
+        "Expected the file not to be loaded again");
+    assertEquals(firstOutput.substring(firstOutput.indexOf("Too long reporting lines:")),
+        secondOutput.substring(secondOutput.indexOf("Too long reporting lines:")));
+  }
+
+  @Test
+  void main_withNonPositiveCacheMaxSize_shouldThrowConfigurationException(@TempDir Path tempDir) {
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> OrgHierarchyChecker.main("--cache-dir", tempDir.toString(), "--cache-max-size",
+            "0"));
+
+    assertEquals("Invalid value for the option --cache-max-size: 0", exception.getMessage());
+  }
+
+  @Test
+  void main_withWatchAndTopOptions_shouldThrowConfigurationException() {
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> OrgHierarchyChecker.main("--watch", "--top", "3"));
+
+    assertEquals("The option --top cannot be combined with --watch", exception.getMessage());
+  }
+
+  @Test
+  void main_withWriteSnapshotThenSnapshotOptions_shouldOutputTheSameReports(@TempDir Path tempDir) {
+    String snapshot = tempDir.resolve("org.snapshot").toString();
+    OrgHierarchyChecker.main();
+    String csvOutput = outputStream.toString();
+    outputStream.reset();
+
+    OrgHierarchyChecker.main("--write-snapshot", snapshot);
+    String writeSnapshotOutput = outputStream.toString();
+    outputStream.reset();
+    OrgHierarchyChecker.main("--snapshot", snapshot);
+
+    String snapshotOutput = outputStream.toString();
+    String reports = csvOutput.substring(csvOutput.indexOf("Too long reporting lines:"));
+    assertEquals(reports, writeSnapshotOutput);
+    assertEquals(reports, snapshotOutput);
+  }
+
+  @Test
+  void main_withParallelOption_shouldOutputTheSameReports() {
+    OrgHierarchyChecker.main();
+    String sequentialOutput = outputStream.toString();
+    outputStream.reset();
+
+    OrgHierarchyChecker.main("--parallel");
+
+    assertEquals(sequentialOutput, outputStream.toString());
+  }
+
+  @Test
+  void main_withWatchAndParallelOptions_shouldThrowConfigurationException() {
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> OrgHierarchyChecker.main("--watch", "--parallel"));
+
+    assertEquals("The option --parallel cannot be combined with --watch", exception.getMessage());
+  }
+
+  @Test
+  void main_withSnapshotAndTopOptions_shouldThrowConfigurationException() {
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> OrgHierarchyChecker.main("--snapshot", "--top", "3", "org.snapshot"));
+
+    assertEquals("The option --top cannot be combined with --snapshot", exception.getMessage());
+  }
+
+  @Test
+  void main_withSnapshotAndWriteSnapshotOptions_shouldThrowConfigurationException() {
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> OrgHierarchyChecker.main("--snapshot", "--write-snapshot", "copy.snapshot",
+            "org.snapshot"));
+
+    assertEquals("The option --write-snapshot cannot be combined with --snapshot",
+        exception.getMessage());
+  }
 }
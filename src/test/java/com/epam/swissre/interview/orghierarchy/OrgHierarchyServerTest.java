@@ -0,0 +1,109 @@
+package com.epam.swissre.interview.orghierarchy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.swissre.interview.orghierarchy.service.ServiceFactory;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OrgHierarchyServerTest {
+
+  private static final String UNDERPAID_MANAGER_124 = "{\"rule\":\"UNDERPAID_MANAGER\","
+      + "\"employeeId\":124,\"firstName\":\"Martin\",\"lastName\":\"Chekov\",\"salary\":45000,"
+      + "\"managerId\":123,\"amount\":15000.00}\n";
+
+  private final HttpClient client = HttpClient.newHttpClient();
+  private OrgHierarchyServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = OrgHierarchyServer.start(ServiceFactory.newOrgHierarchyQueryService(), 0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.close();
+  }
+
+  private HttpResponse<String> send(String method, String pathAndQuery)
+      throws IOException, InterruptedException {
+    HttpRequest request = HttpRequest.newBuilder(
+            URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery))
+        .method(method, BodyPublishers.noBody())
+        .build();
+    return client.send(request, BodyHandlers.ofString());
+  }
+
+  @Test
+  void getReports_shouldReturnTheFindingsOfTheDefaultSource() throws Exception {
+    HttpResponse<String> response = send("GET", "/reports");
+
+    assertEquals(200, response.statusCode());
+    assertEquals("application/x-ndjson",
+        response.headers().firstValue("Content-Type").orElseThrow());
+    assertEquals(UNDERPAID_MANAGER_124, response.body());
+  }
+
+  @Test
+  void getReports_withRule_shouldReturnTheFindingsOfThatRuleOnly() throws Exception {
+    assertEquals(UNDERPAID_MANAGER_124, send("GET", "/reports?rule=UNDERPAID_MANAGER").body());
+    assertEquals("", send("GET", "/reports?rule=OVERPAID_MANAGER").body());
+  }
+
+  @Test
+  void getReports_withUnknownRule_shouldRespondBadRequest() throws Exception {
+    HttpResponse<String> response = send("GET", "/reports?rule=NOPE");
+
+    assertEquals(400, response.statusCode());
+    assertEquals("Unknown rule: NOPE\n", response.body());
+  }
+
+  @Test
+  void getReports_withMissingSource_shouldRespondUnprocessable() throws Exception {
+    assertEquals(422, send("GET", "/reports?source=missing.csv").statusCode());
+  }
+
+  @Test
+  void getReportingLine_shouldReturnTheManagersUpToTheCEO() throws Exception {
+    HttpResponse<String> response = send("GET",
+        "/reporting-line?source=org-hierarchy-example-1.csv&employee=305");
+
+    assertEquals(200, response.statusCode());
+    assertEquals("{\"employeeId\":305,\"reportingLine\":[300,124,123]}\n", response.body());
+  }
+
+  @Test
+  void getReportingLine_withUnknownEmployee_shouldRespondNotFound() throws Exception {
+    assertEquals(404, send("GET", "/reporting-line?employee=999").statusCode());
+  }
+
+  @Test
+  void getReportingLine_withInvalidEmployee_shouldRespondBadRequest() throws Exception {
+    assertEquals(400, send("GET", "/reporting-line?employee=abc").statusCode());
+    assertEquals(400, send("GET", "/reporting-line").statusCode());
+  }
+
+  @Test
+  void reload_shouldReturnTheNumberOfEmployees() throws Exception {
+    HttpResponse<String> response = send("POST", "/reload");
+
+    assertEquals(200, response.statusCode());
+    assertEquals("{\"employees\":5}\n", response.body());
+  }
+
+  @Test
+  void reload_withGet_shouldRespondMethodNotAllowed() throws Exception {
+    HttpResponse<String> response = send("GET", "/reload");
+
+    assertEquals(405, response.statusCode());
+    assertEquals("POST", response.headers().firstValue("Allow").orElseThrow());
+  }
+}
@@ -0,0 +1,83 @@
+package com.epam.swissre.interview.orghierarchy.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class CommandLineOptionsTest {
+
+  private static final Set<String> VALUE_OPTIONS = Set.of("size", "ratio", "day");
+  private static final Set<String> FLAG_OPTIONS = Set.of("verbose");
+
+  private static CommandLineOptions parse(String... args) {
+    return CommandLineOptions.parse(args, VALUE_OPTIONS, FLAG_OPTIONS);
+  }
+
+  @Test
+  void parse_withOptionsAndArguments_shouldSeparateThem() {
+    CommandLineOptions options = parse("in.csv", "--size", "10", "--ratio=1.5", "--verbose",
+        "out.csv");
+
+    assertEquals(10, options.getInt("size", 0));
+    assertEquals(1.5, options.getDouble("ratio", 0));
+    assertTrue(options.hasFlag("verbose"));
+    assertEquals(List.of("in.csv", "out.csv"), options.arguments());
+  }
+
+  @Test
+  void parse_withDoubleDash_shouldTreatTheRestAsArguments() {
+    CommandLineOptions options = parse("--size=1", "--", "--verbose");
+
+    assertFalse(options.hasFlag("verbose"));
+    assertEquals(List.of("--verbose"), options.arguments());
+  }
+
+  @Test
+  void parse_withUnknownOption_shouldThrowConfigurationException() {
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> parse("--colour=red"));
+    assertEquals("Unknown option: --colour=red", exception.getMessage());
+  }
+
+  @Test
+  void parse_withMissingValue_shouldThrowConfigurationException() {
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> parse("--size"));
+    assertEquals("Missing value for the option --size", exception.getMessage());
+  }
+
+  @Test
+  void getters_withoutValue_shouldReturnTheDefaults() {
+    CommandLineOptions options = parse();
+
+    assertFalse(options.hasValue("size"));
+    assertEquals(7, options.getInt("size", 7));
+    assertEquals(7L, options.getLong("size", 7L));
+    assertEquals("x", options.getString("size", "x"));
+    assertEquals(DayOfWeek.MONDAY, options.getEnum("day", DayOfWeek.class, DayOfWeek.MONDAY));
+  }
+
+  @Test
+  void getEnum_withLowerCaseValue_shouldReturnTheConstant() {
+    assertEquals(DayOfWeek.FRIDAY,
+        parse("--day=friday").getEnum("day", DayOfWeek.class, DayOfWeek.MONDAY));
+  }
+
+  @Test
+  void getInt_withInvalidValue_shouldThrowConfigurationException() {
+    CommandLineOptions options = parse("--size", "ten");
+
+    ConfigurationException exception = assertThrows(ConfigurationException.class,
+        () -> options.getInt("size", 0));
+    assertEquals("Invalid value for the option --size: ten", exception.getMessage());
+    assertInstanceOf(NumberFormatException.class, exception.getCause());
+  }
+}
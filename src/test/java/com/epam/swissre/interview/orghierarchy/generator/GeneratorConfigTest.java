@@ -0,0 +1,72 @@
+package com.epam.swissre.interview.orghierarchy.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import org.junit.jupiter.api.Test;
+
+class GeneratorConfigTest {
+
+  private static final ReportingConfig REPORTING_CONFIG = new ReportingConfig(4, 1.2, 1.5);
+
+  @Test
+  void build_withDefaults_shouldUseTheDefaultShape() {
+    GeneratorConfig config = GeneratorConfig.builder(100).reportingConfig(REPORTING_CONFIG).build();
+
+    assertEquals(100, config.size());
+    assertEquals(FanOutDistribution.UNIFORM, config.fanOutDistribution());
+    assertEquals(0, config.minFanOut());
+    assertEquals(10, config.maxFanOut());
+    assertEquals(Integer.MAX_VALUE, config.maxDepth());
+  }
+
+  @Test
+  void build_withMinFanOutAboveMax_shouldThrowConfigurationException() {
+    GeneratorConfig.Builder builder = GeneratorConfig.builder(100)
+        .fanOut(FanOutDistribution.UNIFORM, 5, 4);
+
+    ConfigurationException exception = assertThrows(ConfigurationException.class, builder::build);
+    assertEquals("Found value 5 for minFanOut while it must be between 0 and 4",
+        exception.getMessage());
+  }
+
+  @Test
+  void build_withInvalidViolatorShare_shouldThrowConfigurationException() {
+    GeneratorConfig.Builder builder = GeneratorConfig.builder(100).violatorShare(1.5);
+
+    ConfigurationException exception = assertThrows(ConfigurationException.class, builder::build);
+    assertEquals("Found value 1.5 for violatorShare while it must be between 0.0 and 1.0",
+        exception.getMessage());
+  }
+
+  @Test
+  void build_withTooSmallShape_shouldThrowConfigurationException() {
+    // 1 + 3 + 9 employees at most
+    GeneratorConfig.Builder builder = GeneratorConfig.builder(14)
+        .fanOut(FanOutDistribution.FIXED, 3, 3).maxDepth(2);
+
+    ConfigurationException exception = assertThrows(ConfigurationException.class, builder::build);
+    assertEquals("A hierarchy with a fan-out of at most 3 and a depth of at most 2 cannot hold 14"
+        + " employees", exception.getMessage());
+  }
+
+  @Test
+  void build_withTooDeepForCompliantSalaries_shouldThrowConfigurationException() {
+    // mostly one direct report or none, so the hierarchy goes down to the max depth
+    GeneratorConfig.Builder builder = GeneratorConfig.builder(100_000)
+        .reportingConfig(REPORTING_CONFIG).fanOut(FanOutDistribution.SKEWED, 0, 2).maxDepth(200);
+
+    ConfigurationException exception = assertThrows(ConfigurationException.class, builder::build);
+    assertEquals("A hierarchy about 200 levels deep cannot hold salaries complying with the salary"
+        + " factors from a leaf salary of 40000: at most 33 levels fit", exception.getMessage());
+  }
+
+  @Test
+  void build_withTooManyDefects_shouldThrowConfigurationException() {
+    GeneratorConfig.Builder builder = GeneratorConfig.builder(Integer.MAX_VALUE - 10).cycles(10);
+
+    assertThrows(ConfigurationException.class, builder::build);
+  }
+}
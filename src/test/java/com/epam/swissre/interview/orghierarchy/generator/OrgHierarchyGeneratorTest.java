@@ -0,0 +1,174 @@
+package com.epam.swissre.interview.orghierarchy.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class OrgHierarchyGeneratorTest {
+
+  private static final ReportingConfig REPORTING_CONFIG = new ReportingConfig(4, 1.2, 1.5);
+
+  private static GeneratorConfig.Builder config(int size) {
+    return GeneratorConfig.builder(size).reportingConfig(REPORTING_CONFIG);
+  }
+
+  private static String writeCsv(GeneratorConfig config) throws IOException {
+    StringWriter writer = new StringWriter();
+    new OrgHierarchyGenerator(config).writeCsv(writer);
+    return writer.toString();
+  }
+
+  private static List<Employee> generate(GeneratorConfig config) {
+    List<Employee> employees = new ArrayList<>();
+    new OrgHierarchyGenerator(config).generate(employees::add);
+    return employees;
+  }
+
+  /**
+   * Counts the managers earning less and more than allowed by the salary rules.
+   *
+   * @return the numbers of compliant, underpaid and overpaid managers
+   */
+  private static int[] countManagers(List<Employee> employees) {
+    Map<Integer, long[]> teams = new HashMap<>();
+    for (Employee employee : employees) {
+      if (employee.managerId() != null) {
+        long[] team = teams.computeIfAbsent(employee.managerId(), id -> new long[2]);
+        team[0]++;
+        team[1] += employee.salary();
+      }
+    }
+    int[] counts = new int[3];
+    for (Employee employee : employees) {
+      long[] team = teams.get(employee.id());
+      if (team != null) {
+        double average = (double) team[1] / team[0];
+        counts[employee.salary() < 1.2 * average ? 1 : employee.salary() > 1.5 * average ? 2 : 0]++;
+      }
+    }
+    return counts;
+  }
+
+  @Test
+  void writeCsv_withSameSeed_shouldWriteTheSameFile() throws IOException {
+    GeneratorConfig config = config(5000).seed(7).fanOut(FanOutDistribution.SKEWED, 0, 40)
+        .build();
+
+    assertEquals(writeCsv(config), writeCsv(config));
+    assertNotEquals(writeCsv(config), writeCsv(config(5000).seed(8)
+        .fanOut(FanOutDistribution.SKEWED, 0, 40).build()));
+  }
+
+  @Test
+  void writeCsv_shouldWriteTheHeaderAndOneLinePerEmployee() throws IOException {
+    String[] lines = writeCsv(config(100).build()).split("\n");
+
+    assertEquals(101, lines.length);
+    assertEquals("Id,firstName,lastName,salary,managerId", lines[0]);
+    assertTrue(lines[1].matches("1,\\w+,\\w+,\\d+,"), lines[1]);
+    assertTrue(lines[2].matches("2,\\w+,\\w+,\\d+,1"), lines[2]);
+  }
+
+  @Test
+  void createOrganization_shouldGenerateAValidHierarchyOfTheGivenSize() {
+    Organization organization = new OrgHierarchyGenerator(config(20_000).seed(3).build())
+        .createOrganization();
+
+    assertEquals(20_000, organization.getEmployees().size());
+    assertEquals(1, organization.getEmployees().stream().filter(e -> e.managerId() == null)
+        .count());
+    organization.getEmployees().stream()
+        .filter(e -> e.managerId() != null)
+        .forEach(e -> assertTrue(e.managerId() < e.id(), e::toString));
+  }
+
+  @Test
+  void generate_withFixedFanOutAndMaxDepth_shouldGenerateAFullTree() {
+    List<Employee> employees = generate(config(15).fanOut(FanOutDistribution.FIXED, 2, 2)
+        .maxDepth(3).build());
+
+    assertEquals(15, employees.size());
+    assertNull(employees.get(0).managerId());
+    for (int i = 1; i < employees.size(); i++) {
+      assertEquals((i - 1) / 2 + 1, employees.get(i).managerId());
+    }
+  }
+
+  @Test
+  void generate_withMaxDepth_shouldNotGoDeeper() {
+    List<Employee> employees = generate(config(10_000).fanOut(FanOutDistribution.UNIFORM, 0, 30)
+        .maxDepth(3).build());
+
+    Map<Integer, Integer> depths = new HashMap<>();
+    for (Employee employee : employees) {
+      int depth = employee.managerId() == null ? 0 : depths.get(employee.managerId()) + 1;
+      assertTrue(depth <= 3, employee::toString);
+      depths.put(employee.id(), depth);
+    }
+    assertEquals(10_000, depths.size());
+  }
+
+  @Test
+  void generate_withoutViolators_shouldOnlyGenerateCompliantManagers() {
+    int[] counts = countManagers(generate(config(20_000).violatorShare(0).build()));
+
+    assertTrue(counts[0] > 1000);
+    assertEquals(0, counts[1]);
+    assertEquals(0, counts[2]);
+  }
+
+  @Test
+  void generate_withViolators_shouldGenerateTheirShare() {
+    int[] counts = countManagers(generate(config(20_000).violatorShare(0.4).build()));
+
+    int managers = counts[0] + counts[1] + counts[2];
+    assertEquals(0.2, (double) counts[1] / managers, 0.05);
+    assertEquals(0.2, (double) counts[2] / managers, 0.05);
+  }
+
+  @Test
+  void generate_withDeepHierarchy_shouldGenerateTheShareOfViolators() {
+    List<Employee> employees = generate(config(20_000).fanOut(FanOutDistribution.SKEWED, 0, 2)
+        .maxDepth(30).violatorShare(0.1).build());
+    int[] counts = countManagers(employees);
+
+    int managers = counts[0] + counts[1] + counts[2];
+    assertEquals(0.05, (double) counts[1] / managers, 0.02);
+    assertEquals(0.05, (double) counts[2] / managers, 0.02);
+    assertTrue(employees.stream().allMatch(e -> e.salary() >= 1000), "Expected no tiny salaries");
+  }
+
+  @Test
+  void generate_withDefects_shouldAppendCyclesAndDanglingManagers() {
+    List<Employee> employees = generate(config(1000).cycles(2).danglingManagers(3).build());
+
+    Map<Integer, Employee> byId = new HashMap<>();
+    employees.forEach(e -> byId.put(e.id(), e));
+    List<Employee> defects = employees.subList(1000, employees.size());
+    long dangling = defects.stream().filter(e -> !byId.containsKey(e.managerId())).count();
+    assertEquals(3, dangling);
+    // every other defect is part of a cycle
+    for (Employee defect : defects) {
+      if (byId.containsKey(defect.managerId())) {
+        int id = defect.managerId();
+        for (int steps = 0; steps < GeneratorConfig.MAX_CYCLE_LENGTH && id != defect.id();
+            steps++) {
+          id = byId.get(id).managerId();
+        }
+        assertEquals(defect.id(), id);
+      }
+    }
+  }
+}
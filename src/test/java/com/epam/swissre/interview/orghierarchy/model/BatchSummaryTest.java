@@ -0,0 +1,33 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BatchSummaryTest {
+
+  @Test
+  void totals_withSucceededAndFailedFiles_shouldAddUpTheSucceededOnes() {
+    BatchSummary summary = new BatchSummary(List.of(
+        new BatchFileResult("first.csv", 100, 3, 2, 1, 50, null),
+        BatchFileResult.failed("broken.csv", 10, "Broken"),
+        new BatchFileResult("second.csv", 20, 0, 1, 0, 30, null)), 90);
+
+    assertEquals(1, summary.failedFiles());
+    assertEquals(120, summary.employees());
+    assertEquals(7, summary.findings());
+  }
+
+  @Test
+  void createBatchSummary_withNullFiles_shouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new BatchSummary(null, 0));
+  }
+
+  @Test
+  void createBatchFileResult_withNegativeCount_shouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new BatchFileResult("first.csv", -1, 0, 0, 0, 0, null));
+  }
+}
@@ -0,0 +1,119 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ColumnarOrganizationTest implements Fixture {
+
+  @Test
+  void of_withOrganization_shouldKeepAllEmployees() {
+    Organization organization = Fixture.createSampleOrganization();
+
+    ColumnarOrganization columnar = ColumnarOrganization.of(organization);
+
+    assertEquals(organization.getEmployees().size(), columnar.size());
+    for (Employee employee : organization.getEmployees()) {
+      int index = columnar.indexOf(employee.id());
+      assertEquals(employee, columnar.toEmployee(index));
+    }
+    assertEquals(Set.copyOf(organization.getEmployees()),
+        Set.copyOf(columnar.toOrganization().getEmployees()));
+  }
+
+  @Test
+  void build_shouldIndexManagersAndDirectReports() {
+    ColumnarOrganization columnar = new ColumnarOrganization.Builder(4)
+        .addEmployee(1, "John", "Doe", 50000)
+        .addEmployee(2, "Jane", "Smith", 40000, 1)
+        .addEmployee(3, "Will", "Turner", 42000, 1)
+        .addEmployee(4, "Anna", "Doe", 30000, 2)
+        .build();
+
+    assertEquals(ColumnarOrganization.NO_MANAGER, columnar.managerIndex(columnar.indexOf(1)));
+    assertEquals(columnar.indexOf(1), columnar.managerIndex(columnar.indexOf(3)));
+    assertEquals(2, columnar.directReportCount(columnar.indexOf(1)));
+    Set<Integer> reports = new HashSet<>();
+    for (int n = 0; n < 2; n++) {
+      reports.add(columnar.id(columnar.directReport(columnar.indexOf(1), n)));
+    }
+    assertEquals(Set.of(2, 3), reports);
+    assertEquals(0, columnar.directReportCount(columnar.indexOf(4)));
+  }
+
+  @Test
+  void build_shouldShareRepeatedNames() {
+    ColumnarOrganization columnar = new ColumnarOrganization.Builder(2)
+        .addEmployee(1, "John", "Doe", 50000)
+        .addEmployee(2, new String("Jane"), new String("Doe"), 40000, 1)
+        .build();
+
+    assertSame(columnar.lastName(0), columnar.lastName(1),
+        "Expected repeated names to be stored once.");
+    assertEquals("Jane", columnar.firstName(1));
+  }
+
+  @Test
+  void build_withUnknownManager_shouldKeepTheReferencedId() {
+    ColumnarOrganization columnar = new ColumnarOrganization.Builder(2)
+        .addEmployee(1, "John", "Doe", 50000)
+        .addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER)
+        .build();
+
+    int index = columnar.indexOf(EMPLOYEE_NON_EXISTENT_MANAGER.id());
+    assertEquals(ColumnarOrganization.UNKNOWN_MANAGER, columnar.managerIndex(index));
+    assertEquals(EMPLOYEE_NON_EXISTENT_MANAGER, columnar.toEmployee(index));
+    assertNull(columnar.managerId(columnar.indexOf(1)));
+  }
+
+  @Test
+  void indexOf_whenEmployeeDoesNotExist_shouldReturnMinusOne() {
+    ColumnarOrganization columnar = ColumnarOrganization.of(Fixture.createSampleOrganization());
+
+    assertEquals(-1, columnar.indexOf(999));
+  }
+
+  @Test
+  void addEmployee_withDuplicateId_shouldThrowIllegalArgumentException() {
+    ColumnarOrganization.Builder builder = new ColumnarOrganization.Builder(2)
+        .addEmployee(1, "John", "Doe", 50000);
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> builder.addEmployee(1, "Jane", "Smith", 55000));
+    assertEquals("Duplicate employee ID: 1", exception.getMessage());
+  }
+
+  @Test
+  void addEmployee_withInvalidParameters_shouldThrowIllegalArgumentException() {
+    ColumnarOrganization.Builder builder = new ColumnarOrganization.Builder(2);
+
+    for (Runnable invalid : List.<Runnable>of(
+        () -> builder.addEmployee(0, "John", "Doe", 50000),
+        () -> builder.addEmployee(1, "John", "Doe", -1),
+        () -> builder.addEmployee(1, null, "Doe", 50000, 2),
+        () -> builder.addEmployee(null))) {
+      assertThrows(IllegalArgumentException.class, invalid::run);
+    }
+  }
+
+  @Test
+  void build_withManyEmployees_shouldGrowColumns() {
+    ColumnarOrganization.Builder builder = new ColumnarOrganization.Builder(1)
+        .addEmployee(1, "CEO", "Boss", 100000);
+    for (int id = 2; id <= 1000; id++) {
+      builder.addEmployee(id, "Worker", "Jones", 40000, id / 2);
+    }
+
+    ColumnarOrganization columnar = builder.build();
+
+    assertEquals(1000, columnar.size());
+    assertEquals(250, columnar.id(columnar.managerIndex(columnar.indexOf(500))));
+  }
+}
@@ -0,0 +1,51 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class IntIntHashMapTest {
+
+  private final IntIntHashMap map = new IntIntHashMap(4);
+
+  @Test
+  void get_whenKeyIsMissing_shouldReturnNoValue() {
+    assertEquals(IntIntHashMap.NO_VALUE, map.get(42));
+  }
+
+  @Test
+  void putIfAbsent_withManyKeys_shouldKeepAllOfThemAcrossRehashes() {
+    for (int key = -5000; key <= 5000; key++) {
+      assertEquals(IntIntHashMap.NO_VALUE, map.putIfAbsent(key * 31, key + 5000));
+    }
+
+    assertEquals(10001, map.size());
+    for (int key = -5000; key <= 5000; key++) {
+      assertEquals(key + 5000, map.get(key * 31));
+    }
+    assertEquals(IntIntHashMap.NO_VALUE, map.get(1));
+  }
+
+  @Test
+  void putIfAbsent_whenKeyIsPresent_shouldKeepTheExistingValue() {
+    map.putIfAbsent(7, 1);
+
+    assertEquals(1, map.putIfAbsent(7, 2));
+    assertEquals(1, map.get(7));
+  }
+
+  @Test
+  void put_whenKeyIsPresent_shouldReplaceTheValue() {
+    map.put(7, 1);
+    map.put(7, 2);
+
+    assertEquals(2, map.get(7));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  void put_withNegativeValue_shouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> map.put(7, -1));
+  }
+}
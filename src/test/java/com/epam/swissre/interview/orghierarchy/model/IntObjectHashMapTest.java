@@ -0,0 +1,152 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class IntObjectHashMapTest {
+
+  private final IntObjectHashMap<String> map = new IntObjectHashMap<>(4);
+
+  @Test
+  void get_whenKeyIsMissing_shouldReturnNull() {
+    assertNull(map.get(42));
+  }
+
+  @Test
+  void putIfAbsent_withManyKeys_shouldKeepAllOfThemAcrossRehashes() {
+    for (int key = -5000; key <= 5000; key++) {
+      assertNull(map.putIfAbsent(key * 31, "v" + key));
+    }
+
+    assertEquals(10001, map.size());
+    for (int key = -5000; key <= 5000; key++) {
+      assertEquals("v" + key, map.get(key * 31));
+    }
+    assertNull(map.get(1));
+  }
+
+  @Test
+  void putIfAbsent_whenKeyIsPresent_shouldKeepTheExistingValue() {
+    map.putIfAbsent(7, "first");
+
+    assertEquals("first", map.putIfAbsent(7, "second"));
+    assertEquals("first", map.get(7));
+  }
+
+  @Test
+  void putIfAbsent_withNullValue_shouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(7, null));
+  }
+
+  @Test
+  void remove_withEveryOtherKey_shouldKeepTheOthersReachable() {
+    for (int key = 0; key < 10000; key++) {
+      map.putIfAbsent(key, "v" + key);
+    }
+
+    for (int key = 0; key < 10000; key += 2) {
+      assertEquals("v" + key, map.remove(key));
+    }
+
+    assertEquals(5000, map.size());
+    for (int key = 0; key < 10000; key++) {
+      assertEquals(key % 2 == 0 ? null : "v" + key, map.get(key));
+    }
+    assertNull(map.remove(0));
+  }
+
+  @Test
+  void replace_whenKeyIsPresent_shouldReplaceTheValue() {
+    map.putIfAbsent(7, "first");
+
+    assertEquals("first", map.replace(7, "second"));
+    assertEquals("second", map.get(7));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  void replace_whenKeyIsMissing_shouldNotAddIt() {
+    assertNull(map.replace(7, "value"));
+    assertNull(map.get(7));
+    assertEquals(0, map.size());
+  }
+
+  @Test
+  void values_withCompactKeys_shouldIterateInTheOrderOfTheKeys() {
+    List<String> expected = new ArrayList<>();
+    for (int key = 100; key > 0; key--) {
+      map.putIfAbsent(key, "v" + key);
+    }
+    for (int key = 1; key <= 100; key++) {
+      expected.add("v" + key);
+    }
+    map.remove(50);
+    expected.remove("v50");
+
+    assertEquals(99, map.values().size());
+    assertEquals(expected, new ArrayList<>(map.values()));
+  }
+
+  @Test
+  void putIfAbsent_withCompactKeys_shouldNotScrambleThem() {
+    for (int key = 1; key <= 100000; key++) {
+      map.putIfAbsent(key, "v" + key);
+    }
+
+    assertFalse(map.isScrambled());
+  }
+
+  @Test
+  void putIfAbsent_withPowerOfTwoStride_shouldScrambleTheKeysAndKeepThemReachable() {
+    // the keys share their low bits, so that they cluster once only spread
+    for (int key = 1; key <= 20000; key++) {
+      assertNull(map.putIfAbsent(key * 1024, "v" + key));
+    }
+
+    assertTrue(map.isScrambled());
+    assertEquals(20000, map.size());
+    for (int key = 1; key <= 20000; key++) {
+      assertEquals("v" + key, map.get(key * 1024));
+    }
+    for (int key = 1; key <= 20000; key += 2) {
+      assertEquals("v" + key, map.remove(key * 1024));
+    }
+    for (int key = 1; key <= 20000; key++) {
+      assertEquals(key % 2 == 1 ? null : "v" + key, map.get(key * 1024));
+    }
+  }
+
+  @Test
+  void values_whenMapIsModifiedWhileIterating_shouldThrowConcurrentModificationException() {
+    map.putIfAbsent(1, "one");
+    map.putIfAbsent(2, "two");
+    Iterator<String> values = map.values().iterator();
+
+    map.remove(1);
+
+    assertThrows(ConcurrentModificationException.class, values::next);
+  }
+
+  @Test
+  void remove_withCollidingKeys_shouldKeepTheRestOfTheClusterReachable() {
+    // keys sharing the same low bits all start probing from the same slot
+    for (int key = 1; key <= 8; key++) {
+      map.putIfAbsent(key << 20, "v" + key);
+    }
+
+    map.remove(3 << 20);
+
+    for (int key = 1; key <= 8; key++) {
+      assertEquals(key == 3 ? null : "v" + key, map.get(key << 20));
+    }
+  }
+}
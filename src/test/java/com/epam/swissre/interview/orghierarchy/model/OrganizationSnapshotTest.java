@@ -0,0 +1,153 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class OrganizationSnapshotTest implements Fixture {
+
+  private static byte[] write(ColumnarOrganization organization) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    OrganizationSnapshot.write(organization, Channels.newChannel(output));
+    return output.toByteArray();
+  }
+
+  private static Set<Integer> directReportIds(ColumnarOrganization organization, int id) {
+    int index = organization.indexOf(id);
+    Set<Integer> ids = new HashSet<>();
+    for (int n = 0; n < organization.directReportCount(index); n++) {
+      ids.add(organization.id(organization.directReport(index, n)));
+    }
+    return ids;
+  }
+
+  @Test
+  void read_writtenSnapshot_shouldRestoreTheOrganization() throws IOException {
+    ColumnarOrganization organization =
+        ColumnarOrganization.of(Fixture.createSampleOrganization());
+
+    ColumnarOrganization restored = OrganizationSnapshot.read(ByteBuffer.wrap(write(organization)));
+
+    assertEquals(organization.size(), restored.size());
+    for (int i = 0; i < organization.size(); i++) {
+      assertEquals(organization.toEmployee(i), restored.toEmployee(i));
+      assertEquals(i, restored.indexOf(organization.id(i)));
+      assertEquals(directReportIds(organization, organization.id(i)),
+          directReportIds(restored, organization.id(i)));
+    }
+    assertEquals(-1, restored.indexOf(999_999));
+  }
+
+  @Test
+  void read_withUnknownManagersAndNonAsciiNames_shouldRestoreThem() throws IOException {
+    ColumnarOrganization organization = new ColumnarOrganization.Builder(3)
+        .addEmployee(1, "Zoë", "Müller", 50000)
+        .addEmployee(2, "Jane", "Smith", 40000, 1)
+        .addEmployee(3, "Will", "Turner", 42000, 77)
+        .build();
+
+    ColumnarOrganization restored = OrganizationSnapshot.read(ByteBuffer.wrap(write(organization)));
+
+    assertEquals(organization.toEmployee(0), restored.toEmployee(0));
+    assertEquals(77, restored.managerId(restored.indexOf(3)));
+    assertEquals(ColumnarOrganization.UNKNOWN_MANAGER, restored.managerIndex(restored.indexOf(3)));
+  }
+
+  @Test
+  void read_largeOrganization_shouldSpanSeveralWriteBuffers() throws IOException {
+    ColumnarOrganization.Builder builder = new ColumnarOrganization.Builder(50_000);
+    builder.addEmployee(1, "Ceo", "Boss", 100000);
+    for (int id = 2; id <= 50_000; id++) {
+      builder.addEmployee(id, "First" + id % 1000, "Last" + id % 777, 1000 + id, id / 2);
+    }
+    ColumnarOrganization organization = builder.build();
+
+    ColumnarOrganization restored = OrganizationSnapshot.read(ByteBuffer.wrap(write(organization)));
+
+    assertEquals(Set.copyOf(organization.toOrganization().getEmployees()),
+        Set.copyOf(restored.toOrganization().getEmployees()));
+  }
+
+  @Test
+  void read_withWrongMagic_shouldThrowIllegalArgumentException() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> OrganizationSnapshot.read(ByteBuffer.wrap(new byte[64])));
+
+    assertEquals("Not an organization snapshot", exception.getMessage());
+  }
+
+  @Test
+  void read_truncatedSnapshot_shouldThrowIllegalArgumentException() throws IOException {
+    byte[] snapshot = write(ColumnarOrganization.of(Fixture.createSampleOrganization()));
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> OrganizationSnapshot.read(
+            ByteBuffer.wrap(Arrays.copyOf(snapshot, snapshot.length - 3))));
+
+    assertEquals("Truncated organization snapshot", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+      "2, -1, 'Corrupt organization snapshot: count out of bounds'",
+      "2, 1000000000, 'Corrupt organization snapshot: ID index capacity not a power of two above "
+          + "twice the size: 32'",
+      "5, 24, 'Corrupt organization snapshot: ID index capacity not a power of two above twice "
+          + "the size: 24'",
+      "5, 4, 'Corrupt organization snapshot: ID index capacity not a power of two above twice "
+          + "the size: 4'",
+      "5, 1073741824, 'Truncated organization snapshot'",
+      "8, 0, 'Corrupt organization snapshot: ID out of bounds: 0'",
+      "22, 6, 'Corrupt organization snapshot: manager position out of bounds: 6'",
+      "28, 100, 'Corrupt organization snapshot: first name reference out of bounds: 100'",
+      "44, 99, 'Corrupt organization snapshot: direct reports not matching the managers'",
+  })
+  void read_withCorruptInt_shouldThrowIllegalArgumentException(int intIndex, int value,
+      String message) throws IOException {
+    byte[] snapshot = write(ColumnarOrganization.of(Fixture.createSampleOrganization()));
+    ByteBuffer.wrap(snapshot).order(ByteOrder.LITTLE_ENDIAN).putInt(intIndex * Integer.BYTES,
+        value);
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> OrganizationSnapshot.read(ByteBuffer.wrap(snapshot)));
+
+    assertEquals(message, exception.getMessage());
+  }
+
+  @Test
+  void read_withHashSlotsSwapped_shouldThrowIllegalArgumentException() throws IOException {
+    ColumnarOrganization organization =
+        ColumnarOrganization.of(Fixture.createSampleOrganization());
+    byte[] snapshot = write(organization);
+    ByteBuffer buffer = ByteBuffer.wrap(snapshot).order(ByteOrder.LITTLE_ENDIAN);
+    int size = organization.size();
+    int hashCapacity = buffer.getInt(5 * Integer.BYTES);
+    int valuesStart = (8 + 5 * size + size + 1 + buffer.getInt(4 * Integer.BYTES) + hashCapacity)
+        * Integer.BYTES;
+    // points every used slot of the ID index to the first employee
+    for (int slot = 0; slot < hashCapacity; slot++) {
+      if (buffer.getInt(valuesStart + slot * Integer.BYTES) >= 0) {
+        buffer.putInt(valuesStart + slot * Integer.BYTES, 0);
+      }
+    }
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> OrganizationSnapshot.read(buffer));
+
+    assertTrue(exception.getMessage().startsWith("Corrupt organization snapshot: ID index"),
+        exception.getMessage());
+  }
+}
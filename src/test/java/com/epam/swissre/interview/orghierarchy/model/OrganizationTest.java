@@ -1,9 +1,12 @@
 package com.epam.swissre.interview.orghierarchy.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +65,120 @@ class OrganizationTest {
     assertTrue(result.isEmpty(), "Expected no employee to be found with ID 999.");
   }
 
+  @Test
+  void getEmployeeOrNull_shouldReturnTheEmployeeOrNull() {
+    Employee employee = new Employee(1, "John", "Doe", 50000, null);
+
+    organization.addEmployee(employee);
+
+    assertEquals(employee, organization.getEmployeeOrNull(1));
+    assertNull(organization.getEmployeeOrNull(999));
+    assertTrue(organization.containsEmployee(1), "Expected to find the employee with ID 1.");
+    assertFalse(organization.containsEmployee(999), "Expected no employee with ID 999.");
+  }
+
+  @Test
+  void removeEmployee_withManyEmployees_shouldKeepTheOthersReachable() {
+    Organization presized = new Organization(1000);
+    presized.addEmployee(new Employee(1, "John", "Doe", 50000, null));
+    for (int id = 2; id <= 1000; id++) {
+      presized.addEmployee(new Employee(id, "First" + id, "Last" + id, 40000, 1));
+    }
+
+    for (int id = 2; id <= 1000; id += 3) {
+      presized.removeEmployee(id);
+    }
+
+    for (int id = 1; id <= 1000; id++) {
+      assertEquals(id == 1 || (id - 2) % 3 != 0, presized.containsEmployee(id),
+          "Unexpected presence of the employee with ID " + id);
+    }
+    assertEquals(667, presized.getEmployees().size());
+    assertEquals(666, presized.getDirectReports(1).size());
+  }
+
+  @Test
+  void getDirectReports_whenManagerHasReports_shouldReturnAllOfThem() {
+    Employee manager = new Employee(1, "John", "Doe", 50000, null);
+    Employee report1 = new Employee(2, "Jane", "Smith", 40000, 1);
+    Employee report2 = new Employee(3, "Will", "Turner", 42000, 1);
+    Employee indirectReport = new Employee(4, "Anna", "Brown", 30000, 2);
+
+    organization.addEmployee(manager);
+    organization.addEmployee(report1);
+    organization.addEmployee(report2);
+    organization.addEmployee(indirectReport);
+
+    var directReports = organization.getDirectReports(1);
+
+    assertEquals(2, directReports.size(), "Expected 2 direct reports for the manager.");
+    assertTrue(directReports.containsAll(List.of(report1, report2)),
+        "Expected both direct reports to be present.");
+    assertEquals(List.of(indirectReport), organization.getDirectReports(2));
+    assertThrows(UnsupportedOperationException.class,
+        () -> directReports.add(indirectReport),
+        "Expected UnsupportedOperationException when trying to modify the direct reports.");
+  }
+
+  @Test
+  void getDirectReports_whenManagerHasNoReports_shouldReturnEmptyList() {
+    organization.addEmployee(new Employee(1, "John", "Doe", 50000, null));
+
+    assertTrue(organization.getDirectReports(1).isEmpty(), "Expected no direct reports.");
+    assertTrue(organization.getDirectReports(999).isEmpty(),
+        "Expected no direct reports for an unknown manager.");
+  }
+
+  @Test
+  void getDirectReports_whenDuplicateIsRejected_shouldKeepIndexUnchanged() {
+    organization.addEmployee(new Employee(1, "John", "Doe", 50000, null));
+    organization.addEmployee(new Employee(2, "Jane", "Smith", 40000, 1));
+
+    assertThrows(IllegalArgumentException.class,
+        () -> organization.addEmployee(new Employee(2, "Will", "Turner", 42000, 1)));
+
+    assertEquals(1, organization.getDirectReports(1).size(),
+        "Expected the rejected duplicate not to be indexed.");
+  }
+
+  @Test
+  void replaceEmployee_withNewManager_shouldMoveItInTheDirectReports() {
+    organization.addEmployee(new Employee(1, "John", "Doe", 50000, null));
+    organization.addEmployee(new Employee(2, "Jane", "Smith", 40000, 1));
+    Employee will = new Employee(3, "Will", "Turner", 42000, 1);
+    organization.addEmployee(will);
+    Employee movedWill = new Employee(3, "Will", "Turner", 42000, 2);
+
+    Employee previous = organization.replaceEmployee(movedWill);
+
+    assertEquals(will, previous);
+    assertEquals(Optional.of(movedWill), organization.getEmployeeById(3));
+    assertEquals(List.of(movedWill), organization.getDirectReports(2));
+    assertEquals(1, organization.getDirectReports(1).size());
+  }
+
+  @Test
+  void replaceEmployee_whenEmployeeDoesNotExist_shouldThrowIllegalArgumentException() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> organization.replaceEmployee(new Employee(1, "John", "Doe", 50000, null)));
+
+    assertEquals("Unknown employee ID: 1", exception.getMessage());
+  }
+
+  @Test
+  void removeEmployee_shouldRemoveItFromTheDirectReports() {
+    organization.addEmployee(new Employee(1, "John", "Doe", 50000, null));
+    Employee jane = new Employee(2, "Jane", "Smith", 40000, 1);
+    organization.addEmployee(jane);
+
+    Employee removed = organization.removeEmployee(2);
+
+    assertEquals(jane, removed);
+    assertTrue(organization.getEmployeeById(2).isEmpty());
+    assertTrue(organization.getDirectReports(1).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> organization.removeEmployee(2));
+  }
+
   @Test
   void getEmployees_shouldReturnUnmodifiableCollectionOfEmployees() {
     Employee employee1 = new Employee(1, "John", "Doe", 50000, null);
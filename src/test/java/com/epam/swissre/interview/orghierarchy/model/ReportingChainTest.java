@@ -0,0 +1,94 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class ReportingChainTest {
+
+  @Test
+  void empty_shouldBeAnEmptyList() {
+    assertTrue(ReportingChain.EMPTY.isEmpty());
+    assertEquals(List.of(), ReportingChain.EMPTY);
+  }
+
+  @Test
+  void prepend_shouldStartTheListWithTheDirectManager() {
+    ReportingChain chain = ReportingChain.EMPTY.prepend(1).prepend(2).prepend(3);
+
+    assertEquals(List.of(3, 2, 1), chain);
+    assertEquals(List.of(3, 2, 1).hashCode(), chain.hashCode());
+    assertEquals("[3, 2, 1]", chain.toString());
+    assertEquals(3, chain.size());
+    assertEquals(2, chain.get(1));
+  }
+
+  @Test
+  void prepend_onASharedTail_shouldLeaveTheTailUnchanged() {
+    ReportingChain manager = ReportingChain.EMPTY.prepend(1).prepend(2);
+
+    ReportingChain report1 = manager.prepend(3);
+    ReportingChain report2 = manager.prepend(4);
+
+    assertEquals(List.of(2, 1), manager);
+    assertEquals(List.of(3, 2, 1), report1);
+    assertEquals(List.of(4, 2, 1), report2);
+  }
+
+  @Test
+  void equals_withChainsSharingATail_shouldCompareTheIds() {
+    ReportingChain manager = ReportingChain.EMPTY.prepend(1).prepend(2);
+
+    assertEquals(manager.prepend(3), manager.prepend(3));
+    assertEquals(manager.prepend(3), ReportingChain.EMPTY.prepend(1).prepend(2).prepend(3));
+    assertNotEquals(manager.prepend(3), manager.prepend(4));
+    assertNotEquals(manager.prepend(3), manager);
+    assertNotEquals(manager, List.of(2, 1, 0));
+    assertEquals(manager, new ArrayList<>(List.of(2, 1)));
+  }
+
+  @Test
+  void indexOf_shouldFindTheFirstOccurrenceOfTheId() {
+    ReportingChain chain = ReportingChain.EMPTY.prepend(1).prepend(2).prepend(1);
+
+    assertEquals(0, chain.indexOf(1));
+    assertEquals(2, chain.lastIndexOf(1));
+    assertEquals(1, chain.indexOf(2));
+    assertEquals(-1, chain.indexOf(3));
+    assertEquals(-1, chain.indexOf("1"));
+    assertTrue(chain.contains(2));
+    assertFalse(chain.contains(3));
+  }
+
+  @Test
+  void get_withIndexOutOfBounds_shouldThrowIndexOutOfBoundsException() {
+    ReportingChain chain = ReportingChain.EMPTY.prepend(1);
+
+    assertThrows(IndexOutOfBoundsException.class, () -> chain.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> chain.get(-1));
+  }
+
+  @Test
+  void iterator_afterTheLastManager_shouldThrowNoSuchElementException() {
+    Iterator<Integer> iterator = ReportingChain.EMPTY.prepend(1).iterator();
+
+    assertEquals(1, iterator.next());
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+
+  @Test
+  void add_shouldThrowUnsupportedOperationException() {
+    ReportingChain chain = ReportingChain.EMPTY.prepend(1);
+
+    assertThrows(UnsupportedOperationException.class, () -> chain.add(2));
+    assertEquals(List.of(1), new ArrayList<>(chain));
+  }
+}
@@ -0,0 +1,40 @@
+package com.epam.swissre.interview.orghierarchy.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RunProfileTest {
+
+  @Test
+  void total_withSeveralPhases_shouldAddUpTheMeasuresAndKeepTheHighestPeak() {
+    RunProfile profile = new RunProfile("employees.csv", 10, List.of(
+        new PhaseProfile("load", 100, 80, 1000, 5000),
+        new PhaseProfile("report", 50, 40, 300, 7000),
+        new PhaseProfile("write", 10, 5, 20, 6000)));
+
+    assertEquals(new PhaseProfile("total", 160, 125, 1320, 7000), profile.total());
+  }
+
+  @Test
+  void total_withUnsupportedMeasures_shouldReportThemAsUnsupported() {
+    RunProfile profile = new RunProfile("employees.csv", 10, List.of(
+        new PhaseProfile("load", 100, -1, 1000, 5000),
+        new PhaseProfile("report", 50, 40, -1, 7000)));
+
+    assertEquals(new PhaseProfile("total", 150, -1, -1, 7000), profile.total());
+  }
+
+  @Test
+  void total_withNoPhases_shouldBeZero() {
+    assertEquals(new PhaseProfile("total", 0, 0, 0, 0),
+        new RunProfile(null, 0, List.of()).total());
+  }
+
+  @Test
+  void createRunProfile_withNullPhases_shouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new RunProfile("employees.csv", 0, null));
+  }
+}
@@ -0,0 +1,39 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AmountFormatTest {
+
+  private static final double[] EDGE_CASES = {0, -0.0, 0.005, 0.015, 0.125, 1.005, 2.675, 0.0001,
+      0.00499, 999.995, 9_999_999.995, 10_000_000, 123_456_789.125, 1e18, -3.14159, Double.NaN,
+      Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE};
+
+  private static void assertFormattedLikeStringFormat(AmountFormat format, Locale locale,
+      double amount) {
+    assertEquals(String.format(locale, "%.2f", amount),
+        format.append(new StringBuilder(), amount).toString(), () -> "amount " + amount);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"en-US", "de-DE", "fr-CH", "ar-EG", "hi-IN-u-nu-deva"})
+  void append_shouldFormatLikeStringFormat(String languageTag) {
+    Locale locale = Locale.forLanguageTag(languageTag);
+    AmountFormat format = new AmountFormat(locale);
+
+    for (double amount : EDGE_CASES) {
+      assertFormattedLikeStringFormat(format, locale, amount);
+    }
+    Random random = new Random(7);
+    for (int i = 0; i < 10_000; i++) {
+      // salary differences, i.e. factors of averages of integer salaries
+      double average = (double) random.nextInt(10_000_000) / (1 + random.nextInt(50));
+      assertFormattedLikeStringFormat(format, locale, 1.2 * average - random.nextInt(100_000));
+      assertFormattedLikeStringFormat(format, locale, random.nextDouble() * 100);
+    }
+  }
+}
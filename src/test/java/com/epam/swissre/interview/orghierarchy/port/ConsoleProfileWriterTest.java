@@ -0,0 +1,32 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.swissre.interview.orghierarchy.model.PhaseProfile;
+import com.epam.swissre.interview.orghierarchy.model.RunProfile;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ConsoleProfileWriterTest {
+
+  private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+  private final ConsoleProfileWriter writer =
+      new ConsoleProfileWriter(new PrintStream(outputStreamCaptor));
+
+  @Test
+  void writeProfile_withPhases_shouldPrintOneLinePerPhaseAndTheThroughput() {
+    writer.writeProfile(new RunProfile("employees.csv", 1000, List.of(
+        new PhaseProfile("load", 1_500_000, 1_000_000, 3 << 20, 10 << 20),
+        new PhaseProfile("report", 500_000, -1, 1 << 19, 12 << 20))));
+
+    String n = System.lineSeparator();
+    assertEquals("Profile of employees.csv (1000 employees):" + n
+        + "phase       wall ms     cpu ms   alloc MiB    heap MiB" + n
+        + "load           1.50       1.00        3.00       10.00" + n
+        + "report         0.50        n/a        0.50       12.00" + n
+        + "total          2.00        n/a        3.50       12.00" + n
+        + "Throughput: 500000 employees/s" + n, outputStreamCaptor.toString());
+  }
+}
@@ -4,11 +4,14 @@ import static com.epam.swissre.interview.orghierarchy.Fixture.CEO;
 import static com.epam.swissre.interview.orghierarchy.Fixture.MANAGER_1;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import com.epam.swissre.interview.orghierarchy.FlightRecordings;
 import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.List;
 import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.Test;
 
 class ConsoleReportsWriterTest {
@@ -54,4 +57,72 @@ class ConsoleReportsWriterTest {
             """;
     assertEquals(expectedOutput.trim(), outputStreamCaptor.toString().trim());
   }
+
+  @Test
+  void resolvedFindings_shouldPrintEveryResolvedFinding() {
+    OrgHierarchyReports resolvedFindings = new OrgHierarchyReports(
+        Map.of(MANAGER_1, List.of(1)), Map.of(), Map.of(CEO, 3000.0));
+
+    writer.resolvedFindings(resolvedFindings);
+
+    String expectedOutput = "Resolved findings: " + System.lineSeparator() + "\t"
+        + "Employee[id=2, firstName=Manager1, lastName=Smith, salary=72000, managerId=1]"
+        + " no longer has a too long reporting line," + System.lineSeparator() + "\t"
+        + "Employee[id=1, firstName=CEO, lastName=Boss, salary=100000, managerId=null]"
+        + " is no longer overpaid";
+    assertEquals(expectedOutput, outputStreamCaptor.toString().trim());
+  }
+
+  @Test
+  void openLongReportingLines_withFindingsGivenOneByOne_shouldPrintThemLikeAMap() {
+    try (FindingsSink<List<Integer>> sink = writer.openLongReportingLines()) {
+      sink.accept(MANAGER_1, List.of(1));
+      sink.accept(CEO, List.of());
+    }
+
+    String expectedOutput = "Too long reporting lines: " + System.lineSeparator() + "\t"
+        + "Employee[id=2, firstName=Manager1, lastName=Smith, salary=72000, managerId=1]"
+        + " reports to [1]," + System.lineSeparator() + "\t"
+        + "Employee[id=1, firstName=CEO, lastName=Boss, salary=100000, managerId=null]"
+        + " reports to []" + System.lineSeparator();
+    assertEquals(expectedOutput, outputStreamCaptor.toString());
+  }
+
+  @Test
+  void underpaidManagers_withoutFindings_shouldPrintAnEmptyReport() {
+    writer.underpaidManagers(Map.of());
+
+    assertEquals("Underpaid managers: " + System.lineSeparator() + "\t" + System.lineSeparator(),
+        outputStreamCaptor.toString());
+  }
+
+  @Test
+  void openOverpaidManagers_withMoreFindingsThanTheBuffer_shouldPrintThemAll() {
+    int count = ConsoleReportsWriter.BUFFER_SIZE / 50;
+    try (FindingsSink<Double> sink = writer.openOverpaidManagers()) {
+      for (int id = 1; id <= count; id++) {
+        sink.accept(new Employee(id, "First", "Last", 1000, null), id / 3.0);
+      }
+    }
+
+    String[] lines = outputStreamCaptor.toString().split(System.lineSeparator());
+    assertEquals(count + 1, lines.length);
+    assertEquals("\tEmployee[id=7, firstName=First, lastName=Last, salary=1000, managerId=null]"
+        + " earns more than intended by " + String.format("%.2f", 7 / 3.0) + ",", lines[7]);
+  }
+
+  @Test
+  void openUnderpaidManagers_shouldRecordAReportWriteEvent() {
+    List<RecordedEvent> events = FlightRecordings.record(() -> {
+      try (FindingsSink<Double> sink = writer.openUnderpaidManagers()) {
+        sink.accept(MANAGER_1, 5000.0);
+        sink.accept(CEO, 1000.0);
+      }
+    }, "com.epam.swissre.interview.orghierarchy.ReportWrite");
+
+    assertEquals(1, events.size());
+    assertEquals("ConsoleReportsWriter", events.get(0).getString("writer"));
+    assertEquals("underpaidManagers", events.get(0).getString("report"));
+    assertEquals(2, events.get(0).getInt("findings"));
+  }
 }
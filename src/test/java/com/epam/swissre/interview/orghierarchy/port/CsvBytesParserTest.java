@@ -0,0 +1,123 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+
+class CsvBytesParserTest {
+
+  private final CsvBytesParser parser = new CsvBytesParser();
+
+  private void setLine(String line) {
+    byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+    parser.setLine(ByteBuffer.wrap(bytes), 0, bytes.length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "7", "-7", "+7", "000123", "2147483647", "-2147483648"})
+  void parseInt_withValidNumber_shouldMatchIntegerParseInt(String number) {
+    byte[] bytes = number.getBytes(StandardCharsets.US_ASCII);
+
+    assertEquals(Integer.parseInt(number), CsvBytesParser.parseInt(bytes, 0, bytes.length));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "-", "+", "12a", "1 2", "2147483648", "-2147483649", "9999999999"})
+  void parseInt_withInvalidNumber_shouldThrowLikeIntegerParseInt(String number) {
+    byte[] bytes = number.getBytes(StandardCharsets.US_ASCII);
+
+    NumberFormatException exception = assertThrows(NumberFormatException.class,
+        () -> CsvBytesParser.parseInt(bytes, 0, bytes.length));
+    assertEquals("For input string: \"" + number + "\"", exception.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "123,Joe,Doe,60000,",
+      "124,Martin,Chekov,45000,123",
+      " 124 , Martin , Chekov , 45000 , 123 ",
+      "124,Martin,Chekov,45000,123,,,,",
+      "124,Märtin,Čhekov,45000",
+      "124,,,45000, ",
+      "124,Martin,Chekov,45000,123\r"})
+  void parseEmployee_withValidLine_shouldMatchStringBasedParsing(String line) {
+    setLine(line);
+
+    Employee employee = parser.parseEmployee();
+
+    String[] fields = line.strip().split("\\s*,\\s*");
+    assertEquals(Integer.parseInt(fields[0].trim()), employee.id());
+    assertEquals(fields[1].trim(), employee.firstName());
+    assertEquals(fields[2].trim(), employee.lastName());
+    assertEquals(Integer.parseInt(fields[3].trim()), employee.salary());
+    assertEquals(fields.length == 5 && !fields[4].isBlank() ? Integer.valueOf(fields[4].trim())
+        : null, employee.managerId());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"124,Martin", "124,Martin,Chekov,45000,123,1", ",,,,"})
+  void parseEmployee_withWrongNumberOfFields_shouldThrowIllegalArgumentException(String line) {
+    setLine(line);
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        parser::parseEmployee);
+    assertEquals("Invalid CSV line format: " + line, exception.getMessage());
+  }
+
+  @Test
+  void isBlank_shouldOnlyAcceptWhitespace() {
+    setLine(" \t\r");
+    assertTrue(parser.isBlank());
+
+    setLine(" x ");
+    assertFalse(parser.isBlank());
+  }
+
+  @Test
+  void parseTenantEmployee_withTenant_shouldParseTheEmployeeAndKeepTheTenant() {
+    setLine("124,Martin,Chekov,45000,123, Acme UK \r");
+    assertEquals(new Employee(124, "Martin", "Chekov", 45000, 123), parser.parseTenantEmployee());
+    assertEquals("Acme UK", parser.tenant());
+
+    setLine("123,Joe,Doe,60000,,Acme US");
+    assertEquals(new Employee(123, "Joe", "Doe", 60000, null), parser.parseTenantEmployee());
+    assertEquals("Acme US", parser.tenant());
+  }
+
+  @Test
+  void parseTenantEmployee_withSameTenant_shouldReuseTheTenantString() {
+    setLine("123,Joe,Doe,60000,,Acme");
+    parser.parseTenantEmployee();
+    String tenant = parser.tenant();
+
+    setLine("124,Martin,Chekov,45000,123,Acme");
+    parser.parseTenantEmployee();
+
+    assertSame(tenant, parser.tenant());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"124,Martin,Chekov,45000,123", "124,Martin,Chekov,45000,123, ",
+      "124,Martin,Chekov,45000,123,Acme,extra"})
+  void parseTenantEmployee_withoutSingleTenant_shouldThrowIllegalArgumentException(String line) {
+    setLine(line);
+
+    assertThrows(IllegalArgumentException.class, parser::parseTenantEmployee);
+  }
+
+  @Test
+  void parseEmployee_withTenant_shouldThrowIllegalArgumentException() {
+    setLine("124,Martin,Chekov,45000,123,Acme");
+
+    assertThrows(IllegalArgumentException.class, parser::parseEmployee);
+  }
+}
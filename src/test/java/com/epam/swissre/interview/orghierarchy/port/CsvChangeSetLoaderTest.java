@@ -0,0 +1,76 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
+import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvChangeSetLoaderTest {
+
+  private final CsvChangeSetLoader loader = new CsvChangeSetLoader();
+
+  @Test
+  void loadChangeSetCsv_withAllKindsOfChanges_shouldParseThemInOrder() throws IOException {
+    String csv = """
+        change,id,firstName,lastName,salary,managerId
+        HIRE,400,Ann,Lee,40000,124
+        leave,305
+
+        SALARY, 124, , , 52000
+        MOVE,300,,,,125
+        """;
+
+    List<OrgChange> changes = loader.loadChangeSetCsv(new StringReader(csv));
+
+    assertEquals(List.of(
+        OrgChange.hire(new Employee(400, "Ann", "Lee", 40000, 124)),
+        OrgChange.leave(305),
+        OrgChange.salaryChange(124, 52000),
+        OrgChange.move(300, 125)), changes);
+  }
+
+  @Test
+  void loadChangeSetCsv_withMissingSalary_shouldReportTheLine() {
+    String csv = """
+        change,id,firstName,lastName,salary,managerId
+        LEAVE,305
+        SALARY,124
+        """;
+
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> loader.loadChangeSetCsv(new StringReader(csv)));
+
+    assertEquals("Error parsing change at line 3: SALARY,124", exception.getMessage());
+  }
+
+  @Test
+  void loadChangeSetCsv_withUnknownChange_shouldReportTheLine() {
+    String csv = """
+        change,id,firstName,lastName,salary,managerId
+        PROMOTE,305,,,60000
+        """;
+
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> loader.loadChangeSetCsv(new StringReader(csv)));
+
+    assertEquals("Error parsing change at line 2: PROMOTE,305,,,60000", exception.getMessage());
+    assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+  }
+
+  @Test
+  void loadChangeSet_withMissingFile_shouldThrowBadFileException() {
+    BadCsvFileException exception = assertThrows(BadCsvFileException.class,
+        () -> loader.loadChangeSet("missing-change-set.csv"));
+
+    assertEquals("CSV file is missing or inaccessible: missing-change-set.csv",
+        exception.getMessage());
+  }
+}
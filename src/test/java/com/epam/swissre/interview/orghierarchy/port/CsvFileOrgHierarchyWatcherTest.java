@@ -0,0 +1,117 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CsvFileOrgHierarchyWatcherTest {
+
+  private static final String HEADER = "Id,firstName,lastName,salary,managerId\n";
+  private static final String CONTENT = HEADER
+      + "1,Joe,Doe,60000,\n"
+      + "2,Martin,Chekov,45000,1\n"
+      + "3,Bob,Ronstad,47000,1\n"
+      + "4,Alice,Hasacat,50000,2\n";
+
+  @TempDir
+  Path tempDir;
+
+  private final CsvFileOrgHierarchyWatcher watcher =
+      new CsvFileOrgHierarchyWatcher(new CsvSourceConfig("default.csv", 1000));
+
+  private List<OrgChange> diff(String oldContent, String newContent) {
+    return watcher.diff(oldContent.getBytes(StandardCharsets.UTF_8),
+        newContent.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void diff_withChangedSalary_shouldReturnSalaryChange() {
+    assertEquals(List.of(OrgChange.salaryChange(2, 46000)),
+        diff(CONTENT, CONTENT.replace("2,Martin,Chekov,45000,1", "2,Martin,Chekov,46000,1")));
+  }
+
+  @Test
+  void diff_withChangedManager_shouldReturnMove() {
+    assertEquals(List.of(OrgChange.move(4, 3)),
+        diff(CONTENT, CONTENT.replace("4,Alice,Hasacat,50000,2", "4,Alice,Hasacat,50000,3")));
+  }
+
+  @Test
+  void diff_withChangedName_shouldReplaceTheEmployee() {
+    assertEquals(List.of(OrgChange.leave(3), OrgChange.hire(new Employee(3, "Rob", "Ronstad",
+            47000, 1))),
+        diff(CONTENT, CONTENT.replace("3,Bob,Ronstad", "3,Rob,Ronstad")));
+  }
+
+  @Test
+  void diff_withAddedAndRemovedLines_shouldReturnHireAndLeave() {
+    String newContent = CONTENT.replace("3,Bob,Ronstad,47000,1\n", "")
+        + "5,Brett,Hardleaf,34000,4\n";
+
+    assertEquals(List.of(OrgChange.leave(3),
+            OrgChange.hire(new Employee(5, "Brett", "Hardleaf", 34000, 4))),
+        diff(CONTENT, newContent));
+  }
+
+  @Test
+  void diff_withoutTrailingNewLine_shouldParseTheLastLine() {
+    String oldContent = CONTENT.substring(0, CONTENT.length() - 1);
+
+    assertEquals(List.of(OrgChange.salaryChange(4, 51000)),
+        diff(oldContent, oldContent.replace("50000,2", "51000,2")));
+  }
+
+  @Test
+  void diff_withChangedHeaderOrBlankLines_shouldReturnNoChanges() {
+    assertEquals(List.of(), diff(CONTENT, CONTENT.replace("firstName", "FirstName") + "\n\n"));
+  }
+
+  @Test
+  void diff_withInvalidChangedLine_shouldThrowEmployeeCsvLineException() {
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> diff(CONTENT, CONTENT.replace("47000", "lots")));
+
+    assertEquals("Error parsing employee data at line 4: 3,Bob,Ronstad,lots,1",
+        exception.getMessage());
+  }
+
+  @Test
+  void awaitChanges_afterRewrite_shouldReturnTheChangesSinceTheAcceptedContent()
+      throws IOException {
+    Path source = Files.writeString(tempDir.resolve("org.csv"), CONTENT);
+    try (watcher) {
+      Organization organization = watcher.load(source.toString());
+      assertEquals(4, organization.getEmployees().size());
+
+      Files.writeString(source, CONTENT.replace("45000", "46000"));
+      assertEquals(List.of(OrgChange.salaryChange(2, 46000)),
+          assertTimeoutPreemptively(Duration.ofSeconds(30), watcher::awaitChanges));
+      // not accepted: the next changes still include it
+      Files.writeString(source, CONTENT.replace("45000", "46000").replace("50000", "51000"));
+      List<OrgChange> changes =
+          assertTimeoutPreemptively(Duration.ofSeconds(30), watcher::awaitChanges);
+      assertTrue(changes.contains(OrgChange.salaryChange(2, 46000)));
+      assertTrue(changes.contains(OrgChange.salaryChange(4, 51000)));
+      watcher.acceptChanges();
+
+      Files.writeString(source, CONTENT);
+      assertEquals(List.of(OrgChange.salaryChange(2, 45000), OrgChange.salaryChange(4, 50000)),
+          assertTimeoutPreemptively(Duration.ofSeconds(30), watcher::awaitChanges));
+    }
+  }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.epam.swissre.interview.orghierarchy.FlightRecordings;
 import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
 import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
 import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineException;
@@ -15,7 +16,12 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 
@@ -77,7 +83,8 @@ class CsvOrgHierarchyLoaderTest {
     // Assert that a BadCsvFileException is thrown
     BadCsvFileException exception = assertThrows(BadCsvFileException.class,
         () -> loader.loadOrgHierarchyCsv(reader));
-    assertEquals("The provided file is too long: contains 2 rows, while the allowed max is 1",
+    assertEquals(
+        "The provided file is too long: contains more than the allowed max of 1 rows",
         exception.getMessage(),
         "Expected the exception to state the acceptable limits of the file.");
   }
@@ -96,6 +103,50 @@ class CsvOrgHierarchyLoaderTest {
         "Exception message should indicate a parsing error");
   }
 
+  @Test
+  void loadOrgHierarchyCsv_tooManyLines_shouldStopReadingAtTheLimit() {
+    String csvContent = """
+        Id,firstName,lastName,salary,managerId
+        1,John,Doe,50000,
+        2,Jane,Doe,40000,1
+        invalid line never parsed
+        """;
+    CsvOrgHierarchyLoader loader = new CsvOrgHierarchyLoader(new CsvSourceConfig(null, 3));
+
+    BadCsvFileException exception = assertThrows(BadCsvFileException.class,
+        () -> loader.loadOrgHierarchyCsv(new StringReader(csvContent)));
+    assertEquals(
+        "The provided file is too long: contains more than the allowed max of 3 rows",
+        exception.getMessage(),
+        "Expected the limit to be enforced before the extra line is parsed.");
+  }
+
+  @Test
+  void loadOrgHierarchyCsv_withInvalidLine_shouldReportTheLineNumber() {
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> loader.loadOrgHierarchyCsv(new StringReader(INVALID_CSV_LINE_CONTENT)));
+
+    assertEquals("Error parsing employee data at line 3: 124,Martin,Chekov,invalid_salary,123",
+        exception.getMessage());
+  }
+
+  @Test
+  void loadOrgHierarchyCsv_withDuplicateId_shouldThrowEmployeeLineException() {
+    String duplicateIdCsv = """
+        Id,firstName,lastName,salary,managerId
+        123,Joe,Doe,60000,
+
+        123,Martin,Chekov,45000,123
+        """;
+
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> loader.loadOrgHierarchyCsv(new StringReader(duplicateIdCsv)));
+
+    assertEquals("Error parsing employee data at line 4: 123,Martin,Chekov,45000,123",
+        exception.getMessage());
+    assertEquals("Duplicate employee ID: 123", exception.getCause().getMessage());
+  }
+
   @Test
   void loadOrgHierarchyCsv_withIncompleteLine_shouldThrowEmployeeLineException() {
     EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
@@ -202,4 +253,25 @@ class CsvOrgHierarchyLoaderTest {
     assertEquals("Error reading from the provided reader.", exception.getMessage(),
         "Exception message should indicate an error reading from the file");
   }
+
+  @Test
+  void loadOrgHierarchy_shouldRecordTheLoadAndParseEvents(@TempDir Path tempDir)
+      throws IOException {
+    Path file = Files.writeString(tempDir.resolve("org.csv"), VALID_CSV_CONTENT);
+
+    List<RecordedEvent> events = FlightRecordings.record(
+        () -> loader.loadOrgHierarchy(file.toString()),
+        "com.epam.swissre.interview.orghierarchy.Load",
+        "com.epam.swissre.interview.orghierarchy.CsvParse");
+
+    assertEquals(2, events.size());
+    RecordedEvent parse = events.get(0);
+    assertEquals(6, parse.getInt("lines"));
+    assertEquals(5, parse.getInt("employees"));
+    RecordedEvent load = events.get(1);
+    assertEquals("CsvOrgHierarchyLoader", load.getString("loader"));
+    assertEquals(file.toString(), load.getString("source"));
+    assertEquals(5, load.getInt("employees"));
+    assertEquals(Files.size(file), load.getLong("bytesRead"));
+  }
 }
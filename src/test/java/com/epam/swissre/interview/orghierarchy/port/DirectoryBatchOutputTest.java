@@ -0,0 +1,79 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import com.epam.swissre.interview.orghierarchy.model.BatchFileResult;
+import com.epam.swissre.interview.orghierarchy.model.BatchSummary;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectoryBatchOutputTest implements Fixture {
+
+  private static final OrgHierarchyReports REPORTS = new OrgHierarchyReports(
+      Map.of(EMPLOYEE, List.of(4, 3, 2, 1)), Map.of(MANAGER_3, 1500.0), Map.of());
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void writeReports_asNdjson_shouldWriteTheSameAsTheNdjsonWriter() throws IOException {
+    DirectoryBatchOutput output = new DirectoryBatchOutput(tempDir.resolve("out"), true);
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    ReportsWriter writer = new NdjsonReportsWriter(expected);
+    writer.longReportingLines(REPORTS.longReportingLines());
+    writer.underpaidManagers(REPORTS.underpaidManagers());
+    writer.overpaidManagers(REPORTS.overpaidManagers());
+
+    output.writeReports("input/acme.csv", REPORTS);
+
+    assertEquals(expected.toString(), Files.readString(tempDir.resolve("out/acme.ndjson")));
+  }
+
+  @Test
+  void writeReports_withSameFileNames_shouldWriteNumberedFiles() throws IOException {
+    DirectoryBatchOutput output = new DirectoryBatchOutput(tempDir, false);
+
+    output.writeReports("first/acme.csv", REPORTS);
+    output.writeReports("second/acme.csv", REPORTS);
+
+    assertTrue(Files.readString(tempDir.resolve("acme.txt")).startsWith("Too long reporting"));
+    assertEquals(Files.readString(tempDir.resolve("acme.txt")),
+        Files.readString(tempDir.resolve("acme-2.txt")));
+  }
+
+  @Test
+  void writeSummary_shouldWriteEveryFileAndTheTotals() throws IOException {
+    DirectoryBatchOutput output = new DirectoryBatchOutput(tempDir, true);
+    output.writeReports("in/acme.csv", REPORTS);
+
+    output.writeSummary(new BatchSummary(List.of(
+        BatchFileResult.succeeded("in/acme.csv", 6, REPORTS, 1200),
+        BatchFileResult.failed("in/\"odd\".csv", 30, "Broken")), 1500));
+
+    assertEquals("""
+            {"files":[{"source":"in/acme.csv","reports":"acme.ndjson","employees":6,\
+            "longReportingLines":1,"underpaidManagers":1,"overpaidManagers":0,"wallNanos":1200},
+            {"source":"in/\\"odd\\".csv","error":"Broken","wallNanos":30}],
+            "totalFiles":2,"failedFiles":1,"employees":6,"findings":2,"wallNanos":1500}
+            """,
+        Files.readString(tempDir.resolve(DirectoryBatchOutput.SUMMARY_FILE_NAME)));
+  }
+
+  @Test
+  void constructor_withFileAsDirectory_shouldThrowConfigurationException() throws IOException {
+    Path file = Files.writeString(tempDir.resolve("file"), "");
+
+    assertThrows(ConfigurationException.class, () -> new DirectoryBatchOutput(file, false));
+  }
+}
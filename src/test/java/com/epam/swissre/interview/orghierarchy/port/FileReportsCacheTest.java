@@ -0,0 +1,173 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.ConfigurationException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileReportsCacheTest implements Fixture {
+
+  private static final ReportingConfig CONFIG = new ReportingConfig(2, 1.2, 1.5);
+
+  @TempDir
+  Path tempDir;
+
+  private FileReportsCache newCache(ReportingConfig config, long maxBytes) {
+    return new FileReportsCache(tempDir.resolve("cache"), maxBytes, config,
+        new CsvSourceConfig(tempDir.resolve("default.csv").toString(), 1000));
+  }
+
+  private Path writeSource(String name, String content) throws IOException {
+    return Files.writeString(tempDir.resolve(name), content);
+  }
+
+  private static OrgHierarchyReports createReports() {
+    Map<Employee, List<Integer>> longReportingLines = new LinkedHashMap<>();
+    longReportingLines.put(EMPLOYEE, List.of(4, 3, 2, 1));
+    Map<Employee, Double> underpaidManagers = new LinkedHashMap<>();
+    underpaidManagers.put(MANAGER_3, 1500.5);
+    underpaidManagers.put(MANAGER_2, 0.25);
+    Map<Employee, Double> overpaidManagers = new LinkedHashMap<>();
+    overpaidManagers.put(CEO, 12000.0);
+    overpaidManagers.put(new Employee(7, "Zoë", "Ñúñez", 90000, 1), 3.0);
+    return new OrgHierarchyReports(longReportingLines, underpaidManagers, overpaidManagers);
+  }
+
+  @Test
+  void keyOf_withSameContent_shouldReturnTheSameKey() throws IOException {
+    FileReportsCache cache = newCache(CONFIG, 1 << 20);
+    Path source = writeSource("org.csv", "Id,firstName,lastName,salary,managerId\n");
+    Path copy = writeSource("copy.csv", "Id,firstName,lastName,salary,managerId\n");
+
+    assertEquals(cache.keyOf(source.toString(), 10), cache.keyOf(copy.toString(), 10));
+  }
+
+  @Test
+  void keyOf_withOtherContentOrSettings_shouldReturnAnotherKey() throws IOException {
+    FileReportsCache cache = newCache(CONFIG, 1 << 20);
+    Path source = writeSource("org.csv", "Id,firstName,lastName,salary,managerId\n1,A,B,1,\n");
+    String key = cache.keyOf(source.toString(), 10).orElseThrow();
+
+    assertNotEquals(key, cache.keyOf(source.toString(), 5).orElseThrow());
+    assertNotEquals(key, newCache(new ReportingConfig(3, 1.2, 1.5), 1 << 20)
+        .keyOf(source.toString(), 10).orElseThrow());
+    writeSource("org.csv", "Id,firstName,lastName,salary,managerId\n1,A,B,2,\n");
+    assertNotEquals(key, cache.keyOf(source.toString(), 10).orElseThrow());
+  }
+
+  @Test
+  void keyOf_withBlankSource_shouldHashTheDefaultSource() throws IOException {
+    FileReportsCache cache = newCache(CONFIG, 1 << 20);
+    Path source = writeSource("default.csv", "Id,firstName,lastName,salary,managerId\n");
+
+    assertEquals(cache.keyOf(source.toString(), 10), cache.keyOf(" ", 10));
+  }
+
+  @Test
+  void keyOf_withMissingSource_shouldReturnEmpty() {
+    assertTrue(newCache(CONFIG, 1 << 20).keyOf(tempDir.resolve("missing.csv").toString(), 10)
+        .isEmpty());
+  }
+
+  @Test
+  void versionOf_withModifiedSource_shouldReturnAnotherVersion() throws IOException {
+    FileReportsCache cache = newCache(CONFIG, 1 << 20);
+    Path source = writeSource("org.csv", "Id,firstName,lastName,salary,managerId\n1,A,B,1,\n");
+    Files.setLastModifiedTime(source, FileTime.fromMillis(1_000_000));
+    String version = cache.versionOf(source.toString()).orElseThrow();
+
+    assertEquals(version, cache.versionOf(source.toString()).orElseThrow());
+    writeSource("org.csv", "Id,firstName,lastName,salary,managerId\n1,A,B,2,\n");
+    Files.setLastModifiedTime(source, FileTime.fromMillis(1_000_000));
+    assertEquals(version, cache.versionOf(source.toString()).orElseThrow(),
+        "Expected the same size and modification time to be the same version");
+    Files.setLastModifiedTime(source, FileTime.fromMillis(2_000_000));
+    assertNotEquals(version, cache.versionOf(source.toString()).orElseThrow());
+    writeSource("org.csv", "Id,firstName,lastName,salary,managerId\n1,A,B,20,\n");
+    Files.setLastModifiedTime(source, FileTime.fromMillis(1_000_000));
+    assertNotEquals(version, cache.versionOf(source.toString()).orElseThrow());
+  }
+
+  @Test
+  void versionOf_withMissingSource_shouldReturnEmpty() {
+    assertTrue(newCache(CONFIG, 1 << 20).versionOf(tempDir.resolve("missing.csv").toString())
+        .isEmpty());
+  }
+
+  @Test
+  void get_withStoredReports_shouldReturnThemInTheSameOrder() {
+    FileReportsCache cache = newCache(CONFIG, 1 << 20);
+    OrgHierarchyReports reports = createReports();
+
+    cache.put("key", reports);
+    OrgHierarchyReports cachedReports = cache.get("key").orElseThrow();
+
+    assertEquals(reports, cachedReports);
+    assertEquals(List.copyOf(reports.underpaidManagers().keySet()),
+        List.copyOf(cachedReports.underpaidManagers().keySet()));
+    assertEquals(List.copyOf(reports.overpaidManagers().keySet()),
+        List.copyOf(cachedReports.overpaidManagers().keySet()));
+  }
+
+  @Test
+  void get_withUnknownKey_shouldReturnEmpty() {
+    assertEquals(Optional.empty(), newCache(CONFIG, 1 << 20).get("unknown"));
+  }
+
+  @Test
+  void get_withCorruptEntry_shouldReturnEmpty() throws IOException {
+    FileReportsCache cache = newCache(CONFIG, 1 << 20);
+    cache.put("key", createReports());
+    Path entry = tempDir.resolve("cache").resolve("key" + FileReportsCache.SUFFIX);
+    byte[] bytes = Files.readAllBytes(entry);
+    Files.write(entry, Arrays.copyOf(bytes, bytes.length / 2));
+
+    assertEquals(Optional.empty(), cache.get("key"));
+  }
+
+  @Test
+  void put_beyondTheMaxSize_shouldEvictTheLeastRecentlyUsedEntries() throws IOException {
+    Path directory = tempDir.resolve("cache");
+    FileReportsCache cache = newCache(CONFIG, 1 << 20);
+    cache.put("first", createReports());
+    long entrySize = Files.size(directory.resolve("first" + FileReportsCache.SUFFIX));
+    cache = newCache(CONFIG, entrySize * 2);
+    cache.put("second", createReports());
+    Files.setLastModifiedTime(directory.resolve("first" + FileReportsCache.SUFFIX),
+        FileTime.fromMillis(1000));
+    Files.setLastModifiedTime(directory.resolve("second" + FileReportsCache.SUFFIX),
+        FileTime.fromMillis(2000));
+    // a hit makes the first entry the most recently used one
+    assertTrue(cache.get("first").isPresent());
+
+    cache.put("third", createReports());
+
+    assertTrue(Files.exists(directory.resolve("first" + FileReportsCache.SUFFIX)));
+    assertFalse(Files.exists(directory.resolve("second" + FileReportsCache.SUFFIX)));
+    assertTrue(Files.exists(directory.resolve("third" + FileReportsCache.SUFFIX)));
+  }
+
+  @Test
+  void constructor_withNonPositiveSize_shouldThrowConfigurationException() {
+    assertThrows(ConfigurationException.class, () -> newCache(CONFIG, 0));
+  }
+}
@@ -0,0 +1,47 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.swissre.interview.orghierarchy.model.PhaseProfile;
+import com.epam.swissre.interview.orghierarchy.model.RunProfile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonProfileWriterTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void writeProfile_withPhases_shouldWriteTheProfileAsJson() throws IOException {
+    Path target = tempDir.resolve("profile.json");
+
+    new JsonProfileWriter(target).writeProfile(new RunProfile("C:\\data\\\"org\".csv", 1000,
+        List.of(new PhaseProfile("load", 1_500_000, 1_000_000, 2048, 4096),
+            new PhaseProfile("report", 500_000, -1, 1024, 8192))));
+
+    assertEquals("{\"source\":\"C:\\\\data\\\\\\\"org\\\".csv\",\"employees\":1000,"
+        + "\"employeesPerSecond\":500000.00,\"phases\":["
+        + "{\"phase\":\"load\",\"wallNanos\":1500000,\"cpuNanos\":1000000,"
+        + "\"allocatedBytes\":2048,\"peakHeapBytes\":4096},"
+        + "{\"phase\":\"report\",\"wallNanos\":500000,\"cpuNanos\":-1,"
+        + "\"allocatedBytes\":1024,\"peakHeapBytes\":8192}],"
+        + "\"total\":{\"phase\":\"total\",\"wallNanos\":2000000,\"cpuNanos\":-1,"
+        + "\"allocatedBytes\":3072,\"peakHeapBytes\":8192}}\n", Files.readString(target));
+  }
+
+  @Test
+  void writeProfile_withDefaultSource_shouldWriteANullSource() throws IOException {
+    Path target = tempDir.resolve("profile.json");
+
+    new JsonProfileWriter(target).writeProfile(new RunProfile(null, 0, List.of()));
+
+    assertEquals("{\"source\":null,\"employees\":0,\"employeesPerSecond\":0.00,\"phases\":[],"
+        + "\"total\":{\"phase\":\"total\",\"wallNanos\":0,\"cpuNanos\":0,\"allocatedBytes\":0,"
+        + "\"peakHeapBytes\":0}}\n", Files.readString(target));
+  }
+}
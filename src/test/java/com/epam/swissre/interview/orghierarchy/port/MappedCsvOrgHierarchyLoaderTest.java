@@ -0,0 +1,223 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
+import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineException;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MappedCsvOrgHierarchyLoaderTest {
+
+  private static final String VALID_CSV_CONTENT = """
+      Id,firstName,lastName,salary,managerId
+      123,Joe,Doe,60000,
+      124,Martin,Chekov,45000,123
+      125,Bob,Ronstad,47000,123
+
+      300,Alice,Hasacat,50000,124
+      305,Brett,Hardleaf,34000,300
+      """;
+  private static final CsvSourceConfig CONFIG = new CsvSourceConfig("default-file.csv", 1001);
+
+  @TempDir
+  Path tempDir;
+
+  private Path writeCsv(String content) throws IOException {
+    return Files.writeString(tempDir.resolve("org.csv"), content);
+  }
+
+  private static Set<Employee> loadWithReader(String content) {
+    return Set.copyOf(new CsvOrgHierarchyLoader(CONFIG)
+        .loadOrgHierarchyCsv(new StringReader(content)).getEmployees());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {40, 47, 64, MappedCsvOrgHierarchyLoader.MAX_WINDOW_SIZE})
+  void loadOrgHierarchy_withValidData_shouldMatchReaderBasedLoader(int maxWindowSize)
+      throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT);
+
+    Organization organization = new MappedCsvOrgHierarchyLoader(CONFIG, maxWindowSize)
+        .loadOrgHierarchy(csv.toString());
+
+    assertEquals(loadWithReader(VALID_CSV_CONTENT), Set.copyOf(organization.getEmployees()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {40, MappedCsvOrgHierarchyLoader.MAX_WINDOW_SIZE})
+  void loadColumnarOrgHierarchy_withValidData_shouldMatchReaderBasedLoader(int maxWindowSize)
+      throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT);
+
+    ColumnarOrganization organization = new MappedCsvOrgHierarchyLoader(CONFIG, maxWindowSize)
+        .loadColumnarOrgHierarchy(csv.toString());
+
+    assertEquals(5, organization.size());
+    assertEquals(2, organization.directReportCount(organization.indexOf(123)));
+    assertEquals(loadWithReader(VALID_CSV_CONTENT),
+        Set.copyOf(organization.toOrganization().getEmployees()));
+  }
+
+  @Test
+  void loadColumnarOrgHierarchy_withDuplicateId_shouldReportTheLineNumber() throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT + "124,Dup,Licate,1000,123\n");
+
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> new MappedCsvOrgHierarchyLoader(CONFIG).loadColumnarOrgHierarchy(csv.toString()));
+
+    assertTrue(exception.getMessage().contains("line 8"), exception.getMessage());
+  }
+
+  @Test
+  void loadOrgHierarchy_withWindowsLineEndingsAndNoFinalNewline_shouldLoadAllEmployees()
+      throws IOException {
+    String content = "Id,firstName,lastName,salary,managerId\r\n123,Joe,Doe,60000,\r\n"
+        + "124,Martin,Chekov,45000,123";
+    Path csv = writeCsv(content);
+
+    Organization organization = new MappedCsvOrgHierarchyLoader(CONFIG)
+        .loadOrgHierarchy(csv.toString());
+
+    assertEquals(loadWithReader(content), Set.copyOf(organization.getEmployees()));
+    assertEquals(2, organization.getEmployees().size());
+  }
+
+  @Test
+  void loadOrgHierarchy_withInvalidSalary_shouldReportTheLineNumber() throws IOException {
+    Path csv = writeCsv("""
+        Id,firstName,lastName,salary,managerId
+        123,Joe,Doe,60000,
+        124,Martin,Chekov,invalid_salary,123
+        """);
+
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> new MappedCsvOrgHierarchyLoader(CONFIG).loadOrgHierarchy(csv.toString()));
+
+    assertEquals("Error parsing employee data at line 3: 124,Martin,Chekov,invalid_salary,123",
+        exception.getMessage());
+    assertInstanceOf(NumberFormatException.class, exception.getCause());
+  }
+
+  @Test
+  void loadOrgHierarchy_withDuplicateId_shouldThrowEmployeeLineException() throws IOException {
+    Path csv = writeCsv("""
+        Id,firstName,lastName,salary,managerId
+        123,Joe,Doe,60000,
+        123,Martin,Chekov,45000,123
+        """);
+
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> new MappedCsvOrgHierarchyLoader(CONFIG).loadOrgHierarchy(csv.toString()));
+
+    assertEquals("Duplicate employee ID: 123", exception.getCause().getMessage());
+  }
+
+  @Test
+  void loadOrgHierarchy_tooManyLines_shouldThrowBadFileException() throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT);
+
+    BadCsvFileException exception = assertThrows(BadCsvFileException.class,
+        () -> new MappedCsvOrgHierarchyLoader(new CsvSourceConfig(null, 3))
+            .loadOrgHierarchy(csv.toString()));
+
+    assertEquals("The provided file is too long: contains more than the allowed max of 3 rows",
+        exception.getMessage());
+  }
+
+  @Test
+  void loadOrgHierarchy_withLineLongerThanWindow_shouldThrowBadFileException()
+      throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT);
+
+    BadCsvFileException exception = assertThrows(BadCsvFileException.class,
+        () -> new MappedCsvOrgHierarchyLoader(CONFIG, 16).loadOrgHierarchy(csv.toString()));
+
+    assertTrue(exception.getMessage().contains("has a line longer than 16 bytes"));
+  }
+
+  @Test
+  void loadOrgHierarchy_withMissingFile_shouldThrowBadFileException() {
+    BadCsvFileException exception = assertThrows(BadCsvFileException.class,
+        () -> new MappedCsvOrgHierarchyLoader(CONFIG).loadOrgHierarchy(null));
+
+    assertEquals("CSV file is missing or inaccessible: default-file.csv", exception.getMessage());
+  }
+
+  @Test
+  void loadOrgHierarchy_withoutPrinting_shouldNotWriteToTheConsole() throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT);
+    PrintStream out = System.out;
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    Organization organization;
+    try {
+      System.setOut(new PrintStream(outputStream));
+      organization = new MappedCsvOrgHierarchyLoader(CONFIG, false)
+          .loadOrgHierarchy(csv.toString());
+    } finally {
+      System.setOut(out);
+    }
+
+    assertEquals(5, organization.getEmployees().size());
+    assertEquals(0, outputStream.size());
+  }
+
+  @Test
+  void loadTenantOrgHierarchies_withInterleavedTenants_shouldLoadAnOrganizationPerTenant()
+      throws IOException {
+    Path csv = writeCsv("""
+        Id,firstName,lastName,salary,managerId,tenant
+        123,Joe,Doe,60000,,Acme UK
+        1,Ann,Lee,90000,,Acme US
+        124,Martin,Chekov,45000,123,Acme UK
+
+        123,Bob,Ronstad,47000,1,Acme US
+        """);
+
+    Map<String, Organization> tenants = new MappedCsvOrgHierarchyLoader(CONFIG, false)
+        .loadTenantOrgHierarchies(csv.toString());
+
+    assertEquals(List.of("Acme UK", "Acme US"), List.copyOf(tenants.keySet()));
+    assertEquals(Set.of(new Employee(123, "Joe", "Doe", 60000, null),
+            new Employee(124, "Martin", "Chekov", 45000, 123)),
+        Set.copyOf(tenants.get("Acme UK").getEmployees()));
+    assertEquals(Set.of(new Employee(1, "Ann", "Lee", 90000, null),
+            new Employee(123, "Bob", "Ronstad", 47000, 1)),
+        Set.copyOf(tenants.get("Acme US").getEmployees()));
+  }
+
+  @Test
+  void loadTenantOrgHierarchies_withLineWithoutTenant_shouldReportTheLineNumber()
+      throws IOException {
+    Path csv = writeCsv("""
+        Id,firstName,lastName,salary,managerId,tenant
+        123,Joe,Doe,60000,,Acme UK
+        124,Martin,Chekov,45000,123
+        """);
+
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> new MappedCsvOrgHierarchyLoader(CONFIG, false)
+            .loadTenantOrgHierarchies(csv.toString()));
+
+    assertEquals("Error parsing employee data at line 3: 124,Martin,Chekov,45000,123",
+        exception.getMessage());
+  }
+}
@@ -0,0 +1,104 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static com.epam.swissre.interview.orghierarchy.Fixture.CEO;
+import static com.epam.swissre.interview.orghierarchy.Fixture.MANAGER_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class NdjsonReportsWriterTest {
+
+  private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+  private final NdjsonReportsWriter writer = new NdjsonReportsWriter(outputStreamCaptor);
+
+  private String output() {
+    return outputStreamCaptor.toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  void longReportingLines_withExcessiveReportingLevels_shouldWriteOneLinePerFinding() {
+    writer.longReportingLines(Map.of(MANAGER_1, List.of(2, 3, 4)));
+
+    assertEquals("{\"rule\":\"LONG_REPORTING_LINE\",\"employeeId\":2,\"firstName\":\"Manager1\","
+        + "\"lastName\":\"Smith\",\"salary\":72000,\"managerId\":1,\"reportingLine\":[2,3,4]}\n",
+        output());
+  }
+
+  @Test
+  void underpaidManagers_withManagersBelowIntendedSalary_shouldWriteTheAmount() {
+    writer.underpaidManagers(Map.of(MANAGER_1, 5000.005));
+
+    assertEquals("{\"rule\":\"UNDERPAID_MANAGER\",\"employeeId\":2,\"firstName\":\"Manager1\","
+        + "\"lastName\":\"Smith\",\"salary\":72000,\"managerId\":1,\"amount\":5000.01}\n",
+        output());
+  }
+
+  @Test
+  void overpaidManagers_withTheCeo_shouldWriteANullManagerId() {
+    writer.overpaidManagers(Map.of(CEO, 3000.0));
+
+    assertEquals("{\"rule\":\"OVERPAID_MANAGER\",\"employeeId\":1,\"firstName\":\"CEO\","
+        + "\"lastName\":\"Boss\",\"salary\":100000,\"managerId\":null,\"amount\":3000.00}\n",
+        output());
+  }
+
+  @Test
+  void overpaidManagers_withNoFindings_shouldWriteNothing() {
+    writer.overpaidManagers(Map.of());
+
+    assertEquals("", output());
+  }
+
+  @Test
+  void resolvedFindings_shouldMarkEveryFindingAsResolved() {
+    writer.resolvedFindings(new OrgHierarchyReports(
+        Map.of(MANAGER_1, List.of(1)), Map.of(), Map.of(CEO, 3000.0)));
+
+    assertEquals("{\"rule\":\"LONG_REPORTING_LINE\",\"resolved\":true,\"employeeId\":2,"
+        + "\"firstName\":\"Manager1\",\"lastName\":\"Smith\",\"salary\":72000,\"managerId\":1,"
+        + "\"reportingLine\":[1]}\n"
+        + "{\"rule\":\"OVERPAID_MANAGER\",\"resolved\":true,\"employeeId\":1,"
+        + "\"firstName\":\"CEO\",\"lastName\":\"Boss\",\"salary\":100000,\"managerId\":null,"
+        + "\"amount\":3000.00}\n", output());
+  }
+
+  @Test
+  void underpaidManagers_withSpecialCharactersInNames_shouldEscapeAndEncodeThemInUtf8() {
+    Employee employee = new Employee(7, "José \"Pepe\"", "O\\Neil\t€😀\ud83d",
+        50000, 1);
+
+    writer.underpaidManagers(Map.of(employee, 1.0));
+
+    assertEquals("{\"rule\":\"UNDERPAID_MANAGER\",\"employeeId\":7,"
+        + "\"firstName\":\"José \\\"Pepe\\\"\",\"lastName\":\"O\\\\Neil\\u0009€😀?\","
+        + "\"salary\":50000,\"managerId\":1,\"amount\":1.00}\n", output());
+  }
+
+  @Test
+  void openUnderpaidManagers_withMoreFindingsThanTheBuffer_shouldWriteThemAll() {
+    Map<Employee, Double> underpaidManagers = new LinkedHashMap<>();
+    StringBuilder expectedOutput = new StringBuilder();
+    for (int id = 1; id <= 5000; id++) {
+      underpaidManagers.put(new Employee(id, "First" + id, "Last" + id, id, id + 1), id / 4.0);
+      expectedOutput.append("{\"rule\":\"UNDERPAID_MANAGER\",\"employeeId\":").append(id)
+          .append(",\"firstName\":\"First").append(id).append("\",\"lastName\":\"Last").append(id)
+          .append("\",\"salary\":").append(id).append(",\"managerId\":").append(id + 1)
+          .append(",\"amount\":").append(String.format(Locale.ROOT, "%.2f", id / 4.0))
+          .append("}\n");
+    }
+
+    try (FindingsSink<Double> sink = writer.openUnderpaidManagers()) {
+      underpaidManagers.forEach(sink::accept);
+    }
+
+    assertEquals(expectedOutput.toString(), output());
+  }
+}
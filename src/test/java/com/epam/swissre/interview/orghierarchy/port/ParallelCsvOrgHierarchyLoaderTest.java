@@ -0,0 +1,154 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.swissre.interview.orghierarchy.config.CsvSourceConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
+import com.epam.swissre.interview.orghierarchy.exception.EmployeeCsvLineException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelCsvOrgHierarchyLoaderTest {
+
+  private static final String VALID_CSV_CONTENT = """
+      Id,firstName,lastName,salary,managerId
+      123,Joe,Doe,60000,
+      124,Martin,Chekov,45000,123
+      125,Bob,Ronstad,47000,123
+
+      300,Alice,Hasacat,50000,124
+      305,Brett,Hardleaf,34000,300
+      """;
+  private static final CsvSourceConfig CONFIG = new CsvSourceConfig("default-file.csv", 1001);
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+  // small enough to put every line or two in a chunk of its own
+  private static final int MIN_CHUNK_SIZE = 16;
+
+  @TempDir
+  Path tempDir;
+
+  @AfterAll
+  static void shutdownPool() {
+    POOL.shutdown();
+  }
+
+  private Path writeCsv(String content) throws IOException {
+    return Files.writeString(tempDir.resolve("org.csv"), content);
+  }
+
+  private static ParallelCsvOrgHierarchyLoader newLoader(CsvSourceConfig config) {
+    return new ParallelCsvOrgHierarchyLoader(config, POOL, MIN_CHUNK_SIZE);
+  }
+
+  private static Set<Employee> loadWithReader(String content) {
+    return Set.copyOf(new CsvOrgHierarchyLoader(CONFIG)
+        .loadOrgHierarchyCsv(new StringReader(content)).getEmployees());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 16, 40, ParallelCsvOrgHierarchyLoader.DEFAULT_MIN_CHUNK_SIZE})
+  void loadOrgHierarchy_withValidData_shouldMatchReaderBasedLoader(int minChunkSize)
+      throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT);
+
+    Organization organization = new ParallelCsvOrgHierarchyLoader(CONFIG, POOL, minChunkSize)
+        .loadOrgHierarchy(csv.toString());
+
+    assertEquals(loadWithReader(VALID_CSV_CONTENT), Set.copyOf(organization.getEmployees()));
+  }
+
+  @Test
+  void loadOrgHierarchy_withManyChunks_shouldMatchReaderBasedLoader() throws IOException {
+    StringBuilder content = new StringBuilder("Id,firstName,lastName,salary,managerId\n");
+    content.append("1,Ceo,Boss,100000,\n");
+    for (int id = 2; id <= 1000; id++) {
+      content.append(id).append(",First").append(id).append(",Last").append(id).append(',')
+          .append(1000 + id).append(',').append(id / 2).append('\n');
+    }
+    Path csv = writeCsv(content.toString());
+
+    Organization organization = newLoader(CONFIG).loadOrgHierarchy(csv.toString());
+
+    assertEquals(loadWithReader(content.toString()), Set.copyOf(organization.getEmployees()));
+    assertEquals(1000, organization.getEmployees().size());
+  }
+
+  @Test
+  void loadOrgHierarchy_withWindowsLineEndingsAndNoFinalNewline_shouldLoadAllEmployees()
+      throws IOException {
+    String content = "Id,firstName,lastName,salary,managerId\r\n123,Joe,Doe,60000,\r\n"
+        + "124,Martin,Chekov,45000,123";
+    Path csv = writeCsv(content);
+
+    Organization organization = newLoader(CONFIG).loadOrgHierarchy(csv.toString());
+
+    assertEquals(loadWithReader(content), Set.copyOf(organization.getEmployees()));
+    assertEquals(2, organization.getEmployees().size());
+  }
+
+  @Test
+  void loadOrgHierarchy_withInvalidSalaryInLaterChunk_shouldReportTheFileLineNumber()
+      throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT + "306,Martin,Chekov,invalid_salary,123\n");
+
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> newLoader(CONFIG).loadOrgHierarchy(csv.toString()));
+
+    assertEquals("Error parsing employee data at line 8: 306,Martin,Chekov,invalid_salary,123",
+        exception.getMessage());
+    assertInstanceOf(NumberFormatException.class, exception.getCause());
+  }
+
+  @Test
+  void loadOrgHierarchy_withDuplicateIdInLaterChunk_shouldReportTheLine() throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT + "123,Martin,Chekov,45000,123\r\n");
+
+    EmployeeCsvLineException exception = assertThrows(EmployeeCsvLineException.class,
+        () -> newLoader(CONFIG).loadOrgHierarchy(csv.toString()));
+
+    assertEquals("Error parsing employee data at line 8: 123,Martin,Chekov,45000,123",
+        exception.getMessage());
+    assertEquals("Duplicate employee ID: 123", exception.getCause().getMessage());
+  }
+
+  @Test
+  void loadOrgHierarchy_tooManyLines_shouldThrowBadFileException() throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT);
+
+    BadCsvFileException exception = assertThrows(BadCsvFileException.class,
+        () -> newLoader(new CsvSourceConfig(null, 3)).loadOrgHierarchy(csv.toString()));
+
+    assertEquals("The provided file is too long: contains more than the allowed max of 3 rows",
+        exception.getMessage());
+  }
+
+  @Test
+  void loadOrgHierarchy_tooManyLinesBeforeInvalidLine_shouldThrowBadFileException()
+      throws IOException {
+    Path csv = writeCsv(VALID_CSV_CONTENT + "306,Martin,Chekov,invalid_salary,123\n");
+
+    assertThrows(BadCsvFileException.class,
+        () -> newLoader(new CsvSourceConfig(null, 7)).loadOrgHierarchy(csv.toString()));
+  }
+
+  @Test
+  void loadOrgHierarchy_withMissingFile_shouldThrowBadFileException() {
+    BadCsvFileException exception = assertThrows(BadCsvFileException.class,
+        () -> newLoader(CONFIG).loadOrgHierarchy(null));
+
+    assertEquals("CSV file is missing or inaccessible: default-file.csv", exception.getMessage());
+  }
+}
@@ -0,0 +1,114 @@
+package com.epam.swissre.interview.orghierarchy.port;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.exception.BadSnapshotFileException;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotOrgHierarchyLoaderTest implements Fixture {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void loadOrgHierarchy_fromWrittenSnapshot_shouldRestoreAllEmployees() {
+    Organization organization = Fixture.createSampleOrganization();
+    String snapshot = tempDir.resolve("org.snapshot").toString();
+    new FileOrgHierarchySnapshotWriter().writeSnapshot(organization, snapshot);
+
+    Organization loaded = new SnapshotOrgHierarchyLoader().loadOrgHierarchy(snapshot);
+
+    assertEquals(Set.copyOf(organization.getEmployees()), Set.copyOf(loaded.getEmployees()));
+  }
+
+  @Test
+  void loadColumnarOrgHierarchy_fromWrittenSnapshot_shouldRestoreTheColumns() {
+    ColumnarOrganization organization =
+        ColumnarOrganization.of(Fixture.createSampleOrganization());
+    String snapshot = tempDir.resolve("org.snapshot").toString();
+    new FileOrgHierarchySnapshotWriter().writeSnapshot(organization, snapshot);
+
+    ColumnarOrganization loaded = new SnapshotOrgHierarchyLoader()
+        .loadColumnarOrgHierarchy(snapshot);
+
+    assertEquals(organization.size(), loaded.size());
+    for (int i = 0; i < organization.size(); i++) {
+      assertEquals(organization.toEmployee(i), loaded.toEmployee(i));
+      assertEquals(organization.directReportCount(i), loaded.directReportCount(i));
+    }
+  }
+
+  @Test
+  void writeSnapshot_overExistingSnapshot_shouldReplaceItAndLeaveNoTemporaryFile()
+      throws IOException {
+    String snapshot = tempDir.resolve("org.snapshot").toString();
+    FileOrgHierarchySnapshotWriter writer = new FileOrgHierarchySnapshotWriter();
+    writer.writeSnapshot(new ColumnarOrganization.Builder(1)
+        .addEmployee(1, "John", "Doe", 50000).build(), snapshot);
+
+    writer.writeSnapshot(Fixture.createSampleOrganization(), snapshot);
+
+    assertEquals(Fixture.createSampleOrganization().getEmployees().size(),
+        new SnapshotOrgHierarchyLoader().loadColumnarOrgHierarchy(snapshot).size());
+    try (var files = Files.list(tempDir)) {
+      assertEquals(1, files.count());
+    }
+  }
+
+  @Test
+  void loadOrgHierarchy_withMissingFile_shouldThrowBadSnapshotFileException() {
+    String snapshot = tempDir.resolve("missing.snapshot").toString();
+
+    BadSnapshotFileException exception = assertThrows(BadSnapshotFileException.class,
+        () -> new SnapshotOrgHierarchyLoader().loadOrgHierarchy(snapshot));
+
+    assertEquals("Snapshot file is missing or inaccessible: " + snapshot, exception.getMessage());
+  }
+
+  @Test
+  void loadOrgHierarchy_withCsvFile_shouldThrowBadSnapshotFileException() throws IOException {
+    Path csv = Files.writeString(tempDir.resolve("org.csv"),
+        "Id,firstName,lastName,salary,managerId\n123,Joe,Doe,60000,\n");
+
+    BadSnapshotFileException exception = assertThrows(BadSnapshotFileException.class,
+        () -> new SnapshotOrgHierarchyLoader().loadOrgHierarchy(csv.toString()));
+
+    assertTrue(exception.getMessage().endsWith("Not an organization snapshot"));
+  }
+
+  @Test
+  void loadColumnarOrgHierarchy_withCorruptReports_shouldThrowBadSnapshotFileException()
+      throws IOException {
+    Path snapshot = tempDir.resolve("org.snapshot");
+    new FileOrgHierarchySnapshotWriter().writeSnapshot(Fixture.createSampleOrganization(),
+        snapshot.toString());
+    byte[] bytes = Files.readAllBytes(snapshot);
+    // the first direct report, right after the header, the five columns and the offsets
+    int firstReport = (8 + 6 * 5 + 7) * Integer.BYTES;
+    bytes[firstReport] = 100;
+    Files.write(snapshot, bytes);
+
+    BadSnapshotFileException exception = assertThrows(BadSnapshotFileException.class,
+        () -> new SnapshotOrgHierarchyLoader().loadColumnarOrgHierarchy(snapshot.toString()));
+
+    assertEquals("Invalid snapshot file " + snapshot
+            + ": Corrupt organization snapshot: direct report not matching its manager: 100",
+        exception.getMessage());
+  }
+
+  @Test
+  void loadOrgHierarchy_withoutSource_shouldThrowBadSnapshotFileException() {
+    assertThrows(BadSnapshotFileException.class,
+        () -> new SnapshotOrgHierarchyLoader().loadOrgHierarchy(null));
+  }
+}
@@ -0,0 +1,183 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CachingOrgHierarchyQueryServiceTest implements Fixture {
+
+  private static final ReportingConfig CONFIG = new ReportingConfig(2, 1.2, 1.5);
+
+  private final List<String> loadedSources = new ArrayList<>();
+  private final CachingOrgHierarchyQueryService queryService =
+      new CachingOrgHierarchyQueryService(source -> {
+        loadedSources.add(source);
+        return Fixture.createSampleOrganization();
+      }, new SimpleOrgHierarchyValidationService(),
+          new SimpleOrgHierarchyReportingService(CONFIG));
+
+  @Test
+  void getReports_shouldBuildTheReportsOfTheSource() {
+    OrgHierarchyReports reports = queryService.getReports("org.csv");
+
+    assertEquals(new SimpleOrgHierarchyReportingService(CONFIG)
+        .buildReports(Fixture.createSampleOrganization()), reports);
+    assertEquals(List.of("org.csv"), loadedSources);
+  }
+
+  @Test
+  void getReports_calledTwice_shouldLoadTheSourceOnce() {
+    OrgHierarchyReports reports = queryService.getReports("org.csv");
+
+    assertSame(reports, queryService.getReports(" org.csv "));
+    assertEquals(List.of("org.csv"), loadedSources);
+  }
+
+  @Test
+  void getReports_withAnotherSource_shouldLoadIt() {
+    queryService.getReports("org.csv");
+    queryService.getReports("other.csv");
+
+    assertEquals(List.of("org.csv", "other.csv"), loadedSources);
+  }
+
+  @Test
+  void getReports_calledConcurrently_shouldAnalyzeTheSourceOnce() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch loaded = new CountDownLatch(1);
+    List<String> concurrentSources = Collections.synchronizedList(new ArrayList<>());
+    CachingOrgHierarchyQueryService slowService = new CachingOrgHierarchyQueryService(
+        source -> {
+          concurrentSources.add(source);
+          loading.countDown();
+          try {
+            loaded.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return Fixture.createSampleOrganization();
+        }, new SimpleOrgHierarchyValidationService(),
+        new SimpleOrgHierarchyReportingService(CONFIG));
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<OrgHierarchyReports> first = executor.submit(() -> slowService.getReports("org.csv"));
+      loading.await();
+      Future<OrgHierarchyReports> second =
+          executor.submit(() -> slowService.getReports("org.csv"));
+      loaded.countDown();
+
+      assertSame(first.get(), second.get());
+      assertEquals(List.of("org.csv"), concurrentSources);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void getReports_withErrorWhileLoading_shouldFailTheWaitingQueriesAndRetry() throws Exception {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch failing = new CountDownLatch(1);
+    List<String> concurrentSources = Collections.synchronizedList(new ArrayList<>());
+    CachingOrgHierarchyQueryService failingService = new CachingOrgHierarchyQueryService(
+        source -> {
+          concurrentSources.add(source);
+          if (concurrentSources.size() > 1) {
+            return Fixture.createSampleOrganization();
+          }
+          loading.countDown();
+          try {
+            failing.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          throw new OutOfMemoryError("Java heap space");
+        }, new SimpleOrgHierarchyValidationService(),
+        new SimpleOrgHierarchyReportingService(CONFIG));
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    try {
+      Future<OrgHierarchyReports> first =
+          executor.submit(() -> failingService.getReports("org.csv"));
+      loading.await();
+      FutureTask<OrgHierarchyReports> second =
+          new FutureTask<>(() -> failingService.getReports("org.csv"));
+      Thread waiting = new Thread(second);
+      waiting.start();
+      // fail the analysis only once the second query waits for it
+      while (waiting.getState() != Thread.State.WAITING) {
+        Thread.onSpinWait();
+      }
+      failing.countDown();
+
+      for (Future<OrgHierarchyReports> query : List.of(first, second)) {
+        ExecutionException exception =
+            assertThrows(ExecutionException.class, () -> query.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(OutOfMemoryError.class, exception.getCause());
+      }
+      assertEquals(new SimpleOrgHierarchyReportingService(CONFIG)
+          .buildReports(Fixture.createSampleOrganization()), failingService.getReports("org.csv"));
+      assertEquals(List.of("org.csv", "org.csv"), concurrentSources);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void reload_shouldReplaceTheCachedAnalysis() {
+    OrgHierarchyReports reports = queryService.getReports("org.csv");
+
+    Organization organization = queryService.reload("org.csv");
+
+    assertEquals(6, organization.getEmployees().size());
+    assertNotSame(reports, queryService.getReports("org.csv"));
+    assertEquals(List.of("org.csv", "org.csv"), loadedSources);
+  }
+
+  @Test
+  void getReportingLine_shouldReturnTheManagersUpToTheCEO() {
+    assertEquals(Optional.of(List.of(4, 3, 2, 1)),
+        queryService.getReportingLine("org.csv", EMPLOYEE.id()));
+    assertEquals(Optional.of(List.of()), queryService.getReportingLine("org.csv", CEO.id()));
+  }
+
+  @Test
+  void getReportingLine_withUnknownEmployee_shouldReturnEmpty() {
+    assertTrue(queryService.getReportingLine("org.csv", 999).isEmpty());
+  }
+
+  @Test
+  void getReports_withInvalidHierarchy_shouldThrowAndNotCacheIt() {
+    CachingOrgHierarchyQueryService invalidService = new CachingOrgHierarchyQueryService(
+        source -> {
+          loadedSources.add(source);
+          Organization organization = Fixture.createSampleOrganization();
+          organization.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+          return organization;
+        }, new SimpleOrgHierarchyValidationService(),
+        new SimpleOrgHierarchyReportingService(CONFIG));
+
+    assertThrows(InvalidOrgHierarchyException.class, () -> invalidService.getReports("org.csv"));
+    assertThrows(InvalidOrgHierarchyException.class, () -> invalidService.getReports("org.csv"));
+    assertEquals(List.of("org.csv", "org.csv"), loadedSources);
+  }
+}
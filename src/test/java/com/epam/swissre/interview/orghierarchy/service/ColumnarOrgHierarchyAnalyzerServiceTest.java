@@ -0,0 +1,98 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.OrgHierarchyLoader;
+import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ColumnarOrgHierarchyAnalyzerServiceTest implements Fixture {
+
+  private static final ReportingConfig CONFIG = new ReportingConfig(2, 1.2, 1.5);
+
+  private final RecordingReportsWriter writer = new RecordingReportsWriter();
+
+  private ColumnarOrgHierarchyAnalyzerService analyzerService(Organization organization) {
+    return new ColumnarOrgHierarchyAnalyzerService(new ColumnarOnlyLoader(organization), writer,
+        new SimpleOrgHierarchyValidationService(),
+        new ColumnarOrgHierarchyReportingService(CONFIG), PhaseProfiler.disabled());
+  }
+
+  @Test
+  void analyze_withValidHierarchy_shouldWriteTheReportsOfTheSimpleService() {
+    Organization organization = Fixture.createSampleOrganization();
+
+    analyzerService(organization).analyze("source");
+
+    assertEquals(new SimpleOrgHierarchyReportingService(CONFIG).buildReports(organization),
+        new OrgHierarchyReports(writer.longReportingLines, writer.underpaidManagers,
+            writer.overpaidManagers));
+  }
+
+  @Test
+  void analyze_withInvalidHierarchy_shouldThrowExceptionWithAllProblems() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+
+    InvalidOrgHierarchyException exception = assertThrows(InvalidOrgHierarchyException.class,
+        () -> analyzerService(organization).analyze("source"));
+
+    assertEquals(new SimpleOrgHierarchyValidationService().validate(organization),
+        exception.getProblems());
+    assertNull(writer.longReportingLines);
+  }
+
+  /**
+   * Loads the columnar form of an organization only, failing if the organization is loaded.
+   */
+  private record ColumnarOnlyLoader(Organization organization) implements OrgHierarchyLoader {
+
+    @Override
+    public Organization loadOrgHierarchy(String source) {
+      throw new AssertionError("Unexpected call to loadOrgHierarchy");
+    }
+
+    @Override
+    public ColumnarOrganization loadColumnarOrgHierarchy(String source) {
+      return ColumnarOrganization.of(organization);
+    }
+  }
+
+  private static class RecordingReportsWriter implements ReportsWriter {
+
+    private Map<Employee, List<Integer>> longReportingLines;
+    private Map<Employee, Double> underpaidManagers;
+    private Map<Employee, Double> overpaidManagers;
+
+    @Override
+    public void longReportingLines(Map<Employee, List<Integer>> longReportingLines) {
+      this.longReportingLines = longReportingLines;
+    }
+
+    @Override
+    public void underpaidManagers(Map<Employee, Double> underpaidManagers) {
+      this.underpaidManagers = underpaidManagers;
+    }
+
+    @Override
+    public void overpaidManagers(Map<Employee, Double> overpaidManagers) {
+      this.overpaidManagers = overpaidManagers;
+    }
+
+    @Override
+    public void resolvedFindings(OrgHierarchyReports resolvedFindings) {
+      throw new AssertionError("Unexpected call to resolvedFindings");
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadManagerReferenceException;
+import com.epam.swissre.interview.orghierarchy.exception.CircularReferenceException;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ColumnarOrgHierarchyReportingServiceTest implements Fixture {
+
+  private static final ReportingConfig CONFIG = new ReportingConfig(2, 1.2, 1.5);
+
+  private final ColumnarOrgHierarchyReportingService columnarService =
+      new ColumnarOrgHierarchyReportingService(CONFIG);
+  private final SimpleOrgHierarchyReportingService simpleService =
+      new SimpleOrgHierarchyReportingService(CONFIG);
+
+  @Test
+  void getLongReportingLines_shouldMatchSimpleService() {
+    Organization organization = Fixture.createSampleOrganization();
+
+    Map<Employee, List<Integer>> longReportingLines =
+        columnarService.getLongReportingLines(organization);
+
+    assertEquals(Map.of(EMPLOYEE, List.of(MANAGER_3.id(), MANAGER_2.id(), MANAGER_1.id(),
+        CEO.id())), longReportingLines);
+  }
+
+  @Test
+  void allRules_onRandomOrganization_shouldMatchSimpleService() {
+    Organization organization = Fixture.createRandomOrganization(5000, 42, ManagerPicker.ANY);
+    ColumnarOrganization columnar = ColumnarOrganization.of(organization);
+
+    assertEquals(simpleService.getLongReportingLines(organization),
+        columnarService.getLongReportingLines(columnar));
+    assertEquals(simpleService.getUnderpaidManagers(organization),
+        columnarService.getUnderpaidManagers(columnar));
+    assertEquals(simpleService.getOverpaidManagers(organization),
+        columnarService.getOverpaidManagers(columnar));
+  }
+
+  @Test
+  void buildReports_onRandomOrganization_shouldMatchSimpleService() {
+    Organization organization = Fixture.createRandomOrganization(5000, 7, ManagerPicker.ANY);
+
+    assertEquals(simpleService.buildReports(organization),
+        columnarService.buildReports(ColumnarOrganization.of(organization)));
+  }
+
+  @Test
+  void buildTopReports_onRandomOrganization_shouldMatchSimpleService() {
+    Organization organization = Fixture.createRandomOrganization(5000, 42, ManagerPicker.ANY);
+
+    OrgHierarchyReports expected = simpleService.buildTopReports(organization, 25);
+    OrgHierarchyReports actual = columnarService.buildTopReports(organization, 25);
+
+    // the order of the findings matters, the worst first
+    assertEquals(List.copyOf(expected.longReportingLines().entrySet()),
+        List.copyOf(actual.longReportingLines().entrySet()));
+    assertEquals(List.copyOf(expected.underpaidManagers().entrySet()),
+        List.copyOf(actual.underpaidManagers().entrySet()));
+    assertEquals(List.copyOf(expected.overpaidManagers().entrySet()),
+        List.copyOf(actual.overpaidManagers().entrySet()));
+  }
+
+  @Test
+  void buildLineLengths_withVeryDeepChain_shouldNotOverflowTheStack() {
+    int chainLength = 200_000;
+    ColumnarOrganization.Builder builder = new ColumnarOrganization.Builder(chainLength)
+        .addEmployee(1, "CEO", "Boss", 100000);
+    for (int id = 2; id <= chainLength; id++) {
+      builder.addEmployee(id, "Worker", "Jones", 40000, id - 1);
+    }
+    ColumnarOrganization columnar = builder.build();
+
+    int[] lineLengths = ColumnarOrgHierarchyReportingService.buildLineLengths(columnar);
+
+    assertEquals(chainLength - 1, lineLengths[columnar.indexOf(chainLength)]);
+  }
+
+  @Test
+  void getLongReportingLines_withVeryDeepChain_shouldShareTheReportingLines() {
+    Organization organization = new Organization();
+    organization.addEmployee(new Employee(1, "CEO", "Boss", 100000, null));
+    for (int id = 2; id <= 100_000; id++) {
+      organization.addEmployee(new Employee(id, "Worker", "Jones", 40000, id - 1));
+    }
+
+    // the reporting lines share their tails, or they would take billions of elements
+    Map<Employee, List<Integer>> expected = simpleService.getLongReportingLines(organization);
+    Map<Employee, List<Integer>> actual = columnarService.getLongReportingLines(organization);
+
+    assertEquals(expected.keySet(), actual.keySet());
+    for (int id : new int[]{4, 5000, 100_000}) {
+      Employee employee = organization.getEmployeeById(id).orElseThrow();
+      assertEquals(expected.get(employee), actual.get(employee));
+    }
+  }
+
+  @Test
+  void getLongReportingLines_withMultipleCEOs_shouldThrowBadManagerReferenceException() {
+    Organization organization = new Organization();
+    organization.addEmployee(CEO);
+    organization.addEmployee(new Employee(7, "SecondCEO", "Duplicate", 120000, null));
+
+    BadManagerReferenceException exception = assertThrows(BadManagerReferenceException.class,
+        () -> columnarService.getLongReportingLines(organization));
+    assertEquals("The hierarchy must have exactly one CEO, but instead has the following: [1, 7]",
+        exception.getMessage());
+  }
+
+  @Test
+  void getLongReportingLines_withNoEmployees_shouldThrowBadManagerReferenceException() {
+    assertThrows(BadManagerReferenceException.class,
+        () -> columnarService.getLongReportingLines(new Organization()));
+  }
+
+  @Test
+  void getLongReportingLines_withBadManagerReference_shouldThrowBadManagerReferenceException() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+
+    BadManagerReferenceException exception = assertThrows(BadManagerReferenceException.class,
+        () -> columnarService.getLongReportingLines(organization));
+    assertEquals("Bad manager id [-1] specified for employee [999]", exception.getMessage());
+  }
+
+  @Test
+  void getLongReportingLines_withCircularReference_shouldThrowCircularReferenceException() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(new Employee(7, "Circular", "Manager", 45000, 8));
+    organization.addEmployee(new Employee(8, "Circular", "Worker", 45000, 7));
+
+    assertThrows(CircularReferenceException.class,
+        () -> columnarService.getLongReportingLines(organization));
+  }
+}
@@ -0,0 +1,196 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
+import com.epam.swissre.interview.orghierarchy.model.BatchFileResult;
+import com.epam.swissre.interview.orghierarchy.model.BatchSummary;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.BatchOutput;
+import com.epam.swissre.interview.orghierarchy.port.OrgHierarchyLoader;
+import com.epam.swissre.interview.orghierarchy.port.TenantOrgHierarchyLoader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConcurrentOrgHierarchyBatchServiceTest implements Fixture {
+
+  private static final ReportingConfig CONFIG = new ReportingConfig(2, 1.2, 1.5);
+
+  private final MockOrgHierarchyLoader mockLoader = new MockOrgHierarchyLoader();
+  private final MockBatchOutput mockOutput = new MockBatchOutput();
+
+  @TempDir
+  Path tempDir;
+
+  private ConcurrentOrgHierarchyBatchService newBatchService(long memoryBudget) {
+    return new ConcurrentOrgHierarchyBatchService(mockLoader, mockLoader,
+        new SimpleOrgHierarchyValidationService(), new SimpleOrgHierarchyReportingService(CONFIG),
+        mockOutput, memoryBudget);
+  }
+
+  @Test
+  void analyze_withValidAndInvalidSources_shouldReportEachInOrder() {
+    Organization invalid = Fixture.createSampleOrganization();
+    invalid.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+    mockLoader.organizations.put("valid.csv", Fixture.createSampleOrganization());
+    mockLoader.organizations.put("invalid.csv", invalid);
+
+    BatchSummary summary = newBatchService(1 << 20)
+        .analyze(List.of("valid.csv", "missing.csv", "invalid.csv"));
+
+    OrgHierarchyReports expected = new SimpleOrgHierarchyReportingService(CONFIG)
+        .buildReports(Fixture.createSampleOrganization());
+    assertEquals(List.of("valid.csv", "missing.csv", "invalid.csv"),
+        summary.files().stream().map(BatchFileResult::source).toList());
+    assertNull(summary.files().get(0).error());
+    assertEquals(6, summary.files().get(0).employees());
+    assertEquals(expected.longReportingLines().size(),
+        summary.files().get(0).longReportingLines());
+    assertEquals("CSV file is missing or inaccessible: missing.csv",
+        summary.files().get(1).error());
+    assertEquals(2, summary.failedFiles());
+    assertEquals(Map.of("valid.csv", expected), mockOutput.reports);
+    assertEquals(summary, mockOutput.summary);
+  }
+
+  @Test
+  void analyze_withReportsFailingToBeWritten_shouldRecordTheFailureAndGoOn() {
+    mockLoader.organizations.put("full-disk.csv", Fixture.createSampleOrganization());
+    mockLoader.organizations.put("valid.csv", Fixture.createSampleOrganization());
+    mockOutput.failingSource = "full-disk.csv";
+
+    BatchSummary summary = newBatchService(1 << 20)
+        .analyze(List.of("full-disk.csv", "valid.csv"));
+
+    assertEquals("java.io.UncheckedIOException: java.io.IOException: No space left on device",
+        summary.files().get(0).error());
+    assertNull(summary.files().get(1).error());
+    assertEquals(1, summary.failedFiles());
+    assertEquals(summary, mockOutput.summary);
+  }
+
+  @Test
+  void analyze_withSourcesLargerThanTheBudget_shouldAnalyzeThemOneAtATime() throws IOException {
+    List<String> sources = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      Path source = Files.write(tempDir.resolve(i + ".csv"), new byte[4096]);
+      sources.add(source.toString());
+      mockLoader.organizations.put(source.toString(), Fixture.createSampleOrganization());
+    }
+
+    BatchSummary summary = newBatchService(4096).analyze(sources);
+
+    assertEquals(0, summary.failedFiles());
+    assertEquals(1, mockLoader.maxConcurrentLoads.get());
+  }
+
+  @Test
+  void analyzeTenants_withValidAndInvalidTenants_shouldReportEachInOrder() {
+    Organization invalid = Fixture.createSampleOrganization();
+    invalid.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+    mockLoader.organizations.put("Acme UK", Fixture.createSampleOrganization());
+    mockLoader.organizations.put("Acme US", invalid);
+
+    BatchSummary summary = newBatchService(1 << 20).analyzeTenants("export.csv");
+
+    assertEquals("export.csv", mockLoader.tenantSource);
+    assertEquals(List.of("Acme UK", "Acme US"),
+        summary.files().stream().map(BatchFileResult::source).toList());
+    assertEquals(6, summary.files().get(0).employees());
+    assertEquals(1, summary.failedFiles());
+    assertEquals(Map.of("Acme UK", new SimpleOrgHierarchyReportingService(CONFIG)
+        .buildReports(Fixture.createSampleOrganization())), mockOutput.reports);
+    assertEquals(summary, mockOutput.summary);
+  }
+
+  @Test
+  void permitsFor_shouldEstimateTheMemoryFromTheFileSize() throws IOException {
+    Path source = Files.write(tempDir.resolve("org.csv"), new byte[10 * 1024]);
+    ConcurrentOrgHierarchyBatchService batchService = newBatchService(1 << 30);
+
+    assertEquals(10 * ConcurrentOrgHierarchyBatchService.MEMORY_PER_SOURCE_BYTE + 1,
+        batchService.permitsFor(source.toString()));
+    assertEquals(1, batchService.permitsFor(tempDir.resolve("missing.csv").toString()));
+    assertEquals(1, newBatchService(1024).permitsFor(source.toString()));
+  }
+
+  @Test
+  void constructor_withBudgetBelowOneKib_shouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> newBatchService(1023));
+  }
+
+  /**
+   * Loads the organizations put in the map, one by one or all as tenants, and tracks the number of
+   * loads running at once.
+   */
+  private static class MockOrgHierarchyLoader implements OrgHierarchyLoader,
+      TenantOrgHierarchyLoader {
+
+    private final Map<String, Organization> organizations = new LinkedHashMap<>();
+    private final AtomicInteger concurrentLoads = new AtomicInteger();
+    private final AtomicInteger maxConcurrentLoads = new AtomicInteger();
+    private String tenantSource;
+
+    @Override
+    public Organization loadOrgHierarchy(String source) {
+      maxConcurrentLoads.accumulateAndGet(concurrentLoads.incrementAndGet(), Math::max);
+      try {
+        // leaves time for the other analyses to start, if they may
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        concurrentLoads.decrementAndGet();
+      }
+      Organization organization;
+      synchronized (organizations) {
+        organization = organizations.get(source);
+      }
+      if (organization == null) {
+        throw new BadCsvFileException("CSV file is missing or inaccessible: " + source);
+      }
+      return organization;
+    }
+
+    @Override
+    public Map<String, Organization> loadTenantOrgHierarchies(String source) {
+      tenantSource = source;
+      return organizations;
+    }
+  }
+
+  private static class MockBatchOutput implements BatchOutput {
+
+    private final Map<String, OrgHierarchyReports> reports = new ConcurrentHashMap<>();
+    private BatchSummary summary;
+    private String failingSource;
+
+    @Override
+    public void writeReports(String source, OrgHierarchyReports reports) {
+      if (source.equals(failingSource)) {
+        throw new UncheckedIOException(new IOException("No space left on device"));
+      }
+      this.reports.put(source, reports);
+    }
+
+    @Override
+    public void writeSummary(BatchSummary summary) {
+      this.summary = summary;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class DirectReportsSalaryStatisticsTest implements Fixture {
+
+  @Test
+  void getUnderpaidManagers_shouldCompareWithTheAverageOfDirectReports() {
+    DirectReportsSalaryStatistics statistics =
+        DirectReportsSalaryStatistics.of(Fixture.createSampleOrganization());
+
+    assertEquals(Map.of(
+            CEO, 1.5 * 72000 - 100000,
+            MANAGER_1, 1.5 * 60000 - 72000,
+            MANAGER_2, 1.5 * 50000 - 60000,
+            MANAGER_3, 1.5 * 40000 - 50000),
+        statistics.getUnderpaidManagers(1.5));
+  }
+
+  @Test
+  void getOverpaidManagers_shouldCompareWithTheAverageOfDirectReports() {
+    DirectReportsSalaryStatistics statistics =
+        DirectReportsSalaryStatistics.of(Fixture.createSampleOrganization());
+
+    // MANAGER_3 earns exactly 1.25 times the salary of its only direct report
+    assertEquals(Map.of(CEO, 100000 - 1.25 * 72000), statistics.getOverpaidManagers(1.25));
+  }
+
+  @Test
+  void getUnderpaidManagers_withNonExistentManager_shouldIgnoreIt() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+
+    DirectReportsSalaryStatistics statistics = DirectReportsSalaryStatistics.of(organization);
+
+    assertEquals(DirectReportsSalaryStatistics.of(Fixture.createSampleOrganization())
+        .getUnderpaidManagers(1.5), statistics.getUnderpaidManagers(1.5));
+  }
+}
@@ -0,0 +1,103 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.BadManagerReferenceException;
+import com.epam.swissre.interview.orghierarchy.exception.CircularReferenceException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+class ParallelOrgHierarchyReportingServiceTest implements Fixture {
+
+  private static final ReportingConfig CONFIG = new ReportingConfig(4, 1.2, 1.5);
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  private final ParallelOrgHierarchyReportingService parallelService =
+      new ParallelOrgHierarchyReportingService(CONFIG, POOL);
+  private final SimpleOrgHierarchyReportingService simpleService =
+      new SimpleOrgHierarchyReportingService(CONFIG);
+
+  @AfterAll
+  static void shutdownPool() {
+    POOL.shutdown();
+  }
+
+  @Test
+  void buildReports_onRandomOrganizations_shouldMatchSequentialService() {
+    for (long seed = 1; seed <= 5; seed++) {
+      Organization organization =
+          Fixture.createRandomOrganization(20_000, seed, ManagerPicker.RECENT);
+
+      assertEquals(simpleService.buildReports(organization),
+          parallelService.buildReports(organization), "Reports differ for seed " + seed);
+    }
+  }
+
+  @Test
+  void singleReports_onRandomOrganization_shouldMatchSequentialService() {
+    Organization organization = Fixture.createRandomOrganization(20_000, 6, ManagerPicker.RECENT);
+
+    assertEquals(simpleService.getLongReportingLines(organization),
+        parallelService.getLongReportingLines(organization));
+    assertEquals(simpleService.getUnderpaidManagers(organization),
+        parallelService.getUnderpaidManagers(organization));
+    assertEquals(simpleService.getOverpaidManagers(organization),
+        parallelService.getOverpaidManagers(organization));
+  }
+
+  @Test
+  void buildReports_withWideCeoNextToDeepChain_shouldMatchSequentialService() {
+    Organization organization = new Organization();
+    organization.addEmployee(new Employee(1, "CEO", "Boss", 200000, null));
+    for (int id = 2; id <= 5001; id++) {
+      organization.addEmployee(new Employee(id, "Direct", "Report", 40000 + id, 1));
+    }
+    for (int id = 5002; id <= 5031; id++) {
+      organization.addEmployee(new Employee(id, "Chain", "Member", 50000, id == 5002 ? 2 : id - 1));
+    }
+
+    assertEquals(simpleService.buildReports(organization),
+        parallelService.buildReports(organization));
+    assertEquals(26, parallelService.getLongReportingLines(organization).size());
+  }
+
+  @Test
+  void buildReports_withVeryDeepChain_shouldNotOverflowTheStack() {
+    Organization organization = new Organization();
+    organization.addEmployee(new Employee(1, "CEO", "Boss", 100000, null));
+    for (int id = 2; id <= 100_000; id++) {
+      organization.addEmployee(new Employee(id, "Worker", "Jones", 40000, id - 1));
+    }
+
+    // a limit above the depth of the chain, as every reporting line would be reported otherwise
+    ReportingConfig config = new ReportingConfig(200_000, 1.2, 1.5);
+
+    assertEquals(new SimpleOrgHierarchyReportingService(config).buildReports(organization),
+        new ParallelOrgHierarchyReportingService(config, POOL).buildReports(organization));
+  }
+
+  @Test
+  void getLongReportingLines_withBadManagerReference_shouldThrowBadManagerReferenceException() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+
+    assertThrows(BadManagerReferenceException.class,
+        () -> parallelService.getLongReportingLines(organization));
+  }
+
+  @Test
+  void getLongReportingLines_withCircularReference_shouldThrowCircularReferenceException() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(new Employee(7, "Loop", "One", 40000, 8));
+    organization.addEmployee(new Employee(8, "Loop", "Two", 40000, 7));
+
+    assertThrows(CircularReferenceException.class,
+        () -> parallelService.getLongReportingLines(organization));
+  }
+}
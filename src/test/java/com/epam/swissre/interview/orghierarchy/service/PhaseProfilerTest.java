@@ -0,0 +1,45 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.model.PhaseProfile;
+import com.epam.swissre.interview.orghierarchy.model.RunProfile;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PhaseProfilerTest {
+
+  @Test
+  void measure_withEnabledProfiler_shouldRecordEachPhaseInOrder() {
+    PhaseProfiler profiler = PhaseProfiler.create();
+
+    int[] result = profiler.measure("allocate", () -> new int[1 << 20]);
+    profiler.measure("nothing", () -> {
+    });
+    profiler.setEmployees(42);
+
+    RunProfile profile = profiler.toRunProfile("source");
+    assertEquals(1 << 20, result.length);
+    assertEquals("source", profile.source());
+    assertEquals(42, profile.employees());
+    assertEquals(List.of("allocate", "nothing"),
+        profile.phases().stream().map(PhaseProfile::phase).toList());
+    PhaseProfile allocate = profile.phases().get(0);
+    assertTrue(allocate.wallNanos() >= 0, "Expected a non-negative elapsed time");
+    assertTrue(allocate.allocatedBytes() == -1 || allocate.allocatedBytes() >= 4 << 20,
+        "Expected the allocation of the array to be measured");
+    assertTrue(allocate.peakHeapBytes() > 0, "Expected the peak of the heap to be measured");
+  }
+
+  @Test
+  void measure_withDisabledProfiler_shouldRunThePhasesWithoutRecordingThem() {
+    PhaseProfiler profiler = PhaseProfiler.disabled();
+
+    String result = profiler.measure("phase", () -> "result");
+
+    assertEquals("result", result);
+    assertTrue(profiler.toRunProfile("source").phases().isEmpty(),
+        "Expected no phase to be recorded");
+  }
+}
@@ -0,0 +1,250 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.InvalidChangeSetException;
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem.Type;
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReportsDelta;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.ChangeSetLoader;
+import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SimpleIncrementalOrgHierarchyAnalyzerServiceTest implements Fixture {
+
+  private static final ReportingConfig CONFIG = new ReportingConfig(2, 1.2, 1.5);
+
+  private final MockChangeSetLoader mockLoader = new MockChangeSetLoader();
+  private final MockReportsWriter mockWriter = new MockReportsWriter();
+  private final SimpleOrgHierarchyReportingService reportingService =
+      new SimpleOrgHierarchyReportingService(CONFIG);
+  private final SimpleIncrementalOrgHierarchyAnalyzerService incrementalService =
+      new SimpleIncrementalOrgHierarchyAnalyzerService(mockLoader, mockWriter, CONFIG);
+
+  private static boolean isInSubtreeOf(Organization organization, int id, int rootId) {
+    for (Integer current = id; current != null;
+        current = organization.getEmployeeById(current).orElseThrow().managerId()) {
+      if (current == rootId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Creates a valid change set, applying it to the given organization as it goes.
+   */
+  private static List<OrgChange> createRandomChanges(Organization organization, int count,
+      Random random) {
+    List<OrgChange> changes = new ArrayList<>();
+    int nextId = 1_000_000;
+    while (changes.size() < count) {
+      List<Employee> employees = new ArrayList<>(organization.getEmployees());
+      Employee employee = employees.get(random.nextInt(employees.size()));
+      Employee other = employees.get(random.nextInt(employees.size()));
+      OrgChange change = switch (random.nextInt(4)) {
+        case 0 -> OrgChange.hire(new Employee(nextId++, "New", "Hire",
+            30000 + random.nextInt(100000), employee.id()));
+        case 1 -> employee.managerId() != null
+            && organization.getDirectReports(employee.id()).isEmpty()
+            ? OrgChange.leave(employee.id()) : null;
+        case 2 -> OrgChange.salaryChange(employee.id(), 30000 + random.nextInt(150000));
+        default -> employee.managerId() != null && !isInSubtreeOf(organization, other.id(),
+            employee.id()) ? OrgChange.move(employee.id(), other.id()) : null;
+      };
+      if (change != null) {
+        Employee current = organization.getEmployeeById(change.employeeId()).orElse(null);
+        switch (change.type()) {
+          case HIRE -> organization.addEmployee(change.applyTo(null));
+          case LEAVE -> organization.removeEmployee(change.employeeId());
+          default -> organization.replaceEmployee(change.applyTo(current));
+        }
+        changes.add(change);
+      }
+    }
+    return changes;
+  }
+
+  private static <V> Map<Employee, V> applyDelta(Map<Employee, V> previous,
+      Map<Employee, V> changed, Map<Employee, V> resolved) {
+    Map<Employee, V> result = new HashMap<>(previous);
+    resolved.keySet().forEach(result::remove);
+    changed.keySet().forEach(e -> result.keySet().removeIf(p -> p.id() == e.id()));
+    result.putAll(changed);
+    return result;
+  }
+
+  @Test
+  void reanalyze_withRandomChanges_shouldMatchFullAnalysis() {
+    for (long seed = 1; seed <= 20; seed++) {
+      Random random = new Random(seed);
+      Organization organization = Fixture.createRandomOrganization(2000, random, ManagerPicker.ANY);
+      OrgHierarchyReports reports = reportingService.buildReports(organization);
+      OrgHierarchyReports previous = reportingService.buildReports(organization);
+      Organization expectedOrganization = Fixture.createRandomOrganization(2000, new Random(seed),
+          ManagerPicker.ANY);
+      List<OrgChange> changes = createRandomChanges(expectedOrganization, 100, random);
+
+      OrgHierarchyReportsDelta delta = incrementalService.reanalyze(organization, reports, changes);
+
+      OrgHierarchyReports expected = reportingService.buildReports(expectedOrganization);
+      assertEquals(Set.copyOf(expectedOrganization.getEmployees()),
+          Set.copyOf(organization.getEmployees()));
+      assertEquals(expected, reports, "Reports differ for seed " + seed);
+      assertEquals(expected.longReportingLines(), applyDelta(previous.longReportingLines(),
+          delta.changed().longReportingLines(), delta.resolved().longReportingLines()));
+      assertEquals(expected.underpaidManagers(), applyDelta(previous.underpaidManagers(),
+          delta.changed().underpaidManagers(), delta.resolved().underpaidManagers()));
+      assertEquals(expected.overpaidManagers(), applyDelta(previous.overpaidManagers(),
+          delta.changed().overpaidManagers(), delta.resolved().overpaidManagers()));
+    }
+  }
+
+  @Test
+  void reanalyze_movingSubtreeDeeper_shouldReportItsNewLongReportingLines() {
+    Organization organization = Fixture.createSampleOrganization();
+    OrgHierarchyReports reports = reportingService.buildReports(organization);
+
+    // MANAGER_3 and EMPLOYEE move under EMPLOYEE_SENIOR, one level deeper
+    OrgHierarchyReportsDelta delta = incrementalService.reanalyze(organization, reports,
+        List.of(OrgChange.move(MANAGER_3.id(), EMPLOYEE_SENIOR.id())));
+
+    Employee movedManager = organization.getEmployeeById(MANAGER_3.id()).orElseThrow();
+    assertEquals(Map.of(
+            movedManager, List.of(EMPLOYEE_SENIOR.id(), MANAGER_2.id(), MANAGER_1.id(), CEO.id()),
+            EMPLOYEE, List.of(MANAGER_3.id(), EMPLOYEE_SENIOR.id(), MANAGER_2.id(),
+                MANAGER_1.id(), CEO.id())),
+        delta.changed().longReportingLines());
+    assertEquals(reportingService.buildReports(organization), reports);
+  }
+
+  @Test
+  void reanalyze_withLeaverHavingReports_shouldRejectTheWholeChangeSet() {
+    Organization organization = Fixture.createSampleOrganization();
+    OrgHierarchyReports reports = reportingService.buildReports(organization);
+    OrgHierarchyReports previous = reportingService.buildReports(organization);
+
+    InvalidOrgHierarchyException exception = assertThrows(InvalidOrgHierarchyException.class,
+        () -> incrementalService.reanalyze(organization, reports, List.of(
+            OrgChange.salaryChange(MANAGER_1.id(), 90000),
+            OrgChange.leave(MANAGER_3.id()))));
+
+    assertEquals(List.of(EMPLOYEE.id()), exception.getProblems().get(0).employeeIds());
+    assertEquals(Type.BAD_MANAGER_REFERENCE, exception.getProblems().get(0).type());
+    assertEquals(Set.copyOf(Fixture.createSampleOrganization().getEmployees()),
+        Set.copyOf(organization.getEmployees()));
+    assertEquals(previous, reports);
+  }
+
+  @Test
+  void reanalyze_movingManagerIntoItsOwnSubtree_shouldReportCircularReference() {
+    Organization organization = Fixture.createSampleOrganization();
+    OrgHierarchyReports reports = reportingService.buildReports(organization);
+
+    InvalidOrgHierarchyException exception = assertThrows(InvalidOrgHierarchyException.class,
+        () -> incrementalService.reanalyze(organization, reports,
+            List.of(OrgChange.move(MANAGER_2.id(), EMPLOYEE.id()))));
+
+    assertEquals(Type.CIRCULAR_REFERENCE, exception.getProblems().get(0).type());
+    assertEquals(List.of(MANAGER_2.id(), EMPLOYEE.id(), MANAGER_3.id()),
+        exception.getProblems().get(0).employeeIds());
+    assertEquals(Set.copyOf(Fixture.createSampleOrganization().getEmployees()),
+        Set.copyOf(organization.getEmployees()));
+  }
+
+  @Test
+  void reanalyze_hiringSecondCeo_shouldReportMultipleCeos() {
+    Organization organization = Fixture.createSampleOrganization();
+    OrgHierarchyReports reports = reportingService.buildReports(organization);
+
+    InvalidOrgHierarchyException exception = assertThrows(InvalidOrgHierarchyException.class,
+        () -> incrementalService.reanalyze(organization, reports,
+            List.of(OrgChange.hire(new Employee(7, "Second", "Boss", 100000, null)))));
+
+    assertEquals(Type.MULTIPLE_CEOS, exception.getProblems().get(0).type());
+    assertTrue(organization.getEmployeeById(7).isEmpty());
+  }
+
+  @Test
+  void reanalyze_hiringExistingEmployee_shouldThrowInvalidChangeSetException() {
+    Organization organization = Fixture.createSampleOrganization();
+    OrgHierarchyReports reports = reportingService.buildReports(organization);
+
+    InvalidChangeSetException exception = assertThrows(InvalidChangeSetException.class,
+        () -> incrementalService.reanalyze(organization, reports, List.of(
+            OrgChange.salaryChange(EMPLOYEE.id(), 1000),
+            OrgChange.hire(MANAGER_1))));
+
+    assertTrue(exception.getMessage().startsWith("Cannot apply change #2"));
+    assertEquals(Set.copyOf(Fixture.createSampleOrganization().getEmployees()),
+        Set.copyOf(organization.getEmployees()));
+  }
+
+  @Test
+  void reanalyze_withChangeSetSource_shouldWriteTheChangedFindings() {
+    Organization organization = Fixture.createSampleOrganization();
+    OrgHierarchyReports reports = reportingService.buildReports(organization);
+    mockLoader.changes = List.of(OrgChange.leave(EMPLOYEE.id()));
+
+    OrgHierarchyReportsDelta delta =
+        incrementalService.reanalyze(organization, reports, "changes.csv");
+
+    assertEquals("changes.csv", mockLoader.source);
+    assertEquals(delta.changed(), mockWriter.changed);
+    assertSame(delta.resolved(), mockWriter.resolved);
+    assertEquals(Set.of(EMPLOYEE), delta.resolved().longReportingLines().keySet());
+  }
+
+  private static class MockChangeSetLoader implements ChangeSetLoader {
+
+    private List<OrgChange> changes = List.of();
+    private String source;
+
+    @Override
+    public List<OrgChange> loadChangeSet(String source) {
+      this.source = source;
+      return changes;
+    }
+  }
+
+  private static class MockReportsWriter implements ReportsWriter {
+
+    private final OrgHierarchyReports changed = OrgHierarchyReports.empty();
+    private OrgHierarchyReports resolved;
+
+    @Override
+    public void longReportingLines(Map<Employee, List<Integer>> longReportingLines) {
+      changed.longReportingLines().putAll(longReportingLines);
+    }
+
+    @Override
+    public void underpaidManagers(Map<Employee, Double> underpaidManagers) {
+      changed.underpaidManagers().putAll(underpaidManagers);
+    }
+
+    @Override
+    public void overpaidManagers(Map<Employee, Double> overpaidManagers) {
+      changed.overpaidManagers().putAll(overpaidManagers);
+    }
+
+    @Override
+    public void resolvedFindings(OrgHierarchyReports resolvedFindings) {
+      resolved = resolvedFindings;
+    }
+  }
+}
@@ -1,26 +1,39 @@
 package com.epam.swissre.interview.orghierarchy.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.epam.swissre.interview.orghierarchy.exception.BadCsvFileException;
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
 import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem.Type;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
 import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.model.PhaseProfile;
+import com.epam.swissre.interview.orghierarchy.model.RunProfile;
 import com.epam.swissre.interview.orghierarchy.port.OrgHierarchyLoader;
+import com.epam.swissre.interview.orghierarchy.port.ReportsCache;
 import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 class SimpleOrgHierarchyAnalyzerServiceTest {
 
   private final MockOrgHierarchyLoader mockLoader = new MockOrgHierarchyLoader();
   private final MockReportsWriter mockWriter = new MockReportsWriter();
+  private final MockOrgHierarchyValidationService mockValidationService = new MockOrgHierarchyValidationService();
   private final MockOrgHierarchyReportingService mockReportingService = new MockOrgHierarchyReportingService();
   private final SimpleOrgHierarchyAnalyzerService analyzerService =
-      new SimpleOrgHierarchyAnalyzerService(mockLoader, mockWriter, mockReportingService);
+      new SimpleOrgHierarchyAnalyzerService(mockLoader, mockWriter, mockValidationService,
+          mockReportingService);
 
   @Test
   void analyze_withValidSource_shouldCompleteWithoutExceptions() {
@@ -46,6 +59,26 @@ class SimpleOrgHierarchyAnalyzerServiceTest {
     mockWriter.verifyNoInteractions();
   }
 
+  @Test
+  void analyze_withInvalidHierarchy_shouldThrowExceptionWithAllProblems() {
+    mockLoader.setExpectedSource("validSource");
+    mockLoader.setReturnOrganization(new Organization());
+    List<HierarchyProblem> problems = List.of(
+        new HierarchyProblem(Type.MULTIPLE_CEOS, List.of(1, 7), "Two CEOs"),
+        new HierarchyProblem(Type.BAD_MANAGER_REFERENCE, List.of(999), "Bad manager"));
+    mockValidationService.setProblems(problems);
+
+    InvalidOrgHierarchyException exception = assertThrows(InvalidOrgHierarchyException.class,
+        () -> analyzerService.analyze("validSource"));
+
+    assertEquals(problems, exception.getProblems());
+    assertTrue(exception.getMessage().contains("Two CEOs"),
+        "Expected the message to list the first problem");
+    assertTrue(exception.getMessage().contains("Bad manager"),
+        "Expected the message to list the second problem");
+    mockWriter.verifyNoInteractions();
+  }
+
   @Test
   void analyze_withNonEmptyReports_shouldCallWriterWithExpectedPayloads() {
     mockLoader.setExpectedSource("validSource");
@@ -70,8 +103,122 @@ class SimpleOrgHierarchyAnalyzerServiceTest {
     mockWriter.verifyOverpaidManagersCalledWith(expectedOverpaidManagers);
   }
 
+  @Test
+  void analyze_withProfiler_shouldMeasureEachPhase() {
+    mockLoader.setExpectedSource("validSource");
+    Organization organization = new Organization();
+    organization.addEmployee(new Employee(1, "Alice", "Boss", 100000, null));
+    mockLoader.setReturnOrganization(organization);
+    PhaseProfiler profiler = PhaseProfiler.create();
+    SimpleOrgHierarchyAnalyzerService profiledService = new SimpleOrgHierarchyAnalyzerService(
+        mockLoader, mockWriter, mockValidationService, mockReportingService,
+        SimpleOrgHierarchyAnalyzerService.ALL_FINDINGS, profiler);
+
+    profiledService.analyze("validSource");
+
+    RunProfile profile = profiler.toRunProfile("validSource");
+    assertEquals(List.of("load", "validate", "report", "write"),
+        profile.phases().stream().map(PhaseProfile::phase).toList());
+    assertEquals(1, profile.employees());
+    mockWriter.verifyOverpaidManagersCalledWith(Collections.emptyMap());
+  }
+
+  @Test
+  void analyze_withCachedReports_shouldWriteThemWithoutLoadingTheSource() {
+    mockLoader.setExpectedSource("validSource");
+    mockLoader.setReturnOrganization(new Organization());
+    Map<Employee, Double> expectedUnderpaidManagers = Map.of(
+        new Employee(3, "Charlie", "Supervisor", 50000, 2), 10000.0);
+    mockReportingService.setUnderpaidManagers(expectedUnderpaidManagers);
+    MockReportsCache mockCache = new MockReportsCache();
+    SimpleOrgHierarchyAnalyzerService cachedService = new SimpleOrgHierarchyAnalyzerService(
+        mockLoader, mockWriter, mockValidationService, mockReportingService,
+        SimpleOrgHierarchyAnalyzerService.ALL_FINDINGS, PhaseProfiler.disabled(), mockCache);
+    cachedService.analyze("validSource");
+    mockLoader.setThrowException(new BadCsvFileException("Loaded again"));
+    MockReportsWriter otherWriter = new MockReportsWriter();
+    PhaseProfiler profiler = PhaseProfiler.create();
+
+    new SimpleOrgHierarchyAnalyzerService(mockLoader, otherWriter, mockValidationService,
+        mockReportingService, SimpleOrgHierarchyAnalyzerService.ALL_FINDINGS, profiler, mockCache)
+        .analyze("validSource");
+
+    assertEquals(List.of("hash", "lookup", "write"),
+        profiler.toRunProfile("validSource").phases().stream().map(PhaseProfile::phase).toList());
+    otherWriter.verifyUnderpaidManagersCalledWith(expectedUnderpaidManagers);
+    otherWriter.verifyLongReportingLinesCalledWith(Collections.emptyMap());
+  }
+
+  @Test
+  void analyze_withUnreadableSourceForTheCache_shouldLetTheLoaderFail() {
+    mockLoader.setExpectedSource("invalidSource");
+    mockLoader.setThrowException(new BadCsvFileException("Invalid source"));
+    MockReportsCache mockCache = new MockReportsCache();
+    SimpleOrgHierarchyAnalyzerService cachedService = new SimpleOrgHierarchyAnalyzerService(
+        mockLoader, mockWriter, mockValidationService, mockReportingService,
+        SimpleOrgHierarchyAnalyzerService.ALL_FINDINGS, PhaseProfiler.disabled(), mockCache);
+
+    assertThrows(BadCsvFileException.class, () -> cachedService.analyze("invalidSource"));
+
+    mockLoader.verifyLoadCalled();
+    assertTrue(mockCache.reports.isEmpty(), "Expected nothing to be cached");
+  }
+
+  @Test
+  void analyze_withSourceModifiedWhileAnalyzed_shouldNotCacheTheReports() {
+    mockLoader.setExpectedSource("validSource");
+    mockLoader.setReturnOrganization(new Organization());
+    MockReportsCache mockCache = new MockReportsCache();
+    mockCache.setModifiedOnEveryRead(true);
+    SimpleOrgHierarchyAnalyzerService cachedService = new SimpleOrgHierarchyAnalyzerService(
+        mockLoader, mockWriter, mockValidationService, mockReportingService,
+        SimpleOrgHierarchyAnalyzerService.ALL_FINDINGS, PhaseProfiler.disabled(), mockCache);
+
+    cachedService.analyze("validSource");
+
+    mockLoader.verifyLoadCalled();
+    mockWriter.verifyLongReportingLinesCalledWith(Collections.emptyMap());
+    assertTrue(mockCache.reports.isEmpty(), "Expected nothing to be cached");
+  }
+
   // Mock classes with parameterization and interaction verification
 
+  private static class MockReportsCache implements ReportsCache {
+
+    private final Map<String, OrgHierarchyReports> reports = new HashMap<>();
+    private boolean modifiedOnEveryRead = false;
+    private int modifications = 0;
+
+    void setModifiedOnEveryRead(boolean modifiedOnEveryRead) {
+      this.modifiedOnEveryRead = modifiedOnEveryRead;
+    }
+
+    @Override
+    public Optional<String> keyOf(String source, int findingsLimit) {
+      return "invalidSource".equals(source) ? Optional.empty()
+          : Optional.of(source + "/" + findingsLimit);
+    }
+
+    @Override
+    public Optional<String> versionOf(String source) {
+      if (modifiedOnEveryRead) {
+        modifications++;
+      }
+      return "invalidSource".equals(source) ? Optional.empty()
+          : Optional.of(source + "@" + modifications);
+    }
+
+    @Override
+    public Optional<OrgHierarchyReports> get(String key) {
+      return Optional.ofNullable(reports.get(key));
+    }
+
+    @Override
+    public void put(String key, OrgHierarchyReports reports) {
+      this.reports.put(key, reports);
+    }
+  }
+
   private static class MockOrgHierarchyLoader implements OrgHierarchyLoader {
 
     private String expectedSource;
@@ -161,6 +308,25 @@ class SimpleOrgHierarchyAnalyzerServiceTest {
       this.overpaidManagersCalled = true;
       this.expectedOverpaidManagers = overpaidManagers;
     }
+
+    @Override
+    public void resolvedFindings(OrgHierarchyReports resolvedFindings) {
+      throw new AssertionError("Unexpected call to resolvedFindings");
+    }
+  }
+
+  private static class MockOrgHierarchyValidationService implements OrgHierarchyValidationService {
+
+    private List<HierarchyProblem> problems = Collections.emptyList();
+
+    void setProblems(List<HierarchyProblem> problems) {
+      this.problems = problems;
+    }
+
+    @Override
+    public List<HierarchyProblem> validate(Organization organization) {
+      return problems;
+    }
   }
 
   private static class MockOrgHierarchyReportingService implements OrgHierarchyReportingService {
@@ -5,13 +5,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.FlightRecordings;
 import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
 import com.epam.swissre.interview.orghierarchy.exception.BadManagerReferenceException;
 import com.epam.swissre.interview.orghierarchy.exception.CircularReferenceException;
 import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
 import com.epam.swissre.interview.orghierarchy.model.Organization;
 import java.util.List;
 import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.Test;
 
 class SimpleOrgHierarchyReportingServiceTest implements Fixture {
@@ -25,18 +28,69 @@ class SimpleOrgHierarchyReportingServiceTest implements Fixture {
   void buildReportingLines_withValidHierarchy_shouldReturnExpectedReportingLines() {
     Organization organization = Fixture.createSampleOrganization();
 
-    Map<Employee, List<Integer>> reportingLines = reportingService.buildReportingLines(
-        organization);
+    ReportingLines reportingLines = reportingService.buildReportingLines(organization);
 
-    assertEquals(6, reportingLines.size(), "Expected reporting lines for all employees.");
-    assertEquals(List.of(CEO.id()), reportingLines.get(MANAGER_1));
-    assertEquals(List.of(MANAGER_1.id(), CEO.id()), reportingLines.get(MANAGER_2));
+    assertEquals(List.of(), reportingLines.getReportingLine(CEO));
+    assertEquals(List.of(CEO.id()), reportingLines.getReportingLine(MANAGER_1));
+    assertEquals(List.of(MANAGER_1.id(), CEO.id()), reportingLines.getReportingLine(MANAGER_2));
     assertEquals(List.of(MANAGER_2.id(), MANAGER_1.id(), CEO.id()),
-        reportingLines.get(MANAGER_3));
+        reportingLines.getReportingLine(MANAGER_3));
     assertEquals(List.of(MANAGER_3.id(), MANAGER_2.id(), MANAGER_1.id(), CEO.id()),
-        reportingLines.get(EMPLOYEE));
+        reportingLines.getReportingLine(EMPLOYEE));
     assertEquals(List.of(MANAGER_2.id(), MANAGER_1.id(), CEO.id()),
-        reportingLines.get(EMPLOYEE_SENIOR));
+        reportingLines.getReportingLine(EMPLOYEE_SENIOR));
+  }
+
+  @Test
+  void buildReportingLines_withValidHierarchy_shouldAssignLineLengths() {
+    Organization organization = Fixture.createSampleOrganization();
+
+    ReportingLines reportingLines = reportingService.buildReportingLines(organization);
+
+    assertEquals(0, reportingLines.getLineLength(CEO));
+    assertEquals(1, reportingLines.getLineLength(MANAGER_1));
+    assertEquals(2, reportingLines.getLineLength(MANAGER_2));
+    assertEquals(3, reportingLines.getLineLength(MANAGER_3));
+    assertEquals(4, reportingLines.getLineLength(EMPLOYEE));
+    assertEquals(3, reportingLines.getLineLength(EMPLOYEE_SENIOR));
+  }
+
+  @Test
+  void buildReportingLines_withVeryDeepChain_shouldNotOverflowTheStack() {
+    int chainLength = 200_000;
+    Organization organization = new Organization();
+    organization.addEmployee(new Employee(1, "CEO", "Boss", 100000, null));
+    for (int id = 2; id <= chainLength; id++) {
+      organization.addEmployee(new Employee(id, "Worker", "Jones", 40000, id - 1));
+    }
+
+    ReportingLines reportingLines = reportingService.buildReportingLines(organization);
+
+    Employee deepest = organization.getEmployeeById(chainLength).orElseThrow();
+    assertEquals(chainLength - 1, reportingLines.getLineLength(deepest));
+    assertEquals(chainLength - 1, reportingLines.getReportingLine(deepest).size());
+  }
+
+  @Test
+  void getLongReportingLines_withVeryDeepChain_shouldShareTheReportingLines() {
+    // a copy of every reporting line would take billions of elements
+    int chainLength = 100_000;
+    Organization organization = new Organization();
+    organization.addEmployee(new Employee(1, "CEO", "Boss", 100000, null));
+    for (int id = 2; id <= chainLength; id++) {
+      organization.addEmployee(new Employee(id, "Worker", "Jones", 40000, id - 1));
+    }
+    SimpleOrgHierarchyReportingService reportingService = new SimpleOrgHierarchyReportingService(
+        new ReportingConfig(0, 1.2, 1.5));
+
+    Map<Employee, List<Integer>> longReportingLines = reportingService.getLongReportingLines(
+        organization);
+
+    assertEquals(chainLength - 2, longReportingLines.size());
+    Employee deepest = organization.getEmployeeById(chainLength).orElseThrow();
+    assertEquals(chainLength - 1, longReportingLines.get(deepest).size());
+    assertEquals(List.of(2, 1), longReportingLines.get(organization.getEmployeeById(3)
+        .orElseThrow()));
   }
 
   @Test
@@ -190,4 +244,84 @@ class SimpleOrgHierarchyReportingServiceTest implements Fixture {
 
     assertTrue(overpaidManagers.isEmpty(), "Expected no overpaid managers.");
   }
+
+  @Test
+  void buildReports_shouldMatchTheIndividualReports() {
+    Organization organization = Fixture.createSampleOrganization();
+
+    OrgHierarchyReports reports = reportingService.buildReports(organization);
+
+    assertEquals(reportingService.getLongReportingLines(organization),
+        reports.longReportingLines());
+    assertEquals(reportingService.getUnderpaidManagers(organization),
+        reports.underpaidManagers());
+    assertEquals(reportingService.getOverpaidManagers(organization), reports.overpaidManagers());
+  }
+
+  @Test
+  void buildTopReports_withLimitBelowTheFindings_shouldKeepTheWorstFindingsFirst() {
+    Organization organization = new Organization();
+    organization.addEmployee(CEO);
+    // the direct reports of the three managers average 40000, so they are underpaid below 48000
+    organization.addEmployee(new Employee(2, "Slightly", "Underpaid", 47000, 1));
+    organization.addEmployee(new Employee(3, "Very", "Underpaid", 30000, 1));
+    organization.addEmployee(new Employee(4, "Also very", "Underpaid", 38000, 1));
+    for (int id = 2; id <= 4; id++) {
+      organization.addEmployee(new Employee(10 + id, "Worker", "Jones", 40000, id));
+    }
+    SimpleOrgHierarchyReportingService reportingService = new SimpleOrgHierarchyReportingService(
+        new ReportingConfig(0, 1.2, 1.5));
+
+    OrgHierarchyReports reports = reportingService.buildTopReports(organization, 2);
+
+    assertEquals(List.of(3, 4), reports.underpaidManagers().keySet().stream()
+        .map(Employee::id).toList());
+    assertEquals(List.of(18000.0, 10000.0), List.copyOf(reports.underpaidManagers().values()));
+    assertEquals(List.of(12, 13), reports.longReportingLines().keySet().stream()
+        .map(Employee::id).toList());
+    assertEquals(List.of(2, 1), reports.longReportingLines().values().iterator().next());
+    assertEquals(List.of(CEO), List.copyOf(reports.overpaidManagers().keySet()));
+  }
+
+  @Test
+  void buildTopReports_withLimitAboveTheFindings_shouldMatchTheFullReports() {
+    Organization organization = Fixture.createSampleOrganization();
+    SimpleOrgHierarchyReportingService reportingService = new SimpleOrgHierarchyReportingService(
+        new ReportingConfig(2, 1.2, 1.5));
+
+    assertEquals(reportingService.buildReports(organization),
+        reportingService.buildTopReports(organization, 10));
+  }
+
+  @Test
+  void buildReports_shouldRecordAnEventPerRule() {
+    Organization organization = Fixture.createSampleOrganization();
+    SimpleOrgHierarchyReportingService reportingService = new SimpleOrgHierarchyReportingService(
+        new ReportingConfig(2, 1.2, 1.5));
+
+    List<RecordedEvent> events = FlightRecordings.record(
+        () -> reportingService.buildReports(organization),
+        "com.epam.swissre.interview.orghierarchy.ReportingRule");
+
+    assertEquals(List.of("LONG_REPORTING_LINE", "UNDERPAID_MANAGER", "OVERPAID_MANAGER"),
+        events.stream().map(e -> e.getString("rule")).toList());
+    assertEquals(List.of(1, 0, 0), events.stream().map(e -> e.getInt("findings")).toList());
+    assertTrue(events.stream().allMatch(e -> e.getInt("employees") == 6));
+  }
+
+  @Test
+  void buildTopReports_shouldRecordAnEventPerRule() {
+    Organization organization = Fixture.createSampleOrganization();
+    SimpleOrgHierarchyReportingService reportingService = new SimpleOrgHierarchyReportingService(
+        new ReportingConfig(2, 1.2, 1.5));
+
+    List<RecordedEvent> events = FlightRecordings.record(
+        () -> reportingService.buildTopReports(organization, 10),
+        "com.epam.swissre.interview.orghierarchy.ReportingRule");
+
+    assertEquals(List.of("LONG_REPORTING_LINE", "UNDERPAID_MANAGER", "OVERPAID_MANAGER"),
+        events.stream().map(e -> e.getString("rule")).toList());
+    assertEquals(List.of(1, 0, 0), events.stream().map(e -> e.getInt("findings")).toList());
+    assertTrue(events.stream().allMatch(e -> e.getInt("employees") == 6));
+  }
 }
@@ -0,0 +1,133 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.FlightRecordings;
+import com.epam.swissre.interview.orghierarchy.model.ColumnarOrganization;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem;
+import com.epam.swissre.interview.orghierarchy.model.HierarchyProblem.Type;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+
+class SimpleOrgHierarchyValidationServiceTest implements Fixture {
+
+  private final SimpleOrgHierarchyValidationService validationService =
+      new SimpleOrgHierarchyValidationService();
+
+  @Test
+  void validate_withValidHierarchy_shouldReturnNoProblems() {
+    Organization organization = Fixture.createSampleOrganization();
+
+    assertTrue(validationService.validate(organization).isEmpty(),
+        "Expected no problems in a valid hierarchy.");
+  }
+
+  @Test
+  void validate_withValidColumnarHierarchy_shouldReturnNoProblems() {
+    ColumnarOrganization organization =
+        ColumnarOrganization.of(Fixture.createSampleOrganization());
+
+    assertTrue(validationService.validate(organization).isEmpty(),
+        "Expected no problems in a valid hierarchy.");
+  }
+
+  @Test
+  void validate_withInvalidColumnarHierarchy_shouldReturnTheProblemsOfTheOrganization() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+    organization.addEmployee(new Employee(7, "SecondCEO", "Duplicate", 120000, null));
+    organization.addEmployee(new Employee(8, "Loop", "First", 1000, 9));
+    organization.addEmployee(new Employee(9, "Loop", "Second", 1000, 8));
+
+    assertEquals(validationService.validate(organization),
+        validationService.validate(ColumnarOrganization.of(organization)));
+  }
+
+  @Test
+  void validate_withNoCEOPresent_shouldReturnMissingCEOProblem() {
+    Organization organization = new Organization();
+
+    List<HierarchyProblem> problems = validationService.validate(organization);
+
+    assertEquals(List.of(new HierarchyProblem(Type.MISSING_CEO, List.of(),
+        "The hierarchy must have exactly one CEO, but instead has the following: []")), problems);
+  }
+
+  @Test
+  void validate_withMultipleCEOsPresent_shouldReturnMultipleCEOsProblem() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(new Employee(7, "SecondCEO", "Duplicate", 120000, null));
+
+    List<HierarchyProblem> problems = validationService.validate(organization);
+
+    assertEquals(1, problems.size(), "Expected exactly one problem.");
+    assertEquals(Type.MULTIPLE_CEOS, problems.get(0).type());
+    assertEquals(List.of(1, 7), problems.get(0).employeeIds().stream().sorted().toList());
+  }
+
+  @Test
+  void validate_withBadManagerReference_shouldReturnBadManagerReferenceProblem() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+
+    List<HierarchyProblem> problems = validationService.validate(organization);
+
+    assertEquals(List.of(new HierarchyProblem(Type.BAD_MANAGER_REFERENCE, List.of(999),
+        "Bad manager id [-1] specified for employee [999]")), problems);
+  }
+
+  @Test
+  void validate_withCircularReference_shouldReturnCycleMembersOnce() {
+    // Circular reference 9->8->7->9, with 10 reporting into the cycle
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(new Employee(7, "Circular", "Manager", 45000, 9));
+    organization.addEmployee(new Employee(8, "Circular", "Worker1", 45000, 7));
+    organization.addEmployee(new Employee(9, "Circular", "Worker2", 45000, 8));
+    organization.addEmployee(new Employee(10, "Hanging", "Worker", 45000, 8));
+
+    List<HierarchyProblem> problems = validationService.validate(organization);
+
+    assertEquals(1, problems.size(), "Expected exactly one problem.");
+    assertEquals(Type.CIRCULAR_REFERENCE, problems.get(0).type());
+    assertEquals(List.of(7, 8, 9), problems.get(0).employeeIds().stream().sorted().toList());
+  }
+
+  @Test
+  void validate_withSeveralProblems_shouldReturnAllOfThem() {
+    Organization organization = Fixture.createSampleOrganization();
+    // two separate cycles, two bad references and an extra CEO
+    organization.addEmployee(new Employee(7, "Circular", "A", 45000, 8));
+    organization.addEmployee(new Employee(8, "Circular", "B", 45000, 7));
+    organization.addEmployee(new Employee(9, "Self", "Managed", 45000, 9));
+    organization.addEmployee(new Employee(10, "Orphan", "A", 45000, 100));
+    organization.addEmployee(new Employee(11, "Orphan", "B", 45000, 101));
+    organization.addEmployee(new Employee(12, "Second", "CEO", 45000, null));
+
+    List<HierarchyProblem> problems = validationService.validate(organization);
+
+    assertEquals(5, problems.size(), "Expected all the problems to be reported.");
+    assertEquals(Type.MULTIPLE_CEOS, problems.get(0).type(), "Expected the CEO problem first.");
+    assertEquals(2, problems.stream().filter(p -> p.type() == Type.CIRCULAR_REFERENCE).count());
+    assertEquals(2,
+        problems.stream().filter(p -> p.type() == Type.BAD_MANAGER_REFERENCE).count());
+  }
+
+  @Test
+  void validate_shouldRecordAValidationEvent() {
+    Organization organization = Fixture.createSampleOrganization();
+    organization.addEmployee(new Employee(7, "SecondCEO", "Duplicate", 120000, null));
+
+    List<RecordedEvent> events = FlightRecordings.record(
+        () -> validationService.validate(organization),
+        "com.epam.swissre.interview.orghierarchy.Validation");
+
+    assertEquals(1, events.size());
+    assertEquals(7, events.get(0).getInt("employees"));
+    assertEquals(1, events.get(0).getInt("problems"));
+  }
+}
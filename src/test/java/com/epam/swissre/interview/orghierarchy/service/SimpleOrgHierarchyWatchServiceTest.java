@@ -0,0 +1,146 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.config.ReportingConfig;
+import com.epam.swissre.interview.orghierarchy.exception.InvalidOrgHierarchyException;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import com.epam.swissre.interview.orghierarchy.model.OrgChange;
+import com.epam.swissre.interview.orghierarchy.model.OrgHierarchyReports;
+import com.epam.swissre.interview.orghierarchy.model.Organization;
+import com.epam.swissre.interview.orghierarchy.port.OrgHierarchyWatcher;
+import com.epam.swissre.interview.orghierarchy.port.ReportsWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SimpleOrgHierarchyWatchServiceTest implements Fixture {
+
+  private static final ReportingConfig CONFIG = new ReportingConfig(2, 1.2, 1.5);
+
+  private final MockOrgHierarchyWatcher mockWatcher = new MockOrgHierarchyWatcher();
+  private final MockReportsWriter mockWriter = new MockReportsWriter();
+  private final ByteArrayOutputStream errorStream = new ByteArrayOutputStream();
+  private final SimpleOrgHierarchyWatchService watchService = new SimpleOrgHierarchyWatchService(
+      mockWatcher, mockWriter, new SimpleOrgHierarchyValidationService(),
+      new SimpleOrgHierarchyReportingService(CONFIG),
+      new SimpleIncrementalOrgHierarchyAnalyzerService(source -> List.of(), mockWriter, CONFIG),
+      new PrintStream(errorStream, true));
+
+  @Test
+  void watch_withChanges_shouldWriteTheReportsThenTheChangedAndResolvedFindings() {
+    mockWatcher.organization = Fixture.createSampleOrganization();
+    mockWatcher.changes.add(List.of(OrgChange.salaryChange(MANAGER_2.id(), 50000)));
+    mockWatcher.changes.add(List.of(OrgChange.salaryChange(MANAGER_2.id(), 60000)));
+
+    watchService.watch("org.csv");
+
+    assertEquals("org.csv", mockWatcher.source);
+    assertEquals(3, mockWriter.written.size());
+    assertEquals(new SimpleOrgHierarchyReportingService(CONFIG)
+        .buildReports(Fixture.createSampleOrganization()), mockWriter.written.get(0));
+    assertEquals(Map.of(new Employee(3, "Manager2", "Johnson", 50000, 2), 10000.0),
+        mockWriter.written.get(1).underpaidManagers());
+    assertTrue(mockWriter.written.get(2).underpaidManagers().isEmpty());
+    assertEquals(Map.of(new Employee(3, "Manager2", "Johnson", 50000, 2), 10000.0),
+        mockWriter.resolved.get(1).underpaidManagers());
+    assertEquals(2, mockWatcher.acceptedCount);
+    assertTrue(mockWatcher.closed);
+  }
+
+  @Test
+  void watch_withInvalidChange_shouldReportItAndNotAcceptIt() {
+    mockWatcher.organization = Fixture.createSampleOrganization();
+    mockWatcher.changes.add(List.of(OrgChange.leave(MANAGER_3.id())));
+
+    watchService.watch(null);
+
+    assertEquals(1, mockWriter.written.size());
+    assertEquals(0, mockWatcher.acceptedCount);
+    assertTrue(errorStream.toString().startsWith("Ignoring the last change of the source: "));
+  }
+
+  @Test
+  void watch_withInvalidOrganization_shouldThrowInvalidOrgHierarchyException() {
+    mockWatcher.organization = Fixture.createSampleOrganization();
+    mockWatcher.organization.addEmployee(EMPLOYEE_NON_EXISTENT_MANAGER);
+
+    assertThrows(InvalidOrgHierarchyException.class, () -> watchService.watch(null));
+    assertTrue(mockWriter.written.isEmpty());
+    assertTrue(mockWatcher.closed);
+  }
+
+  /**
+   * Returns the scripted changes, then stops the watch as an interruption would.
+   */
+  private static class MockOrgHierarchyWatcher implements OrgHierarchyWatcher {
+
+    private final Deque<List<OrgChange>> changes = new ArrayDeque<>();
+    private Organization organization;
+    private String source;
+    private int acceptedCount;
+    private boolean closed;
+
+    @Override
+    public Organization load(String source) {
+      this.source = source;
+      return organization;
+    }
+
+    @Override
+    public List<OrgChange> awaitChanges() throws InterruptedException {
+      if (changes.isEmpty()) {
+        throw new InterruptedException();
+      }
+      return changes.poll();
+    }
+
+    @Override
+    public void acceptChanges() {
+      acceptedCount++;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  /**
+   * Keeps every report written, grouped by run of the three reports.
+   */
+  private static class MockReportsWriter implements ReportsWriter {
+
+    private final List<OrgHierarchyReports> written = new ArrayList<>();
+    private final List<OrgHierarchyReports> resolved = new ArrayList<>();
+
+    @Override
+    public void longReportingLines(Map<Employee, List<Integer>> longReportingLines) {
+      written.add(OrgHierarchyReports.empty());
+      written.get(written.size() - 1).longReportingLines().putAll(longReportingLines);
+    }
+
+    @Override
+    public void underpaidManagers(Map<Employee, Double> underpaidManagers) {
+      written.get(written.size() - 1).underpaidManagers().putAll(underpaidManagers);
+    }
+
+    @Override
+    public void overpaidManagers(Map<Employee, Double> overpaidManagers) {
+      written.get(written.size() - 1).overpaidManagers().putAll(overpaidManagers);
+    }
+
+    @Override
+    public void resolvedFindings(OrgHierarchyReports resolvedFindings) {
+      resolved.add(resolvedFindings);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.epam.swissre.interview.orghierarchy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.epam.swissre.interview.orghierarchy.Fixture;
+import com.epam.swissre.interview.orghierarchy.model.Employee;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TopFindingsTest implements Fixture {
+
+  @Test
+  void toMap_withMoreFindingsThanTheLimit_shouldKeepTheWorstOnesFirst() {
+    TopFindings topFindings = new TopFindings(3);
+
+    topFindings.offer(CEO, 10);
+    topFindings.offer(MANAGER_1, 50);
+    topFindings.offer(MANAGER_2, 5);
+    topFindings.offer(MANAGER_3, 30);
+    topFindings.offer(EMPLOYEE, 20);
+
+    Map<Employee, Double> worstFindings = topFindings.toMap((e, score) -> score);
+    assertEquals(List.of(MANAGER_1, MANAGER_3, EMPLOYEE), List.copyOf(worstFindings.keySet()));
+    assertEquals(List.of(50.0, 30.0, 20.0), List.copyOf(worstFindings.values()));
+  }
+
+  @Test
+  void toMap_withTiedScores_shouldPreferTheLowestIdsWhateverTheOrder() {
+    TopFindings ascending = new TopFindings(2);
+    TopFindings descending = new TopFindings(2);
+    List<Employee> employees = List.of(CEO, MANAGER_1, MANAGER_2, MANAGER_3);
+
+    employees.forEach(e -> ascending.offer(e, 1));
+    for (int i = employees.size() - 1; i >= 0; i--) {
+      descending.offer(employees.get(i), 1);
+    }
+
+    assertEquals(List.of(CEO, MANAGER_1),
+        List.copyOf(ascending.toMap((e, score) -> score).keySet()));
+    assertEquals(List.of(CEO, MANAGER_1),
+        List.copyOf(descending.toMap((e, score) -> score).keySet()));
+  }
+
+  @Test
+  void toMap_withFewerFindingsThanTheLimit_shouldKeepThemAll() {
+    TopFindings topFindings = new TopFindings(10);
+
+    topFindings.offer(CEO, 1);
+    topFindings.offer(MANAGER_1, 2);
+
+    assertEquals(Map.of(CEO, "1.0", MANAGER_1, "2.0"),
+        topFindings.toMap((e, score) -> String.valueOf(score)));
+  }
+
+  @Test
+  void constructor_withNonPositiveLimit_shouldThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new TopFindings(0));
+  }
+}